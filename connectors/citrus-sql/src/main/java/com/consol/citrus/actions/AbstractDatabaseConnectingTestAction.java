@@ -20,6 +20,7 @@ import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.consol.citrus.AbstractTestActionBuilder;
 import com.consol.citrus.TestAction;
@@ -37,6 +38,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.support.JdbcDaoSupport;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Abstract base class for database connection test actions. Extends {@link JdbcDaoSupport} providing
@@ -134,6 +136,40 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
                 .getResource(context.replaceDynamicContentInString(sqlResourcePath)), lineDecorator);
     }
 
+    /**
+     * Reads SQL statements from external file resource one by one and passes them to the given consumer.
+     *
+     * @param context the current test context.
+     * @param statementConsumer consumer receiving the statements in script order.
+     */
+    protected void readStatementsFromFileResource(TestContext context, Consumer<String> statementConsumer) {
+        SqlUtils.readStatementsFromFileResource(new PathMatchingResourcePatternResolver()
+                .getResource(context.replaceDynamicContentInString(sqlResourcePath)), null, statementConsumer);
+    }
+
+    /**
+     * Runs execution in a transaction when transaction manager is set.
+     * @param context
+     * @param execution
+     */
+    protected void executeInTransaction(TestContext context, Runnable execution) {
+        if (getTransactionManager() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+            transactionTemplate.setTimeout(Integer.parseInt(context.replaceDynamicContentInString(getTransactionTimeout())));
+            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+            transactionTemplate.execute(status -> {
+                execution.run();
+                return null;
+            });
+        } else {
+            execution.run();
+        }
+    }
+
     @Override
     public String getDescription() {
         return description;
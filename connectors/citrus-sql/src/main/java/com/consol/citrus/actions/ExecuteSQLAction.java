@@ -17,11 +17,12 @@
 package com.consol.citrus.actions;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Test action execute SQL statements. Use this action when executing
@@ -30,6 +31,9 @@ import org.springframework.transaction.support.TransactionTemplate;
  *
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
  *
+ * In batch mode consecutive data manipulation statements (INSERT, UPDATE, DELETE, MERGE) are sent to the database
+ * in JDBC batches and statements from file resources are read one by one while executing.
+ *
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
  */
@@ -38,6 +42,9 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private final boolean ignoreErrors;
 
+    /** Maximum number of statements in a JDBC batch, zero or less disables batch mode */
+    private final int batchSize;
+
     /**
      * Default constructor.
      * @param builder
@@ -46,10 +53,16 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         super("sql", builder);
 
         this.ignoreErrors = builder.ignoreErrors;
+        this.batchSize = builder.batchSize;
     }
 
     @Override
     public void doExecute(TestContext context) {
+        if (batchSize > 0) {
+            executeInTransaction(context, () -> executeBatched(context));
+            return;
+        }
+
         final List<String> statementsToUse;
         if (statements.isEmpty()) {
             statementsToUse = createStatementsFromFileResource(context);
@@ -57,21 +70,23 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             statementsToUse = statements;
         }
 
-        if (getTransactionManager() != null) {
-            if (log.isDebugEnabled()) {
-                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
-            }
+        executeInTransaction(context, () -> executeStatements(statementsToUse, context));
+    }
+
+    /**
+     * Run all SQL statements in batch mode. Statements from file resources are executed while reading the file.
+     * @param context
+     */
+    private void executeBatched(TestContext context) {
+        StatementBatch batch = new StatementBatch(context);
 
-            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
-            transactionTemplate.setTimeout(Integer.parseInt(context.replaceDynamicContentInString(getTransactionTimeout())));
-            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
-            transactionTemplate.execute(status -> {
-                executeStatements(statementsToUse, context);
-                return null;
-            });
+        if (statements.isEmpty()) {
+            readStatementsFromFileResource(context, batch::add);
         } else {
-            executeStatements(statementsToUse, context);
+            statements.forEach(batch::add);
         }
+
+        batch.flush();
     }
 
     /**
@@ -81,29 +96,106 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
      */
     protected void executeStatements(List<String> statements, TestContext context) {
         for (String stmt : statements)  {
-            try {
-                final String toExecute;
+            executeStatement(stmt, context);
+        }
+    }
 
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+    /**
+     * Run single SQL statement.
+     * @param stmt
+     * @param context
+     */
+    private void executeStatement(String stmt, TestContext context) {
+        try {
+            final String toExecute = prepareStatement(stmt, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL statement: " + toExecute);
+            }
 
+            getJdbcTemplate().execute(toExecute);
+
+            log.info("SQL statement execution successful");
+        } catch (Exception e) {
+            if (ignoreErrors) {
+                log.error("Ignoring error while executing SQL statement: " + e.getLocalizedMessage());
+            } else {
+                throw new CitrusRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Removes statement ending and replaces dynamic content.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String prepareStatement(String stmt, TestContext context) {
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
+    /**
+     * Checks if statement is a data manipulation statement that can be part of a JDBC batch.
+     * @param stmt
+     * @return
+     */
+    private static boolean isBatchable(String stmt) {
+        String keyword = stmt.trim().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+        return keyword.equals("insert") || keyword.equals("update") || keyword.equals("delete") || keyword.equals("merge");
+    }
+
+    /**
+     * Collects consecutive data manipulation statements and sends them to the database as JDBC batch once the batch size
+     * is reached or a statement that can not be batched is found. Errors are ignored per batch when ignore errors is set.
+     */
+    private class StatementBatch {
+        private final TestContext context;
+        private final List<String> pending = new ArrayList<>();
+
+        StatementBatch(TestContext context) {
+            this.context = context;
+        }
+
+        void add(String stmt) {
+            if (!isBatchable(stmt)) {
+                flush();
+                executeStatement(stmt, context);
+                return;
+            }
+
+            pending.add(prepareStatement(stmt, context));
+
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            try {
                 if (log.isDebugEnabled()) {
-                    log.debug("Executing SQL statement: " + toExecute);
+                    log.debug(String.format("Executing SQL batch of %s statements", pending.size()));
                 }
 
-                getJdbcTemplate().execute(toExecute);
+                getJdbcTemplate().batchUpdate(pending.toArray(new String[0]));
 
-                log.info("SQL statement execution successful");
+                log.info(String.format("SQL batch execution successful (%s statements)", pending.size()));
             } catch (Exception e) {
                 if (ignoreErrors) {
-                    log.error("Ignoring error while executing SQL statement: " + e.getLocalizedMessage());
-                    continue;
+                    log.error("Ignoring error while executing SQL batch: " + e.getLocalizedMessage());
                 } else {
                     throw new CitrusRuntimeException(e);
                 }
+            } finally {
+                pending.clear();
             }
         }
     }
@@ -116,12 +208,21 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         return ignoreErrors;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Action builder.
      */
     public static final class Builder extends AbstractDatabaseConnectingTestAction.Builder<ExecuteSQLAction, Builder> {
 
         private boolean ignoreErrors = false;
+        private int batchSize = 0;
 
         public static Builder sql(DataSource dataSource) {
             Builder builder = new Builder();
@@ -138,6 +239,15 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             return this;
         }
 
+        /**
+         * Enables batch mode with given maximum number of statements per JDBC batch.
+         * @param batchSize maximum number of statements in a batch
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
         @Override
         public ExecuteSQLAction build() {
             return new ExecuteSQLAction(this);
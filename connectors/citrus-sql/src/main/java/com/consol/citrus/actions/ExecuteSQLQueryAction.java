@@ -18,14 +18,19 @@ package com.consol.citrus.actions;
 
 import javax.sql.DataSource;
 import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -42,6 +47,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
@@ -67,6 +74,15 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** SQL result set script validator */
     private final SqlResultSetScriptValidator validator;
 
+    /** Process result rows one by one instead of loading the complete result set into memory */
+    private final boolean streaming;
+
+    /** JDBC fetch size used in streaming mode, zero uses the driver default */
+    private final int fetchSize;
+
+    /** Maximum number of result rows kept for script validation in streaming mode */
+    private final int maxScriptRows;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -85,6 +101,9 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         this.extractVariables = builder.extractVariables;
         this.scriptValidationContext = builder.scriptValidationContext;
         this.validator = builder.validator;
+        this.streaming = builder.streaming;
+        this.fetchSize = builder.fetchSize;
+        this.maxScriptRows = builder.maxScriptRows;
     }
 
     @Override
@@ -96,6 +115,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statementsToUse = statements;
         }
 
+        if (streaming) {
+            doExecuteStreaming(statementsToUse, context);
+            return;
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -135,6 +159,72 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Executes statements processing the result rows one by one. Control values are validated and variable values
+     * are collected while reading the rows so only the rows needed for script validation are held in memory.
+     * @param statementsToUse
+     * @param context
+     */
+    private void doExecuteStreaming(List<String> statementsToUse, TestContext context) {
+        StreamingResultHandler resultHandler = new StreamingResultHandler(context);
+
+        try {
+            executeInTransaction(context, () -> executeStatements(statementsToUse, resultHandler, context));
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+
+        if (scriptValidationContext != null) {
+            getScriptValidator(context).validateSqlResultSet(resultHandler.scriptRows, scriptValidationContext, context);
+        }
+
+        if (!CollectionUtils.isEmpty(controlResultSet)) {
+            resultHandler.verifyControlResultSet();
+            log.info("SQL query validation successful: All values OK");
+        }
+
+        fillContextVariables(resultHandler.extractedValues, ExtractedValue::getVariableValue, context);
+
+        // legacy: save all columns as variables
+        for (Entry<String, String> column : resultHandler.firstValues.entrySet()) {
+            context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+        }
+    }
+
+    /**
+     * Run statements and pass each result row to the given row handler.
+     * @param statements
+     * @param rowHandler
+     * @param context
+     */
+    protected void executeStatements(List<String> statements, RowCallbackHandler rowHandler, TestContext context) {
+        for (String stmt : statements) {
+            validateSqlStatement(stmt);
+            final String toExecute;
+
+            if (stmt.trim().endsWith(";")) {
+                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+            } else {
+                toExecute = context.replaceDynamicContentInString(stmt.trim());
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query: " + toExecute);
+            }
+
+            getJdbcTemplate().query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(toExecute, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                if (fetchSize > 0) {
+                    statement.setFetchSize(fetchSize);
+                }
+                return statement;
+            }, rowHandler);
+
+            log.info("SQL query execution successful");
+        }
+    }
+
     /**
      * Run statements and validate result set.
      * @param statements
@@ -174,12 +264,24 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
      */
     private void fillContextVariables(Map<String, List<String>> columnValuesMap, TestContext context)
             throws CitrusRuntimeException {
+        fillContextVariables(columnValuesMap, this::constructVariableValue, context);
+    }
+
+    /**
+     * Fills the (requested) test context variables with the db result values
+     * @param columnValues the map containing column names --> result values
+     * @param variableValue constructs the variable value from the column result values
+     * @param context the test context the variables are stored to
+     * @throws CitrusRuntimeException if requested column name was not found
+     */
+    private <T> void fillContextVariables(Map<String, T> columnValues, Function<T, String> variableValue, TestContext context)
+            throws CitrusRuntimeException {
         for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
             String columnName = variableEntry.getKey();
-            if (columnValuesMap.containsKey(columnName.toLowerCase())) {
-                context.setVariable(variableEntry.getValue(), constructVariableValue(columnValuesMap.get(columnName.toLowerCase())));
-            } else if (columnValuesMap.containsKey(columnName.toUpperCase())) {
-                context.setVariable(variableEntry.getValue(), constructVariableValue(columnValuesMap.get(columnName.toUpperCase())));
+            if (columnValues.containsKey(columnName.toLowerCase())) {
+                context.setVariable(variableEntry.getValue(), variableValue.apply(columnValues.get(columnName.toLowerCase())));
+            } else if (columnValues.containsKey(columnName.toUpperCase())) {
+                context.setVariable(variableEntry.getValue(), variableValue.apply(columnValues.get(columnName.toUpperCase())));
             } else {
                 throw new CitrusRuntimeException("Failed to create variables from database values! " +
                         "Unable to find column '" + columnName + "' in database result set");
@@ -196,23 +298,29 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     private void fillColumnValuesMap(List<Map<String, Object>> results, Map<String, List<String>> columnValuesMap) {
         for (Map<String, Object> row : results) {
             for (Entry<String, Object> column : row.entrySet()) {
-                String columnValue;
                 String columnName = column.getKey();
                 if (!columnValuesMap.containsKey(columnName)) {
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
-                columnValuesMap.get(columnName).add((columnValue));
+                columnValuesMap.get(columnName).add(getColumnValue(column.getValue()));
             }
         }
     }
 
+    /**
+     * Converts column value to its String representation. Binary values are Base64 encoded.
+     * @param value
+     * @return
+     */
+    private static String getColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
     /**
      * Gets the script validator implementation either autowired from application context
      * or if not set here a default implementation.
@@ -391,6 +499,146 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return controlValue.equalsIgnoreCase(NULL_VALUE) || controlValue.length() == 0;
     }
 
+    /**
+     * Row handler validating control values and collecting variable values while the result rows are read.
+     * Validation errors are recorded and reported after all rows have been read so row count mismatches
+     * are reported first as in the non streaming mode.
+     */
+    private class StreamingResultHandler implements RowCallbackHandler {
+        private final TestContext context;
+        private final ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+        /** Rows kept for script validation */
+        private final List<Map<String, Object>> scriptRows = new ArrayList<>();
+
+        /** Variable values of columns used in variable extraction, built while reading the rows */
+        private final Map<String, ExtractedValue> extractedValues = new HashMap<>();
+
+        /** First value of each column */
+        private final Map<String, String> firstValues = new LinkedHashMap<>();
+
+        /** Result column names by control column name */
+        private final Map<String, String> controlColumns = new HashMap<>();
+
+        /** Number of values per result column */
+        private final Map<String, Integer> columnRowCounts = new HashMap<>();
+
+        /** First validation error per control column */
+        private final Map<String, RuntimeException> validationErrors = new HashMap<>();
+
+        private int rowCount = 0;
+
+        StreamingResultHandler(TestContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            Map<String, Object> row = rowMapper.mapRow(resultSet, rowCount++);
+
+            if (scriptValidationContext != null) {
+                if (scriptRows.size() < maxScriptRows) {
+                    scriptRows.add(row);
+                } else if (scriptRows.size() == maxScriptRows) {
+                    log.warn(String.format("SQL result set exceeds %s rows - script validation uses the first %s rows only", maxScriptRows, maxScriptRows));
+                }
+            }
+
+            for (Entry<String, Object> column : row.entrySet()) {
+                String columnName = column.getKey();
+                String columnValue = getColumnValue(column.getValue());
+
+                if (!firstValues.containsKey(columnName)) {
+                    firstValues.put(columnName, columnValue);
+                }
+
+                for (String extractColumn : extractVariables.keySet()) {
+                    if (columnName.equals(extractColumn.toLowerCase()) || columnName.equals(extractColumn.toUpperCase())) {
+                        extractedValues.computeIfAbsent(columnName, key -> new ExtractedValue()).add(columnValue);
+                    }
+                }
+
+                int index = columnRowCounts.merge(columnName, 1, Integer::sum) - 1;
+                validateControlValue(columnName, index, columnValue);
+            }
+        }
+
+        private void validateControlValue(String columnName, int index, String columnValue) {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String controlColumn = controlEntry.getKey();
+                if (!columnName.equals(controlColumns.computeIfAbsent(controlColumn, key -> matchesColumn(key, columnName) ? columnName : null))) {
+                    continue;
+                }
+
+                List<String> controlValues = controlEntry.getValue();
+                if (index >= controlValues.size() || validationErrors.containsKey(controlColumn)) {
+                    continue;
+                }
+
+                try {
+                    validateSingleValue(columnName, context.replaceDynamicContentInString(controlValues.get(index)), columnValue, context);
+                } catch (CitrusRuntimeException e) {
+                    validationErrors.put(controlColumn, e);
+                }
+            }
+        }
+
+        private boolean matchesColumn(String controlColumn, String columnName) {
+            return columnName.equals(controlColumn.toLowerCase()) || columnName.equals(controlColumn.toUpperCase()) || columnName.equals(controlColumn);
+        }
+
+        /**
+         * Checks row counts of all control columns and reports recorded validation errors.
+         */
+        void verifyControlResultSet() {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = controlColumns.get(controlEntry.getKey());
+                if (columnName == null) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                int resultRowCount = columnRowCounts.get(columnName);
+                if (resultRowCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + resultRowCount);
+                }
+
+                if (validationErrors.containsKey(controlEntry.getKey())) {
+                    throw validationErrors.get(controlEntry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Variable value of a column built row by row in streaming mode. Only the joined value is kept instead of a list of
+     * all column values. The result equals the value constructed from the complete list of column values.
+     */
+    private static class ExtractedValue {
+        private final StringBuilder joined = new StringBuilder();
+        private String firstValue;
+        private int count = 0;
+
+        void add(String value) {
+            if (count == 0) {
+                firstValue = value;
+                joined.append(value);
+            } else {
+                joined.append(";").append(value == null ? NULL_VALUE : value);
+            }
+
+            count++;
+        }
+
+        String getVariableValue() {
+            if (count == 1) {
+                return firstValue == null ? NULL_VALUE : firstValue;
+            }
+
+            return joined.toString();
+        }
+    }
+
     /**
      * Gets the validator.
      * @return the validator
@@ -423,6 +671,30 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return scriptValidationContext;
     }
 
+    /**
+     * Gets the streaming mode.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets the maxScriptRows.
+     * @return the maxScriptRows
+     */
+    public int getMaxScriptRows() {
+        return maxScriptRows;
+    }
+
     /**
      * Action builder.
      */
@@ -432,6 +704,9 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         private Map<String, String> extractVariables = new HashMap<>();
         private ScriptValidationContext scriptValidationContext;
         private SqlResultSetScriptValidator validator;
+        private boolean streaming = false;
+        private int fetchSize = 0;
+        private int maxScriptRows = 10000;
 
         public static Builder query(DataSource dataSource) {
             Builder builder = new Builder();
@@ -542,6 +817,41 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             return this;
         }
 
+        /**
+         * Enables streaming mode. Result rows are processed one by one instead of loading the complete
+         * result set into memory.
+         */
+        public Builder streaming() {
+            return streaming(true);
+        }
+
+        /**
+         * Enables or disables streaming mode.
+         * @param streaming
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Sets the JDBC fetch size used in streaming mode.
+         * @param fetchSize
+         */
+        public Builder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of result rows passed to script validation in streaming mode.
+         * @param maxScriptRows
+         */
+        public Builder maxScriptRows(int maxScriptRows) {
+            this.maxScriptRows = maxScriptRows;
+            return this;
+        }
+
         @Override
         public ExecuteSQLQueryAction build() {
             return new ExecuteSQLQueryAction(this);
@@ -102,6 +102,8 @@ public class SQLActionParser implements BeanDefinitionParser {
             beanDefinition.addPropertyValue("ignoreErrors", true);
         }
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+
         return beanDefinition;
     }
 
@@ -150,6 +152,10 @@ public class SQLActionParser implements BeanDefinitionParser {
 
         beanDefinition.addPropertyValue("extractVariables", extractVariables);
 
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("streaming"), "streaming");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("fetch-size"), "fetchSize");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("max-script-rows"), "maxScriptRows");
+
         return beanDefinition;
     }
 
@@ -193,6 +199,14 @@ public class SQLActionParser implements BeanDefinitionParser {
             builder.ignoreErrors(ignoreErrors);
         }
 
+        /**
+         * Sets the maximum number of statements per JDBC batch.
+         * @param batchSize
+         */
+        public void setBatchSize(int batchSize) {
+            builder.batchSize(batchSize);
+        }
+
         @Override
         public Class<?> getObjectType() {
             return ExecuteSQLAction.class;
@@ -254,6 +268,30 @@ public class SQLActionParser implements BeanDefinitionParser {
             }
         }
 
+        /**
+         * Enables or disables streaming mode.
+         * @param streaming
+         */
+        public void setStreaming(boolean streaming) {
+            builder.streaming(streaming);
+        }
+
+        /**
+         * Sets the JDBC fetch size used in streaming mode.
+         * @param fetchSize
+         */
+        public void setFetchSize(int fetchSize) {
+            builder.fetchSize(fetchSize);
+        }
+
+        /**
+         * Sets the maximum number of result rows passed to script validation in streaming mode.
+         * @param maxScriptRows
+         */
+        public void setMaxScriptRows(int maxScriptRows) {
+            builder.maxScriptRows(maxScriptRows);
+        }
+
         @Override
         public Class<?> getObjectType() {
             return ExecuteSQLQueryAction.class;
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -69,24 +70,31 @@ public abstract class SqlUtils {
      * @return list of SQL statements.
      */
     public static List<String> createStatementsFromFileResource(Resource sqlResource, LastScriptLineDecorator lineDecorator) {
-        BufferedReader reader = null;
-        StringBuffer buffer;
-
         List<String> stmts = new ArrayList<>();
+        readStatementsFromFileResource(sqlResource, lineDecorator, stmts::add);
+        return stmts;
+    }
 
-        try {
-            if (log.isDebugEnabled()) {
-                log.debug("Create statements from SQL file: " + sqlResource.getFile().getAbsolutePath());
-            }
+    /**
+     * Reads SQL statements from external file resource and passes each statement to the given consumer as soon as
+     * it has been read. Statements are not collected so large script files can be processed without loading all
+     * statements into memory. File resource can hold several multi-line statements and comments.
+     *
+     * @param sqlResource the sql file resource.
+     * @param lineDecorator optional line decorator for last script lines.
+     * @param statementConsumer consumer receiving the statements in script order.
+     */
+    public static void readStatementsFromFileResource(Resource sqlResource, LastScriptLineDecorator lineDecorator, Consumer<String> statementConsumer) {
+        if (log.isDebugEnabled()) {
+            log.debug("Create statements from SQL file: " + sqlResource.getDescription());
+        }
 
-            reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()));
-            buffer = new StringBuffer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()))) {
+            StringBuilder buffer = new StringBuilder();
 
             String line;
-            while (reader.ready()) {
-                line = reader.readLine();
-
-                if (line != null && !line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
                     if (line.trim().endsWith(getStatementEndingCharacter(lineDecorator))) {
                         if (lineDecorator != null) {
                             buffer.append(lineDecorator.decorate(line));
@@ -100,9 +108,8 @@ public abstract class SqlUtils {
                             log.debug("Found statement: " + stmt);
                         }
 
-                        stmts.add(stmt);
+                        statementConsumer.accept(stmt);
                         buffer.setLength(0);
-                        buffer = new StringBuffer();
                     } else {
                         buffer.append(line);
 
@@ -113,17 +120,7 @@ public abstract class SqlUtils {
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Resource could not be found - filename: " + sqlResource, e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    log.warn("Warning: Error while closing reader instance", e);
-                }
-            }
         }
-
-        return stmts;
     }
 
     /**
@@ -21,6 +21,7 @@ import java.util.List;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -28,7 +29,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -166,4 +170,76 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLActionBuilder.build().execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLExecutionBatched() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add("CREATE TABLE ORDERS (ID integer)");
+        stmts.add(DB_STMT_2);
+        stmts.add("INSERT INTO ORDERS VALUES (1);");
+        stmts.add("insert into ORDERS values (2)");
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(2);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE ORDERS (ID integer)");
+        inOrder.verify(jdbcTemplate).batchUpdate(DB_STMT_2, "INSERT INTO ORDERS VALUES (1)");
+        inOrder.verify(jdbcTemplate).batchUpdate("insert into ORDERS values (2)");
+    }
+
+    @Test
+    public void testSQLExecutionBatchedWithFileResource() {
+        executeSQLActionBuilder.sqlResource("classpath:com/consol/citrus/actions/test-sql-statements.sql");
+        executeSQLActionBuilder.batchSize(10);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("serial")
+    public void testSQLExecutionBatchedIgnoreErrors() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(1);
+        executeSQLActionBuilder.ignoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {}).when(jdbcTemplate).batchUpdate(DB_STMT_1);
+
+        executeSQLActionBuilder.build().execute(context);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    @SuppressWarnings("serial")
+    public void testSQLExecutionBatchedErrorForwarding() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(5);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {}).when(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+
+        executeSQLActionBuilder.build().execute(context);
+    }
 }
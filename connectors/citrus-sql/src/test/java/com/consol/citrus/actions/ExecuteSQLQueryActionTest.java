@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.UnitTestSupport;
@@ -31,8 +33,10 @@ import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.script.sql.SqlResultSetScriptValidator;
 import org.apache.commons.codec.binary.Base64;
+import org.hsqldb.jdbc.JDBCDriver;
 import org.mockito.Mockito;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -789,4 +793,93 @@ public class ExecuteSQLQueryActionTest extends UnitTestSupport {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testStreamingResultSet() {
+        JdbcTemplate streamingJdbcTemplate = createStreamingJdbcTemplate();
+
+        executeSQLQueryAction.jdbcTemplate(streamingJdbcTemplate)
+                .statement("select ID, STATUS from streaming_orders where ID < 3 order by ID")
+                .streaming()
+                .fetchSize(100)
+                .validate("ID", "0", "1", "2")
+                .validate("status", "open", "closed", "@startsWith('op')@")
+                .extract("STATUS", "orderStatus")
+                .build().execute(context);
+
+        Assert.assertEquals(context.getVariable("orderStatus"), "open;closed;open");
+        Assert.assertEquals(context.getVariable("ID"), "0");
+    }
+
+    @Test
+    public void testStreamingResultSetInTransaction() {
+        JdbcTemplate streamingJdbcTemplate = createStreamingJdbcTemplate();
+        reset(transactionManager);
+
+        executeSQLQueryAction.jdbcTemplate(streamingJdbcTemplate)
+                .transactionManager(transactionManager)
+                .statement("select ID, STATUS from streaming_orders where ID = 7")
+                .streaming()
+                .validate("STATUS", "closed")
+                .extract("ID", "orderId")
+                .extract("STATUS", "orderStatus")
+                .build().execute(context);
+
+        Assert.assertEquals(context.getVariable("orderId"), "7");
+        Assert.assertEquals(context.getVariable("orderStatus"), "closed");
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testStreamingResultSetScriptRowsBound() {
+        JdbcTemplate streamingJdbcTemplate = createStreamingJdbcTemplate();
+        reset(resultSetScriptValidator);
+
+        executeSQLQueryAction.jdbcTemplate(streamingJdbcTemplate)
+                .statement("select ID, STATUS from streaming_orders")
+                .streaming()
+                .maxScriptRows(10)
+                .validateScript("assert rows.size() == 10", ScriptTypes.GROOVY)
+                .build().execute(context);
+
+        verify(resultSetScriptValidator).validateSqlResultSet(Mockito.argThat(rows -> rows.size() == 10), any(ScriptValidationContext.class), eq(context));
+    }
+
+    @Test
+    public void testStreamingResultSetRowCountMismatch() {
+        JdbcTemplate streamingJdbcTemplate = createStreamingJdbcTemplate();
+
+        try {
+            executeSQLQueryAction.jdbcTemplate(streamingJdbcTemplate)
+                    .statement("select ID, STATUS from streaming_orders where ID < 3 order by ID")
+                    .streaming()
+                    .validate("STATUS", "closed", "closed")
+                    .build().execute(context);
+            Assert.fail("Missing exception due to row count mismatch");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'STATUS' expected rows count: 2 but was 3");
+        }
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testStreamingResultSetValidationError() {
+        JdbcTemplate streamingJdbcTemplate = createStreamingJdbcTemplate();
+
+        executeSQLQueryAction.jdbcTemplate(streamingJdbcTemplate)
+                .statement("select ID, STATUS from streaming_orders where ID < 3 order by ID")
+                .streaming()
+                .validate("STATUS", "open", "open", "open")
+                .build().execute(context);
+    }
+
+    private JdbcTemplate createStreamingJdbcTemplate() {
+        JdbcTemplate template = new JdbcTemplate(new SimpleDriverDataSource(new JDBCDriver(), "jdbc:hsqldb:mem:streaming", "sa", ""));
+        template.execute("drop table streaming_orders if exists");
+        template.execute("create table streaming_orders (ID integer, STATUS varchar(10))");
+        template.batchUpdate("insert into streaming_orders values (?, ?)", IntStream.range(0, 1000)
+                .mapToObj(id -> new Object[] { id, id % 2 == 0 ? "open" : "closed" })
+                .collect(Collectors.toList()));
+        return template;
+    }
 }
@@ -45,6 +45,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getStatements().get(0), "insert into foo_table values (foo, foo)");
         Assert.assertEquals(action.getStatements().get(1), "update foo_table set foo=foo where foo=foo");
         Assert.assertFalse(action.isIgnoreErrors());
+        Assert.assertEquals(action.getBatchSize(), 0);
         Assert.assertNull(action.getTransactionManager());
         Assert.assertEquals(action.getTransactionTimeout(), "-1");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
@@ -56,6 +57,7 @@ public class ExecuteSQLActionParserTest extends AbstractActionParserTest<Execute
         Assert.assertEquals(action.getSqlResourcePath(), "classpath:com/consol/citrus/actions/test-sql-statements.sql");
         Assert.assertEquals(action.getStatements().size(), 0);
         Assert.assertTrue(action.isIgnoreErrors());
+        Assert.assertEquals(action.getBatchSize(), 100);
         Assert.assertEquals(action.getTransactionManager(), beanDefinitionContext.getBean("testTransactionManager", PlatformTransactionManager.class));
         Assert.assertEquals(action.getTransactionTimeout(), "5000");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_READ_COMMITTED");
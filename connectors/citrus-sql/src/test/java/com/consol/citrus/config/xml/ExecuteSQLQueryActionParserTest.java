@@ -53,6 +53,7 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
         Assert.assertNull(action.getScriptValidationContext());
         Assert.assertEquals(action.getExtractVariables().size(), 0);
+        Assert.assertFalse(action.isStreaming());
         
         // 2nd action
         action = getNextTestActionFromTest();
@@ -99,6 +100,9 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertNotNull(action.getScriptValidationContext());
         Assert.assertNull(action.getScriptValidationContext().getValidationScriptResourcePath());
         Assert.assertEquals(action.getScriptValidationContext().getValidationScript().trim(), "assert rows.size == 2");
+        Assert.assertTrue(action.isStreaming());
+        Assert.assertEquals(action.getFetchSize(), 500);
+        Assert.assertEquals(action.getMaxScriptRows(), 100);
         
         // 5th action
         action = getNextTestActionFromTest();
@@ -130,6 +130,15 @@ public final class CitrusSettings {
     public static final String TYPE_CONVERTER_ENV = "CITRUS_TYPE_CONVERTER";
     public static final String TYPE_CONVERTER_DEFAULT = "default";
 
+    /** Default message id generator */
+    public static final String MESSAGE_ID_GENERATOR_PROPERTY = "citrus.message.id.generator";
+    public static final String MESSAGE_ID_GENERATOR_ENV = "CITRUS_MESSAGE_ID_GENERATOR";
+    public static final String MESSAGE_ID_GENERATOR_DEFAULT = "default";
+
+    /** Maximum number of threads used to run message validations in parallel */
+    public static final String PARALLEL_VALIDATION_POOL_SIZE_PROPERTY = "citrus.parallel.validation.pool.size";
+    public static final String PARALLEL_VALIDATION_POOL_SIZE_ENV = "CITRUS_PARALLEL_VALIDATION_POOL_SIZE";
+
     /**
      * Gets set of file name patterns for XML test files.
      * @return
@@ -163,4 +172,22 @@ public final class CitrusSettings {
         return System.getProperty(TYPE_CONVERTER_PROPERTY,  System.getenv(TYPE_CONVERTER_ENV) != null ?
                 System.getenv(TYPE_CONVERTER_ENV) : TYPE_CONVERTER_DEFAULT);
     }
+
+    /**
+     * Gets the message id generator to use by default.
+     * @return
+     */
+    public static String getMessageIdGenerator() {
+        return System.getProperty(MESSAGE_ID_GENERATOR_PROPERTY,  System.getenv(MESSAGE_ID_GENERATOR_ENV) != null ?
+                System.getenv(MESSAGE_ID_GENERATOR_ENV) : MESSAGE_ID_GENERATOR_DEFAULT);
+    }
+
+    /**
+     * Gets the maximum number of threads used to run message validations in parallel. Defaults to the number of available processors.
+     * @return
+     */
+    public static int getParallelValidationPoolSize() {
+        return Integer.parseInt(System.getProperty(PARALLEL_VALIDATION_POOL_SIZE_PROPERTY,  System.getenv(PARALLEL_VALIDATION_POOL_SIZE_ENV) != null ?
+                System.getenv(PARALLEL_VALIDATION_POOL_SIZE_ENV) : String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.exceptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Special exception thrown in case several message validations have failed. The exception receives a list of
+ * exceptions and provides detailed to string method for overview of failed validations.
+ */
+public class AggregateValidationException extends ValidationException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<CitrusRuntimeException> exceptions;
+
+    public AggregateValidationException(List<CitrusRuntimeException> nestedExceptions) {
+        super("Several message validations failed");
+
+        this.exceptions = new ArrayList<>(nestedExceptions);
+        this.exceptions.forEach(this::addSuppressed);
+    }
+
+    @Override
+    public String getMessage() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("Several message validations failed");
+        for (CitrusRuntimeException exception : exceptions) {
+            builder.append("\n\t+ ").append(exception.getClass().getName()).append(": ").append(exception.getLocalizedMessage());
+        }
+
+        return builder.append(getFailureStackAsString()).toString();
+    }
+
+    /**
+     * Gets the nested validation exceptions.
+     * @return
+     */
+    public List<CitrusRuntimeException> getExceptions() {
+        return exceptions;
+    }
+}
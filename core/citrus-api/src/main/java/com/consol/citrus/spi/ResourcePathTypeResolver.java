@@ -3,13 +3,20 @@ package com.consol.citrus.spi;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -17,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.ClassUtils;
 
 /**
  * Type resolver resolves references via resource path lookup. Provided resource paths should point to a resource in classpath
@@ -28,6 +36,10 @@ import org.springframework.core.io.support.ResourcePatternResolver;
  * type=com.consol.citrus.MySpecialPojo
  *
  * Users can define custom property names to read instead of the default {@link TypeResolver#DEFAULT_TYPE_PROPERTY}.
+ *
+ * Loaded resource properties, resolved constructors, static instance fields and classpath resource listings are cached in a shared registry so
+ * repeated lookups do not touch the classloader or perform reflective constructor scans. Constructors, static instance fields and resource listings
+ * are cached per class loader. Each call still creates a new instance unless the type provides a static instance.
  * @author Christoph Deppisch
  */
 public class ResourcePathTypeResolver implements TypeResolver {
@@ -38,6 +50,18 @@ public class ResourcePathTypeResolver implements TypeResolver {
     /** Supported static instance field in target - used as a fallback to the default constructor */
     private static final String INSTANCE = "INSTANCE";
 
+    /** Cached read only resource properties by full resource path */
+    private static final Map<String, Map<String, String>> PROPERTIES_CACHE = new ConcurrentHashMap<>();
+
+    /** Cached constructors by class loader, type name and parameter types */
+    private static final Map<ClassLoader, Map<String, Constructor<?>>> CONSTRUCTOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Cached static instance fields by class loader, type name and parameter types */
+    private static final Map<ClassLoader, Map<String, Field>> INSTANCE_FIELD_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Cached classpath resource names by class loader and full resource path */
+    private static final Map<ClassLoader, Map<String, List<String>>> RESOURCE_NAMES_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
     /** Base path for resources */
     private final String resourceBasePath;
 
@@ -62,35 +86,63 @@ public class ResourcePathTypeResolver implements TypeResolver {
 
     @Override
     public String resolveProperty(String resourcePath, String property) {
-        return readAsProperties(resourcePath).getProperty(property);
+        return readAsProperties(resourcePath).get(property);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T resolve(String resourcePath, String property, Object ... initargs) {
         String type = resolveProperty(resourcePath, property);
+        ClassLoader classLoader = getClassLoader();
+        String key = getCacheKey(type, initargs);
 
-        try {
-            if (initargs.length == 0) {
-                return (T) Class.forName(type).getDeclaredConstructor().newInstance();
-            } else {
-                return (T) getConstructor(Class.forName(type), initargs).newInstance(initargs);
+        Field instanceField = getCache(INSTANCE_FIELD_CACHE, classLoader).get(key);
+        if (instanceField != null) {
+            try {
+                return (T) instanceField.get(null);
+            } catch (IllegalAccessException e) {
+                throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), e);
             }
+        }
+
+        try {
+            return (T) getConstructor(type, key, classLoader, initargs).newInstance(initargs);
         } catch (ClassNotFoundException | IllegalAccessException | InstantiationException |
                 NoSuchMethodException | InvocationTargetException e) {
+            return resolveStaticInstance(type, key, classLoader, initargs, e);
+        }
+    }
 
-            try {
-                if (Arrays.stream(Class.forName(type).getFields()).anyMatch(f -> f.getName().equals(INSTANCE) &&
-                        Modifier.isStatic(f.getModifiers()))) {
-                    return (T) Class.forName(type).getField(INSTANCE).get(null);
-                }
-            } catch (IllegalAccessException | NoSuchFieldException | ClassNotFoundException e1) {
-                throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), e1);
+    /**
+     * Fallback to static instance field on given type when no accessible constructor is available. The resolved field
+     * is cached so subsequent lookups skip the constructor resolution.
+     * @param type
+     * @param key
+     * @param classLoader
+     * @param initargs
+     * @param cause
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T resolveStaticInstance(String type, String key, ClassLoader classLoader, Object[] initargs, ReflectiveOperationException cause) {
+        try {
+            Optional<Field> instanceField = Arrays.stream(Class.forName(type, true, classLoader).getFields())
+                    .filter(f -> f.getName().equals(INSTANCE) && Modifier.isStatic(f.getModifiers()))
+                    .findFirst();
+
+            if (instanceField.isPresent()) {
+                T instance = (T) instanceField.get().get(null);
+                getCache(INSTANCE_FIELD_CACHE, classLoader).put(key, instanceField.get());
+                return instance;
             }
-
-            LOG.warn(String.format("Neither static instance nor accessible default constructor (%s) is given on type '%s'",
-                    Arrays.toString(getParameterTypes(initargs)), type));
+        } catch (IllegalAccessException | ClassNotFoundException e) {
             throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), e);
         }
+
+        LOG.warn(String.format("Neither static instance nor accessible default constructor (%s) is given on type '%s'",
+                Arrays.toString(getParameterTypes(initargs)), type));
+        throw new CitrusRuntimeException(String.format("Failed to resolve classpath resource of type '%s'", type), cause);
     }
 
     @Override
@@ -98,36 +150,129 @@ public class ResourcePathTypeResolver implements TypeResolver {
         Map<String, T> resources = new HashMap<>();
         final String path = getFullResourcePath(resourcePath);
 
+        for (String resourceName : getResourceNames(path)) {
+            if (property.equals(TYPE_PROPERTY_WILDCARD)) {
+                Map<String, String> properties = readAsProperties(path + "/" + resourceName);
+                for (String key : properties.keySet()) {
+                    T resource = resolve(path + "/" + resourceName, key);
+                    resources.put(resourceName + "." + key, resource);
+                }
+            } else {
+                T resource = resolve(path + "/" + resourceName, property);
+
+                if (keyProperty != null) {
+                    resources.put(resolveProperty(path + "/" + resourceName, keyProperty), resource);
+                } else {
+                    resources.put(resourceName, resource);
+                }
+            }
+        }
+
+        return resources;
+    }
+
+    /**
+     * Clears all cached resource properties, constructors and resource listings.
+     */
+    public static void clearCache() {
+        PROPERTIES_CACHE.clear();
+        CONSTRUCTOR_CACHE.clear();
+        INSTANCE_FIELD_CACHE.clear();
+        RESOURCE_NAMES_CACHE.clear();
+    }
+
+    /**
+     * Scan classpath for resources in given path. Result of the scan is cached per class loader for subsequent lookups.
+     * @param path
+     * @return
+     */
+    private List<String> getResourceNames(String path) {
+        ClassLoader classLoader = getClassLoader();
+        Map<String, List<String>> cache = getCache(RESOURCE_NAMES_CACHE, classLoader);
+
+        List<String> resourceNames = cache.get(path);
+        if (resourceNames != null) {
+            return resourceNames;
+        }
+
         try {
-            Stream.of(new PathMatchingResourcePatternResolver().getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*"))
-                    .forEach(file -> {
+            resourceNames = Stream.of(new PathMatchingResourcePatternResolver(classLoader).getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + path + "/*"))
+                    .map(file -> {
                         Optional<String> resourceName = Optional.ofNullable(file.getFilename());
                         if (!resourceName.isPresent()) {
                             LOG.warn(String.format("Skip unsupported resource '%s' for resource lookup", file));
-                            return;
-                        }
-
-                        if (property.equals(TYPE_PROPERTY_WILDCARD)) {
-                            Properties properties = readAsProperties(path + "/" + resourceName.get());
-                            for (Map.Entry<Object, Object> prop : properties.entrySet()) {
-                                T resource = resolve(path + "/" + resourceName.get(), prop.getKey().toString());
-                                resources.put(resourceName.get() + "." + prop.getKey().toString(), resource);
-                            }
-                        } else {
-                            T resource = resolve(path + "/" + resourceName.get(), property);
-
-                            if (keyProperty != null) {
-                                resources.put(resolveProperty(path + "/" + resourceName.get(), keyProperty), resource);
-                            } else {
-                                resources.put(resourceName.get(), resource);
-                            }
                         }
-                    });
+                        return resourceName;
+                    })
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toCollection(ArrayList::new));
         } catch (IOException e) {
             LOG.warn(String.format("Failed to resolve resources in '%s'", path), e);
+            return Collections.emptyList();
         }
 
-        return resources;
+        resourceNames = Collections.unmodifiableList(resourceNames);
+        cache.put(path, resourceNames);
+        return resourceNames;
+    }
+
+    /**
+     * Gets cached constructor for given type and init arguments. Resolves and caches the constructor on first access.
+     * @param type
+     * @param key
+     * @param classLoader
+     * @param initargs
+     * @return
+     * @throws ClassNotFoundException
+     * @throws NoSuchMethodException
+     */
+    private Constructor<?> getConstructor(String type, String key, ClassLoader classLoader, Object[] initargs) throws ClassNotFoundException, NoSuchMethodException {
+        Map<String, Constructor<?>> cache = getCache(CONSTRUCTOR_CACHE, classLoader);
+
+        Constructor<?> constructor = cache.get(key);
+        if (constructor == null) {
+            if (initargs.length == 0) {
+                constructor = Class.forName(type, true, classLoader).getDeclaredConstructor();
+            } else {
+                constructor = getConstructor(Class.forName(type, true, classLoader), initargs);
+            }
+
+            cache.put(key, constructor);
+        }
+
+        return constructor;
+    }
+
+    /**
+     * Gets the class loader used to load resources and types. Uses the default class loader of the current thread and falls back
+     * to the class loader of this resolver.
+     * @return
+     */
+    private static ClassLoader getClassLoader() {
+        return Optional.ofNullable(ClassUtils.getDefaultClassLoader())
+                .orElse(ResourcePathTypeResolver.class.getClassLoader());
+    }
+
+    /**
+     * Gets the cache for given class loader. Creates a new cache on first access.
+     * @param caches
+     * @param classLoader
+     * @param <V>
+     * @return
+     */
+    private static <V> Map<String, V> getCache(Map<ClassLoader, Map<String, V>> caches, ClassLoader classLoader) {
+        return caches.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Build cache key from type name and the types of given init arguments.
+     * @param type
+     * @param initargs
+     * @return
+     */
+    private String getCacheKey(String type, Object[] initargs) {
+        return initargs.length == 0 ? type : type + Arrays.toString(getParameterTypes(initargs));
     }
 
     /**
@@ -176,19 +321,30 @@ public class ResourcePathTypeResolver implements TypeResolver {
      * @param resourcePath
      * @return
      */
-    private Properties readAsProperties(String resourcePath) {
+    private Map<String, String> readAsProperties(String resourcePath) {
         String path = getFullResourcePath(resourcePath);
 
-        InputStream in = ResourcePathTypeResolver.class.getClassLoader().getResourceAsStream(path);
-        if (in == null) {
-            throw new CitrusRuntimeException(String.format("Failed to locate resource path '%s'", path));
+        Map<String, String> cached = PROPERTIES_CACHE.get(path);
+        if (cached != null) {
+            return cached;
         }
 
-        try {
+        try (InputStream in = ResourcePathTypeResolver.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new CitrusRuntimeException(String.format("Failed to locate resource path '%s'", path));
+            }
+
             Properties config = new Properties();
             config.load(in);
 
-            return config;
+            Map<String, String> properties = new HashMap<>();
+            for (String key : config.stringPropertyNames()) {
+                properties.put(key, config.getProperty(key));
+            }
+
+            Map<String, String> readOnly = Collections.unmodifiableMap(properties);
+            PROPERTIES_CACHE.put(path, readOnly);
+            return readOnly;
         } catch (IOException e) {
             throw new CitrusRuntimeException(String.format("Unable to load properties from resource path configuration at '%s'", path), e);
         }
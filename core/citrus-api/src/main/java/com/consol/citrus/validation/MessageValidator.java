@@ -105,4 +105,14 @@ public interface MessageValidator<T extends ValidationContext> {
      * @return true if this message validator is capable of validating the message type.
      */
     boolean supportsMessageType(String messageType, Message message);
+
+    /**
+     * Checks if this message validator may run concurrently with other validators on the same message and test context.
+     * Thread safe validators must not modify the message and only read from the test context. Validators that are not
+     * thread safe always run sequentially in parallel validation mode.
+     * @return true if this validator is safe to run in parallel validation mode.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -21,7 +21,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.NoSuchMessageValidatorException;
 import com.consol.citrus.message.Message;
@@ -39,7 +44,7 @@ import org.springframework.util.StringUtils;
  *
  * @author Christoph Deppisch
  */
-public class MessageValidatorRegistry {
+public class MessageValidatorRegistry implements ShutdownPhase {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(MessageValidatorRegistry.class);
@@ -56,6 +61,9 @@ public class MessageValidatorRegistry {
     /** Default empty message validator */
     private DefaultEmptyMessageValidator defaultEmptyMessageValidator = new DefaultEmptyMessageValidator();
 
+    /** Executor running message validators in parallel validation mode */
+    private ExecutorService validationExecutor;
+
     /**
      * Finds matching message validators for this message type.
      *
@@ -206,4 +214,30 @@ public class MessageValidatorRegistry {
                 .findFirst()
                 .orElse(defaultMessageHeaderValidator);
     }
+
+    /**
+     * Gets the executor running message validators in parallel validation mode. The executor is created on first use
+     * and shut down when this registry is destroyed.
+     * @return the validation executor.
+     */
+    public synchronized ExecutorService getValidationExecutor() {
+        if (validationExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            validationExecutor = Executors.newFixedThreadPool(CitrusSettings.getParallelValidationPoolSize(), runnable -> {
+                Thread thread = new Thread(runnable, "citrus-validation-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return validationExecutor;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (validationExecutor != null) {
+            validationExecutor.shutdownNow();
+            validationExecutor = null;
+        }
+    }
 }
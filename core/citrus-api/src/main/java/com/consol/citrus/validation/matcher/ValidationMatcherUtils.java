@@ -17,7 +17,11 @@
 package com.consol.citrus.validation.matcher;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -33,6 +37,13 @@ import org.springframework.util.StringUtils;
  */
 public final class ValidationMatcherUtils {
 
+    /** Cache of parsed validation matcher expressions per validation matcher registry */
+    private static final Map<ValidationMatcherRegistry, Map<String, CompiledExpression>> EXPRESSION_CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Maximum number of cached validation matcher expressions per registry, least recently used expressions are evicted */
+    private static final int EXPRESSION_CACHE_LIMIT = 1000;
+
     /**
      * Prevent class instantiation.
      */
@@ -47,6 +58,41 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue,
             String validationMatcherExpression, TestContext context) {
+        ValidationMatcherRegistry registry = context.getValidationMatcherRegistry();
+        Map<String, CompiledExpression> expressionCache = getExpressionCache(registry);
+
+        CompiledExpression compiled = expressionCache.get(validationMatcherExpression);
+        if (compiled == null) {
+            compiled = compile(validationMatcherExpression, registry);
+            expressionCache.put(validationMatcherExpression, compiled);
+        }
+
+        compiled.validationMatcher.validate(fieldName, fieldValue, compiled.getParameters(context), context);
+    }
+
+    /**
+     * Gets the expression cache of given registry. Compiled expressions depend on the validation matcher libraries and
+     * their control expression parsers so each registry uses its own cache. The cache is released together with the registry.
+     * @param registry
+     * @return
+     */
+    private static Map<String, CompiledExpression> getExpressionCache(ValidationMatcherRegistry registry) {
+        return EXPRESSION_CACHE.computeIfAbsent(registry, key -> Collections.synchronizedMap(
+                new LinkedHashMap<String, CompiledExpression>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+                        return size() > EXPRESSION_CACHE_LIMIT;
+                    }
+                }));
+    }
+
+    /**
+     * Parses given validation matcher expression to compiled expression holding the resolved matcher and its parameters.
+     * @param validationMatcherExpression
+     * @param registry
+     * @return
+     */
+    private static CompiledExpression compile(String validationMatcherExpression, ValidationMatcherRegistry registry) {
         String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
 
         if (expression.equals("ignore")) {
@@ -66,23 +112,12 @@ public final class ValidationMatcherUtils {
         String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
         String matcherName = expression.substring(prefix.length(), bodyStart);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+        ValidationMatcher validationMatcher = registry.getLibraryForPrefix(prefix).getValidationMatcher(matcherName);
 
         ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
         List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
-    }
 
-    private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
-        List<String> replacedParams = new ArrayList<>(params.size());
-        for (String param : params) {
-            String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
-            String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
-            replacedParams.add(parsedFunctionsParam);
-        }
-        return replacedParams;
+        return new CompiledExpression(params, validationMatcher);
     }
 
     /**
@@ -118,4 +153,32 @@ public final class ValidationMatcherUtils {
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
+
+    /**
+     * Parsed validation matcher expression holding the resolved validation matcher and the extracted control values.
+     * Test variables and functions in the control values are replaced on each usage.
+     */
+    private static final class CompiledExpression {
+        private final List<String> parameters;
+        private final ValidationMatcher validationMatcher;
+
+        CompiledExpression(List<String> parameters, ValidationMatcher validationMatcher) {
+            this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+            this.validationMatcher = validationMatcher;
+        }
+
+        /**
+         * Gets the parameters with test variables and functions replaced.
+         * @param context
+         * @return
+         */
+        List<String> getParameters(TestContext context) {
+            List<String> replacedParams = new ArrayList<>(parameters.size());
+            for (String param : parameters) {
+                String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
+                replacedParams.add(FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context));
+            }
+            return replacedParams;
+        }
+    }
 }
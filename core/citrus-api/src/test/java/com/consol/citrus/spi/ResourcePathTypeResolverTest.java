@@ -1,9 +1,16 @@
 package com.consol.citrus.spi;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 
 import com.consol.citrus.spi.mocks.Bar;
 import com.consol.citrus.spi.mocks.Foo;
+import com.consol.citrus.spi.mocks.Singleton;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -31,6 +38,22 @@ public class ResourcePathTypeResolverTest {
         Assert.assertEquals(new ResourcePathTypeResolver("META-INF/mocks").resolve("foo", TypeResolver.DEFAULT_TYPE_PROPERTY).getClass(), Foo.class);
     }
 
+    @Test
+    public void testResolveCached() {
+        ResourcePathTypeResolver resolver = new ResourcePathTypeResolver("META-INF/mocks");
+        Object first = resolver.resolve("foo");
+        Object second = resolver.resolve("foo");
+
+        Assert.assertEquals(first.getClass(), Foo.class);
+        Assert.assertEquals(second.getClass(), Foo.class);
+        Assert.assertNotSame(first, second);
+
+        ResourcePathTypeResolver.clearCache();
+        Assert.assertEquals(resolver.resolve("foo").getClass(), Foo.class);
+        Assert.assertEquals(resolver.resolveAll().size(), 2L);
+        Assert.assertEquals(resolver.resolveAll().size(), 2L);
+    }
+
     @Test
     public void testResolveAll() {
         Map<String, Object> resolved = new ResourcePathTypeResolver().resolveAll("mocks");
@@ -61,4 +84,51 @@ public class ResourcePathTypeResolverTest {
         Assert.assertNotNull(resolved.get("mocks.bar"));
         Assert.assertEquals(resolved.get("mocks.bar").getClass(), Bar.class);
     }
+
+    @Test
+    public void testResolveAllCachedPerClassLoader() throws IOException {
+        Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("mocks").size(), 2L);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        Path emptyClasspath = Files.createTempDirectory("citrus-classpath");
+        try (URLClassLoader isolated = new URLClassLoader(new URL[] { emptyClasspath.toUri().toURL() }, null)) {
+            thread.setContextClassLoader(isolated);
+            Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("mocks").size(), 0L);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            Files.deleteIfExists(emptyClasspath);
+        }
+
+        Assert.assertEquals(new ResourcePathTypeResolver().resolveAll("mocks").size(), 2L);
+    }
+
+    @Test
+    public void testResolveStaticInstance() {
+        ResourcePathTypeResolver resolver = new ResourcePathTypeResolver("META-INF/instance");
+        Assert.assertSame(resolver.resolve("singleton"), Singleton.INSTANCE);
+        Assert.assertSame(resolver.resolve("singleton"), Singleton.INSTANCE);
+
+        ResourcePathTypeResolver.clearCache();
+        Assert.assertSame(resolver.resolve("singleton"), Singleton.INSTANCE);
+    }
+
+    @Test
+    public void testResolveCachedPerClassLoader() throws Exception {
+        Assert.assertEquals(new ResourcePathTypeResolver().resolve("mocks/foo").getClass(), Foo.class);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        URL testClasses = Paths.get(Foo.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toUri().toURL();
+        try (URLClassLoader isolated = new URLClassLoader(new URL[] { testClasses }, null)) {
+            thread.setContextClassLoader(isolated);
+            Object foo = new ResourcePathTypeResolver().resolve("mocks/foo");
+            Assert.assertEquals(foo.getClass().getName(), Foo.class.getName());
+            Assert.assertSame(foo.getClass().getClassLoader(), isolated);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        Assert.assertEquals(new ResourcePathTypeResolver().resolve("mocks/foo").getClass(), Foo.class);
+    }
 }
@@ -0,0 +1,12 @@
+package com.consol.citrus.spi.mocks;
+
+/**
+ * @author Christoph Deppisch
+ */
+public final class Singleton {
+
+    public static final Singleton INSTANCE = new Singleton();
+
+    private Singleton() {
+    }
+}
@@ -144,6 +144,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
      * Closes the context and all its components.
      */
     public void close() {
+        messageValidatorRegistry.destroy();
     }
 
     /**
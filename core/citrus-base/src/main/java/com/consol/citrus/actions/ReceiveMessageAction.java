@@ -23,13 +23,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.consol.citrus.AbstractTestActionBuilder;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.AggregateValidationException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageBuilder;
 import com.consol.citrus.message.MessageDirection;
@@ -114,6 +119,9 @@ public class ReceiveMessageAction extends AbstractTestAction {
     /** List of processors that handle the control message builder */
     private final List<MessageProcessor> controlMessageProcessors;
 
+    /** Run independent message validators concurrently */
+    private final boolean parallelValidation;
+
     /** The expected message type to arrive in this receive action - this information is needed to find a proper
      * message validator for this message */
     private final String messageType;
@@ -137,6 +145,7 @@ public class ReceiveMessageAction extends AbstractTestAction {
         this.validationContexts = builder.getValidationContexts();
         this.variableExtractors = builder.variableExtractors;
         this.messageProcessors = builder.messageProcessors;
+        this.parallelValidation = builder.parallelValidation;
 
         this.messageBuilder = builder.messageBuilderSupport.getMessageBuilder();
         this.dataDictionary = builder.messageBuilderSupport.getDataDictionary();
@@ -216,9 +225,8 @@ public class ReceiveMessageAction extends AbstractTestAction {
     protected void validateMessage(Message message, TestContext context) {
         messageProcessors.forEach(processor -> processor.process(message, context));
 
-        // extract variables from received message content
-        for (VariableExtractor variableExtractor : variableExtractors) {
-            variableExtractor.extractVariables(message, context);
+        if (!parallelValidation) {
+            extractVariables(message, context);
         }
 
         if (validationProcessor != null) {
@@ -238,18 +246,18 @@ public class ReceiveMessageAction extends AbstractTestAction {
             }
 
             if (!CollectionUtils.isEmpty(validators)) {
-                for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
-                    messageValidator.validateMessage(message, controlMessage, context, validationContexts);
-                }
+                List<MessageValidator<? extends ValidationContext>> activeValidators = new ArrayList<>(validators);
 
                 if (validators.parallelStream()
                         .map(Object::getClass)
                         .noneMatch(DefaultMessageHeaderValidator.class::isAssignableFrom)) {
                     MessageValidator<?extends ValidationContext> defaultMessageHeaderValidator = context.getMessageValidatorRegistry().getDefaultMessageHeaderValidator();
                     if (defaultMessageHeaderValidator != null) {
-                        defaultMessageHeaderValidator.validateMessage(message, controlMessage, context, validationContexts);
+                        activeValidators.add(defaultMessageHeaderValidator);
                     }
                 }
+
+                validateMessage(activeValidators, message, controlMessage, context);
             } else {
                 List<MessageValidator<? extends ValidationContext>> validators =
                         context.getMessageValidatorRegistry().findMessageValidators(messageType, message);
@@ -267,11 +275,94 @@ public class ReceiveMessageAction extends AbstractTestAction {
                     }
                 }
 
-                for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
+                validateMessage(validators, message, controlMessage, context);
+            }
+        }
+
+        if (parallelValidation) {
+            // variables are extracted after all validators have finished so validators never see concurrent variable changes
+            extractVariables(message, context);
+        }
+    }
+
+    /**
+     * Extract variables from received message content.
+     * @param message
+     * @param context
+     */
+    private void extractVariables(Message message, TestContext context) {
+        for (VariableExtractor variableExtractor : variableExtractors) {
+            variableExtractor.extractVariables(message, context);
+        }
+    }
+
+    /**
+     * Runs given message validators on the received message. In parallel validation mode the validators that declare
+     * themselves thread safe run concurrently on the validation executor of the message validator registry. All other
+     * validators run sequentially before. All validation failures are then collected and reported together.
+     * @param validators
+     * @param message
+     * @param controlMessage
+     * @param context
+     */
+    private void validateMessage(List<MessageValidator<? extends ValidationContext>> validators,
+                                 Message message, Message controlMessage, TestContext context) {
+        if (!parallelValidation) {
+            for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
+                messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+            }
+            return;
+        }
+
+        List<CitrusRuntimeException> exceptions = new ArrayList<>();
+        List<MessageValidator<? extends ValidationContext>> threadSafeValidators = new ArrayList<>();
+        for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
+            if (messageValidator.isThreadSafe()) {
+                threadSafeValidators.add(messageValidator);
+            } else {
+                try {
                     messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+                } catch (CitrusRuntimeException e) {
+                    exceptions.add(e);
                 }
             }
         }
+
+        if (threadSafeValidators.size() == 1) {
+            try {
+                threadSafeValidators.get(0).validateMessage(message, controlMessage, context, validationContexts);
+            } catch (CitrusRuntimeException e) {
+                exceptions.add(e);
+            }
+        } else if (!threadSafeValidators.isEmpty()) {
+            ExecutorService validationExecutor = context.getMessageValidatorRegistry().getValidationExecutor();
+            List<Future<?>> results = threadSafeValidators.stream()
+                    .map(messageValidator -> validationExecutor.submit(
+                            () -> messageValidator.validateMessage(message, controlMessage, context, validationContexts)))
+                    .collect(Collectors.toList());
+
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CitrusRuntimeException) {
+                        exceptions.add((CitrusRuntimeException) e.getCause());
+                    } else {
+                        exceptions.add(new ValidationException("Message validation failed", e.getCause()));
+                    }
+                } catch (InterruptedException e) {
+                    results.forEach(pending -> pending.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new CitrusRuntimeException("Interrupted while waiting for message validation to complete", e);
+                }
+            }
+        }
+
+        if (exceptions.size() == 1) {
+            throw exceptions.get(0);
+        } else if (!exceptions.isEmpty()) {
+            throw new AggregateValidationException(exceptions);
+        }
     }
 
     /**
@@ -426,6 +517,14 @@ public class ReceiveMessageAction extends AbstractTestAction {
         return dataDictionary;
     }
 
+    /**
+     * Gets the parallelValidation.
+     * @return
+     */
+    public boolean isParallelValidation() {
+        return parallelValidation;
+    }
+
     /**
      * Gets the messageBuilder.
      * @return the messageBuilder
@@ -497,6 +596,7 @@ public class ReceiveMessageAction extends AbstractTestAction {
         private Endpoint endpoint;
         private String endpointUri;
         private long receiveTimeout = 0L;
+        private boolean parallelValidation;
         private final Map<String, Object> messageSelectorMap = new HashMap<>();
         private String messageSelector;
         private final List<MessageValidator<? extends ValidationContext>> validators = new ArrayList<>();
@@ -776,6 +876,17 @@ public class ReceiveMessageAction extends AbstractTestAction {
             return process(adapter.asProcessor());
         }
 
+        /**
+         * Enables parallel validation mode where independent message validators run concurrently.
+         * All validation failures are reported together once all validators have finished.
+         * @param enabled
+         * @return
+         */
+        public B parallelValidation(boolean enabled) {
+            this.parallelValidation = enabled;
+            return self;
+        }
+
         /**
          * Sets the bean reference resolver.
          *
@@ -16,12 +16,19 @@
 
 package com.consol.citrus.message;
 
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -41,9 +48,32 @@ public class DefaultMessage implements Message {
     /** Serial */
     private static final long serialVersionUID = 1904510540660648952L;
 
+    /** Converted payload view types that can safely be cached - byte[] views are copied on each access */
+    private static final Set<Class<?>> CACHEABLE_VIEW_TYPES = new HashSet<>(Arrays.asList(String.class, byte[].class, Long.class, Integer.class,
+            Short.class, Byte.class, Double.class, Float.class, Boolean.class, Character.class, BigDecimal.class, BigInteger.class));
+
+    /** Updates conversion counters without allocating counter objects per message */
+    private static final AtomicLongFieldUpdater<DefaultMessage> PAYLOAD_CONVERSIONS =
+            AtomicLongFieldUpdater.newUpdater(DefaultMessage.class, "payloadConversions");
+    private static final AtomicLongFieldUpdater<DefaultMessage> PAYLOAD_CONVERSIONS_AVOIDED =
+            AtomicLongFieldUpdater.newUpdater(DefaultMessage.class, "payloadConversionsAvoided");
+
+    /** Generates message ids lazily on first access */
+    private static final MessageIdGenerator ID_GENERATOR = MessageIdGenerator.lookupDefault();
+
     /** Message payload object */
     private Object payload;
 
+    /** Marks that the message id header has been set */
+    private volatile boolean idInitialized;
+
+    /** Cached converted views of the current payload object, created on first conversion */
+    private transient volatile ConvertedPayload convertedPayload;
+
+    /** Counts payload type conversions performed and conversions served from cache for this message */
+    private volatile long payloadConversions;
+    private volatile long payloadConversionsAvoided;
+
     /** Optional list of header data */
     private final List<String> headerData = new ArrayList<>();
 
@@ -68,7 +98,7 @@ public class DefaultMessage implements Message {
      * @param message
      */
     public DefaultMessage(Message message) {
-        this(message.getPayload(), message.getHeaders());
+        this(message.getPayload(), copyHeaders(message));
 
         this.setName(message.getName());
         this.setType(message.getType());
@@ -92,15 +122,50 @@ public class DefaultMessage implements Message {
         this.payload = payload;
         this.headers.putAll(headers);
 
-        this.headers.putIfAbsent(MessageHeaders.ID, UUID.randomUUID().toString());
+        this.headers.putIfAbsent(MessageHeaders.ID, new LazyMessageId());
+        this.idInitialized = !(this.headers.get(MessageHeaders.ID) instanceof LazyMessageId);
         this.headers.putIfAbsent(MessageHeaders.TIMESTAMP, System.currentTimeMillis());
     }
 
+    /**
+     * Copies headers of given message. Headers of a default message are copied as is so a lazy message id is not generated.
+     * @param message
+     * @return
+     */
+    private static Map<String, Object> copyHeaders(Message message) {
+        if (message instanceof DefaultMessage) {
+            Map<String, Object> headers = ((DefaultMessage) message).headers;
+            synchronized (headers) {
+                return new LinkedHashMap<>(headers);
+            }
+        }
+
+        return message.getHeaders();
+    }
+
     @Override
     public String getId() {
         return getHeader(MessageHeaders.ID).toString();
     }
 
+    /**
+     * Generates the message id header on first access. The id header keeps its position in the header map. Copies of a message
+     * share the lazy id of the copied message so both resolve to the same id.
+     */
+    private void initializeId() {
+        if (!idInitialized) {
+            synchronized (headers) {
+                if (!idInitialized) {
+                    Object id = headers.get(MessageHeaders.ID);
+                    if (id instanceof LazyMessageId) {
+                        headers.put(MessageHeaders.ID, ((LazyMessageId) id).get());
+                    }
+                    idInitialized = true;
+                }
+            }
+        }
+    }
+
     /**
      * Gets the message creation timestamp;
      * @return
@@ -112,9 +177,9 @@ public class DefaultMessage implements Message {
     @Override
     public String toString() {
         if (CollectionUtils.isEmpty(headerData)) {
-            return getClass().getSimpleName().toUpperCase() + " [id: " + getId() + ", payload: " + getPayload(String.class).trim() + "][headers: " + Collections.unmodifiableMap(headers) + "]";
+            return getClass().getSimpleName().toUpperCase() + " [id: " + getId() + ", payload: " + getPayload(String.class).trim() + "][headers: " + Collections.unmodifiableMap(getHeaders()) + "]";
         } else {
-            return getClass().getSimpleName().toUpperCase() + " [id: " + getId() + ", payload: " + getPayload(String.class).trim() + "][headers: " + Collections.unmodifiableMap(headers) + "][header-data: " + Collections.unmodifiableList(headerData) + "]";
+            return getClass().getSimpleName().toUpperCase() + " [id: " + getId() + ", payload: " + getPayload(String.class).trim() + "][headers: " + Collections.unmodifiableMap(getHeaders()) + "][header-data: " + Collections.unmodifiableList(headerData) + "]";
         }
     }
 
@@ -130,6 +195,10 @@ public class DefaultMessage implements Message {
 
     @Override
     public Object getHeader(String headerName) {
+        if (headerName.equals(MessageHeaders.ID)) {
+            initializeId();
+        }
+
         return headers.get(headerName);
     }
 
@@ -153,9 +222,72 @@ public class DefaultMessage implements Message {
         return headerData;
     }
 
+    /**
+     * Converts the payload to the given type. Converted String, byte[] and simple value views are cached per target type
+     * for any payload object (e.g. DOM documents, byte arrays or XML sources) until the payload is set again. Callers that
+     * change a mutable payload in place must set the payload again in order to refresh the cached views.
+     * @param type
+     * @param <T>
+     * @return
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object source = getPayload();
+
+        if (source == null || type.isInstance(source) || !CACHEABLE_VIEW_TYPES.contains(type)) {
+            return TypeConversionUtils.convertIfNecessary(source, type);
+        }
+
+        ConvertedPayload converted = convertedPayload;
+        if (converted == null || converted.source != source) {
+            converted = new ConvertedPayload(source);
+            convertedPayload = converted;
+        }
+
+        Object view = converted.views.get(type);
+        if (view == null) {
+            view = convertPayload(source, type);
+            if (view != null) {
+                converted.views.putIfAbsent(type, view);
+            }
+        } else {
+            PAYLOAD_CONVERSIONS_AVOIDED.incrementAndGet(this);
+        }
+
+        if (view instanceof byte[]) {
+            return (T) ((byte[]) view).clone();
+        }
+
+        return (T) view;
+    }
+
+    /**
+     * Converts given payload to the target type and updates conversion statistics.
+     * @param source
+     * @param type
+     * @param <T>
+     * @return
+     */
+    private <T> T convertPayload(Object source, Class<T> type) {
+        PAYLOAD_CONVERSIONS.incrementAndGet(this);
+        return TypeConversionUtils.convertIfNecessary(source, type);
+    }
+
+    /**
+     * Gets the number of cacheable payload conversions performed on this message.
+     * @return
+     */
+    public long getPayloadConversions() {
+        return payloadConversions;
+    }
+
+    /**
+     * Gets the number of payload conversions on this message that were served from the cache.
+     * @return
+     */
+    public long getPayloadConversionsAvoided() {
+        return payloadConversionsAvoided;
     }
 
     @Override
@@ -166,11 +298,13 @@ public class DefaultMessage implements Message {
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        this.convertedPayload = null;
         return this;
     }
 
     @Override
     public Map<String, Object> getHeaders() {
+        initializeId();
         return headers;
     }
 
@@ -223,4 +357,43 @@ public class DefaultMessage implements Message {
 
         return type;
     }
+
+    /**
+     * Converted views of a payload object by target type. Instances are bound to the payload they were created for and
+     * get replaced as soon as the message payload changes.
+     */
+    private static final class ConvertedPayload {
+        private final Object source;
+        private final Map<Class<?>, Object> views = new ConcurrentHashMap<>(4);
+
+        ConvertedPayload(Object source) {
+            this.source = source;
+        }
+    }
+
+    /**
+     * Placeholder for the message id header that generates the id on first access. Shared between message copies.
+     */
+    private static final class LazyMessageId implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private volatile String id;
+
+        String get() {
+            if (id == null) {
+                synchronized (this) {
+                    if (id == null) {
+                        id = ID_GENERATOR.generateId();
+                    }
+                }
+            }
+
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return get();
+        }
+    }
 }
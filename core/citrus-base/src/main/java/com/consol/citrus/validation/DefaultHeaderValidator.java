@@ -64,16 +64,12 @@ public class DefaultHeaderValidator implements HeaderValidator {
                 }
 
                 Assert.isTrue(receivedValueString.equals(expectedValue),
-                        "Values not equal for header element '"
-                                + headerName + "', expected '"
-                                + expectedValue + "' but was '"
-                                + receivedValue + "'");
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
+                                "Values not equal for header element '" + headerName + "'", expectedValue, receivedValue));
             } else {
                 Assert.isTrue(!StringUtils.hasText(expectedValue),
-                        "Values not equal for header element '"
-                                + headerName + "', expected '"
-                                + expectedValue + "' but was '"
-                                + null + "'");
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
+                                "Values not equal for header element '" + headerName + "'", expectedValue, null));
             }
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Validation failed:", e);
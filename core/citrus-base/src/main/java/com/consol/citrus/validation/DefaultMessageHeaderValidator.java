@@ -166,6 +166,11 @@ public class DefaultMessageHeaderValidator extends AbstractMessageValidator<Head
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     protected Class<HeaderValidationContext> getRequiredValidationContextType() {
         return HeaderValidationContext.class;
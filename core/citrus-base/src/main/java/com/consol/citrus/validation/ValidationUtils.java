@@ -60,13 +60,13 @@ public abstract class ValidationUtils {
         try {
             if (actualValue != null) {
                 Assert.isTrue(expectedValue != null,
-                        ValidationUtils.buildValueMismatchErrorMessage(
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
                                 "Values not equal for element '" + pathExpression + "'", null, actualValue));
 
                 Optional<ValueMatcher> matcher = getValueMatcher(expectedValue, context);
                 if (matcher.isPresent()) {
                     Assert.isTrue(matcher.get().validate(actualValue, expectedValue, context),
-                            ValidationUtils.buildValueMismatchErrorMessage(
+                            () -> ValidationUtils.buildValueMismatchErrorMessage(
                                     "Values not matching for element '" + pathExpression + "'", expectedValue, actualValue));
                     return;
                 }
@@ -80,35 +80,36 @@ public abstract class ValidationUtils {
 
                     if (converted instanceof List) {
                         Assert.isTrue(converted.toString().equals(expectedValue.toString()),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedValue.toString(), converted.toString()));
                     } else if (converted instanceof String[]) {
                         String convertedDelimitedString = StringUtils.arrayToCommaDelimitedString((String[]) converted);
                         String expectedDelimitedString = StringUtils.arrayToCommaDelimitedString((String[]) expectedValue);
 
                         Assert.isTrue(convertedDelimitedString.equals(expectedDelimitedString),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedDelimitedString, convertedDelimitedString));
                     } else if (converted instanceof byte[]) {
                         String convertedBase64 = Base64.encodeBase64String((byte[]) converted);
                         String expectedBase64 = Base64.encodeBase64String((byte[]) expectedValue);
 
                         Assert.isTrue(convertedBase64.equals(expectedBase64),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedBase64, convertedBase64));
                     } else {
                         Assert.isTrue(converted.equals(expectedValue),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedValue, converted));
                     }
                 } else {
-                    String expectedValueString = expectedValue.toString();
+                    String expectedValueString;
                     String actualValueString;
                     if (List.class.isAssignableFrom(actualValue.getClass())) {
                         actualValueString = StringUtils.arrayToCommaDelimitedString(((List)actualValue).toArray(new Object[((List)actualValue).size()]));
-                        expectedValueString = expectedValueString.replaceAll("^\\[", "").replaceAll("\\]$", "").replaceAll(",\\s", ",");
+                        expectedValueString = expectedValue.toString().replaceAll("^\\[", "").replaceAll("\\]$", "").replaceAll(",\\s", ",");
                     } else {
                         actualValueString = actualValue.toString();
+                        expectedValueString = expectedValue.toString();
                     }
 
                     if (ValidationMatcherUtils.isValidationMatcherExpression(String.valueOf(expectedValueString))) {
@@ -118,7 +119,7 @@ public abstract class ValidationUtils {
                                 context);
                     } else {
                         Assert.isTrue(actualValueString.equals(expectedValueString),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedValueString, actualValueString));
                     }
                 }
@@ -126,7 +127,7 @@ public abstract class ValidationUtils {
                 Optional<ValueMatcher> matcher = getValueMatcher(expectedValue, context);
                 if (matcher.isPresent()) {
                     Assert.isTrue(matcher.get().validate(actualValue, expectedValue, context),
-                            ValidationUtils.buildValueMismatchErrorMessage(
+                            () -> ValidationUtils.buildValueMismatchErrorMessage(
                                     "Values not matching for element '" + pathExpression + "'", expectedValue, null));
                 } else if (expectedValue instanceof String) {
                     String expectedValueString = expectedValue.toString();
@@ -138,7 +139,7 @@ public abstract class ValidationUtils {
                                 context);
                     } else {
                         Assert.isTrue(!StringUtils.hasText(expectedValueString),
-                                ValidationUtils.buildValueMismatchErrorMessage(
+                                () -> ValidationUtils.buildValueMismatchErrorMessage(
                                         "Values not equal for element '" + pathExpression + "'", expectedValueString, null));
                     }
                 } else {
@@ -29,7 +29,9 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.exceptions.AggregateValidationException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.functions.DefaultFunctionLibrary;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -51,6 +53,7 @@ import com.consol.citrus.variable.MessageHeaderVariableExtractor;
 import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -1124,4 +1127,120 @@ public class ReceiveMessageActionTest extends AbstractTestNGUnitTest {
                 .build();
         receiveAction.execute(context);
     }
+
+    @Test
+    @SuppressWarnings({ "unchecked" })
+    public void testReceiveMessageParallelValidation() {
+        MessageValidator<ValidationContext> firstValidator = Mockito.mock(MessageValidator.class);
+        MessageValidator<ValidationContext> secondValidator = Mockito.mock(MessageValidator.class);
+
+        Message controlMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(endpoint, consumer, endpointConfiguration);
+        when(endpoint.createConsumer()).thenReturn(consumer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+        when(consumer.receive(any(TestContext.class), anyLong())).thenReturn(controlMessage);
+        when(endpoint.getActor()).thenReturn(null);
+        when(firstValidator.isThreadSafe()).thenReturn(true);
+        when(secondValidator.isThreadSafe()).thenReturn(true);
+
+        ReceiveMessageAction receiveAction = new ReceiveMessageAction.Builder()
+                .endpoint(endpoint)
+                .validators(firstValidator, secondValidator, new DefaultMessageHeaderValidator())
+                .parallelValidation(true)
+                .message(new DefaultMessageBuilder())
+                .build();
+        receiveAction.execute(context);
+
+        Mockito.verify(firstValidator).validateMessage(eq(controlMessage), any(Message.class), eq(context), any(List.class));
+        Mockito.verify(secondValidator).validateMessage(eq(controlMessage), any(Message.class), eq(context), any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked" })
+    public void testReceiveMessageParallelValidationAggregatesFailures() {
+        MessageValidator<ValidationContext> firstValidator = Mockito.mock(MessageValidator.class);
+        MessageValidator<ValidationContext> secondValidator = Mockito.mock(MessageValidator.class);
+
+        Message controlMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(endpoint, consumer, endpointConfiguration);
+        when(endpoint.createConsumer()).thenReturn(consumer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+        when(consumer.receive(any(TestContext.class), anyLong())).thenReturn(controlMessage);
+        when(endpoint.getActor()).thenReturn(null);
+        when(firstValidator.isThreadSafe()).thenReturn(true);
+        when(secondValidator.isThreadSafe()).thenReturn(true);
+
+        doThrow(new ValidationException("First validation failed")).when(firstValidator)
+                .validateMessage(any(Message.class), any(Message.class), eq(context), any(List.class));
+        doThrow(new ValidationException("Second validation failed")).when(secondValidator)
+                .validateMessage(any(Message.class), any(Message.class), eq(context), any(List.class));
+
+        ReceiveMessageAction receiveAction = new ReceiveMessageAction.Builder()
+                .endpoint(endpoint)
+                .validators(firstValidator, secondValidator, new DefaultMessageHeaderValidator())
+                .parallelValidation(true)
+                .message(new DefaultMessageBuilder())
+                .build();
+
+        try {
+            receiveAction.execute(context);
+        } catch (AggregateValidationException e) {
+            Assert.assertEquals(e.getExceptions().size(), 2);
+            Assert.assertTrue(e.getMessage().contains("First validation failed"));
+            Assert.assertTrue(e.getMessage().contains("Second validation failed"));
+            return;
+        }
+
+        Assert.fail("Missing aggregated validation exception");
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked" })
+    public void testReceiveMessageParallelValidationWithNonThreadSafeValidator() {
+        MessageValidator<ValidationContext> threadSafeValidator = Mockito.mock(MessageValidator.class);
+        MessageValidator<ValidationContext> nonThreadSafeValidator = Mockito.mock(MessageValidator.class);
+
+        Message controlMessage = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(endpoint, consumer, endpointConfiguration);
+        when(endpoint.createConsumer()).thenReturn(consumer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+        when(consumer.receive(any(TestContext.class), anyLong())).thenReturn(controlMessage);
+        when(endpoint.getActor()).thenReturn(null);
+        when(threadSafeValidator.isThreadSafe()).thenReturn(true);
+        when(nonThreadSafeValidator.isThreadSafe()).thenReturn(false);
+
+        Thread testThread = Thread.currentThread();
+        doAnswer(invocationOnMock -> {
+            Assert.assertEquals(Thread.currentThread(), testThread);
+            Assert.assertFalse(context.getVariables().containsKey("messageVar"));
+            return null;
+        }).when(nonThreadSafeValidator).validateMessage(any(Message.class), any(Message.class), eq(context), any(List.class));
+
+        doAnswer(invocationOnMock -> {
+            Assert.assertFalse(context.getVariables().containsKey("messageVar"));
+            return null;
+        }).when(threadSafeValidator).validateMessage(any(Message.class), any(Message.class), eq(context), any(List.class));
+
+        VariableExtractor variableExtractor = (message, context) ->
+                context.setVariable("messageVar", "Hello World!");
+
+        ReceiveMessageAction receiveAction = new ReceiveMessageAction.Builder()
+                .endpoint(endpoint)
+                .validators(threadSafeValidator, nonThreadSafeValidator, new DefaultMessageHeaderValidator())
+                .parallelValidation(true)
+                .message(new DefaultMessageBuilder())
+                .process(variableExtractor)
+                .build();
+        receiveAction.execute(context);
+
+        Mockito.verify(threadSafeValidator).validateMessage(eq(controlMessage), any(Message.class), eq(context), any(List.class));
+        Mockito.verify(nonThreadSafeValidator).validateMessage(eq(controlMessage), any(Message.class), eq(context), any(List.class));
+        Assert.assertEquals(context.getVariable("messageVar"), "Hello World!");
+    }
 }
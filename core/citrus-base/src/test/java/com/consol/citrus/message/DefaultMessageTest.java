@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class DefaultMessageTest {
+
+    @Test
+    public void testCachedPayloadConversion() {
+        DefaultMessage message = new DefaultMessage(12345L);
+
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, "12345");
+        Assert.assertSame(message.getPayload(String.class), payload);
+        Assert.assertEquals(message.getPayloadConversions(), 1L);
+        Assert.assertEquals(message.getPayloadConversionsAvoided(), 1L);
+
+        message.setPayload(54321L);
+        Assert.assertEquals(message.getPayload(String.class), "54321");
+        Assert.assertEquals(message.getPayloadConversions(), 2L);
+
+        Assert.assertEquals(new DefaultMessage(12345L).getPayloadConversions(), 0L);
+    }
+
+    @Test
+    public void testMutablePayloadConversionCachedUntilPayloadSet() {
+        StringBuilder payload = new StringBuilder("Hello");
+        DefaultMessage message = new DefaultMessage(payload);
+
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+
+        payload.append(" Citrus");
+
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+        Assert.assertEquals(message.getPayloadConversions(), 1L);
+        Assert.assertEquals(message.getPayloadConversionsAvoided(), 1L);
+
+        message.setPayload(payload);
+        Assert.assertEquals(message.getPayload(String.class), "Hello Citrus");
+        Assert.assertEquals(message.getPayloadConversions(), 2L);
+    }
+
+    @Test
+    public void testConcurrentPayloadConversion() throws Exception {
+        DefaultMessage message = new DefaultMessage(12345L);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> message.getPayload(String.class)));
+            }
+
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(), "12345");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(message.getPayloadConversions() + message.getPayloadConversionsAvoided(), 100L);
+    }
+
+    @Test
+    public void testCachedByteArrayConversion() {
+        DefaultMessage message = new DefaultMessage("Hello World!");
+
+        byte[] payload = message.getPayload(byte[].class);
+        payload[0] = 'X';
+
+        Assert.assertEquals(new String(message.getPayload(byte[].class), StandardCharsets.UTF_8), "Hello World!");
+
+        message.setPayload("Hello Citrus!");
+        Assert.assertEquals(new String(message.getPayload(byte[].class), StandardCharsets.UTF_8), "Hello Citrus!");
+    }
+
+    @Test
+    public void testLazyMessageId() {
+        DefaultMessage message = new DefaultMessage("Hello World!");
+        String id = message.getId();
+
+        Assert.assertNotNull(id);
+        Assert.assertEquals(message.getHeader(MessageHeaders.ID), id);
+        Assert.assertEquals(message.getHeaders().get(MessageHeaders.ID), id);
+        Assert.assertEquals(new DefaultMessage(message).getId(), id);
+        Assert.assertNotEquals(new DefaultMessage("Hello World!").getId(), id);
+    }
+
+    @Test
+    public void testLazyMessageIdHeaderOrder() {
+        DefaultMessage message = new DefaultMessage("Hello World!");
+        message.setHeader("operation", "sayHello");
+
+        Assert.assertEquals(new ArrayList<>(message.getHeaders().keySet()),
+                Arrays.asList(MessageHeaders.ID, MessageHeaders.TIMESTAMP, "operation"));
+    }
+
+    @Test
+    public void testLazyMessageIdCopy() {
+        DefaultMessage message = new DefaultMessage("Hello World!");
+        DefaultMessage copy = new DefaultMessage(message);
+
+        Assert.assertEquals(copy.getId(), message.getId());
+        Assert.assertEquals(copy.getHeaders().keySet().iterator().next(), MessageHeaders.ID);
+        Assert.assertEquals(new DefaultMessage(copy).getId(), message.getId());
+    }
+
+    @Test
+    public void testTimeOrderedMessageIdGenerator() {
+        String id = new TimeOrderedMessageIdGenerator().generateId();
+
+        Assert.assertEquals(UUID.fromString(id).version(), 7);
+        Assert.assertEquals(UUID.fromString(id).variant(), 2);
+        Assert.assertNotEquals(new TimeOrderedMessageIdGenerator().generateId(), id);
+    }
+}
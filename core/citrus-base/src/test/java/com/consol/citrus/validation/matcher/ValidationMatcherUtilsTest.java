@@ -16,18 +16,26 @@
 
 package com.consol.citrus.validation.matcher;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.functions.FunctionLibrary;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * @author Christoph Deppisch
@@ -81,4 +89,55 @@ public class ValidationMatcherUtilsTest extends UnitTestSupport {
         verify(validationMatcher, times(3)).validate("field", "value", Collections.singletonList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Collections.singletonList("prefix:value"), context);
     }
+
+    @Test
+    public void testResolveCachedValidationMatcherWithDynamicParameters() {
+        reset(validationMatcher);
+
+        context.setVariable("expected", "foo");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}', 'static')@", context);
+        context.setVariable("expected", "bar");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}', 'static')@", context);
+
+        verify(validationMatcher).validate("field", "value", Arrays.asList("foo", "static"), context);
+        verify(validationMatcher).validate("field", "value", Arrays.asList("bar", "static"), context);
+    }
+
+    @Test
+    public void testResolveValidationMatcherWithCustomFunctionLibrary() {
+        reset(validationMatcher);
+
+        FunctionLibrary functionLibrary = new FunctionLibrary();
+        functionLibrary.setName("customFunctionLibrary");
+        functionLibrary.setPrefix("custom:");
+        functionLibrary.setMembers(Collections.singletonMap("upper", (parameterList, testContext) -> parameterList.get(0).toUpperCase()));
+        context.getFunctionRegistry().addFunctionLibrary(functionLibrary);
+
+        ValidationMatcherUtils.resolveValidationMatcher("field", "VALUE", "@foo:customMatcher('custom:upper(value)')@", context);
+
+        verify(validationMatcher).validate("field", "VALUE", Collections.singletonList("VALUE"), context);
+    }
+
+    @Test
+    public void testResolveCachedValidationMatcherPerRegistry() {
+        reset(validationMatcher);
+
+        ValidationMatcher parsingMatcher = mock(ValidationMatcher.class, withSettings().extraInterfaces(ControlExpressionParser.class));
+        when(((ControlExpressionParser) parsingMatcher).extractControlValues(anyString(), any())).thenReturn(Collections.singletonList("parsed"));
+
+        ValidationMatcherLibrary parsingLibrary = new ValidationMatcherLibrary();
+        parsingLibrary.setName("parsingValidationMatcherLibrary");
+        parsingLibrary.setPrefix("foo:");
+        parsingLibrary.setMembers(Collections.singletonMap("customMatcher", parsingMatcher));
+
+        TestContextFactory otherFactory = TestContextFactory.newInstance();
+        otherFactory.getValidationMatcherRegistry().addValidationMatcherLibrary(parsingLibrary);
+        TestContext otherContext = otherFactory.getObject();
+
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('value')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('value')@", otherContext);
+
+        verify(validationMatcher).validate("field", "value", Collections.singletonList("value"), context);
+        verify(parsingMatcher).validate("field", "value", Collections.singletonList("parsed"), otherContext);
+    }
 }
@@ -16,6 +16,7 @@ import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.util.TypeConverter;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -47,7 +48,7 @@ public class CitrusSpringContext extends CitrusContext {
     }
 
     /**
-     * Closing Citrus and its application context.
+     * Closing Citrus and its application context. Also releases shared JAXB contexts and marshaller pools.
      */
     public void close() {
         if (applicationContext instanceof ConfigurableApplicationContext) {
@@ -55,6 +56,8 @@ public class CitrusSpringContext extends CitrusContext {
                 ((ConfigurableApplicationContext) applicationContext).close();
             }
         }
+
+        PooledJaxb2Marshaller.clearCache();
     }
 
     /**
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEventHandler;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.support.SaxResourceUtils;
+import org.springframework.util.Assert;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Jaxb2 marshaller sharing JAXB contexts and compiled schemas with all other instances bound to the same classes and schema resources.
+ * Marshaller and unmarshaller instances are pooled per thread and shared by all instances using the same JAXB context, schema and
+ * marshaller properties. Instances using listeners, adapters, validation event handlers or MTOM create new marshallers on each call
+ * as those settings are specific to the instance.
+ *
+ * Instances are therefore cheap to create, so endpoint model marshallers can be instantiated per message without paying
+ * for JAXB context construction, schema compilation and marshaller creation. Shared contexts, schemas and marshaller pools
+ * are released with {@link #clearCache()}, which is called when the Citrus Spring context is closed.
+ *
+ * @author Christoph Deppisch
+ */
+public class PooledJaxb2Marshaller extends Jaxb2Marshaller {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(PooledJaxb2Marshaller.class);
+
+    /** Shared JAXB contexts by bound classes */
+    private static final Map<List<Class<?>>, JAXBContext> CONTEXT_CACHE = new ConcurrentHashMap<>();
+
+    /** Shared compiled schemas by schema language and schema resource locations */
+    private static final Map<List<String>, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+
+    /** Marshaller and unmarshaller instances reused per thread by JAXB context, schema and properties */
+    private static final Map<PoolKey, ThreadLocal<Marshaller>> MARSHALLER_POOLS = new ConcurrentHashMap<>();
+    private static final Map<PoolKey, ThreadLocal<Unmarshaller>> UNMARSHALLER_POOLS = new ConcurrentHashMap<>();
+
+    /** Schema resources to validate against */
+    private Resource[] schemaResources;
+
+    /** Schema language and resource resolver used to compile the schema */
+    private String schemaLanguage = XMLConstants.W3C_XML_SCHEMA_NS_URI;
+    private LSResourceResolver schemaResourceResolver;
+
+    /** Compiled schema */
+    private Schema schema;
+
+    /** Marshaller properties as part of the pool key */
+    private Map<String, ?> marshallerProperties = Collections.emptyMap();
+    private Map<String, ?> unmarshallerProperties = Collections.emptyMap();
+
+    /** Instance specific settings that prevent pooling */
+    private boolean poolable = true;
+
+    /** Compiled schema is shared with other instances */
+    private boolean sharedSchema = true;
+
+    @Override
+    public void setSchema(Resource schemaResource) {
+        setSchemas(schemaResource);
+    }
+
+    @Override
+    public void setSchemas(Resource... schemaResources) {
+        this.schemaResources = schemaResources;
+    }
+
+    @Override
+    public void setSchemaLanguage(String schemaLanguage) {
+        super.setSchemaLanguage(schemaLanguage);
+        this.schemaLanguage = schemaLanguage;
+    }
+
+    @Override
+    public void setSchemaResourceResolver(LSResourceResolver schemaResourceResolver) {
+        super.setSchemaResourceResolver(schemaResourceResolver);
+        this.schemaResourceResolver = schemaResourceResolver;
+    }
+
+    @Override
+    public void setMarshallerProperties(Map<String, ?> properties) {
+        super.setMarshallerProperties(properties);
+        this.marshallerProperties = new HashMap<>(properties);
+    }
+
+    @Override
+    public void setUnmarshallerProperties(Map<String, ?> properties) {
+        super.setUnmarshallerProperties(properties);
+        this.unmarshallerProperties = new HashMap<>(properties);
+    }
+
+    @Override
+    public void setMarshallerListener(Marshaller.Listener listener) {
+        super.setMarshallerListener(listener);
+        this.poolable = false;
+    }
+
+    @Override
+    public void setUnmarshallerListener(Unmarshaller.Listener listener) {
+        super.setUnmarshallerListener(listener);
+        this.poolable = false;
+    }
+
+    @Override
+    public void setValidationEventHandler(ValidationEventHandler validationEventHandler) {
+        super.setValidationEventHandler(validationEventHandler);
+        this.poolable = false;
+    }
+
+    @Override
+    public void setAdapters(XmlAdapter<?, ?>... adapters) {
+        super.setAdapters(adapters);
+        this.poolable = false;
+    }
+
+    @Override
+    public void setMtomEnabled(boolean mtomEnabled) {
+        super.setMtomEnabled(mtomEnabled);
+        this.poolable = this.poolable && !mtomEnabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+
+        if (schemaResources != null && schemaResources.length > 0) {
+            schema = loadSchema(schemaResources);
+        }
+    }
+
+    /**
+     * Marshallers are pooled only when JAXB context and schema are shared instances and no instance specific settings are used.
+     * @return
+     */
+    private boolean isPooled() {
+        return poolable && sharedSchema && getClassesToBeBound() != null;
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        Class<?>[] classesToBeBound = getClassesToBeBound();
+        if (classesToBeBound == null) {
+            return super.getJaxbContext();
+        }
+
+        return CONTEXT_CACHE.computeIfAbsent(Arrays.asList(classesToBeBound), classes -> super.getJaxbContext());
+    }
+
+    @Override
+    public Marshaller createMarshaller() {
+        if (!isPooled()) {
+            return super.createMarshaller();
+        }
+
+        ThreadLocal<Marshaller> pool = MARSHALLER_POOLS.computeIfAbsent(new PoolKey(getJaxbContext(), schema, marshallerProperties),
+                key -> new ThreadLocal<>());
+        Marshaller marshaller = pool.get();
+        if (marshaller == null) {
+            marshaller = super.createMarshaller();
+            pool.set(marshaller);
+        }
+
+        return marshaller;
+    }
+
+    @Override
+    public Unmarshaller createUnmarshaller() {
+        if (!isPooled()) {
+            return super.createUnmarshaller();
+        }
+
+        ThreadLocal<Unmarshaller> pool = UNMARSHALLER_POOLS.computeIfAbsent(new PoolKey(getJaxbContext(), schema, unmarshallerProperties),
+                key -> new ThreadLocal<>());
+        Unmarshaller unmarshaller = pool.get();
+        if (unmarshaller == null) {
+            unmarshaller = super.createUnmarshaller();
+            pool.set(unmarshaller);
+        }
+
+        return unmarshaller;
+    }
+
+    /**
+     * Clears all shared JAXB contexts, compiled schemas and marshaller pools. Pooled marshallers of the current thread are removed
+     * right away. Marshallers pooled by other threads are released by the garbage collector once the pools are no longer referenced.
+     * Instances created afterwards build new shared contexts, schemas and pools on first access.
+     */
+    public static void clearCache() {
+        MARSHALLER_POOLS.values().forEach(ThreadLocal::remove);
+        MARSHALLER_POOLS.clear();
+        UNMARSHALLER_POOLS.values().forEach(ThreadLocal::remove);
+        UNMARSHALLER_POOLS.clear();
+        SCHEMA_CACHE.clear();
+        CONTEXT_CACHE.clear();
+    }
+
+    @Override
+    protected void initJaxbMarshaller(Marshaller marshaller) throws JAXBException {
+        super.initJaxbMarshaller(marshaller);
+
+        if (schema != null) {
+            marshaller.setSchema(schema);
+        }
+    }
+
+    @Override
+    protected void initJaxbUnmarshaller(Unmarshaller unmarshaller) throws JAXBException {
+        super.initJaxbUnmarshaller(unmarshaller);
+
+        if (schema != null) {
+            unmarshaller.setSchema(schema);
+        }
+    }
+
+    /**
+     * Loads compiled schema for given resources from cache. Compiles and caches the schema on first access. Schema resources are read
+     * the same way as the Spring Jaxb2Marshaller does, so relative imports and includes are resolved against the resource location.
+     * Schemas are only cached when all resources provide a location and no custom schema resource resolver is set.
+     * @param resources
+     * @return
+     * @throws IOException
+     * @throws SAXException
+     * @throws ParserConfigurationException
+     */
+    private Schema loadSchema(Resource[] resources) throws IOException, SAXException, ParserConfigurationException {
+        List<String> key = new ArrayList<>();
+        key.add(schemaLanguage);
+
+        SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        XMLReader xmlReader = parserFactory.newSAXParser().getXMLReader();
+        xmlReader.setFeature("http://xml.org/sax/features/namespace-prefixes", true);
+
+        Source[] sources = new Source[resources.length];
+        for (int i = 0; i < resources.length; i++) {
+            Resource resource = resources[i];
+            Assert.isTrue(resource != null && resource.exists(), () -> "Resource does not exist: " + resource);
+            InputSource inputSource = SaxResourceUtils.createInputSource(resource);
+            sources[i] = new SAXSource(xmlReader, inputSource);
+            key.add(inputSource.getSystemId());
+        }
+
+        boolean cacheable = schemaResourceResolver == null && !key.contains(null);
+        sharedSchema = cacheable;
+        if (cacheable) {
+            Schema cached = SCHEMA_CACHE.get(key);
+            if (cached != null) {
+                closeQuietly(sources);
+                return cached;
+            }
+        }
+
+        try {
+            SchemaFactory schemaFactory = SchemaFactory.newInstance(schemaLanguage);
+            if (schemaResourceResolver != null) {
+                schemaFactory.setResourceResolver(schemaResourceResolver);
+            }
+
+            Schema compiled = schemaFactory.newSchema(sources);
+            if (cacheable) {
+                SCHEMA_CACHE.putIfAbsent(key, compiled);
+            }
+
+            return compiled;
+        } finally {
+            closeQuietly(sources);
+        }
+    }
+
+    /**
+     * Closes input streams of given schema sources.
+     * @param sources
+     */
+    private static void closeQuietly(Source[] sources) {
+        for (Source source : sources) {
+            try {
+                if (((SAXSource) source).getInputSource().getByteStream() != null) {
+                    ((SAXSource) source).getInputSource().getByteStream().close();
+                }
+            } catch (IOException e) {
+                LOG.warn("Failed to close schema resource", e);
+            }
+        }
+    }
+
+    /**
+     * Identifies marshaller pools by JAXB context, schema and marshaller properties. Contexts and schemas are shared instances
+     * so they are compared by identity.
+     */
+    private static final class PoolKey {
+        private final JAXBContext context;
+        private final Schema schema;
+        private final Map<String, ?> properties;
+
+        PoolKey(JAXBContext context, Schema schema, Map<String, ?> properties) {
+            this.context = context;
+            this.schema = schema;
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof PoolKey)) {
+                return false;
+            }
+
+            PoolKey poolKey = (PoolKey) o;
+            return context == poolKey.context && schema == poolKey.schema && properties.equals(poolKey.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(context), System.identityHashCode(schema), properties);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.io.ClassPathResource;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PooledJaxb2MarshallerTest {
+
+    @AfterMethod
+    public void clearCache() {
+        PooledJaxb2Marshaller.clearCache();
+    }
+
+    @Test
+    public void testSharedJaxbContext() throws Exception {
+        PooledJaxb2Marshaller first = createMarshaller();
+        PooledJaxb2Marshaller second = createMarshaller();
+
+        Assert.assertSame(first.getJaxbContext(), second.getJaxbContext());
+
+        StringWriter result = new StringWriter();
+        first.marshal(new TestModel("Hello Citrus!"), new StreamResult(result));
+        TestModel model = (TestModel) second.unmarshal(new StreamSource(new StringReader(result.toString())));
+        Assert.assertEquals(model.getText(), "Hello Citrus!");
+    }
+
+    @Test
+    public void testPooledMarshallerPerThread() throws Exception {
+        PooledJaxb2Marshaller first = createMarshaller();
+        PooledJaxb2Marshaller second = createMarshaller();
+
+        Marshaller marshaller = first.createMarshaller();
+        Unmarshaller unmarshaller = first.createUnmarshaller();
+        Assert.assertSame(first.createMarshaller(), marshaller);
+        Assert.assertSame(second.createMarshaller(), marshaller);
+        Assert.assertSame(second.createUnmarshaller(), unmarshaller);
+
+        Marshaller otherThreadMarshaller = CompletableFuture.supplyAsync(second::createMarshaller).get();
+        Assert.assertNotSame(otherThreadMarshaller, marshaller);
+    }
+
+    @Test
+    public void testPoolKeyedByProperties() throws Exception {
+        PooledJaxb2Marshaller plain = createMarshaller();
+        PooledJaxb2Marshaller formatted = new PooledJaxb2Marshaller();
+        formatted.setClassesToBeBound(TestModel.class);
+        formatted.setMarshallerProperties(Collections.singletonMap(Marshaller.JAXB_FORMATTED_OUTPUT, true));
+        formatted.afterPropertiesSet();
+
+        Assert.assertSame(plain.getJaxbContext(), formatted.getJaxbContext());
+        Assert.assertNotSame(formatted.createMarshaller(), plain.createMarshaller());
+        Assert.assertSame(formatted.createMarshaller(), formatted.createMarshaller());
+        Assert.assertEquals(formatted.createMarshaller().getProperty(Marshaller.JAXB_FORMATTED_OUTPUT), true);
+    }
+
+    @Test
+    public void testPoolKeyedBySchema() throws Exception {
+        PooledJaxb2Marshaller first = createMarshaller("pooled-marshaller-test1.xsd");
+        PooledJaxb2Marshaller second = createMarshaller("pooled-marshaller-test1.xsd");
+        PooledJaxb2Marshaller other = createMarshaller("pooled-marshaller-test2.xsd");
+
+        Assert.assertNotNull(first.createMarshaller().getSchema());
+        Assert.assertSame(first.createMarshaller().getSchema(), second.createMarshaller().getSchema());
+        Assert.assertSame(first.createMarshaller(), second.createMarshaller());
+        Assert.assertNotSame(other.createMarshaller(), first.createMarshaller());
+        Assert.assertNotSame(other.createMarshaller(), createMarshaller().createMarshaller());
+    }
+
+    @Test
+    public void testInstanceSpecificSettingsNotPooled() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(TestModel.class);
+        marshaller.setMarshallerListener(new Marshaller.Listener() {});
+        marshaller.afterPropertiesSet();
+
+        Assert.assertNotSame(marshaller.createMarshaller(), marshaller.createMarshaller());
+    }
+
+    @Test
+    public void testClearCache() throws Exception {
+        PooledJaxb2Marshaller first = createMarshaller();
+        JAXBContext context = first.getJaxbContext();
+        Marshaller marshaller = first.createMarshaller();
+
+        PooledJaxb2Marshaller.clearCache();
+
+        PooledJaxb2Marshaller second = createMarshaller();
+        Assert.assertNotSame(second.getJaxbContext(), context);
+        Assert.assertNotSame(second.createMarshaller(), marshaller);
+    }
+
+    private PooledJaxb2Marshaller createMarshaller(String... schemas) throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(TestModel.class);
+
+        if (schemas.length > 0) {
+            marshaller.setSchemas(new ClassPathResource(schemas[0], PooledJaxb2MarshallerTest.class));
+        }
+
+        marshaller.afterPropertiesSet();
+        return marshaller;
+    }
+
+    @XmlRootElement(name = "test")
+    public static class TestModel {
+        private String text;
+
+        public TestModel() {
+        }
+
+        public TestModel(String text) {
+            this.text = text;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+}
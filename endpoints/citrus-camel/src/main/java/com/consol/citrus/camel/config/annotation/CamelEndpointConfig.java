@@ -59,6 +59,12 @@ public @interface CamelEndpointConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Receive batch size.
+     * @return
+     */
+    int receiveBatchSize() default 1;
+
     /**
      * Test actor.
      * @return
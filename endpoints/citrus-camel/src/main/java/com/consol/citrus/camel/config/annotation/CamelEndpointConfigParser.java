@@ -52,6 +52,7 @@ public class CamelEndpointConfigParser implements AnnotationConfigParser<CamelEn
         }
 
         builder.timeout(annotation.timeout());
+        builder.receiveBatchSize(annotation.receiveBatchSize());
 
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(referenceResolver.resolve(annotation.actor(), TestActor.class));
@@ -39,6 +39,7 @@ public class CamelEndpointParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("camel-context"), "camelContext", "camelContext");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("endpoint-uri"), "endpointUri");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("receive-batch-size"), "receiveBatchSize");
     }
 
     @Override
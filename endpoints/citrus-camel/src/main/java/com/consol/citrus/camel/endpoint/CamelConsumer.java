@@ -16,11 +16,17 @@
 
 package com.consol.citrus.camel.endpoint;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Consumer;
 import org.apache.camel.ConsumerTemplate;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +45,9 @@ public class CamelConsumer implements Consumer {
     /** Cached consumer template - only created once for this consumer */
     private ConsumerTemplate consumerTemplate;
 
+    /** Exchanges drained from the Camel endpoint but not received by the test yet, by resolved endpoint uri */
+    private final Map<String, Queue<Exchange>> buffers = new ConcurrentHashMap<>();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(CamelConsumer.class);
 
@@ -65,7 +74,7 @@ public class CamelConsumer implements Consumer {
             log.debug("Receiving message from camel endpoint: '" + endpointUri + "'");
         }
 
-        Exchange exchange = getConsumerTemplate().receive(endpointUri, timeout);
+        Exchange exchange = receiveExchange(endpointUri, timeout);
 
         if (exchange == null) {
             throw new MessageTimeoutException(timeout, endpointUri);
@@ -79,6 +88,51 @@ public class CamelConsumer implements Consumer {
         return message;
     }
 
+    /**
+     * Receives next exchange from the Camel endpoint. With a receive batch size greater than one, all exchanges already
+     * waiting on the endpoint are drained up to the batch size and buffered for subsequent receive calls.
+     * @param endpointUri
+     * @param timeout
+     * @return the exchange or null on timeout
+     */
+    protected Exchange receiveExchange(String endpointUri, long timeout) {
+        Endpoint endpoint = endpointConfiguration.resolveEndpoint(endpointUri);
+        int batchSize = endpointConfiguration.getReceiveBatchSize();
+        if (batchSize <= 1) {
+            return getConsumerTemplate().receive(endpoint, timeout);
+        }
+
+        Queue<Exchange> buffer = buffers.computeIfAbsent(endpointUri, uri -> new ConcurrentLinkedQueue<>());
+        Exchange exchange = buffer.poll();
+        if (exchange != null) {
+            return exchange;
+        }
+
+        exchange = getConsumerTemplate().receive(endpoint, timeout);
+        if (exchange != null) {
+            for (int i = 1; i < batchSize; i++) {
+                Exchange next = getConsumerTemplate().receiveNoWait(endpoint);
+                if (next == null) {
+                    break;
+                }
+
+                buffer.add(next);
+            }
+        }
+
+        return exchange;
+    }
+
+    /**
+     * Gets the number of buffered exchanges for given resolved endpoint uri.
+     * @param endpointUri
+     * @return
+     */
+    public int getBufferDepth(String endpointUri) {
+        Queue<Exchange> buffer = buffers.get(endpointUri);
+        return buffer != null ? buffer.size() : 0;
+    }
+
     /**
      * Creates new consumer template if not present yet. Create consumer template only once which is
      * mandatory for direct endpoints that do only support one single consumer at a time.
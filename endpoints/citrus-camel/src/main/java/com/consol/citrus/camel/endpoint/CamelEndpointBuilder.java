@@ -75,4 +75,14 @@ public class CamelEndpointBuilder extends AbstractEndpointBuilder<CamelEndpoint>
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the maximum number of exchanges drained with a single receive.
+     * @param receiveBatchSize
+     * @return
+     */
+    public CamelEndpointBuilder receiveBatchSize(int receiveBatchSize) {
+        endpoint.getEndpointConfiguration().setReceiveBatchSize(receiveBatchSize);
+        return this;
+    }
 }
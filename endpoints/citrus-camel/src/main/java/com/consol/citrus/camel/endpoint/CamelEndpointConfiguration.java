@@ -16,6 +16,9 @@
 
 package com.consol.citrus.camel.endpoint;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.consol.citrus.camel.message.CamelMessageConverter;
 import com.consol.citrus.endpoint.AbstractEndpointConfiguration;
 import org.apache.camel.*;
@@ -35,6 +38,29 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     /** Camel endpoint uri */
     private String endpointUri;
 
+    /** Maximum number of exchanges drained from the Camel endpoint with a single receive */
+    private int receiveBatchSize = 1;
+
+    /** Camel endpoints by resolved endpoint uri */
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the Camel endpoint for given resolved endpoint uri. Endpoints are looked up in the Camel context only once
+     * per uri and reused for subsequent exchanges.
+     * @param resolvedEndpointUri
+     * @return
+     */
+    public Endpoint resolveEndpoint(String resolvedEndpointUri) {
+        return endpoints.computeIfAbsent(resolvedEndpointUri, uri -> {
+            Endpoint endpoint = camelContext.getEndpoint(uri);
+            if (endpoint == null) {
+                throw new NoSuchEndpointException(uri);
+            }
+
+            return endpoint;
+        });
+    }
+
     /**
      * Gets the Camel context.
      * @return
@@ -49,6 +75,7 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
      */
     public void setCamelContext(CamelContext camelContext) {
         this.camelContext = camelContext;
+        this.endpoints.clear();
     }
 
     /**
@@ -82,4 +109,20 @@ public class CamelEndpointConfiguration extends AbstractEndpointConfiguration {
     public void setMessageConverter(CamelMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the receive batch size.
+     * @return
+     */
+    public int getReceiveBatchSize() {
+        return receiveBatchSize;
+    }
+
+    /**
+     * Sets the receive batch size.
+     * @param receiveBatchSize
+     */
+    public void setReceiveBatchSize(int receiveBatchSize) {
+        this.receiveBatchSize = receiveBatchSize;
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.camel.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
@@ -61,7 +63,7 @@ public class CamelProducer implements Producer {
         }
 
         Exchange camelExchange = getProducerTemplate()
-                .send(endpointUri, new Processor() {
+                .send(endpointConfiguration.resolveEndpoint(endpointUri), new Processor() {
                     @Override
                     public void process(Exchange exchange) throws Exception {
                         endpointConfiguration.getMessageConverter().convertOutbound(exchange, message, endpointConfiguration, context);
@@ -77,6 +79,41 @@ public class CamelProducer implements Producer {
         log.info("Message was sent to camel endpoint '" + endpointUri + "'");
     }
 
+    /**
+     * Sends message to the Camel endpoint without waiting for the exchange to complete. The message is converted to a Camel
+     * exchange on the calling thread, the exchange is then processed asynchronously by the Camel producer template.
+     * The returned future completes exceptionally when the exchange has failed.
+     * @param message
+     * @param context
+     * @return future of the completed exchange
+     */
+    public CompletableFuture<Exchange> sendAsync(final Message message, final TestContext context) {
+        String endpointUri = context.replaceDynamicContentInString(endpointConfiguration.getEndpointUri());
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sending message asynchronously to camel endpoint: '" + endpointUri + "'");
+        }
+
+        Endpoint endpoint = endpointConfiguration.resolveEndpoint(endpointUri);
+        Exchange exchange = endpoint.createExchange();
+        endpointConfiguration.getMessageConverter().convertOutbound(exchange, message, endpointConfiguration, context);
+
+        CompletableFuture<Exchange> result = getProducerTemplate().asyncSend(endpoint, exchange)
+                .thenApply(camelExchange -> {
+                    if (camelExchange.getException() != null) {
+                        throw new CitrusRuntimeException("Sending message to camel endpoint resulted in exception", camelExchange.getException());
+                    }
+
+                    return camelExchange;
+                });
+
+        context.onOutboundMessage(message);
+
+        log.info("Message was dispatched to camel endpoint '" + endpointUri + "'");
+
+        return result;
+    }
+
     /**
      * Creates new producer template if not present yet. Create producer template only once which is
      * mandatory for direct endpoints that do only support one single producer at a time.
@@ -50,6 +50,7 @@ public class CamelEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @CamelEndpointConfig(endpointUri="direct:bar",
             timeout=10000L,
+            receiveBatchSize=100,
             messageConverter="messageConverter",
             camelContext="camelContext")
     private CamelEndpoint camelEndpoint2;
@@ -93,6 +94,7 @@ public class CamelEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(camelEndpoint1.getEndpointConfiguration().getMessageConverter().getClass(), CamelMessageConverter.class);
         Assert.assertEquals(camelEndpoint1.getEndpointConfiguration().getEndpointUri(), "direct:foo");
         Assert.assertEquals(camelEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(camelEndpoint1.getEndpointConfiguration().getReceiveBatchSize(), 1);
 
         // 2nd message receiver
         Assert.assertNotNull(camelEndpoint2.getEndpointConfiguration().getCamelContext());
@@ -100,6 +102,7 @@ public class CamelEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(camelEndpoint2.getEndpointConfiguration().getEndpointUri(), "direct:bar");
         Assert.assertEquals(camelEndpoint2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertEquals(camelEndpoint2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(camelEndpoint2.getEndpointConfiguration().getReceiveBatchSize(), 100);
 
         // 3rd message receiver
         Assert.assertNotNull(camelEndpoint3.getActor());
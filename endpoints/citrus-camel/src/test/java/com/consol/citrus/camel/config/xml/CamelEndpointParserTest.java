@@ -41,12 +41,14 @@ public class CamelEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getCamelContext(), beanDefinitionContext.getBean("camelContext"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed1");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getReceiveBatchSize(), 1);
 
         // 2nd message receiver
         camelEndpoint = endpoints.get("camelEndpoint2");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getCamelContext(), beanDefinitionContext.getBean("specialCamelContext"));
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getEndpointUri(), "direct:news-feed2");
         Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(camelEndpoint.getEndpointConfiguration().getReceiveBatchSize(), 100);
 
         // 3rd message receiver
         camelEndpoint = endpoints.get("camelEndpoint3");
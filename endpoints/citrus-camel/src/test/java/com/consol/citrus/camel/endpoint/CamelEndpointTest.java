@@ -17,15 +17,24 @@
 package com.consol.citrus.camel.endpoint;
 
 import com.consol.citrus.camel.message.CamelMessageHeaders;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.ConsumerTemplate;
+import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.impl.engine.AbstractCamelContext;
 import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
 import org.apache.camel.support.DefaultExchange;
@@ -53,6 +62,7 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
     private AbstractCamelContext camelContext = Mockito.mock(AbstractCamelContext.class);
     private ProducerTemplate producerTemplate = Mockito.mock(ProducerTemplate.class);
     private ConsumerTemplate consumerTemplate = Mockito.mock(ConsumerTemplate.class);
+    private Endpoint directEndpoint = Mockito.mock(Endpoint.class);
     private Exchange exchange = Mockito.mock(Exchange.class);
 
     private MessageListeners messageListeners = Mockito.mock(MessageListeners.class);
@@ -71,8 +81,9 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         reset(camelContext, producerTemplate, exchange);
 
         when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+        when(camelContext.getEndpoint(endpointUri)).thenReturn(directEndpoint);
         when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
-        when(producerTemplate.send(eq(endpointUri), any(Processor.class))).thenReturn(exchange);
+        when(producerTemplate.send(eq(directEndpoint), any(Processor.class))).thenReturn(exchange);
         when(exchange.getException()).thenReturn(null);
 
         camelEndpoint.createProducer().send(requestMessage, context);
@@ -94,8 +105,9 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         reset(camelContext, producerTemplate, exchange);
 
         when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+        when(camelContext.getEndpoint(endpointUri)).thenReturn(directEndpoint);
         when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
-        when(producerTemplate.send(eq(endpointUri), any(Processor.class))).thenReturn(exchange);
+        when(producerTemplate.send(eq(directEndpoint), any(Processor.class))).thenReturn(exchange);
         when(exchange.getException()).thenReturn(exchangeException);
 
         camelEndpoint.createProducer().send(requestMessage, context);
@@ -113,6 +125,7 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         reset(camelContext, consumerTemplate);
 
         when(camelContext.createConsumerTemplate()).thenReturn(consumerTemplate);
+        when(camelContext.getEndpoint(endpointUri)).thenReturn(directEndpoint);
         when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
         when(camelContext.getUuidGenerator()).thenReturn(new SimpleUuidGenerator());
 
@@ -122,7 +135,7 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         Exchange exchange = new DefaultExchange(camelContext);
         exchange.setIn(message);
 
-        when(consumerTemplate.receive(endpointUri, endpointConfiguration.getTimeout())).thenReturn(exchange);
+        when(consumerTemplate.receive(directEndpoint, endpointConfiguration.getTimeout())).thenReturn(exchange);
 
         Message receivedMessage = camelEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
         Assert.assertEquals(receivedMessage.getPayload(), "Hello from Camel!");
@@ -153,12 +166,14 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
         reset(camelContext, producerTemplate, consumerTemplate, messageListeners);
 
         when(camelContext.createProducerTemplate()).thenReturn(producerTemplate);
+        when(camelContext.getEndpoint(endpointUri)).thenReturn(directEndpoint);
         when(camelContext.getHeadersMapFactory()).thenReturn(new DefaultHeadersMapFactory());
-        when(producerTemplate.send(eq(endpointUri), any(Processor.class))).thenReturn(exchange);
+        when(producerTemplate.send(eq(directEndpoint), any(Processor.class))).thenReturn(exchange);
 
         when(camelContext.createConsumerTemplate()).thenReturn(consumerTemplate);
+        when(camelContext.getEndpoint(endpointUri)).thenReturn(directEndpoint);
         when(camelContext.getUuidGenerator()).thenReturn(new SimpleUuidGenerator());
-        when(consumerTemplate.receive(endpointUri, endpointConfiguration.getTimeout())).thenReturn(exchange);
+        when(consumerTemplate.receive(directEndpoint, endpointConfiguration.getTimeout())).thenReturn(exchange);
 
         when(messageListeners.isEmpty()).thenReturn(false);
         doAnswer(new Answer() {
@@ -175,4 +190,66 @@ public class CamelEndpointTest extends AbstractTestNGUnitTest {
 
         verify(messageListeners).onOutboundMessage(requestMessage, context);
     }
+
+    @Test
+    public void testCamelEndpointBatchReceive() {
+        DefaultCamelContext defaultCamelContext = new DefaultCamelContext();
+        defaultCamelContext.start();
+
+        try {
+            CamelEndpointConfiguration endpointConfiguration = new CamelEndpointConfiguration();
+            endpointConfiguration.setCamelContext(defaultCamelContext);
+            endpointConfiguration.setEndpointUri("seda:news-batch");
+            endpointConfiguration.setReceiveBatchSize(3);
+
+            CamelEndpoint camelEndpoint = new CamelEndpoint(endpointConfiguration);
+
+            ProducerTemplate template = defaultCamelContext.createProducerTemplate();
+            for (int i = 1; i <= 5; i++) {
+                template.sendBody("seda:news-batch", "News " + i);
+            }
+
+            CamelConsumer consumer = (CamelConsumer) camelEndpoint.createConsumer();
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "News 1");
+            Assert.assertEquals(consumer.getBufferDepth("seda:news-batch"), 2);
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "News 2");
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "News 3");
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "News 4");
+            Assert.assertEquals(consumer.getBufferDepth("seda:news-batch"), 1);
+            Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "News 5");
+            Assert.assertEquals(consumer.getBufferDepth("seda:news-batch"), 0);
+
+            Assert.expectThrows(MessageTimeoutException.class, () -> consumer.receive(context, 100L));
+        } finally {
+            defaultCamelContext.stop();
+        }
+    }
+
+    @Test
+    public void testCamelEndpointAsyncProducer() throws Exception {
+        DefaultCamelContext defaultCamelContext = new DefaultCamelContext();
+        defaultCamelContext.start();
+
+        try {
+            CamelEndpointConfiguration endpointConfiguration = new CamelEndpointConfiguration();
+            endpointConfiguration.setCamelContext(defaultCamelContext);
+            endpointConfiguration.setEndpointUri("seda:news-async");
+
+            CamelEndpoint camelEndpoint = new CamelEndpoint(endpointConfiguration);
+
+            CamelProducer producer = (CamelProducer) camelEndpoint.createProducer();
+            CompletableFuture<Exchange> first = producer.sendAsync(new com.consol.citrus.message.DefaultMessage("Hello from Citrus!"), context);
+            CompletableFuture<Exchange> second = producer.sendAsync(new com.consol.citrus.message.DefaultMessage("Hello again!"), context);
+
+            Assert.assertNull(first.get(5000L, TimeUnit.MILLISECONDS).getException());
+            Assert.assertNull(second.get(5000L, TimeUnit.MILLISECONDS).getException());
+
+            Set<String> payloads = new HashSet<>();
+            payloads.add(camelEndpoint.createConsumer().receive(context, 1000L).getPayload(String.class));
+            payloads.add(camelEndpoint.createConsumer().receive(context, 1000L).getPayload(String.class));
+            Assert.assertEquals(payloads, new HashSet<>(Arrays.asList("Hello from Citrus!", "Hello again!")));
+        } finally {
+            defaultCamelContext.stop();
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Input stream replaces test variables and functions in text content line by line. Only a single line is held in memory
+ * so large text files can be streamed with dynamic content replacement. Line separators are kept as is.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+class DynamicContentInputStream extends InputStream {
+
+    private final BufferedReader reader;
+    private final TestContext context;
+    private final Charset charset;
+
+    private final StringBuilder line = new StringBuilder();
+    private byte[] buffer = new byte[0];
+    private int position;
+
+    /**
+     * Constructor using the raw text input stream, the test context and the charset of the text content.
+     * @param inputStream
+     * @param context
+     * @param charset
+     */
+    DynamicContentInputStream(InputStream inputStream, TestContext context, Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+        this.context = context;
+        this.charset = charset;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!fill()) {
+            return -1;
+        }
+
+        int count = Math.min(len, buffer.length - position);
+        System.arraycopy(buffer, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Makes sure that the buffer holds unread bytes by reading and replacing the next line when necessary.
+     * @return false when the end of the underlying stream is reached.
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        while (position >= buffer.length) {
+            line.setLength(0);
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                line.append((char) c);
+                if (c == '\n') {
+                    break;
+                }
+            }
+
+            if (line.length() == 0) {
+                return false;
+            }
+
+            buffer = context.replaceDynamicContentInString(line.toString()).getBytes(charset);
+            position = 0;
+        }
+
+        return true;
+    }
+}
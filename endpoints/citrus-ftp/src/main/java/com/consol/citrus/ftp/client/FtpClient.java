@@ -20,12 +20,22 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.common.ShutdownPhase;
@@ -37,7 +47,10 @@ import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.CommandType;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.GetCommand;
+import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommand;
+import com.consol.citrus.ftp.model.MgetCommand;
+import com.consol.citrus.ftp.model.MputCommand;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
@@ -48,6 +61,7 @@ import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.FTP;
@@ -58,7 +72,6 @@ import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
@@ -75,6 +88,12 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Apache ftp client */
     private FTPClient ftpClient;
 
+    /** Pooled connections used when pool size is greater than one */
+    private FtpConnectionPool<FTPClient> connectionPool;
+
+    /** Executor running concurrent bulk transfers on pooled connections, created on first use */
+    private ExecutorService transferExecutor;
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
@@ -119,21 +138,27 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         try {
-            connectAndLogin();
-
             CommandType ftpCommand = ftpMessage.getPayload(CommandType.class);
             FtpMessage response;
 
-            if (ftpCommand instanceof GetCommand) {
-                response = retrieveFile((GetCommand) ftpCommand, context);
-            } else if (ftpCommand instanceof PutCommand) {
-                response = storeFile((PutCommand) ftpCommand, context);
-            } else if (ftpCommand instanceof ListCommand) {
-                response = listFiles((ListCommand) ftpCommand, context);
-            } else if (ftpCommand instanceof DeleteCommand) {
-                response = deleteFile((DeleteCommand) ftpCommand, context);
+            if (ftpCommand instanceof MputCommand) {
+                response = storeFiles((MputCommand) ftpCommand, context);
+            } else if (ftpCommand instanceof MgetCommand) {
+                response = retrieveFiles((MgetCommand) ftpCommand, context);
             } else {
-                response = executeCommand(ftpCommand, context);
+                response = withConnection(() -> {
+                    if (ftpCommand instanceof GetCommand) {
+                        return retrieveFile((GetCommand) ftpCommand, context);
+                    } else if (ftpCommand instanceof PutCommand) {
+                        return storeFile((PutCommand) ftpCommand, context);
+                    } else if (ftpCommand instanceof ListCommand) {
+                        return listFiles((ListCommand) ftpCommand, context);
+                    } else if (ftpCommand instanceof DeleteCommand) {
+                        return deleteFile((DeleteCommand) ftpCommand, context);
+                    } else {
+                        return executeCommand(ftpCommand, context);
+                    }
+                });
             }
 
             if (getEndpointConfiguration().getErrorHandlingStrategy().equals(ErrorHandlingStrategy.THROWS_EXCEPTION)) {
@@ -150,7 +175,181 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Runs given operation on a pooled connection when connection pooling is enabled. Otherwise makes sure that
+     * the single client connection is opened and runs the operation on that connection.
+     * @param operation
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage withConnection(Supplier<FtpMessage> operation) throws IOException {
+        FtpConnectionPool<?> pool = getConnectionPool();
+        if (pool != null) {
+            return pool.execute(operation);
+        }
+
+        connectAndLogin();
+        return operation.get();
+    }
+
+    /**
+     * Gets the connection to use for the current command. This is the pooled connection bound to the current thread
+     * or the single client connection when connection pooling is disabled.
+     * @return
+     */
+    protected FTPClient getConnection() {
+        if (connectionPool != null && connectionPool.getBoundConnection() != null) {
+            return connectionPool.getBoundConnection();
+        }
+
+        return ftpClient;
+    }
+
+    /**
+     * Gets the connection pool or null when connection pooling is disabled.
+     * @return
+     */
+    protected FtpConnectionPool<?> getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Performs bulk store file operation. Files are transferred concurrently using pooled connections.
+     * @param command
+     * @param context
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage storeFiles(MputCommand command, TestContext context) throws IOException {
+        String remoteDirectory = getDirectoryPath(context.replaceDynamicContentInString(command.getTarget().getPath()));
+
+        List<String> remoteFilePaths = new ArrayList<>();
+        List<Supplier<FtpMessage>> transfers = new ArrayList<>();
+        for (MputCommand.Files.File file : command.getFiles().getFiles()) {
+            String localFilePath = context.replaceDynamicContentInString(file.getPath());
+            remoteFilePaths.add(addFileNameToTargetPath(localFilePath, remoteDirectory));
+
+            PutCommand put = FtpMessage.put(localFilePath, remoteDirectory,
+                    DataType.valueOf(Optional.ofNullable(file.getType()).orElse(DataType.BINARY.name()))).getPayload(PutCommand.class);
+            transfers.add(() -> storeFile(put, context));
+        }
+
+        List<FtpMessage> results = transferAll(transfers);
+        boolean success = results.stream().allMatch(result -> isPositive(result.getReplyCode()));
+        return FtpMessage.mputResult(success ? FTPReply.CLOSING_DATA_CONNECTION : FTPReply.FILE_ACTION_NOT_TAKEN,
+                success ? "Transfer complete" : "Transfer failed", success, remoteFilePaths);
+    }
+
+    /**
+     * Performs bulk retrieve file operation. Files are transferred concurrently using pooled connections.
+     * @param command
+     * @param context
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage retrieveFiles(MgetCommand command, TestContext context) throws IOException {
+        String localDirectory = getDirectoryPath(context.replaceDynamicContentInString(command.getTarget().getPath()));
+
+        List<Supplier<FtpMessage>> transfers = new ArrayList<>();
+        for (MgetCommand.Files.File file : command.getFiles().getFiles()) {
+            GetCommand get = FtpMessage.get(context.replaceDynamicContentInString(file.getPath()), localDirectory,
+                    DataType.valueOf(Optional.ofNullable(file.getType()).orElse(DataType.BINARY.name()))).getPayload(GetCommand.class);
+            transfers.add(() -> retrieveFile(get, context));
+        }
+
+        List<GetCommandResult.File> files = new ArrayList<>();
+        boolean success = true;
+        for (FtpMessage result : transferAll(transfers)) {
+            success &= isPositive(result.getReplyCode());
+            files.add(result.getPayload(GetCommandResult.class).getFile());
+        }
+
+        return FtpMessage.mgetResult(success ? FTPReply.CLOSING_DATA_CONNECTION : FTPReply.FILE_ACTION_NOT_TAKEN,
+                success ? "Transfer complete" : "Transfer failed", success, files);
+    }
+
+    /**
+     * Runs all transfers and collects the results in transfer order. Transfers run concurrently on pooled connections
+     * when connection pooling is enabled. Otherwise transfers run one after another on the single client connection.
+     * @param transfers
+     * @return
+     * @throws IOException
+     */
+    private List<FtpMessage> transferAll(List<Supplier<FtpMessage>> transfers) throws IOException {
+        List<FtpMessage> results = new ArrayList<>();
+
+        FtpConnectionPool<?> pool = getConnectionPool();
+        int parallelism = Math.min(getEndpointConfiguration().getConnectionPoolSize(), transfers.size());
+        if (pool == null || parallelism <= 1) {
+            for (Supplier<FtpMessage> transfer : transfers) {
+                results.add(withConnection(transfer));
+            }
+
+            return results;
+        }
+
+        ExecutorService executor = getTransferExecutor();
+        List<Future<FtpMessage>> futures = new ArrayList<>();
+        try {
+            for (Supplier<FtpMessage> transfer : transfers) {
+                futures.add(executor.submit(() -> pool.execute(transfer)));
+            }
+
+            for (Future<FtpMessage> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to transfer files", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while transferring files", e);
+        }
+
+        return results;
+    }
+
+    /**
+     * Gets the executor for concurrent bulk transfers. The executor is shared by all bulk transfers of this client and uses
+     * as many threads as there are pooled connections. It is created on first use and shut down when the client is destroyed.
+     * @return
+     */
+    private synchronized ExecutorService getTransferExecutor() {
+        if (transferExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            String threadPrefix = Optional.ofNullable(getName()).orElse("ftp-client") + "-transfer-";
+            transferExecutor = Executors.newFixedThreadPool(getEndpointConfiguration().getConnectionPoolSize(), runnable -> {
+                Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return transferExecutor;
+    }
+
+    /**
+     * Shuts down the bulk transfer executor if it has been created.
+     */
+    protected synchronized void shutdownTransferExecutor() {
+        if (transferExecutor != null) {
+            transferExecutor.shutdownNow();
+            transferExecutor = null;
+        }
+    }
+
+    private static String getDirectoryPath(String path) {
+        return path.endsWith("/") ? path : path + "/";
+    }
+
     protected FtpMessage executeCommand(CommandType ftpCommand, TestContext context) {
+        FTPClient ftpClient = getConnection();
         try {
             int reply = ftpClient.sendCommand(ftpCommand.getSignal(), ftpCommand.getArguments());
             return FtpMessage.result(reply, ftpClient.getReplyString(), isPositive(reply));
@@ -170,6 +369,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @return
      */
     protected FtpMessage listFiles(ListCommand list, TestContext context) {
+        FTPClient ftpClient = getConnection();
         String remoteFilePath = Optional.ofNullable(list.getTarget())
                                         .map(ListCommand.Target::getPath)
                                         .map(context::replaceDynamicContentInString)
@@ -200,6 +400,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param context
      */
     protected FtpMessage deleteFile(DeleteCommand delete, TestContext context) {
+        FTPClient ftpClient = getConnection();
         String remoteFilePath = context.replaceDynamicContentInString(delete.getTarget().getPath());
 
         try {
@@ -257,6 +458,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected boolean isDirectory(String remoteFilePath) throws IOException {
+        FTPClient ftpClient = getConnection();
         if (!ftpClient.changeWorkingDirectory(remoteFilePath)) { // not a directory or not accessible
 
             switch (ftpClient.listFiles(remoteFilePath).length) {
@@ -278,6 +480,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param context
      */
     protected FtpMessage storeFile(PutCommand command, TestContext context) {
+        FTPClient ftpClient = getConnection();
         try {
             String localFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
@@ -300,7 +503,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. Streaming transfers replace test variables line by line so file content is never loaded into memory.
      *
      * @param path
      * @param dataType
@@ -309,7 +512,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
-        if (dataType.equals(DataType.ASCII.name())) {
+        if (dataType.equals(DataType.ASCII.name()) && getEndpointConfiguration().isStreamingTransfer()) {
+            return new DynamicContentInputStream(FileUtils.getFileResource(path).getInputStream(), context, FileUtils.getDefaultCharset());
+        } else if (dataType.equals(DataType.ASCII.name())) {
             String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
@@ -322,6 +527,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param command
      */
     protected FtpMessage retrieveFile(GetCommand command, TestContext context) {
+        FTPClient ftpClient = getConnection();
         try {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
@@ -331,7 +537,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            MessageDigest digest = getEndpointConfiguration().isStreamingTransfer() ? createFileDigest() : null;
+            try (OutputStream localFileOutputStream = digest != null ?
+                    new DigestOutputStream(new FileOutputStream(localFilePath), digest) : new FileOutputStream(localFilePath)) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
@@ -340,10 +548,13 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (digest != null) {
+                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(digest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
+                    fileContent = Base64.encodeBase64String(Files.readAllBytes(Paths.get(localFilePath)));
                 } else {
                     fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
                 }
@@ -357,6 +568,18 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Creates message digest used to compute the checksum of streamed file transfers.
+     * @return
+     */
+    protected MessageDigest createFileDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create file checksum digest", e);
+        }
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
@@ -402,6 +625,15 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected void connectAndLogin() throws IOException {
+        connectAndLogin(ftpClient);
+    }
+
+    /**
+     * Opens connection on given client and performs login with user name and password if set.
+     * @param ftpClient
+     * @throws IOException
+     */
+    private void connectAndLogin(FTPClient ftpClient) throws IOException {
         if (!ftpClient.isConnected()) {
             ftpClient.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
@@ -468,6 +700,51 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             ftpClient = new FTPClient();
         }
 
+        configure(ftpClient);
+
+        if (getEndpointConfiguration().getConnectionPoolSize() > 1) {
+            connectionPool = new FtpConnectionPool<>(new FtpConnectionPool.ConnectionFactory<FTPClient>() {
+                @Override
+                public FTPClient create() {
+                    FTPClient connection = new FTPClient();
+                    configure(connection);
+
+                    try {
+                        connectAndLogin(connection);
+                    } catch (IOException e) {
+                        throw new CitrusRuntimeException("Failed to open pooled connection to FTP server", e);
+                    }
+
+                    return connection;
+                }
+
+                @Override
+                public boolean validate(FTPClient connection) {
+                    try {
+                        return connection.isConnected() && connection.sendNoOp();
+                    } catch (IOException e) {
+                        return false;
+                    }
+                }
+
+                @Override
+                public void destroy(FTPClient connection) {
+                    try {
+                        logoutAndDisconnect(connection);
+                    } catch (IOException e) {
+                        LOG.warn("Failed to logout from FTP server", e);
+                    }
+                }
+            }, getEndpointConfiguration().getConnectionPoolSize(), getEndpointConfiguration().getConnectionIdleTimeout(),
+                    getEndpointConfiguration().getTimeout(), getEndpointConfiguration().getConnectionValidationInterval());
+        }
+    }
+
+    /**
+     * Applies client configuration and command logging to given client.
+     * @param ftpClient
+     */
+    private void configure(FTPClient ftpClient) {
         FTPClientConfig config = new FTPClientConfig();
         config.setServerTimeZoneId(TimeZone.getDefault().getID());
         ftpClient.configure(config);
@@ -491,23 +768,38 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() {
-        try {
-            if (ftpClient.isConnected()) {
-                ftpClient.logout();
+        shutdownTransferExecutor();
 
-                try {
-                    ftpClient.disconnect();
-                } catch (IOException e) {
-                    LOG.warn("Failed to disconnect from FTP server", e);
-                }
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
 
-                LOG.info("Closed connection to FTP server");
-            }
+        try {
+            logoutAndDisconnect(ftpClient);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to logout from FTP server", e);
         }
     }
 
+    /**
+     * Performs logout and closes the connection of given client.
+     * @param ftpClient
+     * @throws IOException
+     */
+    private void logoutAndDisconnect(FTPClient ftpClient) throws IOException {
+        if (ftpClient.isConnected()) {
+            ftpClient.logout();
+
+            try {
+                ftpClient.disconnect();
+            } catch (IOException e) {
+                LOG.warn("Failed to disconnect from FTP server", e);
+            }
+
+            LOG.info("Closed connection to FTP server");
+        }
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
@@ -64,6 +64,46 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming transfer property.
+     * @param streamingTransfer
+     * @return
+     */
+    public FtpClientBuilder streamingTransfer(boolean streamingTransfer) {
+        endpoint.getEndpointConfiguration().setStreamingTransfer(streamingTransfer);
+        return this;
+    }
+
+    /**
+     * Sets the connection pool size.
+     * @param connectionPoolSize
+     * @return
+     */
+    public FtpClientBuilder connectionPoolSize(int connectionPoolSize) {
+        endpoint.getEndpointConfiguration().setConnectionPoolSize(connectionPoolSize);
+        return this;
+    }
+
+    /**
+     * Sets the idle timeout of pooled connections.
+     * @param connectionIdleTimeout
+     * @return
+     */
+    public FtpClientBuilder connectionIdleTimeout(long connectionIdleTimeout) {
+        endpoint.getEndpointConfiguration().setConnectionIdleTimeout(connectionIdleTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the idle time after which pooled connections get validated before use.
+     * @param connectionValidationInterval
+     * @return
+     */
+    public FtpClientBuilder connectionValidationInterval(long connectionValidationInterval) {
+        endpoint.getEndpointConfiguration().setConnectionValidationInterval(connectionValidationInterval);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
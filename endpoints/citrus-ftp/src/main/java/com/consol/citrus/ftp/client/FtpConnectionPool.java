@@ -0,0 +1,277 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of client connections. Connections that have been idle longer than the validation interval are validated
+ * before they are handed out and idle connections get closed once they exceed the idle timeout. Pool operations bind the borrowed connection to the current thread
+ * so client command methods are able to access the connection without passing it around.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class FtpConnectionPool<T> {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(FtpConnectionPool.class);
+
+    /** Factory opening, validating and closing connections */
+    private final ConnectionFactory<T> connectionFactory;
+
+    /** Time in milliseconds after which idle connections get closed */
+    private final long idleTimeout;
+
+    /** Time in milliseconds to wait for a free connection */
+    private final long borrowTimeout;
+
+    /** Time in milliseconds a connection may be idle before it gets validated on borrow */
+    private final long validationInterval;
+
+    /** Permits limiting the number of connections in use */
+    private final Semaphore permits;
+
+    /** Idle connections, most recently used first */
+    private final Deque<IdleConnection<T>> idleConnections = new ConcurrentLinkedDeque<>();
+
+    /** Connection bound to the current thread while executing pool operations */
+    private final ThreadLocal<T> boundConnection = new ThreadLocal<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor using connection factory and pool settings. Idle connections are validated on each borrow.
+     * @param connectionFactory
+     * @param maxSize
+     * @param idleTimeout
+     * @param borrowTimeout
+     */
+    public FtpConnectionPool(ConnectionFactory<T> connectionFactory, int maxSize, long idleTimeout, long borrowTimeout) {
+        this(connectionFactory, maxSize, idleTimeout, borrowTimeout, 0L);
+    }
+
+    /**
+     * Default constructor using connection factory and pool settings.
+     * @param connectionFactory
+     * @param maxSize
+     * @param idleTimeout
+     * @param borrowTimeout
+     * @param validationInterval
+     */
+    public FtpConnectionPool(ConnectionFactory<T> connectionFactory, int maxSize, long idleTimeout, long borrowTimeout, long validationInterval) {
+        this.connectionFactory = connectionFactory;
+        this.idleTimeout = idleTimeout;
+        this.borrowTimeout = borrowTimeout;
+        this.validationInterval = validationInterval;
+        this.permits = new Semaphore(Math.max(maxSize, 1), true);
+    }
+
+    /**
+     * Executes operation with a pooled connection bound to the current thread. Nested executions reuse the
+     * connection that is already bound. Connections that fail validation after an error are closed instead of
+     * being returned to the pool.
+     * @param operation
+     * @param <R>
+     * @return
+     */
+    public <R> R execute(Supplier<R> operation) {
+        if (boundConnection.get() != null) {
+            return operation.get();
+        }
+
+        T connection = borrow();
+        boundConnection.set(connection);
+
+        boolean broken = false;
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            broken = !connectionFactory.validate(connection);
+            throw e;
+        } finally {
+            boundConnection.remove();
+
+            if (broken) {
+                invalidate(connection);
+            } else {
+                release(connection);
+            }
+        }
+    }
+
+    /**
+     * Gets the connection bound to the current thread or null when not executing a pool operation.
+     * @return
+     */
+    public T getBoundConnection() {
+        return boundConnection.get();
+    }
+
+    /**
+     * Borrows a valid connection from the pool. Opens a new connection when no idle connection is available. Connections
+     * returned to the pool within the validation interval are handed out without validation.
+     * @return
+     */
+    public T borrow() {
+        if (closed) {
+            throw new CitrusRuntimeException("Connection pool has already been closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Timed out after %s ms waiting for a free pooled connection", borrowTimeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for a free pooled connection", e);
+        }
+
+        try {
+            evictIdleConnections();
+
+            IdleConnection<T> idle;
+            while ((idle = idleConnections.pollFirst()) != null) {
+                if (System.currentTimeMillis() - idle.since < validationInterval || connectionFactory.validate(idle.connection)) {
+                    return idle.connection;
+                }
+
+                LOG.debug("Discarding pooled connection that failed validation");
+                destroy(idle.connection);
+            }
+
+            return connectionFactory.create();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns connection to the pool.
+     * @param connection
+     */
+    public void release(T connection) {
+        if (closed) {
+            destroy(connection);
+        } else {
+            idleConnections.addFirst(new IdleConnection<>(connection));
+        }
+
+        permits.release();
+    }
+
+    /**
+     * Closes connection and frees its slot in the pool.
+     * @param connection
+     */
+    public void invalidate(T connection) {
+        destroy(connection);
+        permits.release();
+    }
+
+    /**
+     * Closes all idle connections that exceeded the idle timeout.
+     */
+    public void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+
+        Iterator<IdleConnection<T>> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            IdleConnection<T> idle = iterator.next();
+            if (now - idle.since > idleTimeout && idleConnections.removeFirstOccurrence(idle)) {
+                LOG.debug("Closing pooled connection after idle timeout");
+                destroy(idle.connection);
+            }
+        }
+    }
+
+    /**
+     * Closes all idle connections. Connections currently in use get closed when released.
+     */
+    public void close() {
+        closed = true;
+
+        IdleConnection<T> idle;
+        while ((idle = idleConnections.pollFirst()) != null) {
+            destroy(idle.connection);
+        }
+    }
+
+    /**
+     * Gets the number of idle connections.
+     * @return
+     */
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    private void destroy(T connection) {
+        try {
+            connectionFactory.destroy(connection);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to close pooled connection", e);
+        }
+    }
+
+    /**
+     * Factory opening, validating and closing pooled connections.
+     * @param <T>
+     */
+    public interface ConnectionFactory<T> {
+        /**
+         * Opens new connection.
+         * @return
+         */
+        T create();
+
+        /**
+         * Checks that the connection is still usable.
+         * @param connection
+         * @return
+         */
+        boolean validate(T connection);
+
+        /**
+         * Closes the connection.
+         * @param connection
+         */
+        void destroy(T connection);
+    }
+
+    /**
+     * Idle connection with the time it was returned to the pool.
+     * @param <T>
+     */
+    private static class IdleConnection<T> {
+        private final T connection;
+        private final long since = System.currentTimeMillis();
+
+        IdleConnection(T connection) {
+            this.connection = connection;
+        }
+    }
+}
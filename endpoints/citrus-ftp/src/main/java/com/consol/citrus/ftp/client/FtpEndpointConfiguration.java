@@ -69,6 +69,18 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
+    /** Stream file transfers and report file size and checksum instead of file content */
+    private boolean streamingTransfer = false;
+
+    /** Maximum number of pooled connections used for concurrent commands and bulk transfers */
+    private int connectionPoolSize = 1;
+
+    /** Time in milliseconds after which idle pooled connections get closed */
+    private long connectionIdleTimeout = 60000L;
+
+    /** Time in milliseconds a pooled connection may be idle before it gets validated on borrow */
+    private long connectionValidationInterval = 5000L;
+
     /**
      * Gets the ftp host.
      * @return
@@ -274,4 +286,76 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setLocalPassiveMode(boolean localPassiveMode) {
         this.localPassiveMode = localPassiveMode;
     }
+
+    /**
+     * Gets the streamingTransfer.
+     *
+     * @return
+     */
+    public boolean isStreamingTransfer() {
+        return streamingTransfer;
+    }
+
+    /**
+     * Sets the streamingTransfer.
+     *
+     * @param streamingTransfer
+     */
+    public void setStreamingTransfer(boolean streamingTransfer) {
+        this.streamingTransfer = streamingTransfer;
+    }
+
+    /**
+     * Gets the connectionPoolSize.
+     *
+     * @return
+     */
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    /**
+     * Sets the connectionPoolSize.
+     *
+     * @param connectionPoolSize
+     */
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    /**
+     * Gets the connectionIdleTimeout.
+     *
+     * @return
+     */
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    /**
+     * Sets the connectionIdleTimeout.
+     *
+     * @param connectionIdleTimeout
+     */
+    public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+    /**
+     * Gets the connectionValidationInterval.
+     *
+     * @return
+     */
+    public long getConnectionValidationInterval() {
+        return connectionValidationInterval;
+    }
+
+    /**
+     * Sets the connectionValidationInterval.
+     *
+     * @param connectionValidationInterval
+     */
+    public void setConnectionValidationInterval(long connectionValidationInterval) {
+        this.connectionValidationInterval = connectionValidationInterval;
+    }
 }
@@ -23,6 +23,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -46,6 +49,7 @@ import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 import com.jcraft.jsch.UserInfo;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -73,6 +77,9 @@ public class SftpClient extends FtpClient {
 
     private ChannelSftp sftp;
 
+    /** Pooled sftp channels used when pool size is greater than one */
+    private FtpConnectionPool<ChannelSftp> connectionPool;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -116,6 +123,7 @@ public class SftpClient extends FtpClient {
      * @return
      */
     protected FtpMessage createDir(CommandType ftpCommand) {
+        ChannelSftp sftp = getChannel();
         try {
             sftp.mkdir(ftpCommand.getArguments());
             return FtpMessage.result(FTPReply.PATHNAME_CREATED, "Pathname created", true);
@@ -126,6 +134,7 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected FtpMessage listFiles(ListCommand list, TestContext context) {
+        ChannelSftp sftp = getChannel();
         String remoteFilePath = Optional.ofNullable(list.getTarget())
                                         .map(ListCommand.Target::getPath)
                                         .map(context::replaceDynamicContentInString)
@@ -146,6 +155,7 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected FtpMessage deleteFile(DeleteCommand delete, TestContext context) {
+        ChannelSftp sftp = getChannel();
         String remoteFilePath = context.replaceDynamicContentInString(delete.getTarget().getPath());
 
         try {
@@ -189,6 +199,7 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected boolean isDirectory(String remoteFilePath) {
+        ChannelSftp sftp = getChannel();
         try {
             return !remoteFilePath.contains("*") && sftp.stat(remoteFilePath).isDir();
         } catch (SftpException e) {
@@ -198,6 +209,7 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected FtpMessage storeFile(PutCommand command, TestContext context) {
+        ChannelSftp sftp = getChannel();
         try {
             String localFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
@@ -215,26 +227,29 @@ public class SftpClient extends FtpClient {
 
     @Override
     protected FtpMessage retrieveFile(GetCommand command, TestContext context) {
+        ChannelSftp sftp = getChannel();
         try {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
+            MessageDigest digest = getEndpointConfiguration().isStreamingTransfer() ? createFileDigest() : null;
+            try (InputStream inputStream = digest != null ? new DigestInputStream(sftp.get(remoteFilePath), digest) : sftp.get(remoteFilePath)) {
                 // create intermediate directories if necessary
                 Path localFilePathObj = Paths.get(localFilePath);
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+                Files.copy(inputStream, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (digest != null) {
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(digest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
+                    fileContent = Base64.encodeBase64String(Files.readAllBytes(Paths.get(localFilePath)));
                 } else {
                     fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
                 }
@@ -248,8 +263,38 @@ public class SftpClient extends FtpClient {
         }
     }
 
+    /**
+     * Gets the sftp channel to use for the current command. This is the pooled channel bound to the current thread
+     * or the single client channel when connection pooling is disabled.
+     * @return
+     */
+    protected ChannelSftp getChannel() {
+        if (connectionPool != null && connectionPool.getBoundConnection() != null) {
+            return connectionPool.getBoundConnection();
+        }
+
+        return sftp;
+    }
+
+    @Override
+    protected FtpConnectionPool<?> getConnectionPool() {
+        return connectionPool;
+    }
+
     @Override
     protected void connectAndLogin() {
+        if (sftp == null || !sftp.isConnected()) {
+            openSession();
+            sftp = openChannel();
+
+            log.info("Opened secure connection to FTP server");
+        }
+    }
+
+    /**
+     * Opens the SSH session shared by all sftp channels unless it is already connected.
+     */
+    private synchronized void openSession() {
         if (getEndpointConfiguration().isStrictHostChecking()) {
             setKnownHosts();
         }
@@ -282,18 +327,26 @@ public class SftpClient extends FtpClient {
                         .forEach(entry -> session.setConfig(entry.getKey(), entry.getValue()));
 
                 session.connect((int) getEndpointConfiguration().getTimeout());
-
-                Channel channel = session.openChannel("sftp");
-                channel.connect((int) getEndpointConfiguration().getTimeout());
-                sftp = (ChannelSftp) channel;
-
-                log.info("Opened secure connection to FTP server");
             } catch (JSchException e) {
                 throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
             }
         }
     }
 
+    /**
+     * Opens new sftp channel on the SSH session.
+     * @return
+     */
+    private ChannelSftp openChannel() {
+        try {
+            Channel channel = session.openChannel("sftp");
+            channel.connect((int) getEndpointConfiguration().getTimeout());
+            return (ChannelSftp) channel;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Failed to open sftp channel", e);
+        }
+    }
+
     private void setKnownHosts() {
         if (getEndpointConfiguration().getKnownHosts() == null) {
             throw new CitrusRuntimeException("Strict host checking is enabled but no knownHosts given");
@@ -360,16 +413,45 @@ public class SftpClient extends FtpClient {
         if (ssh == null) {
             ssh = new JSch();
         }
+
+        if (getEndpointConfiguration().getConnectionPoolSize() > 1) {
+            connectionPool = new FtpConnectionPool<>(new FtpConnectionPool.ConnectionFactory<ChannelSftp>() {
+                @Override
+                public ChannelSftp create() {
+                    openSession();
+                    return openChannel();
+                }
+
+                @Override
+                public boolean validate(ChannelSftp channel) {
+                    return channel.isConnected() && !channel.isClosed();
+                }
+
+                @Override
+                public void destroy(ChannelSftp channel) {
+                    channel.disconnect();
+                }
+            }, getEndpointConfiguration().getConnectionPoolSize(), getEndpointConfiguration().getConnectionIdleTimeout(),
+                    getEndpointConfiguration().getTimeout(), getEndpointConfiguration().getConnectionValidationInterval());
+        }
     }
 
     @Override
     public void destroy() {
+        shutdownTransferExecutor();
+
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+
+        if (sftp != null) {
+            sftp.disconnect();
+        }
+
         if (session != null && session.isConnected()) {
             session.disconnect();
             log.info("Closed connection to FTP server");
         }
-
-        sftp.disconnect();
     }
 
     /**
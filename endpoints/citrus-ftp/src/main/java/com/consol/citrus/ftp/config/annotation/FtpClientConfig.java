@@ -51,6 +51,30 @@ public @interface FtpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Streaming transfer
+     * @return
+     */
+    boolean streamingTransfer() default false;
+
+    /**
+     * Connection pool size
+     * @return
+     */
+    int connectionPoolSize() default 1;
+
+    /**
+     * Idle timeout of pooled connections
+     * @return
+     */
+    long connectionIdleTimeout() default 60000L;
+
+    /**
+     * Idle time after which pooled connections get validated before use
+     * @return
+     */
+    long connectionValidationInterval() default 5000L;
+
     /**
      * Local passive mode
      * @return
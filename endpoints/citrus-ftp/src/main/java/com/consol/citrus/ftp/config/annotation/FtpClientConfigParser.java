@@ -40,6 +40,10 @@ public class FtpClientConfigParser implements AnnotationConfigParser<FtpClientCo
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamingTransfer(annotation.streamingTransfer());
+        builder.connectionPoolSize(annotation.connectionPoolSize());
+        builder.connectionIdleTimeout(annotation.connectionIdleTimeout());
+        builder.connectionValidationInterval(annotation.connectionValidationInterval());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
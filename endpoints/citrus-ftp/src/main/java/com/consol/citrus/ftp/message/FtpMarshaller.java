@@ -33,9 +33,14 @@ import com.consol.citrus.ftp.model.GetCommand;
 import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommand;
 import com.consol.citrus.ftp.model.ListCommandResult;
+import com.consol.citrus.ftp.model.MgetCommand;
+import com.consol.citrus.ftp.model.MgetCommandResult;
+import com.consol.citrus.ftp.model.MputCommand;
+import com.consol.citrus.ftp.model.MputCommandResult;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import com.consol.citrus.xml.StringResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -62,7 +67,7 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.ftp.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private Jaxb2Marshaller jaxbDelegate = new PooledJaxb2Marshaller();
 
     /** Message type format: XML or JSON */
     private String type;
@@ -78,10 +83,14 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
                             PutCommand.class,
                             ListCommand.class,
                             DeleteCommand.class,
+                            MputCommand.class,
+                            MgetCommand.class,
                             GetCommandResult.class,
                             PutCommandResult.class,
                             ListCommandResult.class,
-                            DeleteCommandResult.class);
+                            DeleteCommandResult.class,
+                            MputCommandResult.class,
+                            MgetCommandResult.class);
         jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ftp-message.xsd"));
 
         type = System.getProperty(JDBC_MARSHALLER_TYPE_PROPERTY, MessageType.XML.name());
@@ -114,10 +123,14 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
                                                         PutCommand.class,
                                                         ListCommand.class,
                                                         DeleteCommand.class,
+                                                        MputCommand.class,
+                                                        MgetCommand.class,
                                                         GetCommandResult.class,
                                                         PutCommandResult.class,
                                                         ListCommandResult.class,
-                                                        DeleteCommandResult.class)) {
+                                                        DeleteCommandResult.class,
+                                                        MputCommandResult.class,
+                                                        MgetCommandResult.class)) {
                         try {
                             return readValue(((StreamSource) source).getReader(), type);
                         } catch (JsonParseException | JsonMappingException e2) {
@@ -139,10 +152,14 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
                                                 PutCommand.class,
                                                 ListCommand.class,
                                                 DeleteCommand.class,
+                                                MputCommand.class,
+                                                MgetCommand.class,
                                                 GetCommandResult.class,
                                                 PutCommandResult.class,
                                                 ListCommandResult.class,
-                                                DeleteCommandResult.class)) {
+                                                DeleteCommandResult.class,
+                                                MputCommandResult.class,
+                                                MgetCommandResult.class)) {
                 try {
                     return readValue(((StreamSource) source).getReader(), type);
                 } catch (JsonParseException | JsonMappingException e2) {
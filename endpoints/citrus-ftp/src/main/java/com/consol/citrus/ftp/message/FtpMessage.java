@@ -30,6 +30,10 @@ import com.consol.citrus.ftp.model.GetCommand;
 import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommand;
 import com.consol.citrus.ftp.model.ListCommandResult;
+import com.consol.citrus.ftp.model.MgetCommand;
+import com.consol.citrus.ftp.model.MgetCommandResult;
+import com.consol.citrus.ftp.model.MputCommand;
+import com.consol.citrus.ftp.model.MputCommandResult;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.DefaultMessage;
@@ -49,6 +53,8 @@ import org.springframework.util.StringUtils;
 public class FtpMessage extends DefaultMessage {
 
     private static final String OPEN_COMMAND = "OPEN";
+    private static final String MPUT_COMMAND = "MPUT";
+    private static final String MGET_COMMAND = "MGET";
 
     private CommandType command;
     private CommandResultType commandResult;
@@ -188,6 +194,56 @@ public class FtpMessage extends DefaultMessage {
         return new FtpMessage(cmd);
     }
 
+    /**
+     * Creates new bulk put command message transferring all given local files to the remote directory.
+     * @param localPaths
+     * @param remoteDirectory
+     * @param type
+     * @return
+     */
+    public static FtpMessage mput(List<String> localPaths, String remoteDirectory, DataType type) {
+        MputCommand cmd = new MputCommand();
+
+        MputCommand.Files files = new MputCommand.Files();
+        for (String localPath : localPaths) {
+            MputCommand.Files.File file = new MputCommand.Files.File();
+            file.setPath(localPath);
+            file.setType(type.name());
+            files.getFiles().add(file);
+        }
+        cmd.setFiles(files);
+
+        MputCommand.Target target = new MputCommand.Target();
+        target.setPath(remoteDirectory);
+        cmd.setTarget(target);
+        return new FtpMessage(cmd);
+    }
+
+    /**
+     * Creates new bulk get command message transferring all given remote files to the local directory.
+     * @param remotePaths
+     * @param localDirectory
+     * @param type
+     * @return
+     */
+    public static FtpMessage mget(List<String> remotePaths, String localDirectory, DataType type) {
+        MgetCommand cmd = new MgetCommand();
+
+        MgetCommand.Files files = new MgetCommand.Files();
+        for (String remotePath : remotePaths) {
+            MgetCommand.Files.File file = new MgetCommand.Files.File();
+            file.setPath(remotePath);
+            file.setType(type.name());
+            files.getFiles().add(file);
+        }
+        cmd.setFiles(files);
+
+        MgetCommand.Target target = new MgetCommand.Target();
+        target.setPath(localDirectory);
+        cmd.setTarget(target);
+        return new FtpMessage(cmd);
+    }
+
     /**
      * Creates new delete command message.
      * @param remotePath
@@ -310,6 +366,59 @@ public class FtpMessage extends DefaultMessage {
         return result(getCommandResult);
     }
 
+    public static FtpMessage result(int replyCode, String replyString, String path, long size, String checksum) {
+        GetCommandResult getCommandResult = new GetCommandResult();
+        getCommandResult.setReplyCode(String.valueOf(replyCode));
+        getCommandResult.setReplyString(replyString);
+        getCommandResult.setSuccess(true);
+
+        GetCommandResult.File file = new GetCommandResult.File();
+        file.setPath(path);
+        file.setSize(size);
+        file.setChecksum(checksum);
+
+        getCommandResult.setFile(file);
+
+        return result(getCommandResult);
+    }
+
+    public static FtpMessage mputResult(int replyCode, String replyString, boolean success, List<String> paths) {
+        MputCommandResult result = new MputCommandResult();
+        result.setReplyCode(String.valueOf(replyCode));
+        result.setReplyString(replyString);
+        result.setSuccess(success);
+
+        MputCommandResult.Files files = new MputCommandResult.Files();
+        for (String path : paths) {
+            MputCommandResult.Files.File file = new MputCommandResult.Files.File();
+            file.setPath(path);
+            files.getFiles().add(file);
+        }
+        result.setFiles(files);
+
+        return result(result);
+    }
+
+    public static FtpMessage mgetResult(int replyCode, String replyString, boolean success, List<GetCommandResult.File> retrieved) {
+        MgetCommandResult result = new MgetCommandResult();
+        result.setReplyCode(String.valueOf(replyCode));
+        result.setReplyString(replyString);
+        result.setSuccess(success);
+
+        MgetCommandResult.Files files = new MgetCommandResult.Files();
+        for (GetCommandResult.File retrievedFile : retrieved) {
+            MgetCommandResult.Files.File file = new MgetCommandResult.Files.File();
+            file.setPath(retrievedFile.getPath());
+            file.setData(retrievedFile.getData());
+            file.setSize(retrievedFile.getSize());
+            file.setChecksum(retrievedFile.getChecksum());
+            files.getFiles().add(file);
+        }
+        result.setFiles(files);
+
+        return result(result);
+    }
+
     /**
      * Sets the command args.
      * @param arguments
@@ -461,6 +570,10 @@ public class FtpMessage extends DefaultMessage {
             header = FTPCmd.LIST.getCommand();
         } else if (command instanceof DeleteCommand) {
             header = FTPCmd.DELE.getCommand();
+        } else if (command instanceof MputCommand) {
+            header = MPUT_COMMAND;
+        } else if (command instanceof MgetCommand) {
+            header = MGET_COMMAND;
         } else {
             header = command.getSignal();
         }
@@ -18,19 +18,25 @@ package com.consol.citrus.ftp.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.Arrays;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
+import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPClientConfig;
@@ -69,6 +75,8 @@ public class FtpClientTest extends AbstractFtpClientTest {
     private static final String UPLOAD_FILE = "upload_file";
     private static final String DOWNLOAD_FILE = "/download_file";
     private static final String SINGLE_FILE = "/single_file";
+    private static final String STREAMING_FILE = "/streaming_file";
+    private static final String STREAMING_CONTENT = "Hello Citrus!\nStreaming transfer\n";
     private static final String DELETE_FOLDER = "/delete";
     private static final String EMPTY_FOLDER = "/empty_folder";
     private static final String FOLDER = "/folder";
@@ -105,6 +113,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
         Thread.sleep(2000);
         fileSystem.add(new FileEntry(DOWNLOAD_FILE + "_2"));
         fileSystem.add(new FileEntry(SINGLE_FILE));
+        fileSystem.add(new FileEntry(STREAMING_FILE, STREAMING_CONTENT));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/first_folder"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/second_folder"));
         fileSystem.add(new FileEntry(COMPLETELY_DELETE_FOLDER + "/first_folder/file1"));
@@ -182,6 +191,55 @@ public class FtpClientTest extends AbstractFtpClientTest {
         fakeFtpServer.getFileSystem().delete("/" + UPLOAD_FILE);
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localFilePath = Paths.get(targetPath, "streaming_download_file");
+
+        ftpClient.getEndpointConfiguration().setStreamingTransfer(true);
+        FtpMessage ftpMessage;
+        try {
+            ftpMessage = ftpClient.retrieveFile(getCommand(STREAMING_FILE, localFilePath.toString()), context);
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamingTransfer(false);
+        }
+
+        verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "226");
+
+        byte[] expected = Files.readAllBytes(localFilePath);
+        GetCommandResult.File file = ftpMessage.getPayload(GetCommandResult.class).getFile();
+        Assert.assertEquals(new String(expected, StandardCharsets.UTF_8).replace("\r\n", "\n"), STREAMING_CONTENT);
+        Assert.assertNull(file.getData());
+        Assert.assertEquals(file.getPath(), localFilePath.toString());
+        Assert.assertEquals(file.getSize().longValue(), expected.length);
+        Assert.assertEquals(file.getChecksum(), Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(expected)));
+    }
+
+    @Test
+    public void testStoreFileStreaming() throws Exception {
+        String remoteFile = "/streaming_upload_file";
+        assertFalse(fakeFtpServer.getFileSystem().exists(remoteFile));
+        Path uploadFile = Paths.get(targetPath, "streaming_upload_file");
+        Files.write(uploadFile, "Hello ${user}!\nUpload content\n".getBytes(StandardCharsets.UTF_8));
+        context.setVariable("user", "Citrus");
+
+        ftpClient.getEndpointConfiguration().setStreamingTransfer(true);
+        FtpMessage ftpMessage;
+        try {
+            ftpMessage = ftpClient.storeFile(putCommand(uploadFile.toString(), remoteFile), context);
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamingTransfer(false);
+        }
+
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "226 Created file /streaming_upload_file.");
+        assertTrue(fakeFtpServer.getFileSystem().exists(remoteFile));
+
+        FileEntry entry = (FileEntry) fakeFtpServer.getFileSystem().getEntry(remoteFile);
+        try (InputStream content = entry.createInputStream()) {
+            Assert.assertEquals(FileUtils.readToString(content).replace("\r\n", "\n"), "Hello Citrus!\nUpload content\n");
+        }
+        fakeFtpServer.getFileSystem().delete(remoteFile);
+    }
+
     @Test
     public void testDeleteCurrentDirectory() {
         assertTrue(fakeFtpServer.getFileSystem().exists(COMPLETELY_DELETE_FOLDER));
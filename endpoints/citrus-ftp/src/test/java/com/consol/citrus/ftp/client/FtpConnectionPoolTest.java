@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class FtpConnectionPoolTest {
+
+    @Test
+    public void testReuseConnection() {
+        TestConnectionFactory factory = new TestConnectionFactory();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(factory, 2, 60000L, 1000L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+
+        Assert.assertSame(pool.borrow(), connection);
+        Assert.assertEquals(factory.created.get(), 1);
+    }
+
+    @Test
+    public void testExecuteBindsConnection() {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnectionFactory(), 2, 60000L, 1000L);
+
+        TestConnection connection = pool.execute(pool::getBoundConnection);
+
+        Assert.assertNotNull(connection);
+        Assert.assertNull(pool.getBoundConnection());
+        Assert.assertEquals(pool.getIdleCount(), 1);
+    }
+
+    @Test
+    public void testDiscardInvalidConnection() {
+        TestConnectionFactory factory = new TestConnectionFactory();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(factory, 2, 60000L, 1000L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+        connection.valid = false;
+
+        Assert.assertNotSame(pool.borrow(), connection);
+        Assert.assertTrue(connection.closed);
+        Assert.assertEquals(factory.created.get(), 2);
+    }
+
+    @Test
+    public void testValidateOnlyAfterValidationInterval() throws InterruptedException {
+        TestConnectionFactory factory = new TestConnectionFactory();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(factory, 2, 60000L, 1000L, 50L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+        Assert.assertSame(pool.borrow(), connection);
+        Assert.assertEquals(factory.validated.get(), 0);
+
+        pool.release(connection);
+        Thread.sleep(100L);
+        Assert.assertSame(pool.borrow(), connection);
+        Assert.assertEquals(factory.validated.get(), 1);
+    }
+
+    @Test
+    public void testDiscardBrokenConnectionOnError() {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnectionFactory(), 2, 60000L, 1000L);
+
+        List<TestConnection> used = new ArrayList<>();
+        try {
+            pool.execute(() -> {
+                TestConnection connection = pool.getBoundConnection();
+                used.add(connection);
+                connection.valid = false;
+                throw new CitrusRuntimeException("Connection reset");
+            });
+            Assert.fail("Missing exception");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Connection reset");
+        }
+
+        Assert.assertTrue(used.get(0).closed);
+        Assert.assertEquals(pool.getIdleCount(), 0);
+    }
+
+    @Test
+    public void testEvictIdleConnections() throws InterruptedException {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnectionFactory(), 2, 10L, 1000L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+        Thread.sleep(50L);
+
+        pool.evictIdleConnections();
+
+        Assert.assertTrue(connection.closed);
+        Assert.assertEquals(pool.getIdleCount(), 0);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timed out after 100 ms waiting for a free pooled connection")
+    public void testPoolExhausted() {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnectionFactory(), 1, 60000L, 100L);
+
+        pool.borrow();
+        pool.borrow();
+    }
+
+    @Test
+    public void testClose() {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnectionFactory(), 2, 60000L, 1000L);
+
+        TestConnection idle = pool.borrow();
+        TestConnection active = pool.borrow();
+        pool.release(idle);
+
+        pool.close();
+        Assert.assertTrue(idle.closed);
+        Assert.assertFalse(active.closed);
+
+        pool.release(active);
+        Assert.assertTrue(active.closed);
+    }
+
+    private static class TestConnection {
+        private boolean valid = true;
+        private boolean closed = false;
+    }
+
+    private static class TestConnectionFactory implements FtpConnectionPool.ConnectionFactory<TestConnection> {
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger validated = new AtomicInteger();
+
+        @Override
+        public TestConnection create() {
+            created.incrementAndGet();
+            return new TestConnection();
+        }
+
+        @Override
+        public boolean validate(TestConnection connection) {
+            validated.incrementAndGet();
+            return connection.valid;
+        }
+
+        @Override
+        public void destroy(TestConnection connection) {
+            connection.closed = true;
+        }
+    }
+}
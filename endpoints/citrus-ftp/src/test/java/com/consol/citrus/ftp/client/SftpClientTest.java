@@ -23,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,8 +34,12 @@ import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
 import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommandResult;
+import com.consol.citrus.ftp.model.MgetCommandResult;
+import com.consol.citrus.ftp.model.MputCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.ftpserver.ftplet.DataType;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
 import org.apache.sshd.server.subsystem.SubsystemFactory;
@@ -137,6 +142,81 @@ public class SftpClientTest extends AbstractFtpClientTest {
                 new String(Files.readAllBytes(localDownloadFilePath), "UTF-8"));
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "local_streaming_download.xml");
+
+        FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+        sftpClient.getEndpointConfiguration().setStreamingTransfer(true);
+        try {
+            ftpMessage = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreamingTransfer(false);
+        }
+
+        verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+        byte[] expected = inputFileAsString.getBytes(StandardCharsets.UTF_8);
+        GetCommandResult.File file = ftpMessage.getPayload(GetCommandResult.class).getFile();
+        Assert.assertNull(file.getData());
+        Assert.assertEquals(file.getPath(), localDownloadFilePath.toString());
+        Assert.assertEquals(file.getSize().longValue(), expected.length);
+        Assert.assertEquals(file.getChecksum(), Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(expected)));
+        Assert.assertEquals(Files.readAllBytes(localDownloadFilePath), expected);
+    }
+
+    @Test
+    public void testBulkTransferWithConnectionPool() throws Exception {
+        Path localDir = Files.createDirectories(Paths.get(targetPath, "bulk", "local"));
+        Path remoteDir = Files.createDirectories(Paths.get(targetPath, "bulk", "remote"));
+        Path downloadDir = Paths.get(targetPath, "bulk", "download");
+
+        List<String> localFiles = new ArrayList<>();
+        List<String> remoteFiles = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            writeToFile("bulk file " + i, localDir.resolve("bulk" + i + ".txt"));
+            localFiles.add(localDir.resolve("bulk" + i + ".txt").toString());
+            remoteFiles.add(remoteDir.resolve("bulk" + i + ".txt").toString());
+        }
+
+        SftpEndpointConfiguration endpointConfiguration = new SftpEndpointConfiguration();
+        endpointConfiguration.setHost("localhost");
+        endpointConfiguration.setPort(2223);
+        endpointConfiguration.setUser("remote-username");
+        endpointConfiguration.setPassword("remote-password");
+        endpointConfiguration.setConnectionPoolSize(3);
+
+        SftpClient pooledClient = new SftpClient(endpointConfiguration);
+        pooledClient.initialize();
+        try {
+            pooledClient.send(FtpMessage.mput(localFiles, remoteDir.toString(), DataType.ASCII), context);
+            FtpMessage response = (FtpMessage) pooledClient.receive(context);
+            verifyMessage(response, MputCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertEquals(response.getPayload(MputCommandResult.class).getFiles().getFiles().size(), 5);
+            for (String remoteFile : remoteFiles) {
+                assertTrue(Files.exists(Paths.get(remoteFile)));
+            }
+
+            pooledClient.send(FtpMessage.mget(remoteFiles, downloadDir.toString(), DataType.ASCII), context);
+            response = (FtpMessage) pooledClient.receive(context);
+            verifyMessage(response, MgetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+            List<MgetCommandResult.Files.File> files = response.getPayload(MgetCommandResult.class).getFiles().getFiles();
+            Assert.assertEquals(files.size(), 5);
+            for (int i = 1; i <= 5; i++) {
+                Assert.assertEquals(files.get(i - 1).getPath(), downloadDir.resolve("bulk" + i + ".txt").toString());
+                Assert.assertEquals(files.get(i - 1).getData(), "bulk file " + i);
+            }
+
+            int idleConnections = pooledClient.getConnectionPool().getIdleCount();
+            assertTrue(idleConnections > 0 && idleConnections <= 3);
+        } finally {
+            pooledClient.destroy();
+        }
+    }
+
     @Test
     public void testDeleteFile() {
         FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
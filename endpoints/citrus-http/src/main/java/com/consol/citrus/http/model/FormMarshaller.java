@@ -16,15 +16,15 @@
 
 package com.consol.citrus.http.model;
 
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  */
-public class FormMarshaller extends Jaxb2Marshaller {
+public class FormMarshaller extends PooledJaxb2Marshaller {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(FormMarshaller.class);
@@ -79,6 +79,12 @@ public @interface JdbcServerConfig {
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /**
+     * Maximum number of cached query results used for auto reply.
+     * @return
+     */
+    int queryCacheSize() default 0;
+
     /**
      * Message correlator.
      * @return
@@ -58,6 +58,7 @@ public class JdbcServerConfigParser implements AnnotationConfigParser<JdbcServer
         builder.autoTransactionHandling(annotation.autoTransactionHandling());
 
         builder.autoHandleQueries(annotation.autoHandleQueries());
+        builder.queryCacheSize(annotation.queryCacheSize());
 
         if (StringUtils.hasText(annotation.correlator())) {
             builder.correlator(referenceResolver.resolve(annotation.correlator(), MessageCorrelator.class));
@@ -17,8 +17,10 @@
 package com.consol.citrus.jdbc.data;
 
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.db.driver.json.JsonDataSetProducer;
@@ -34,6 +36,9 @@ import org.springframework.util.StringUtils;
 
 public class DataSetCreator {
 
+    /** Marshallers by message type reused for all responses */
+    private final Map<MessageType, JdbcMarshaller> marshallers = new ConcurrentHashMap<>();
+
     /**
      * Converts Citrus result set representation to db driver model result set.
      * @param response The result set to convert
@@ -67,8 +72,11 @@ public class DataSetCreator {
             dataSet = response.getPayload(OperationResult.class).getDataSet();
         } else {
             try {
-                JdbcMarshaller jdbcMarshaller = new JdbcMarshaller();
-                jdbcMarshaller.setType(messageType.name());
+                JdbcMarshaller jdbcMarshaller = marshallers.computeIfAbsent(messageType, type -> {
+                    JdbcMarshaller marshaller = new JdbcMarshaller();
+                    marshaller.setType(type.name());
+                    return marshaller;
+                });
                 Object object = jdbcMarshaller.unmarshal(new StringSource(response.getPayload(String.class)));
                 if (object instanceof OperationResult && StringUtils.hasText(((OperationResult) object).getDataSet())) {
                     dataSet = ((OperationResult) object).getDataSet();
@@ -68,6 +68,9 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     private Pattern autoHandleQueryPattern;
 
+    /** Optional cache auto replying repeated queries */
+    private final JdbcQueryCache queryCache;
+
     /**
      * Default constructor using fields.
      * @param endpointConfiguration The endpoint config for the server
@@ -102,6 +105,8 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
                 .map(validationQueryPattern -> "(?i)\\A" + validationQueryPattern + "\\Z")
                 .collect(Collectors.toList());
         autoHandleQueryPattern = Pattern.compile(String.join("|", autoQueryPatterns));
+
+        queryCache = endpointConfiguration.getQueryCacheSize() > 0 ? new JdbcQueryCache(endpointConfiguration.getQueryCacheSize()) : null;
     }
 
     @Override
@@ -203,8 +208,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
         log.info("Received execute query request: " + query);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        return executeCached(query);
     }
 
     /**
@@ -215,8 +219,11 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeStatement(String stmt) throws JdbcServerException {
         log.info("Received execute statement request: " + stmt);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        if (JdbcQueryCache.isReadOnly(stmt)) {
+            return executeCached(stmt);
+        }
+
+        return execute(stmt);
     }
 
     /**
@@ -312,6 +319,50 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         }
     }
 
+    /**
+     * Gets the query cache or null when query caching is disabled.
+     * @return The query cache
+     */
+    public JdbcQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Executes the given read only statement and creates the result data set. When query caching is enabled cached results are
+     * returned without forwarding the request and successful results get added to the cache.
+     * @param sql The statement to execute
+     * @return The DataSet containing the statement result
+     * @throws JdbcServerException In case that the execution was not successful
+     */
+    private DataSet executeCached(String sql) throws JdbcServerException {
+        if (queryCache != null) {
+            DataSet cached = queryCache.get(sql);
+            if (cached != null) {
+                log.debug(String.format("Auto reply statement '%s' with cached result", sql));
+                return cached;
+            }
+        }
+
+        DataSet dataSet = execute(sql);
+
+        if (queryCache != null) {
+            queryCache.put(sql, dataSet);
+        }
+
+        return dataSet;
+    }
+
+    /**
+     * Executes the given statement by forwarding the request and creates the result data set.
+     * @param sql The statement to execute
+     * @return The DataSet containing the statement result
+     * @throws JdbcServerException In case that the execution was not successful
+     */
+    private DataSet execute(String sql) throws JdbcServerException {
+        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(sql));
+        return dataSetCreator.createDataSet(response, getMessageType(response));
+    }
+
     /**
      * Determines the MessageType of the given response
      * @param response The response to get the message type from
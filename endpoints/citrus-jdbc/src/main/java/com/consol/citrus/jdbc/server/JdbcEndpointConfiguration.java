@@ -47,6 +47,9 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /** Maximum number of query results cached for auto reply, zero disables the cache */
+    private int queryCacheSize = 0;
+
     /** Marshaller converts from XML to Jdbc model objects */
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
@@ -168,4 +171,22 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setAutoTransactionHandling(boolean autoTransactionHandling) {
         this.autoTransactionHandling = autoTransactionHandling;
     }
+
+    /**
+     * Gets the queryCacheSize.
+     *
+     * @return
+     */
+    public int getQueryCacheSize() {
+        return queryCacheSize;
+    }
+
+    /**
+     * Sets the queryCacheSize.
+     *
+     * @param queryCacheSize
+     */
+    public void setQueryCacheSize(int queryCacheSize) {
+        this.queryCacheSize = queryCacheSize;
+    }
 }
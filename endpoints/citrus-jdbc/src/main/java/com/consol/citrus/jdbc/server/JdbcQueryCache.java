@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jdbc.server;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import com.consol.citrus.db.driver.data.Row;
+import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetBuilder;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+/**
+ * Bounded least recently used cache of query results. Once a statement has been answered successfully the result rows
+ * are stored with the normalized statement as key so subsequent executions of the same statement get auto replied
+ * without forwarding the request to the test.
+ *
+ * Prepared statement parameters are part of the statement text so different parameter values result in different
+ * cache entries. Only read only statements should be cached, see {@link #isReadOnly(String)}.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class JdbcQueryCache {
+
+    /** Pattern matching statements that only read data */
+    private static final Pattern READ_ONLY = Pattern.compile("(?is)\\A\\s*SELECT\\b.*");
+
+    /** Maximum number of cached statements */
+    private final int maxSize;
+
+    /** Cached result rows by normalized statement in access order */
+    private final Map<String, List<Row>> entries;
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Default constructor using maximum number of cached statements.
+     * @param maxSize
+     */
+    public JdbcQueryCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, List<Row>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Row>> eldest) {
+                return size() > JdbcQueryCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets new data set for cached statement result or null when statement is not cached.
+     * @param statement
+     * @return
+     */
+    public DataSet get(String statement) {
+        List<Row> rows;
+        synchronized (entries) {
+            rows = entries.get(normalize(statement));
+        }
+
+        if (rows == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        try {
+            return new DataSetBuilder().add(rows.toArray(new Row[0])).build();
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to create data set from cached query result", e);
+        }
+    }
+
+    /**
+     * Adds result of given statement to the cache. The data set itself is not stored as it keeps a row cursor.
+     * @param statement
+     * @param dataSet
+     */
+    public void put(String statement, DataSet dataSet) {
+        List<Row> rows;
+        try {
+            rows = new ArrayList<>(dataSet.getRows());
+        } catch (SQLException e) {
+            throw new CitrusRuntimeException("Failed to read rows from query result", e);
+        }
+
+        synchronized (entries) {
+            entries.put(normalize(statement), rows);
+        }
+    }
+
+    /**
+     * Removes all cached statements.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached statements.
+     * @return
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all lookups or zero when no lookup has been made yet.
+     * @return
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0D : (double) hitCount / total;
+    }
+
+    /**
+     * Checks if the given statement only reads data and therefore may be cached.
+     * @param statement
+     * @return
+     */
+    public static boolean isReadOnly(String statement) {
+        return statement != null && READ_ONLY.matcher(statement).matches();
+    }
+
+    /**
+     * Normalizes statement by trimming and collapsing whitespace sequences. Whitespace within quoted string literals
+     * and identifiers is kept as is.
+     * @param statement
+     * @return
+     */
+    static String normalize(String statement) {
+        StringBuilder normalized = new StringBuilder(statement.length());
+        char quote = 0;
+        boolean whitespace = false;
+
+        for (char c : statement.trim().toCharArray()) {
+            if (quote != 0) {
+                normalized.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (Character.isWhitespace(c)) {
+                whitespace = true;
+            } else {
+                if (whitespace) {
+                    normalized.append(' ');
+                    whitespace = false;
+                }
+
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+                normalized.append(c);
+            }
+        }
+
+        return normalized.toString();
+    }
+}
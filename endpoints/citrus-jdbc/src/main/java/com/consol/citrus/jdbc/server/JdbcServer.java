@@ -53,6 +53,14 @@ public class JdbcServer extends AbstractServer {
         return endpointConfiguration;
     }
 
+    /**
+     * Gets the query cache of the running server or null when query caching is disabled or server is not started.
+     * @return
+     */
+    public JdbcQueryCache getQueryCache() {
+        return controller != null ? controller.getQueryCache() : null;
+    }
+
     @Override
     protected void startup() {
         controller = new JdbcEndpointAdapterController(getEndpointConfiguration(), getEndpointAdapter());
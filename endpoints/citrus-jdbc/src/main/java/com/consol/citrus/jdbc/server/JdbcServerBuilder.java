@@ -94,6 +94,16 @@ public class JdbcServerBuilder extends AbstractServerBuilder<JdbcServer, JdbcSer
         return this;
     }
 
+    /**
+     * Sets the queryCacheSize property.
+     * @param queryCacheSize
+     * @return
+     */
+    public JdbcServerBuilder queryCacheSize(int queryCacheSize) {
+        endpoint.getEndpointConfiguration().setQueryCacheSize(queryCacheSize);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
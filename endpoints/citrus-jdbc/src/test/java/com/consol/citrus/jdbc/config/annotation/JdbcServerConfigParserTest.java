@@ -55,6 +55,7 @@ public class JdbcServerConfigParserTest extends AbstractTestNGUnitTest {
             debugLogging = true,
             endpointAdapter = "endpointAdapter",
             maxConnections = 50,
+            queryCacheSize = 100,
             pollingInterval = 0,
             timeout = 10L,
             autoTransactionHandling = false
@@ -142,6 +143,9 @@ public class JdbcServerConfigParserTest extends AbstractTestNGUnitTest {
         assertEquals(
                 testServer.getEndpointConfiguration().isAutoTransactionHandling(),
                 false);
+        assertEquals(
+                testServer.getEndpointConfiguration().getQueryCacheSize(),
+                100);
     }
 
     @Test
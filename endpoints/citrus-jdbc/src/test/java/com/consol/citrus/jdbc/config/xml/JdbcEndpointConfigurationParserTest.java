@@ -92,5 +92,8 @@ public class JdbcEndpointConfigurationParserTest extends AbstractBeanDefinitionP
         assertEquals(
                 testServer.getEndpointConfiguration().getAutoHandleQueries().length,
                 2);
+        assertEquals(
+                testServer.getEndpointConfiguration().getQueryCacheSize(),
+                100);
     }
 }
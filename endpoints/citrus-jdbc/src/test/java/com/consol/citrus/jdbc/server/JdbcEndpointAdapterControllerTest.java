@@ -16,10 +16,14 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Random;
 
+import com.consol.citrus.db.driver.data.Row;
 import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetBuilder;
 import com.consol.citrus.db.server.JdbcServerConfiguration;
 import com.consol.citrus.db.server.JdbcServerException;
 import com.consol.citrus.endpoint.EndpointAdapter;
@@ -49,6 +53,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 public class JdbcEndpointAdapterControllerTest {
@@ -65,6 +70,7 @@ public class JdbcEndpointAdapterControllerTest {
 
         when(jdbcEndpointConfiguration.getServerConfiguration()).thenReturn(serverConfiguration);
         when(jdbcEndpointConfiguration.getAutoHandleQueries()).thenReturn(new JdbcEndpointConfiguration().getAutoHandleQueries());
+        when(jdbcEndpointConfiguration.getQueryCacheSize()).thenReturn(0);
 
         jdbcEndpointAdapterController = new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter);
     }
@@ -382,6 +388,80 @@ public class JdbcEndpointAdapterControllerTest {
         assertEquals(dataSet, expectedDataSet);
     }
 
+    @Test
+    public void testExecuteQueryCached() throws SQLException {
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.getQueryCacheSize()).thenReturn(10);
+
+        final Row row = new Row();
+        row.setValues(Collections.singletonMap("id", "1"));
+        final DataSet expectedDataSet = new DataSetBuilder().add(row).build();
+        final DataSetCreator dataSetCreator = mock(DataSetCreator.class);
+        when(dataSetCreator.createDataSet(any(), any())).thenReturn(expectedDataSet);
+
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter, dataSetCreator));
+
+        final Message messageToMarshal = mock(Message.class);
+        when(messageToMarshal.getType()).thenReturn(MessageType.JSON.toString());
+        doReturn(messageToMarshal).when(jdbcEndpointAdapterController).handleMessage(any());
+
+        //WHEN
+        final DataSet first = jdbcEndpointAdapterController.executeQuery("SELECT * FROM  users WHERE id = 1");
+        final DataSet second = jdbcEndpointAdapterController.executeQuery(" SELECT *\n FROM users WHERE id = 1");
+        final DataSet other = jdbcEndpointAdapterController.executeQuery("SELECT * FROM users WHERE id = 2");
+
+        //THEN
+        verify(jdbcEndpointAdapterController, times(2)).handleMessage(any());
+        assertEquals(first, expectedDataSet);
+        assertEquals(second.getRows(), expectedDataSet.getRows());
+        assertEquals(other, expectedDataSet);
+
+        final JdbcQueryCache queryCache = jdbcEndpointAdapterController.getQueryCache();
+        assertEquals(queryCache.size(), 2);
+        assertEquals(queryCache.getHits(), 1L);
+        assertEquals(queryCache.getMisses(), 2L);
+        assertEquals(queryCache.getHitRate(), 1.0D / 3);
+    }
+
+    @Test
+    public void testExecuteStatementCachesReadOnlyStatementsOnly() throws SQLException {
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.getQueryCacheSize()).thenReturn(10);
+
+        final DataSet expectedDataSet = mock(DataSet.class);
+        final DataSetCreator dataSetCreator = mock(DataSetCreator.class);
+        when(dataSetCreator.createDataSet(any(), any())).thenReturn(expectedDataSet);
+
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter, dataSetCreator));
+
+        final Message messageToMarshal = mock(Message.class);
+        when(messageToMarshal.getType()).thenReturn(MessageType.JSON.toString());
+        doReturn(messageToMarshal).when(jdbcEndpointAdapterController).handleMessage(any());
+
+        //WHEN
+        jdbcEndpointAdapterController.executeStatement("INSERT INTO users VALUES (1)");
+        jdbcEndpointAdapterController.executeStatement("INSERT INTO users VALUES (1)");
+        jdbcEndpointAdapterController.executeStatement("SELECT * FROM users");
+        jdbcEndpointAdapterController.executeStatement("SELECT * FROM users");
+
+        //THEN
+        verify(jdbcEndpointAdapterController, times(3)).handleMessage(any());
+
+        final JdbcQueryCache queryCache = jdbcEndpointAdapterController.getQueryCache();
+        assertEquals(queryCache.size(), 1);
+        assertEquals(queryCache.getHits(), 1L);
+        assertEquals(queryCache.getMisses(), 1L);
+    }
+
+    @Test
+    public void testQueryCacheDisabledByDefault(){
+        assertNull(jdbcEndpointAdapterController.getQueryCache());
+    }
+
     @Test(expectedExceptions = JdbcServerException.class)
     public void testExecuteQueryForwardsException(){
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jdbc.server;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import com.consol.citrus.db.driver.data.Row;
+import com.consol.citrus.db.driver.dataset.DataSet;
+import com.consol.citrus.db.driver.dataset.DataSetBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JdbcQueryCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws SQLException {
+        JdbcQueryCache cache = new JdbcQueryCache(2);
+
+        cache.put("SELECT 1", createDataSet("1"));
+        cache.put("SELECT 2", createDataSet("2"));
+        Assert.assertNotNull(cache.get("SELECT 1"));
+
+        cache.put("SELECT 3", createDataSet("3"));
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNotNull(cache.get("SELECT 1"));
+        Assert.assertNull(cache.get("SELECT 2"));
+        Assert.assertNotNull(cache.get("SELECT 3"));
+    }
+
+    @Test
+    public void testCachedDataSetIsNotShared() throws SQLException {
+        JdbcQueryCache cache = new JdbcQueryCache(10);
+        cache.put("SELECT id FROM users", createDataSet("1"));
+
+        DataSet first = cache.get("SELECT id FROM users");
+        Assert.assertEquals(first.getNextRow().getValue("id"), "1");
+        first.close();
+
+        DataSet second = cache.get("SELECT   id\n FROM users");
+        Assert.assertFalse(second.isClosed());
+        Assert.assertEquals(second.getNextRow().getValue("id"), "1");
+        Assert.assertEquals(cache.getHits(), 2L);
+        Assert.assertEquals(cache.getHitRate(), 1.0D);
+    }
+
+    @Test
+    public void testNormalize() {
+        Assert.assertEquals(JdbcQueryCache.normalize("  SELECT *\n\tFROM users  WHERE name = 'foo'  "), "SELECT * FROM users WHERE name = 'foo'");
+    }
+
+    @Test
+    public void testNormalizeKeepsQuotedWhitespace() {
+        Assert.assertEquals(JdbcQueryCache.normalize("SELECT  \"first  name\" FROM users WHERE name = 'foo  bar'"),
+                "SELECT \"first  name\" FROM users WHERE name = 'foo  bar'");
+        Assert.assertEquals(JdbcQueryCache.normalize("SELECT * FROM users WHERE name = 'it''s  me'   AND id = 1"),
+                "SELECT * FROM users WHERE name = 'it''s  me' AND id = 1");
+        Assert.assertNotEquals(JdbcQueryCache.normalize("SELECT * FROM users WHERE name = 'foo bar'"),
+                JdbcQueryCache.normalize("SELECT * FROM users WHERE name = 'foo  bar'"));
+    }
+
+    @Test
+    public void testIsReadOnly() {
+        Assert.assertTrue(JdbcQueryCache.isReadOnly("SELECT * FROM users"));
+        Assert.assertTrue(JdbcQueryCache.isReadOnly("  select id\nFROM users"));
+        Assert.assertFalse(JdbcQueryCache.isReadOnly("INSERT INTO users VALUES (1)"));
+        Assert.assertFalse(JdbcQueryCache.isReadOnly("UPDATE users SET name = 'SELECT'"));
+        Assert.assertFalse(JdbcQueryCache.isReadOnly("CREATE TABLE selection (id INT)"));
+        Assert.assertFalse(JdbcQueryCache.isReadOnly("SELECTED"));
+    }
+
+    private DataSet createDataSet(String id) throws SQLException {
+        Row row = new Row();
+        row.setValues(Collections.singletonMap("id", id));
+        return new DataSetBuilder().add(row).build();
+    }
+}
@@ -22,6 +22,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.jms.endpoint.TopicOverflowPolicy;
 
 /**
  * @author Christoph Deppisch
@@ -98,6 +99,24 @@ public @interface JmsEndpointConfig {
      */
     String durableSubscriberName() default "";
 
+    /**
+     * Topic subscriber buffer size.
+     * @return
+     */
+    int subscriberBufferSize() default 0;
+
+    /**
+     * Topic subscriber buffer overflow policy.
+     * @return
+     */
+    TopicOverflowPolicy subscriberOverflowPolicy() default TopicOverflowPolicy.BLOCK;
+
+    /**
+     * Number of concurrent topic subscriber threads.
+     * @return
+     */
+    int subscriberConcurrency() default 1;
+
     /**
      * Should use object messages.
      * @return
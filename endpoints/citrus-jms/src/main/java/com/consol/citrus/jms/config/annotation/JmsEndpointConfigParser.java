@@ -96,6 +96,10 @@ public class JmsEndpointConfigParser implements AnnotationConfigParser<JmsEndpoi
             builder.durableSubscriberName(annotation.durableSubscriberName());
         }
 
+        builder.subscriberBufferSize(annotation.subscriberBufferSize());
+        builder.subscriberOverflowPolicy(annotation.subscriberOverflowPolicy());
+        builder.subscriberConcurrency(annotation.subscriberConcurrency());
+
         builder.useObjectMessages(annotation.useObjectMessages());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
@@ -149,6 +149,36 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the subscriberBufferSize property.
+     * @param subscriberBufferSize
+     * @return
+     */
+    public JmsEndpointBuilder subscriberBufferSize(int subscriberBufferSize) {
+        endpoint.getEndpointConfiguration().setSubscriberBufferSize(subscriberBufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the subscriberOverflowPolicy property.
+     * @param subscriberOverflowPolicy
+     * @return
+     */
+    public JmsEndpointBuilder subscriberOverflowPolicy(TopicOverflowPolicy subscriberOverflowPolicy) {
+        endpoint.getEndpointConfiguration().setSubscriberOverflowPolicy(subscriberOverflowPolicy);
+        return this;
+    }
+
+    /**
+     * Sets the subscriberConcurrency property.
+     * @param subscriberConcurrency
+     * @return
+     */
+    public JmsEndpointBuilder subscriberConcurrency(int subscriberConcurrency) {
+        endpoint.getEndpointConfiguration().setSubscriberConcurrency(subscriberConcurrency);
+        return this;
+    }
+
     /**
      * Sets the useObjectMessages property.
      * @param useObjectMessages
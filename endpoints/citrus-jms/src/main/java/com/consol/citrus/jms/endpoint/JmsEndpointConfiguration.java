@@ -73,6 +73,13 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     private boolean durableSubscription = false;
     private String durableSubscriberName;
 
+    /** Topic subscriber in memory buffer settings, buffer size of zero or less is unbounded */
+    private int subscriberBufferSize = 0;
+    private TopicOverflowPolicy subscriberOverflowPolicy = TopicOverflowPolicy.BLOCK;
+
+    /** Number of concurrent topic subscriber threads sharing the subscription */
+    private int subscriberConcurrency = 1;
+
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
@@ -340,4 +347,58 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setDurableSubscriberName(String durableSubscriberName) {
         this.durableSubscriberName = durableSubscriberName;
     }
+
+    /**
+     * Gets the subscriberBufferSize.
+     *
+     * @return
+     */
+    public int getSubscriberBufferSize() {
+        return subscriberBufferSize;
+    }
+
+    /**
+     * Sets the subscriberBufferSize.
+     *
+     * @param subscriberBufferSize
+     */
+    public void setSubscriberBufferSize(int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+    /**
+     * Gets the subscriberOverflowPolicy.
+     *
+     * @return
+     */
+    public TopicOverflowPolicy getSubscriberOverflowPolicy() {
+        return subscriberOverflowPolicy;
+    }
+
+    /**
+     * Sets the subscriberOverflowPolicy.
+     *
+     * @param subscriberOverflowPolicy
+     */
+    public void setSubscriberOverflowPolicy(TopicOverflowPolicy subscriberOverflowPolicy) {
+        this.subscriberOverflowPolicy = subscriberOverflowPolicy;
+    }
+
+    /**
+     * Gets the subscriberConcurrency.
+     *
+     * @return
+     */
+    public int getSubscriberConcurrency() {
+        return subscriberConcurrency;
+    }
+
+    /**
+     * Sets the subscriberConcurrency.
+     *
+     * @param subscriberConcurrency
+     */
+    public void setSubscriberConcurrency(int subscriberConcurrency) {
+        this.subscriberConcurrency = subscriberConcurrency;
+    }
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageQueue;
+import com.consol.citrus.message.MessageSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In memory message queue caching inbound topic messages of a topic subscriber. The queue is optionally bounded. When the queue
+ * is full the configured overflow policy decides whether the subscriber blocks, drops messages or spills messages to temporary files.
+ *
+ * Lag is the number of messages received from the topic but not consumed by the test yet, including spilled messages. Selective
+ * receive only considers messages held in memory, spilled messages become visible as soon as they are moved back to the queue.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class JmsTopicMessageQueue implements MessageQueue {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JmsTopicMessageQueue.class);
+
+    private final String name;
+
+    /** Maximum number of messages held in memory, zero or less for unbounded queue */
+    private final int capacity;
+
+    /** Behavior when queue is full */
+    private final TopicOverflowPolicy overflowPolicy;
+
+    /** Messages held in memory, oldest first */
+    private final Deque<Message> messages = new ArrayDeque<>();
+
+    /** Spill files, oldest first */
+    private final Deque<Path> spilled = new ArrayDeque<>();
+    private Path spillDirectory;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /** Closed queue does no longer block producers */
+    private boolean closed = false;
+
+    /** Metrics */
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+
+    /**
+     * Default constructor using name, capacity and overflow policy.
+     * @param name
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public JmsTopicMessageQueue(String name, int capacity, TopicOverflowPolicy overflowPolicy) {
+        this.name = name;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void send(Message message) {
+        received.incrementAndGet();
+
+        lock.lock();
+        try {
+            if (!isFull() && spilled.isEmpty()) {
+                enqueue(message);
+                return;
+            }
+
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    messages.pollFirst();
+                    dropped.incrementAndGet();
+                    enqueue(message);
+                    break;
+                case DROP_NEWEST:
+                    drop(message);
+                    break;
+                case SPILL:
+                    spill(message);
+                    break;
+                default:
+                    while (isFull() && !closed) {
+                        notFull.await();
+                    }
+
+                    if (closed && isFull()) {
+                        drop(message);
+                    } else {
+                        enqueue(message);
+                    }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector) {
+        lock.lock();
+        try {
+            return dequeue(selector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector, long timeout) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        lock.lock();
+        try {
+            Message message = dequeue(selector);
+            while (message == null && nanos > 0) {
+                nanos = notEmpty.awaitNanos(nanos);
+                message = dequeue(selector);
+            }
+
+            return message;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void purge(MessageSelector selector) {
+        lock.lock();
+        try {
+            Iterator<Message> it = messages.iterator();
+            while (it.hasNext()) {
+                Message message = it.next();
+                if (selector.accept(message)) {
+                    it.remove();
+
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(String.format("Purged message '%s' from in memory queue", message.getId()));
+                    }
+                }
+            }
+
+            refill();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases producers waiting for free space. Messages already queued or spilled are still available for receive.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull() {
+        return capacity > 0 && messages.size() >= capacity;
+    }
+
+    private void enqueue(Message message) {
+        messages.addLast(message);
+        maxLag.accumulateAndGet(messages.size() + spilled.size(), Math::max);
+        notEmpty.signalAll();
+    }
+
+    private void drop(Message message) {
+        dropped.incrementAndGet();
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Dropped topic message '%s' on full queue '%s'", message.getId(), name));
+        }
+    }
+
+    private Message dequeue(MessageSelector selector) {
+        Iterator<Message> it = messages.iterator();
+        while (it.hasNext()) {
+            Message message = it.next();
+            if (selector.accept(message)) {
+                it.remove();
+                refill();
+                notFull.signal();
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes message to a temporary spill file. Messages that can not be serialized are dropped.
+     * @param message
+     */
+    private void spill(Message message) {
+        try {
+            if (spillDirectory == null) {
+                spillDirectory = Files.createTempDirectory("citrus-" + name.replaceAll("[^a-zA-Z0-9.-]", "_"));
+                spillDirectory.toFile().deleteOnExit();
+            }
+
+            Path spillFile = Files.createTempFile(spillDirectory, "message", ".ser");
+            try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(spillFile))) {
+                out.writeObject(message);
+            } catch (IOException e) {
+                deleteQuietly(spillFile);
+                throw e;
+            }
+
+            spilled.addLast(spillFile);
+            maxLag.accumulateAndGet(messages.size() + spilled.size(), Math::max);
+        } catch (IOException e) {
+            LOG.warn(String.format("Failed to spill topic message '%s' on queue '%s': %s", message.getId(), name, e.getMessage()));
+            drop(message);
+        }
+    }
+
+    /**
+     * Moves spilled messages back to memory as long as there is free space.
+     */
+    private void refill() {
+        while (!spilled.isEmpty() && !isFull()) {
+            Path spillFile = spilled.pollFirst();
+            try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(spillFile))) {
+                messages.addLast((Message) in.readObject());
+                notEmpty.signalAll();
+            } catch (IOException | ClassNotFoundException e) {
+                LOG.warn(String.format("Failed to read spilled topic message on queue '%s': %s", name, e.getMessage()));
+                dropped.incrementAndGet();
+            } finally {
+                deleteQuietly(spillFile);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.warn(String.format("Failed to delete spill file '%s'", path), e);
+        }
+    }
+
+    /**
+     * Gets the number of messages held in memory.
+     * @return
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages currently spilled to temporary files.
+     * @return
+     */
+    public int getSpilledCount() {
+        lock.lock();
+        try {
+            return spilled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages received from the topic but not consumed yet.
+     * @return
+     */
+    public long getLag() {
+        lock.lock();
+        try {
+            return (long) messages.size() + spilled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the highest lag observed so far.
+     * @return
+     */
+    public long getMaxLag() {
+        return maxLag.get();
+    }
+
+    /**
+     * Gets the total number of messages received from the topic.
+     * @return
+     */
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    /**
+     * Gets the total number of messages dropped because of overflow or spill failures.
+     * @return
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public TopicOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
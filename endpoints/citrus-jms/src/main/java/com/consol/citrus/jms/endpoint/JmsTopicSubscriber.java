@@ -18,16 +18,20 @@ package com.consol.citrus.jms.endpoint;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
 import javax.jms.TopicSubscriber;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -36,9 +40,7 @@ import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.direct.DirectEndpoint;
 import com.consol.citrus.endpoint.direct.DirectEndpointConfiguration;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.message.DefaultMessageQueue;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.message.MessageQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -53,15 +55,17 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     private static Logger log = LoggerFactory.getLogger(JmsConsumer.class);
 
     /** Boolean flag for continued message consumption, if false stop */
-    private boolean running = true;
+    private volatile boolean running = true;
 
     /** Test context factory for send operation on message queue */
     private final TestContextFactory testContextFactory;
 
     /** Delegate in-memory message queue caching all inbound messages */
     private DirectEndpoint messageQueue;
+    private final JmsTopicMessageQueue inboundQueue;
 
-    private Executor subscription = Executors.newSingleThreadExecutor();
+    private final ExecutorService subscription;
+    private volatile TopicConnection connection;
     private CompletableFuture<Boolean> stopped = new CompletableFuture<>();
     private CompletableFuture<Boolean> started = new CompletableFuture<>();
 
@@ -78,10 +82,12 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
 
         DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
 
-        MessageQueue inboundQueue = new DefaultMessageQueue(name + ".inbound");
+        this.inboundQueue = new JmsTopicMessageQueue(name + ".inbound", endpointConfiguration.getSubscriberBufferSize(),
+                endpointConfiguration.getSubscriberOverflowPolicy());
         directEndpointConfiguration.setQueue(inboundQueue);
 
         this.messageQueue = new DirectEndpoint(directEndpointConfiguration);
+        this.subscription = Executors.newFixedThreadPool(Math.max(endpointConfiguration.getSubscriberConcurrency(), 1));
     }
 
     /**
@@ -91,7 +97,6 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
                                                       .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
 
-        TopicConnection connection = null;
         try {
             if (!(connectionFactory instanceof TopicConnectionFactory)) {
                 throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
@@ -102,54 +107,35 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
 
             connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
 
-            TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
-            Topic topic;
-            if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getDestinationName());
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
-            } else {
-                throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
-            }
-
-            TopicSubscriber subscriber;
-            if (endpointConfiguration.isDurableSubscription()) {
-                log.debug(String.format("Create JMS topic durable subscription '%s'", Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName())));
-                subscriber = session.createDurableSubscriber(topic, Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName()));
-            } else {
-                log.debug("Create JMS topic subscription");
-                subscriber = session.createSubscriber(topic);
+            int concurrency = Math.max(endpointConfiguration.getSubscriberConcurrency(), 1);
+            List<MessageConsumer> subscribers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+                subscribers.add(createSubscriber(session, getTopic(session), concurrency > 1));
             }
 
             connection.start();
 
             started.complete(true);
 
-            while (running) {
-                javax.jms.Message event = subscriber.receive();
-
-                if (event != null) {
-                    TestContext context = testContextFactory.getObject();
-                    Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
-
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Received topic event '%s'", message.getId()));
-                    }
-                    messageQueue.createProducer().send(message, context);
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Topic subscriber received null message - continue after " + endpointConfiguration.getPollingInterval() + " milliseconds");
-                    }
-
-                    try {
-                        Thread.sleep(endpointConfiguration.getPollingInterval());
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted while waiting after null message", e);
-                    }
+            List<Future<?>> workers = new ArrayList<>();
+            for (MessageConsumer subscriber : subscribers.subList(1, subscribers.size())) {
+                workers.add(subscription.submit(() -> {
+                    consume(subscriber);
+                    return true;
+                }));
+            }
+
+            consume(subscribers.get(0));
+
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.warn("Topic subscriber thread failed", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while waiting for topic subscriber threads to stop", e);
                 }
             }
         } catch (RuntimeException e) {
@@ -158,15 +144,112 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         } catch (JMSException e) {
             started.completeExceptionally(e);
         } finally {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (JMSException e) {
-                    log.warn("Failed to close JMS topic connection", e);
+            closeConnection();
+            stopped.complete(true);
+        }
+    }
+
+    /**
+     * Resolves the topic to subscribe to.
+     * @param session
+     * @return
+     * @throws JMSException
+     */
+    private Topic getTopic(TopicSession session) throws JMSException {
+        if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
+            return (Topic) endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            return session.createTopic(endpointConfiguration.getDestinationName());
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
+            return (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
+        }
+    }
+
+    /**
+     * Creates topic subscriber. Concurrent subscriber threads use a JMS 2.0 shared subscription so each message is
+     * delivered to one of the threads only.
+     * @param session
+     * @param topic
+     * @param shared
+     * @return
+     * @throws JMSException
+     */
+    private MessageConsumer createSubscriber(TopicSession session, Topic topic, boolean shared) throws JMSException {
+        String subscriptionName = Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName());
+
+        if (shared) {
+            if (endpointConfiguration.isDurableSubscription()) {
+                log.debug(String.format("Create JMS topic shared durable subscription '%s'", subscriptionName));
+                return session.createSharedDurableConsumer(topic, subscriptionName);
+            } else {
+                log.debug(String.format("Create JMS topic shared subscription '%s'", subscriptionName));
+                return session.createSharedConsumer(topic, subscriptionName);
+            }
+        }
+
+        TopicSubscriber subscriber;
+        if (endpointConfiguration.isDurableSubscription()) {
+            log.debug(String.format("Create JMS topic durable subscription '%s'", subscriptionName));
+            subscriber = session.createDurableSubscriber(topic, subscriptionName);
+        } else {
+            log.debug("Create JMS topic subscription");
+            subscriber = session.createSubscriber(topic);
+        }
+
+        return subscriber;
+    }
+
+    /**
+     * Closes the topic connection. Closing the connection also releases subscribers blocked in a receive call.
+     */
+    private void closeConnection() {
+        TopicConnection topicConnection = connection;
+        if (topicConnection != null) {
+            try {
+                topicConnection.close();
+            } catch (JMSException e) {
+                log.warn("Failed to close JMS topic connection", e);
+            }
+        }
+    }
+
+    /**
+     * Receives topic events and adds them to the inbound message queue as long as this subscriber is running. Each
+     * receive call waits at most the polling interval so the subscriber notices when it is stopped.
+     * @param subscriber
+     * @throws JMSException
+     */
+    private void consume(MessageConsumer subscriber) throws JMSException {
+        long pollingInterval = Math.max(endpointConfiguration.getPollingInterval(), 1L);
+
+        while (running) {
+            javax.jms.Message event;
+            try {
+                event = subscriber.receive(pollingInterval);
+            } catch (JMSException e) {
+                if (running) {
+                    throw e;
                 }
+
+                log.debug("Topic subscriber closed while receiving", e);
+                return;
             }
 
-            stopped.complete(true);
+            if (event != null) {
+                TestContext context = testContextFactory.getObject();
+                Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Received topic event '%s'", message.getId()));
+                }
+                messageQueue.createProducer().send(message, context);
+            } else if (log.isTraceEnabled()) {
+                log.trace("Topic subscriber received no message within " + pollingInterval + " milliseconds");
+            }
         }
     }
 
@@ -184,13 +267,26 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
 
     public void stop() {
         running = false;
+        inboundQueue.close();
+        closeConnection();
+        subscription.shutdown();
 
         try {
             stopped.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | ExecutionException e) {
+
+            if (!subscription.awaitTermination(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timeout while waiting for topic subscriber threads to stop - interrupting");
+                subscription.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for topic subscriber to stop gracefully", e);
+            subscription.shutdownNow();
+        } catch (ExecutionException e) {
             log.warn("Failed to wait for topic subscriber to stop gracefully", e);
         } catch (TimeoutException e) {
-            log.warn("Timeout while waiting for topic subscriber to stop gracefully", e);
+            log.warn("Timeout while waiting for topic subscriber to stop gracefully - interrupting", e);
+            subscription.shutdownNow();
         }
     }
 
@@ -204,6 +300,30 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         return messageQueue.createConsumer().receive(selector, context, timeout);
     }
 
+    /**
+     * Gets the inbound message queue holding buffer metrics such as lag and dropped messages.
+     * @return
+     */
+    public JmsTopicMessageQueue getInboundQueue() {
+        return inboundQueue;
+    }
+
+    /**
+     * Gets the number of messages received from the topic but not consumed yet.
+     * @return
+     */
+    public long getLag() {
+        return inboundQueue.getLag();
+    }
+
+    /**
+     * Gets the number of messages dropped because the inbound buffer was full.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return inboundQueue.getDroppedCount();
+    }
+
     /**
      * Gets the running state.
      * @return
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+/**
+ * Defines how a topic subscriber handles inbound messages when its bounded in memory buffer is full.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public enum TopicOverflowPolicy {
+
+    /** Subscriber threads wait until the test has consumed a message */
+    BLOCK,
+
+    /** Oldest buffered message is discarded in favor of the new message */
+    DROP_OLDEST,
+
+    /** New message is discarded */
+    DROP_NEWEST,
+
+    /** New message is written to a temporary file and moved back to the buffer as soon as there is space */
+    SPILL
+}
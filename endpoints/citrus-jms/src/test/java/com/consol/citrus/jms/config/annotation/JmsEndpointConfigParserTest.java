@@ -37,6 +37,7 @@ import com.consol.citrus.endpoint.direct.annotation.DirectEndpointConfigParser;
 import com.consol.citrus.endpoint.direct.annotation.DirectSyncEndpointConfigParser;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.jms.endpoint.TopicOverflowPolicy;
 import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
@@ -81,6 +82,8 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
             autoStart=true,
             durableSubscription=true,
             durableSubscriberName="durableSubscriber",
+            subscriberBufferSize=100,
+            subscriberOverflowPolicy=TopicOverflowPolicy.DROP_OLDEST,
             useObjectMessages=true,
             destinationName = "JMS.Topic.Test",
             connectionFactory="jmsTopicConnectionFactory")
@@ -164,6 +167,9 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isAutoStart());
         Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isDurableSubscription());
         Assert.assertFalse(jmsEndpoint1.getEndpointConfiguration().isUseObjectMessages());
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getSubscriberBufferSize(), 0);
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getSubscriberOverflowPolicy(), TopicOverflowPolicy.BLOCK);
+        Assert.assertEquals(jmsEndpoint1.getEndpointConfiguration().getSubscriberConcurrency(), 1);
 
         // 2nd message receiver
         Assert.assertNotNull(jmsEndpoint2.getEndpointConfiguration().getConnectionFactory());
@@ -192,6 +198,8 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(jmsEndpoint4.getEndpointConfiguration().isAutoStart());
         Assert.assertTrue(jmsEndpoint4.getEndpointConfiguration().isDurableSubscription());
         Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getDurableSubscriberName(), "durableSubscriber");
+        Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getSubscriberBufferSize(), 100);
+        Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getSubscriberOverflowPolicy(), TopicOverflowPolicy.DROP_OLDEST);
         Assert.assertTrue(jmsEndpoint4.getEndpointConfiguration().isUseObjectMessages());
 
         // 5th message receiver
@@ -18,6 +18,7 @@ package com.consol.citrus.jms.config.xml;
 
 import com.consol.citrus.TestActor;
 import com.consol.citrus.jms.endpoint.JmsEndpoint;
+import com.consol.citrus.jms.endpoint.TopicOverflowPolicy;
 import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import org.testng.Assert;
@@ -48,6 +49,9 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isAutoStart(), false);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isDurableSubscription(), false);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isUseObjectMessages(), false);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberBufferSize(), 0);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberOverflowPolicy(), TopicOverflowPolicy.BLOCK);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberConcurrency(), 1);
 
         // 2nd message receiver
         jmsEndpoint = endpoints.get("jmsEndpoint2");
@@ -69,6 +73,8 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isAutoStart(), true);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isDurableSubscription(), true);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getDurableSubscriberName(), "durableSubscriber");
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberBufferSize(), 100);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberOverflowPolicy(), TopicOverflowPolicy.DROP_OLDEST);
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().isUseObjectMessages(), true);
 
         // 4th message receiver
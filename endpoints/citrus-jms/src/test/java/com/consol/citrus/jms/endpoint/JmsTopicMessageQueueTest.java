@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.MessageSelector;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmsTopicMessageQueueTest {
+
+    private final MessageSelector all = new MessageSelector.AllAcceptingMessageSelector();
+
+    @Test
+    public void testUnbounded() {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 0, TopicOverflowPolicy.BLOCK);
+
+        for (int i = 1; i <= 5; i++) {
+            queue.send(new DefaultMessage("Foo" + i));
+        }
+
+        Assert.assertEquals(queue.getLag(), 5L);
+        Assert.assertEquals(queue.getDroppedCount(), 0L);
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo1");
+        Assert.assertEquals(queue.getLag(), 4L);
+        Assert.assertEquals(queue.getMaxLag(), 5L);
+        Assert.assertEquals(queue.getReceivedCount(), 5L);
+    }
+
+    @Test
+    public void testDropOldest() {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 2, TopicOverflowPolicy.DROP_OLDEST);
+
+        for (int i = 1; i <= 4; i++) {
+            queue.send(new DefaultMessage("Foo" + i));
+        }
+
+        Assert.assertEquals(queue.getDroppedCount(), 2L);
+        Assert.assertEquals(queue.getLag(), 2L);
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo3");
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo4");
+        Assert.assertNull(queue.receive(all, 100L));
+    }
+
+    @Test
+    public void testDropNewest() {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 2, TopicOverflowPolicy.DROP_NEWEST);
+
+        for (int i = 1; i <= 4; i++) {
+            queue.send(new DefaultMessage("Foo" + i));
+        }
+
+        Assert.assertEquals(queue.getDroppedCount(), 2L);
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo1");
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo2");
+        Assert.assertNull(queue.receive(all, 100L));
+    }
+
+    @Test
+    public void testSpill() {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 2, TopicOverflowPolicy.SPILL);
+
+        for (int i = 1; i <= 5; i++) {
+            queue.send(new DefaultMessage("Foo" + i).setHeader("index", i));
+        }
+
+        Assert.assertEquals(queue.getSize(), 2);
+        Assert.assertEquals(queue.getSpilledCount(), 3);
+        Assert.assertEquals(queue.getLag(), 5L);
+        Assert.assertEquals(queue.getDroppedCount(), 0L);
+
+        for (int i = 1; i <= 5; i++) {
+            DefaultMessage received = (DefaultMessage) queue.receive(all, 100L);
+            Assert.assertEquals(received.getPayload(String.class), "Foo" + i);
+            Assert.assertEquals(received.getHeader("index"), i);
+        }
+
+        Assert.assertEquals(queue.getSpilledCount(), 0);
+        Assert.assertEquals(queue.getLag(), 0L);
+    }
+
+    @Test
+    public void testSelectiveReceive() {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 0, TopicOverflowPolicy.BLOCK);
+
+        queue.send(new DefaultMessage("Foo").setHeader("operation", "foo"));
+        queue.send(new DefaultMessage("Bar").setHeader("operation", "bar"));
+
+        Assert.assertEquals(queue.receive(message -> "bar".equals(message.getHeader("operation")), 100L).getPayload(String.class), "Bar");
+        Assert.assertNull(queue.receive(message -> "bar".equals(message.getHeader("operation")), 100L));
+        Assert.assertEquals(queue.receive(all).getPayload(String.class), "Foo");
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 1, TopicOverflowPolicy.BLOCK);
+
+        queue.send(new DefaultMessage("Foo1"));
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> queue.send(new DefaultMessage("Foo2")));
+
+        Thread.sleep(200L);
+        Assert.assertFalse(blocked.isDone());
+
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo1");
+        blocked.get(5000L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo2");
+        Assert.assertEquals(queue.getDroppedCount(), 0L);
+    }
+
+    @Test
+    public void testCloseReleasesBlockedProducer() throws Exception {
+        JmsTopicMessageQueue queue = new JmsTopicMessageQueue("testQueue", 1, TopicOverflowPolicy.BLOCK);
+
+        queue.send(new DefaultMessage("Foo1"));
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> queue.send(new DefaultMessage("Foo2")));
+
+        Thread.sleep(200L);
+        queue.close();
+
+        blocked.get(5000L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(queue.getDroppedCount(), 1L);
+        Assert.assertEquals(queue.receive(all, 100L).getPayload(String.class), "Foo1");
+    }
+}
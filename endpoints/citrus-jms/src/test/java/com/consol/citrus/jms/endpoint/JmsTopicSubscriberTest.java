@@ -21,6 +21,7 @@ import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.context.ApplicationContext;
 import org.springframework.jms.core.JmsTemplate;
 import org.testng.Assert;
@@ -31,15 +32,27 @@ import org.testng.annotations.Test;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
 import javax.jms.Session;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
 import javax.jms.TopicSubscriber;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -100,6 +113,39 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         when(topicSession.createDurableSubscriber(topic, "jmsTopicEndpoint:subscriber")).thenReturn(topicSubscriber);
     }
 
+    @Test
+    public void testSubscriberStopReleasesBlockedReceive() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setPollingInterval(60000L);
+
+        CountDownLatch closed = new CountDownLatch(1);
+        reset(topicConnection);
+        when(topicConnection.createTopicSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(topicSession);
+        doAnswer(invocation -> {
+            closed.countDown();
+            return null;
+        }).when(topicConnection).close();
+        when(topicSubscriber.receive(anyLong())).thenAnswer(invocation -> {
+            closed.await();
+            return null;
+        });
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        verify(topicSubscriber, timeout(5000L)).receive(60000L);
+
+        long start = System.currentTimeMillis();
+        jmsTopicSubscriber.stop();
+
+        Assert.assertFalse(jmsTopicSubscriber.isRunning());
+        Assert.assertTrue(System.currentTimeMillis() - start < endpointConfiguration.getTimeout());
+        verify(topicConnection, atLeastOnce()).close();
+    }
+
     @Test
     public void testSubscriberWithConnectionFactory() throws JMSException {
         JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
@@ -108,10 +154,10 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                                       .thenReturn(null);
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()),
+                new TextMessageImpl("Foo2", Collections.emptyMap()),
+                new TextMessageImpl("Foo3", Collections.emptyMap()));
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -134,8 +180,8 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestination(topic);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()));
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -151,8 +197,8 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setAutoStart(true);
         endpointConfiguration.setJmsTemplate(jmsTemplate);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()));
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -169,10 +215,10 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()),
+                new TextMessageImpl("Foo2", Collections.emptyMap()),
+                new TextMessageImpl("Foo3", Collections.emptyMap()));
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
@@ -197,10 +243,10 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()),
+                new TextMessageImpl("Foo2", Collections.emptyMap()),
+                new TextMessageImpl("Foo3", Collections.emptyMap()));
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
         jmsEndpoint.setName("jmsTopicEndpoint");
@@ -215,4 +261,87 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
     }
+
+    @Test
+    public void testSubscriberBufferOverflow() throws JMSException, InterruptedException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setSubscriberBufferSize(2);
+        endpointConfiguration.setSubscriberOverflowPolicy(TopicOverflowPolicy.DROP_OLDEST);
+
+        stubReceive(topicSubscriber,
+                new TextMessageImpl("Foo1", Collections.emptyMap()),
+                new TextMessageImpl("Foo2", Collections.emptyMap()),
+                new TextMessageImpl("Foo3", Collections.emptyMap()),
+                new TextMessageImpl("Foo4", Collections.emptyMap()));
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+
+        for (int i = 0; i < 50 && jmsTopicSubscriber.getInboundQueue().getReceivedCount() < 4; i++) {
+            Thread.sleep(100L);
+        }
+
+        Assert.assertEquals(jmsTopicSubscriber.getDroppedMessages(), 2L);
+        Assert.assertEquals(jmsTopicSubscriber.getLag(), 2L);
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo4");
+        Assert.assertEquals(jmsTopicSubscriber.getLag(), 0L);
+    }
+
+    @Test
+    public void testConcurrentSharedSubscriber() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+        endpointConfiguration.setSubscriberConcurrency(2);
+
+        MessageConsumer sharedConsumer = mock(MessageConsumer.class);
+        when(topicSession.createSharedConsumer(topic, "jmsTopicEndpoint:subscriber")).thenReturn(sharedConsumer);
+        stubReceive(sharedConsumer,
+                new TextMessageImpl("Foo1", Collections.emptyMap()),
+                new TextMessageImpl("Foo2", Collections.emptyMap()));
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+        jmsEndpoint.setName("jmsTopicEndpoint");
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        Assert.assertTrue(jmsTopicSubscriber.isRunning());
+
+        Set<String> payloads = new HashSet<>();
+        payloads.add(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class));
+        payloads.add(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class));
+        Assert.assertEquals(payloads, new HashSet<>(Arrays.asList("Foo1", "Foo2")));
+
+        verify(topicSession, times(2)).createSharedConsumer(topic, "jmsTopicEndpoint:subscriber");
+    }
+
+    /**
+     * Stubs receive calls on given consumer to return the messages in order. Subsequent calls wait for the polling
+     * interval and return null just like a JMS provider without pending messages.
+     * @param consumer
+     * @param messages
+     */
+    private void stubReceive(MessageConsumer consumer, javax.jms.Message... messages) throws JMSException {
+        OngoingStubbing<javax.jms.Message> stubbing = when(consumer.receive(anyLong()));
+        for (javax.jms.Message message : messages) {
+            stubbing = stubbing.thenReturn(message);
+        }
+
+        stubbing.thenAnswer(invocation -> {
+            try {
+                Thread.sleep(invocation.getArgument(0, Long.class));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+    }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.client;
+
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * Samples a managed bean attribute at a fixed rate and keeps the most recent samples in a bounded time series buffer.
+ * Tests are able to assert on the collected samples, for instance on the maximum heap usage during a test run.
+ *
+ * Composite attribute values such as memory usage are narrowed to a single item when an inner path is given. Numeric
+ * aggregations consider only samples with a numeric value.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class JmxAttributeWatch {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JmxAttributeWatch.class);
+
+    /** Watched attribute */
+    private final ObjectName objectName;
+    private final String attribute;
+    private final String innerPath;
+
+    /** Maximum number of samples kept */
+    private final int capacity;
+
+    /** Samples in order of time, oldest first */
+    private final Deque<Sample> samples = new ArrayDeque<>();
+
+    /** Number of failed sample attempts */
+    private final AtomicLong failedSamples = new AtomicLong();
+
+    /** Scheduled sampling task */
+    private volatile ScheduledFuture<?> task;
+
+    /**
+     * Default constructor using watched attribute and buffer capacity.
+     * @param objectName
+     * @param attribute
+     * @param innerPath optional composite data item, may be null
+     * @param capacity
+     */
+    public JmxAttributeWatch(ObjectName objectName, String attribute, String innerPath, int capacity) {
+        this.objectName = objectName;
+        this.attribute = attribute;
+        this.innerPath = innerPath;
+        this.capacity = Math.max(capacity, 1);
+    }
+
+    /**
+     * Reads the attribute value from the server connection and adds a new sample. Failures are logged and counted
+     * so a temporarily unavailable connection does not stop the watch.
+     * @param serverConnection
+     */
+    void sample(Supplier<MBeanServerConnection> serverConnection) {
+        try {
+            Object value = serverConnection.get().getAttribute(objectName, attribute);
+
+            if (StringUtils.hasText(innerPath) && value instanceof CompositeData) {
+                value = ((CompositeData) value).get(innerPath);
+            }
+
+            add(new Sample(System.currentTimeMillis(), value));
+        } catch (Exception e) {
+            failedSamples.incrementAndGet();
+            LOG.warn("Failed to sample attribute '{}' on MBean '{}': {}", attribute, objectName, e.getMessage());
+        }
+    }
+
+    /**
+     * Adds sample to the buffer and removes the oldest sample when buffer capacity is exceeded.
+     * @param sample
+     */
+    void add(Sample sample) {
+        synchronized (samples) {
+            if (samples.size() >= capacity) {
+                samples.removeFirst();
+            }
+
+            samples.addLast(sample);
+        }
+    }
+
+    /**
+     * Stops sampling. Samples collected so far are kept.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Checks if the watch is still sampling.
+     * @return
+     */
+    public boolean isRunning() {
+        return task != null && !task.isDone();
+    }
+
+    /**
+     * Gets a copy of all samples, oldest first.
+     * @return
+     */
+    public List<Sample> getSamples() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    /**
+     * Gets the number of samples currently kept.
+     * @return
+     */
+    public int getSampleCount() {
+        synchronized (samples) {
+            return samples.size();
+        }
+    }
+
+    /**
+     * Gets the most recent sample.
+     * @return
+     */
+    public Optional<Sample> getLatest() {
+        synchronized (samples) {
+            return Optional.ofNullable(samples.peekLast());
+        }
+    }
+
+    /**
+     * Gets the maximum numeric sample value.
+     * @return
+     */
+    public Optional<Double> getMax() {
+        return numericValues().stream().max(Double::compare);
+    }
+
+    /**
+     * Gets the minimum numeric sample value.
+     * @return
+     */
+    public Optional<Double> getMin() {
+        return numericValues().stream().min(Double::compare);
+    }
+
+    /**
+     * Gets the average of all numeric sample values.
+     * @return
+     */
+    public Optional<Double> getAverage() {
+        List<Double> values = numericValues();
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(values.stream().mapToDouble(Double::doubleValue).sum() / values.size());
+    }
+
+    /**
+     * Gets the number of failed sample attempts.
+     * @return
+     */
+    public long getFailedSamples() {
+        return failedSamples.get();
+    }
+
+    private List<Double> numericValues() {
+        List<Double> values = new ArrayList<>();
+        for (Sample sample : getSamples()) {
+            if (sample.getValue() instanceof Number) {
+                values.add(((Number) sample.getValue()).doubleValue());
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Sets the scheduled sampling task.
+     * @param task
+     */
+    void setTask(ScheduledFuture<?> task) {
+        this.task = task;
+    }
+
+    /**
+     * Gets the watched object name.
+     * @return
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Gets the watched attribute name.
+     * @return
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Gets the composite data item or null.
+     * @return
+     */
+    public String getInnerPath() {
+        return innerPath;
+    }
+
+    /**
+     * Attribute value sampled at a point in time.
+     */
+    public static class Sample {
+        private final long timestamp;
+        private final Object value;
+
+        public Sample(long timestamp, Object value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+
+        /**
+         * Gets the time in milliseconds the sample was taken.
+         * @return
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Gets the sampled attribute value.
+         * @return
+         */
+        public Object getValue() {
+            return value;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.consol.citrus.jmx.client;
 import javax.management.Attribute;
 import javax.management.InstanceNotFoundException;
 import javax.management.JMException;
+import javax.management.ListenerNotFoundException;
 import javax.management.MBeanServerConnection;
 import javax.management.MalformedObjectNameException;
 import javax.management.Notification;
@@ -31,17 +32,31 @@ import javax.management.remote.JMXConnectorFactory;
 import javax.management.remote.JMXServiceURL;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.jmx.endpoint.JmxEndpointConfiguration;
 import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.jmx.message.JmxMessageHeaders;
 import com.consol.citrus.jmx.model.ManagedBeanInvocation;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -55,10 +70,20 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 /**
+ * Client invoking managed bean operations and attributes on the platform or a remote MBean server. Invocation results
+ * are stored with the correlation key of the send operation so receive operations can pick them up.
+ *
+ * When a notification buffer size is set the client works in notification subscription mode. Send operations without
+ * operation and attribute subscribe to the managed bean notifications once per object name. Notifications are stored
+ * in a bounded buffer where receive operations wait for them. Notifications arriving while the buffer is full are dropped.
+ *
+ * In addition to that the client is able to watch attributes by sampling their values at a fixed rate into a bounded
+ * time series buffer, see {@link #watchAttribute(String, String, String, long)}.
+ *
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener {
+public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener, ShutdownPhase {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmxClient.class);
@@ -69,6 +94,10 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Saves the network connection id */
     private String connectionId;
 
+    /** Network connector and connection reused for all operations until the connection is lost */
+    private JMXConnector networkConnector;
+    private MBeanServerConnection networkConnection;
+
     /** MBean object name */
     private ObjectName objectName;
 
@@ -78,6 +107,28 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Scheduler */
     private ScheduledExecutorService scheduledExecutor = new ScheduledThreadPoolExecutor(1);
 
+    /** Notification listeners by subscribed object name in subscription mode */
+    private final Map<ObjectName, NotificationListener> subscriptions = new ConcurrentHashMap<>();
+
+    /** Subscribed object names by correlation key of the subscribing send operation, removed once the receive for that key has finished */
+    private final Map<String, ObjectName> subscriptionKeys = new ConcurrentHashMap<>();
+
+    /** Buffered notifications in order of arrival */
+    private final Deque<BufferedNotification> notifications = new ArrayDeque<>();
+
+    /** Guards the notification buffer and signals notification arrival */
+    private final ReentrantLock notificationLock = new ReentrantLock();
+    private final Condition notificationArrived = notificationLock.newCondition();
+
+    /** Number of notifications dropped because the buffer was full */
+    private final AtomicLong droppedNotifications = new AtomicLong();
+
+    /** Active attribute watches */
+    private final List<JmxAttributeWatch> watches = new CopyOnWriteArrayList<>();
+
+    /** Scheduler sampling attribute watches, separate from reconnect scheduling */
+    private ScheduledExecutorService watchExecutor;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -106,12 +157,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         String correlationKey = getEndpointConfiguration().getCorrelator().getCorrelationKey(message);
         correlationManager.saveCorrelationKey(correlationKeyName, correlationKey, context);
 
-        MBeanServerConnection serverConnection;
-        if (getEndpointConfiguration().getServerUrl().equals("platform")) {
-            serverConnection = ManagementFactory.getPlatformMBeanServer();
-        } else {
-            serverConnection = getNetworkConnection();
-        }
+        MBeanServerConnection serverConnection = getServerConnection();
 
         if (log.isDebugEnabled()) {
             log.debug("Sending message to JMX MBeanServer server: '" + getEndpointConfiguration().getServerUrl() + "'");
@@ -166,6 +212,8 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
                         correlationManager.store(correlationKey, JmxMessage.result());
                     }
                 }
+            } else if (getEndpointConfiguration().getNotificationBufferSize() > 0) {
+                subscribe(objectName, correlationKey, serverConnection);
             } else {
                 addNotificationListener(objectName, correlationKey, serverConnection);
             }
@@ -176,15 +224,36 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Gets the platform mBean server or the network connection to the remote mBean server. Network connection is established
+     * on first access and reused until the connection is lost.
+     * @return
+     */
+    private MBeanServerConnection getServerConnection() {
+        if (getEndpointConfiguration().getServerUrl().equals("platform")) {
+            return ManagementFactory.getPlatformMBeanServer();
+        }
+
+        synchronized (this) {
+            if (networkConnection == null) {
+                networkConnection = getNetworkConnection();
+            }
+
+            return networkConnection;
+        }
+    }
+
     /**
      * Establish network connection to remote mBean server.
      * @return
      */
     private MBeanServerConnection getNetworkConnection() {
+        closeNetworkConnector();
+
         try {
             JMXServiceURL url = new JMXServiceURL(getEndpointConfiguration().getServerUrl());
             String[] creds = {getEndpointConfiguration().getUsername(), getEndpointConfiguration().getPassword()};
-            JMXConnector networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
+            networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
             connectionId = networkConnector.getConnectionId();
 
             networkConnector.addConnectionNotificationListener(this, null, null);
@@ -213,7 +282,18 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        Message message = correlationManager.find(selector, timeout);
+        ObjectName subscription = selector != null ? subscriptionKeys.get(selector) : null;
+
+        Message message;
+        if (subscription != null) {
+            try {
+                message = receiveNotification(subscription, timeout);
+            } finally {
+                subscriptionKeys.remove(selector, subscription);
+            }
+        } else {
+            message = correlationManager.find(selector, timeout);
+        }
 
         if (message == null) {
             throw new MessageTimeoutException(timeout, getEndpointConfiguration().getServerUrl());
@@ -227,7 +307,11 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         JMXConnectionNotification connectionNotification = (JMXConnectionNotification) notification;
         if (connectionNotification.getConnectionId().equals(getConnectionId()) && connectionLost(connectionNotification)) {
             log.warn("JmxClient lost JMX connection for : {}", getEndpointConfiguration().getServerUrl());
-            if (getEndpointConfiguration().isAutoReconnect()) {
+            synchronized (this) {
+                networkConnection = null;
+            }
+
+            if (getEndpointConfiguration().isAutoReconnect() && !scheduledExecutor.isShutdown()) {
                 scheduleReconnect();
             }
         }
@@ -252,10 +336,19 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
             @Override
             public void run() {
                 try {
-                    MBeanServerConnection serverConnection = getNetworkConnection();
+                    MBeanServerConnection serverConnection = getServerConnection();
                     if (notificationListener != null) {
                         serverConnection.addNotificationListener(objectName, notificationListener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
                     }
+
+                    for (Map.Entry<ObjectName, NotificationListener> subscription : subscriptions.entrySet()) {
+                        try {
+                            serverConnection.addNotificationListener(subscription.getKey(), subscription.getValue(), getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
+                        } catch (InstanceNotFoundException e) {
+                            log.warn("Removing subscription of unregistered MBean '{}'", subscription.getKey());
+                            removeSubscription(subscription.getKey());
+                        }
+                    }
                 } catch (Exception e) {
                     log.warn("Failed to reconnect to JMX MBean server. {}", e.getMessage());
                     scheduleReconnect();
@@ -289,6 +382,281 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Subscribe to notifications of given object name in subscription mode. Object names are subscribed only once,
+     * subsequent subscriptions just add the correlation key so receive operations get the buffered notifications.
+     * @param objectName
+     * @param correlationKey
+     * @param serverConnection
+     */
+    private synchronized void subscribe(final ObjectName objectName, String correlationKey, MBeanServerConnection serverConnection) {
+        if (!subscriptions.containsKey(objectName)) {
+            NotificationListener listener = (notification, handback) -> bufferNotification(objectName, notification);
+
+            try {
+                serverConnection.addNotificationListener(objectName, listener, getEndpointConfiguration().getNotificationFilter(), getEndpointConfiguration().getNotificationHandback());
+            } catch (InstanceNotFoundException e) {
+                throw new CitrusRuntimeException("Failed to find object name instance", e);
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to add notification listener", e);
+            }
+
+            subscriptions.put(objectName, listener);
+        }
+
+        subscriptionKeys.put(correlationKey, objectName);
+    }
+
+    /**
+     * Removes the notification listener of given managed bean in subscription mode. Buffered notifications of this
+     * managed bean are discarded.
+     * @param mbean the object name
+     */
+    public synchronized void unsubscribe(String mbean) {
+        ObjectName objectName;
+        try {
+            objectName = new ObjectName(mbean);
+        } catch (MalformedObjectNameException e) {
+            throw new CitrusRuntimeException("Failed to create object name", e);
+        }
+
+        NotificationListener listener = subscriptions.get(objectName);
+        if (listener == null) {
+            return;
+        }
+
+        try {
+            getServerConnection().removeNotificationListener(objectName, listener);
+        } catch (JMException | IOException e) {
+            log.warn("Failed to remove notification listener for MBean '{}': {}", objectName, e.getMessage());
+        }
+
+        removeSubscription(objectName);
+    }
+
+    /**
+     * Removes subscription of given object name together with its correlation keys and buffered notifications.
+     * @param objectName
+     */
+    private synchronized void removeSubscription(ObjectName objectName) {
+        subscriptions.remove(objectName);
+        subscriptionKeys.values().removeIf(objectName::equals);
+
+        notificationLock.lock();
+        try {
+            notifications.removeIf(notification -> notification.objectName.equals(objectName));
+        } finally {
+            notificationLock.unlock();
+        }
+    }
+
+    /**
+     * Notification listener callback adding notifications to the buffer.
+     * @param objectName
+     * @param notification
+     */
+    private void bufferNotification(ObjectName objectName, Notification notification) {
+        Message message = new DefaultMessage(notification.getMessage())
+                .setHeader(JmxMessageHeaders.JMX_MBEAN, objectName.toString())
+                .setHeader(JmxMessageHeaders.JMX_NOTIFICATION_TYPE, notification.getType())
+                .setHeader(JmxMessageHeaders.JMX_NOTIFICATION_SEQUENCE, notification.getSequenceNumber());
+
+        notificationLock.lock();
+        try {
+            if (notifications.size() >= getEndpointConfiguration().getNotificationBufferSize()) {
+                droppedNotifications.incrementAndGet();
+                log.warn("JmxClient notification buffer is full - dropped notification of MBean '" + objectName + "'");
+                return;
+            }
+
+            notifications.addLast(new BufferedNotification(objectName, message));
+            notificationArrived.signalAll();
+        } finally {
+            notificationLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the next buffered notification of given object name.
+     * @param objectName
+     * @param timeout
+     * @return the notification message or null when timed out
+     */
+    private Message receiveNotification(ObjectName objectName, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        notificationLock.lock();
+        try {
+            Message message = takeNotification(objectName);
+            while (message == null && nanosLeft > 0) {
+                try {
+                    nanosLeft = notificationArrived.awaitNanos(nanosLeft);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Thread interrupted while waiting for JMX notification");
+                    return null;
+                }
+
+                message = takeNotification(objectName);
+            }
+
+            return message;
+        } finally {
+            notificationLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered notification of given object name. Caller must hold the notification lock.
+     * @param objectName
+     * @return
+     */
+    private Message takeNotification(ObjectName objectName) {
+        Iterator<BufferedNotification> iterator = notifications.iterator();
+        while (iterator.hasNext()) {
+            BufferedNotification notification = iterator.next();
+            if (notification.objectName.equals(objectName)) {
+                iterator.remove();
+                return notification.message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Starts sampling the given attribute at a fixed rate.
+     * @param mbean the object name
+     * @param attribute the attribute name
+     * @param interval sample interval in milliseconds
+     * @return the watch holding the collected samples
+     */
+    public JmxAttributeWatch watchAttribute(String mbean, String attribute, long interval) {
+        return watchAttribute(mbean, attribute, null, interval);
+    }
+
+    /**
+     * Starts sampling the given attribute at a fixed rate. Inner path selects an item of composite attribute values
+     * such as the used heap of the memory usage.
+     * @param mbean the object name
+     * @param attribute the attribute name
+     * @param innerPath optional composite data item, may be null
+     * @param interval sample interval in milliseconds
+     * @return the watch holding the collected samples
+     */
+    public JmxAttributeWatch watchAttribute(String mbean, String attribute, String innerPath, long interval) {
+        JmxAttributeWatch watch;
+        try {
+            watch = new JmxAttributeWatch(new ObjectName(mbean), attribute, innerPath, getEndpointConfiguration().getWatchBufferSize());
+        } catch (MalformedObjectNameException e) {
+            throw new CitrusRuntimeException("Failed to create object name", e);
+        }
+
+        synchronized (this) {
+            if (watchExecutor == null) {
+                watchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "jmx-attribute-watch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            watch.setTask(watchExecutor.scheduleAtFixedRate(() -> watch.sample(this::getServerConnection), 0L, interval, TimeUnit.MILLISECONDS));
+        }
+
+        watches.add(watch);
+        return watch;
+    }
+
+    /**
+     * Gets all attribute watches started on this client.
+     * @return
+     */
+    public List<JmxAttributeWatch> getAttributeWatches() {
+        return new ArrayList<>(watches);
+    }
+
+    @Override
+    public void destroy() {
+        watches.forEach(JmxAttributeWatch::stop);
+
+        synchronized (this) {
+            if (watchExecutor != null) {
+                watchExecutor.shutdownNow();
+                watchExecutor = null;
+            }
+        }
+
+        scheduledExecutor.shutdownNow();
+
+        MBeanServerConnection serverConnection;
+        if (getEndpointConfiguration().getServerUrl().equals("platform")) {
+            serverConnection = ManagementFactory.getPlatformMBeanServer();
+        } else {
+            serverConnection = networkConnection;
+        }
+
+        if (serverConnection != null) {
+            for (Map.Entry<ObjectName, NotificationListener> subscription : subscriptions.entrySet()) {
+                try {
+                    serverConnection.removeNotificationListener(subscription.getKey(), subscription.getValue());
+                } catch (JMException | IOException e) {
+                    log.warn("Failed to remove notification listener for MBean '{}': {}", subscription.getKey(), e.getMessage());
+                }
+            }
+        }
+        subscriptions.clear();
+        subscriptionKeys.clear();
+
+        synchronized (this) {
+            closeNetworkConnector();
+            networkConnection = null;
+        }
+    }
+
+    /**
+     * Closes the network connector of a previous connection. The connection notification listener is removed first
+     * so closing the connector does not trigger another reconnect. Caller must hold the client monitor.
+     */
+    private void closeNetworkConnector() {
+        if (networkConnector != null) {
+            try {
+                networkConnector.removeConnectionNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                log.debug("Connection notification listener already removed", e);
+            }
+
+            try {
+                networkConnector.close();
+            } catch (IOException e) {
+                log.warn("Failed to close JMX connection", e);
+            }
+
+            networkConnector = null;
+        }
+    }
+
+    /**
+     * Gets the number of notifications currently buffered.
+     * @return
+     */
+    public int getNotificationBufferDepth() {
+        notificationLock.lock();
+        try {
+            return notifications.size();
+        } finally {
+            notificationLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of notifications dropped because the buffer was full.
+     * @return
+     */
+    public long getDroppedNotifications() {
+        return droppedNotifications.get();
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
@@ -316,4 +684,17 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     public void setConnectionId(String connectionId) {
         this.connectionId = connectionId;
     }
+
+    /**
+     * Buffered notification message with the object name of the emitting managed bean.
+     */
+    private static class BufferedNotification {
+        private final ObjectName objectName;
+        private final Message message;
+
+        BufferedNotification(ObjectName objectName, Message message) {
+            this.objectName = objectName;
+            this.message = message;
+        }
+    }
 }
@@ -96,6 +96,26 @@ public class JmxClientBuilder extends AbstractEndpointBuilder<JmxClient> {
         return this;
     }
 
+    /**
+     * Sets the notification buffer size enabling notification subscription mode.
+     * @param notificationBufferSize
+     * @return
+     */
+    public JmxClientBuilder notificationBufferSize(int notificationBufferSize) {
+        endpoint.getEndpointConfiguration().setNotificationBufferSize(notificationBufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of samples kept per attribute watch.
+     * @param watchBufferSize
+     * @return
+     */
+    public JmxClientBuilder watchBufferSize(int watchBufferSize) {
+        endpoint.getEndpointConfiguration().setWatchBufferSize(watchBufferSize);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -68,6 +68,18 @@ public @interface JmxClientConfig {
      */
     String notificationFilter() default  "";
 
+    /**
+     * Notification buffer size.
+     * @return
+     */
+    int notificationBufferSize() default 0;
+
+    /**
+     * Attribute watch buffer size.
+     * @return
+     */
+    int watchBufferSize() default 1000;
+
     /**
      * Message converter.
      * @return
@@ -54,6 +54,9 @@ public class JmxClientConfigParser implements AnnotationConfigParser<JmxClientCo
             builder.notificationFilter(referenceResolver.resolve(annotation.notificationFilter(), NotificationFilter.class));
         }
 
+        builder.notificationBufferSize(annotation.notificationBufferSize());
+        builder.watchBufferSize(annotation.watchBufferSize());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), JmxMessageConverter.class));
         }
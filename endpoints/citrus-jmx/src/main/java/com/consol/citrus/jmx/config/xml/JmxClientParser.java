@@ -49,6 +49,8 @@ public class JmxClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-correlator"), "correlator");
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("notification-filter"), "notificationFilter");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("notification-buffer-size"), "notificationBufferSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("watch-buffer-size"), "watchBufferSize");
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
     }
@@ -61,6 +61,12 @@ public class JmxEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Optional notification handback */
     private Object notificationHandback;
 
+    /** Maximum number of buffered notifications in subscription mode, zero disables subscription mode */
+    private int notificationBufferSize = 0;
+
+    /** Maximum number of samples kept per attribute watch */
+    private int watchBufferSize = 1000;
+
     /** Marshaller converts from XML to JMX mbean invocation objects */
     private JmxMarshaller marshaller = new JmxMarshaller();
 
@@ -278,6 +284,42 @@ public class JmxEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.notificationHandback = notificationHandback;
     }
 
+    /**
+     * Gets the value of the notificationBufferSize property.
+     *
+     * @return the notificationBufferSize
+     */
+    public int getNotificationBufferSize() {
+        return notificationBufferSize;
+    }
+
+    /**
+     * Sets the notificationBufferSize property.
+     *
+     * @param notificationBufferSize
+     */
+    public void setNotificationBufferSize(int notificationBufferSize) {
+        this.notificationBufferSize = notificationBufferSize;
+    }
+
+    /**
+     * Gets the value of the watchBufferSize property.
+     *
+     * @return the watchBufferSize
+     */
+    public int getWatchBufferSize() {
+        return watchBufferSize;
+    }
+
+    /**
+     * Sets the watchBufferSize property.
+     *
+     * @param watchBufferSize
+     */
+    public void setWatchBufferSize(int watchBufferSize) {
+        this.watchBufferSize = watchBufferSize;
+    }
+
     /**
      * Gets the value of the marshaller property.
      *
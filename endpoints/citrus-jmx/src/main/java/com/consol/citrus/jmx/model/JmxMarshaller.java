@@ -16,16 +16,16 @@
 
 package com.consol.citrus.jmx.model;
 
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxMarshaller extends Jaxb2Marshaller {
+public class JmxMarshaller extends PooledJaxb2Marshaller {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmxMarshaller.class);
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.client;
+
+import javax.management.MBeanServer;
+import javax.management.Notification;
+import javax.management.NotificationBroadcasterSupport;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+import java.lang.management.ManagementFactory;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.exceptions.MessageTimeoutException;
+import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.jmx.message.JmxMessageHeaders;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.SocketUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmxClientTest extends AbstractTestNGUnitTest {
+
+    private static final String TICKER_MBEAN = "com.consol.citrus.jmx.client:type=Ticker";
+
+    private final Ticker ticker = new Ticker();
+
+    @BeforeClass
+    public void registerMBean() throws Exception {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(ticker, new ObjectName(TICKER_MBEAN));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void unregisterMBean() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer.isRegistered(new ObjectName(TICKER_MBEAN))) {
+            mBeanServer.unregisterMBean(new ObjectName(TICKER_MBEAN));
+        }
+    }
+
+    @Test
+    public void testNotificationSubscription() {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .notificationBufferSize(10)
+                .build();
+
+        try {
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+
+            ticker.tick("tick-1");
+            ticker.tick("tick-2");
+
+            Message first = jmxClient.receive(context, 1000L);
+            Assert.assertEquals(first.getPayload(String.class), "tick-1");
+            Assert.assertEquals(first.getHeader(JmxMessageHeaders.JMX_MBEAN), TICKER_MBEAN);
+            Assert.assertEquals(first.getHeader(JmxMessageHeaders.JMX_NOTIFICATION_TYPE), Ticker.TICK);
+
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+            Message second = jmxClient.receive(context, 1000L);
+            Assert.assertEquals(second.getPayload(String.class), "tick-2");
+            Assert.assertEquals(jmxClient.getNotificationBufferDepth(), 0);
+            Assert.assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(jmxClient, "subscriptionKeys")).isEmpty());
+        } finally {
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testNotificationBlockingReceive() {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .notificationBufferSize(10)
+                .build();
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+
+            executor.schedule(() -> ticker.tick("delayed"), 200L, TimeUnit.MILLISECONDS);
+
+            Message message = jmxClient.receive(context, 5000L);
+            Assert.assertEquals(message.getPayload(String.class), "delayed");
+        } finally {
+            executor.shutdownNow();
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testNotificationBufferOverflow() {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .notificationBufferSize(2)
+                .build();
+
+        try {
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+
+            ticker.tick("tick-1");
+            ticker.tick("tick-2");
+            ticker.tick("tick-3");
+
+            Assert.assertEquals(jmxClient.getNotificationBufferDepth(), 2);
+            Assert.assertEquals(jmxClient.getDroppedNotifications(), 1L);
+
+            Assert.assertEquals(jmxClient.receive(context, 1000L).getPayload(String.class), "tick-1");
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+            Assert.assertEquals(jmxClient.receive(context, 1000L).getPayload(String.class), "tick-2");
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+            Assert.expectThrows(MessageTimeoutException.class, () -> jmxClient.receive(context, 100L));
+            Assert.assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(jmxClient, "subscriptionKeys")).isEmpty());
+        } finally {
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testNotificationUnsubscribe() {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .notificationBufferSize(10)
+                .timeout(100L)
+                .build();
+
+        try {
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN), context);
+
+            ticker.tick("tick-1");
+            Assert.assertEquals(jmxClient.getNotificationBufferDepth(), 1);
+
+            jmxClient.unsubscribe(TICKER_MBEAN);
+            Assert.assertEquals(jmxClient.getNotificationBufferDepth(), 0);
+
+            ticker.tick("tick-2");
+            Assert.assertEquals(jmxClient.getNotificationBufferDepth(), 0);
+            Assert.expectThrows(MessageTimeoutException.class, () -> jmxClient.receive(context, 100L));
+        } finally {
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testReconnectClosesPreviousConnection() throws Exception {
+        int port = SocketUtils.findAvailableTcpPort();
+        Registry registry = LocateRegistry.createRegistry(port);
+        JMXServiceURL serviceUrl = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://localhost:" + port + "/citrus");
+        JMXConnectorServer connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(serviceUrl, null, ManagementFactory.getPlatformMBeanServer());
+        connectorServer.start();
+
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl(serviceUrl.toString())
+                .autoReconnect(false)
+                .build();
+
+        try {
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN).attribute("Count"), context);
+            String connectionId = jmxClient.getConnectionId();
+            Assert.assertEquals(connectorServer.getConnectionIds().length, 1);
+
+            jmxClient.handleNotification(new JMXConnectionNotification(JMXConnectionNotification.FAILED, this, connectionId, 1L, "lost", null), null);
+            jmxClient.send(JmxMessage.invocation(TICKER_MBEAN).attribute("Count"), context);
+
+            Assert.assertNotEquals(jmxClient.getConnectionId(), connectionId);
+            Assert.assertEquals(connectorServer.getConnectionIds(), new String[] { jmxClient.getConnectionId() });
+        } finally {
+            jmxClient.destroy();
+            connectorServer.stop();
+            UnicastRemoteObject.unexportObject(registry, true);
+        }
+    }
+
+    @Test
+    public void testAttributeWatch() throws Exception {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .watchBufferSize(3)
+                .build();
+
+        try {
+            JmxAttributeWatch watch = jmxClient.watchAttribute(TICKER_MBEAN, "Count", 10L);
+
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (watch.getSampleCount() < 3 && System.currentTimeMillis() < deadline) {
+                ticker.count.incrementAndGet();
+                Thread.sleep(10L);
+            }
+
+            Assert.assertEquals(watch.getSampleCount(), 3);
+            Assert.assertTrue(watch.isRunning());
+            Assert.assertEquals(jmxClient.getAttributeWatches().size(), 1);
+
+            watch.stop();
+            Assert.assertFalse(watch.isRunning());
+
+            double max = watch.getMax().orElseThrow(AssertionError::new);
+            double min = watch.getMin().orElseThrow(AssertionError::new);
+            Assert.assertTrue(max >= min);
+            Assert.assertEquals(max, ((Number) watch.getLatest().orElseThrow(AssertionError::new).getValue()).doubleValue());
+        } finally {
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testAttributeWatchInnerPath() throws Exception {
+        JmxClient jmxClient = new JmxClientBuilder()
+                .serverUrl("platform")
+                .build();
+
+        try {
+            JmxAttributeWatch watch = jmxClient.watchAttribute("java.lang:type=Memory", "HeapMemoryUsage", "used", 10L);
+
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (watch.getSampleCount() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            Assert.assertTrue(watch.getSampleCount() >= 2);
+            Assert.assertTrue(watch.getMax().orElseThrow(AssertionError::new) > 0);
+            Assert.assertEquals(watch.getFailedSamples(), 0L);
+        } finally {
+            jmxClient.destroy();
+        }
+
+        Assert.assertTrue(jmxClient.getAttributeWatches().stream().noneMatch(JmxAttributeWatch::isRunning));
+    }
+
+    public interface TickerMBean {
+        long getCount();
+    }
+
+    public static class Ticker extends NotificationBroadcasterSupport implements TickerMBean {
+        static final String TICK = "citrus.tick";
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sequence = new AtomicLong();
+
+        void tick(String message) {
+            sendNotification(new Notification(TICK, this, sequence.incrementAndGet(), message));
+        }
+
+        @Override
+        public long getCount() {
+            return count.get();
+        }
+    }
+}
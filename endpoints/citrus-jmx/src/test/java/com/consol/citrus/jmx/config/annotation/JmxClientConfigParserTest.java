@@ -57,6 +57,8 @@ public class JmxClientConfigParserTest extends AbstractTestNGUnitTest {
             pollingInterval=100,
             timeout=10000L,
             notificationFilter="notificationFilter",
+            notificationBufferSize=100,
+            watchBufferSize=50,
             messageConverter="messageConverter",
             correlator="messageCorrelator",
             actor="testActor")
@@ -99,6 +101,8 @@ public class JmxClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(jmxClient1.getEndpointConfiguration().isAutoReconnect());
         Assert.assertEquals(jmxClient1.getEndpointConfiguration().getDelayOnReconnect(), 1000L);
         Assert.assertNull(jmxClient1.getEndpointConfiguration().getNotificationFilter());
+        Assert.assertEquals(jmxClient1.getEndpointConfiguration().getNotificationBufferSize(), 0);
+        Assert.assertEquals(jmxClient1.getEndpointConfiguration().getWatchBufferSize(), 1000);
         Assert.assertNotNull(jmxClient1.getEndpointConfiguration().getMessageConverter());
         Assert.assertNotNull(jmxClient1.getEndpointConfiguration().getCorrelator());
         Assert.assertEquals(jmxClient1.getEndpointConfiguration().getTimeout(), 5000L);
@@ -112,6 +116,8 @@ public class JmxClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(jmxClient2.getEndpointConfiguration().isAutoReconnect());
         Assert.assertEquals(jmxClient2.getEndpointConfiguration().getDelayOnReconnect(), 5000L);
         Assert.assertEquals(jmxClient2.getEndpointConfiguration().getNotificationFilter(), notificationFilter);
+        Assert.assertEquals(jmxClient2.getEndpointConfiguration().getNotificationBufferSize(), 100);
+        Assert.assertEquals(jmxClient2.getEndpointConfiguration().getWatchBufferSize(), 50);
         Assert.assertEquals(jmxClient2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertEquals(jmxClient2.getEndpointConfiguration().getCorrelator(), messageCorrelator);
         Assert.assertEquals(jmxClient2.getEndpointConfiguration().getTimeout(), 10000L);
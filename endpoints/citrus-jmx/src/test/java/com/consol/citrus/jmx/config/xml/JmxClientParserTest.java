@@ -46,6 +46,8 @@ public class JmxClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertFalse(jmxClient.getEndpointConfiguration().isAutoReconnect());
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getDelayOnReconnect(), 1000L);
         Assert.assertNull(jmxClient.getEndpointConfiguration().getNotificationFilter());
+        Assert.assertEquals(jmxClient.getEndpointConfiguration().getNotificationBufferSize(), 0);
+        Assert.assertEquals(jmxClient.getEndpointConfiguration().getWatchBufferSize(), 1000);
         Assert.assertNotNull(jmxClient.getEndpointConfiguration().getMessageConverter());
         Assert.assertNotNull(jmxClient.getEndpointConfiguration().getCorrelator());
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getTimeout(), 5000L);
@@ -60,6 +62,8 @@ public class JmxClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertTrue(jmxClient.getEndpointConfiguration().isAutoReconnect());
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getDelayOnReconnect(), 5000L);
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getNotificationFilter(), beanDefinitionContext.getBean("notificationFilter", NotificationFilter.class));
+        Assert.assertEquals(jmxClient.getEndpointConfiguration().getNotificationBufferSize(), 100);
+        Assert.assertEquals(jmxClient.getEndpointConfiguration().getWatchBufferSize(), 50);
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter", JmxMessageConverter.class));
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getCorrelator(), beanDefinitionContext.getBean("messageCorrelator", MessageCorrelator.class));
         Assert.assertEquals(jmxClient.getEndpointConfiguration().getTimeout(), 10000L);
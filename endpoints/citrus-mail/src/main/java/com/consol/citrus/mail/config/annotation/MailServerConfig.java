@@ -50,6 +50,24 @@ public @interface MailServerConfig {
      */
     boolean splitMultipart() default false;
 
+    /**
+     * Maximum number of concurrent SMTP sessions.
+     * @return
+     */
+    int maxConnections() default 1000;
+
+    /**
+     * Ingestion queue capacity.
+     * @return
+     */
+    int ingestionQueueCapacity() default 0;
+
+    /**
+     * Number of ingestion worker threads.
+     * @return
+     */
+    int ingestionThreads() default 1;
+
     /**
      * Mail marshaller.
      * @return
@@ -55,6 +55,10 @@ public class MailServerConfigParser implements AnnotationConfigParser<MailServer
         builder.autoAccept(annotation.autoAccept());
         builder.splitMultipart(annotation.splitMultipart());
 
+        builder.maxConnections(annotation.maxConnections());
+        builder.ingestionQueueCapacity(annotation.ingestionQueueCapacity());
+        builder.ingestionThreads(annotation.ingestionThreads());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), MailMessageConverter.class));
         }
@@ -35,6 +35,9 @@ public class MailServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("port"), "port");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("auto-accept"), "autoAccept");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("split-multipart"), "splitMultipart");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("ingestion-queue-capacity"), "ingestionQueueCapacity");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("ingestion-threads"), "ingestionThreads");
 
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("message-converter"), "messageConverter");
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("marshaller"), "marshaller");
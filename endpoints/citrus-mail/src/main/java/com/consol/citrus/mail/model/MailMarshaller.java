@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import com.consol.citrus.xml.StringResult;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -47,7 +48,7 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     private static final String MAIL_MARSHALLER_TYPE_PROPERTY = "citrus.mail.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private Jaxb2Marshaller jaxbDelegate = new PooledJaxb2Marshaller();
 
     /** Message type format: XML or JSON */
     private String type = MessageType.XML.name();
@@ -20,10 +20,18 @@ import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
 import javax.xml.transform.Source;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Stack;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.mail.client.MailEndpointConfiguration;
@@ -38,7 +46,10 @@ import com.consol.citrus.mail.model.MailRequest;
 import com.consol.citrus.mail.model.MailResponse;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.server.AbstractServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.util.FileCopyUtils;
 import org.subethamail.smtp.RejectException;
 import org.subethamail.smtp.helper.SimpleMessageListener;
 import org.subethamail.smtp.helper.SimpleMessageListenerAdapter;
@@ -55,11 +66,20 @@ import org.subethamail.smtp.server.SMTPServer;
  * In case of incoming multipart mail messages the server is able to split the body parts into separate XML messages
  * handled by the endpoint adapter.
  *
+ * When an ingestion queue capacity is set the server accepts incoming mails into a bounded queue and answers the SMTP
+ * session right away. Worker threads parse the queued mails and forward them to the endpoint adapter. Senders are
+ * blocked for the default timeout when the queue is full and get rejected afterwards. With auto accept disabled the
+ * accept request is sent to the endpoint adapter by the worker thread before the queued mail is forwarded. Mails declined
+ * by the accept response are dropped as the SMTP session has already been answered.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
 public class MailServer extends AbstractServer implements SimpleMessageListener {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(MailServer.class);
+
     /** Server port */
     private int port = 25;
 
@@ -81,28 +101,132 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
     /** Should split multipart messages for each mime part */
     private boolean splitMultipart = false;
 
+    /** Maximum number of concurrent SMTP sessions each running on its own thread */
+    private int maxConnections = 1000;
+
+    /** Capacity of the ingestion queue, zero or less delivers mails synchronously */
+    private int ingestionQueueCapacity = 0;
+
+    /** Number of worker threads forwarding queued mails to the endpoint adapter */
+    private int ingestionThreads = 1;
+
     /** Smtp server instance */
     private SMTPServer smtpServer;
 
+    /** Queued mails waiting to be forwarded */
+    private volatile BlockingQueue<QueuedMail> ingestionQueue;
+
+    /** Workers forwarding queued mails */
+    private ExecutorService ingestionExecutor;
+
+    /** Throughput counters */
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong receivedBytes = new AtomicLong();
+    private final AtomicLong rejectedMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong processedMessages = new AtomicLong();
+
     @Override
     protected void startup() {
+        if (ingestionQueueCapacity > 0) {
+            startIngestion();
+        }
+
         smtpServer = new SMTPServer(new SimpleMessageListenerAdapter(this));
         smtpServer.setSoftwareName(getName());
         smtpServer.setPort(port);
+        smtpServer.setMaxConnections(maxConnections);
         smtpServer.start();
     }
 
     @Override
     protected void shutdown() {
         smtpServer.stop();
+        stopIngestion();
+    }
+
+    /**
+     * Creates the bounded ingestion queue and starts the worker threads consuming the queue.
+     */
+    protected synchronized void startIngestion() {
+        if (ingestionExecutor != null) {
+            return;
+        }
+
+        BlockingQueue<QueuedMail> queue = new ArrayBlockingQueue<>(ingestionQueueCapacity);
+        ingestionQueue = queue;
+        ingestionExecutor = Executors.newFixedThreadPool(Math.max(ingestionThreads, 1), runnable -> {
+            Thread thread = new Thread(runnable, getName() + "-ingestion");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < Math.max(ingestionThreads, 1); i++) {
+            ingestionExecutor.execute(() -> consumeIngestionQueue(queue));
+        }
+    }
+
+    /**
+     * Stops the ingestion worker threads. Mails still waiting in the queue are discarded.
+     */
+    protected synchronized void stopIngestion() {
+        if (ingestionExecutor != null) {
+            ingestionExecutor.shutdownNow();
+            ingestionExecutor = null;
+        }
+
+        BlockingQueue<QueuedMail> queue = ingestionQueue;
+        ingestionQueue = null;
+
+        if (queue != null && !queue.isEmpty()) {
+            LOG.warn(String.format("Discarding %s queued mail messages on server shutdown", queue.size()));
+            queue.clear();
+        }
+    }
+
+    /**
+     * Worker loop taking queued mails and forwarding them to the endpoint adapter. When auto accept is disabled the accept
+     * request is handled first and declined mails are dropped. Responses are ignored as the SMTP session has already been answered.
+     * @param queue the ingestion queue the worker has been started for
+     */
+    private void consumeIngestionQueue(BlockingQueue<QueuedMail> queue) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                QueuedMail mail = queue.take();
+                try {
+                    if (autoAccept || invokeAccept(mail.from, mail.recipient)) {
+                        invokeEndpointAdapter(convertInbound(mail.content));
+                    } else {
+                        droppedMessages.incrementAndGet();
+                        LOG.info(String.format("Dropped queued mail from '%s' to '%s' as it has not been accepted", mail.from, mail.recipient));
+                    }
+                } finally {
+                    processedMessages.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                LOG.error("Failed to process queued mail message", e);
+            }
+        }
     }
 
     @Override
     public boolean accept(String from, String recipient) {
-        if (autoAccept) {
+        if (autoAccept || ingestionQueue != null) {
             return true;
         }
 
+        return invokeAccept(from, recipient);
+    }
+
+    /**
+     * Invokes the endpoint adapter with accept request and reads the accept outcome from the response.
+     * @param from
+     * @param recipient
+     * @return
+     */
+    private boolean invokeAccept(String from, String recipient) {
         Message response = getEndpointAdapter().handleMessage(
                 MailMessage.accept(from, recipient)
                            .marshaller(marshaller));
@@ -127,23 +251,75 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
 
     @Override
     public void deliver(String from, String recipient, InputStream data) {
+        byte[] content;
         try {
-            MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), data));
-            MailMessage request = messageConverter.convertInbound(mimeMailMessage, getEndpointConfiguration(), null);
-            Message response = invokeEndpointAdapter(request);
-
-            if (response != null && response.getPayload() != null) {
-                MailResponse mailResponse = null;
-                if (response.getPayload() instanceof MailResponse) {
-                    mailResponse = (MailResponse) response.getPayload();
-                } else if (response.getPayload() instanceof String) {
-                    mailResponse = (MailResponse) marshaller.unmarshal(response.getPayload(Source.class));
-                }
+            content = FileCopyUtils.copyToByteArray(data);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read mail message data", e);
+        }
 
-                if (mailResponse != null && mailResponse.getCode() != MailResponse.OK_CODE) {
-                    throw new RejectException(mailResponse.getCode(), mailResponse.getMessage());
-                }
+        BlockingQueue<QueuedMail> queue = ingestionQueue;
+        if (queue != null) {
+            enqueue(queue, new QueuedMail(from, recipient, content));
+            return;
+        }
+
+        receivedMessages.incrementAndGet();
+        receivedBytes.addAndGet(content.length);
+
+        Message response;
+        try {
+            response = invokeEndpointAdapter(convertInbound(content));
+        } finally {
+            processedMessages.incrementAndGet();
+        }
+
+        if (response != null && response.getPayload() != null) {
+            MailResponse mailResponse = null;
+            if (response.getPayload() instanceof MailResponse) {
+                mailResponse = (MailResponse) response.getPayload();
+            } else if (response.getPayload() instanceof String) {
+                mailResponse = (MailResponse) marshaller.unmarshal(response.getPayload(Source.class));
+            }
+
+            if (mailResponse != null && mailResponse.getCode() != MailResponse.OK_CODE) {
+                throw new RejectException(mailResponse.getCode(), mailResponse.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Adds the raw mail data to the ingestion queue. Waits for the default timeout when the queue is full
+     * and rejects the mail when no space becomes available.
+     * @param queue
+     * @param mail
+     */
+    private void enqueue(BlockingQueue<QueuedMail> queue, QueuedMail mail) {
+        try {
+            if (!queue.offer(mail, getDefaultTimeout(), TimeUnit.MILLISECONDS)) {
+                rejectedMessages.incrementAndGet();
+                throw new RejectException(452, "Mail queue is full - try again later");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedMessages.incrementAndGet();
+            throw new RejectException(451, "Mail delivery interrupted");
+        }
+
+        receivedMessages.incrementAndGet();
+        receivedBytes.addAndGet(mail.content.length);
+    }
+
+    /**
+     * Parses the raw mail data and converts it to a mail message. The message content is marshalled lazily when
+     * the payload is accessed.
+     * @param content
+     * @return
+     */
+    private MailMessage convertInbound(byte[] content) {
+        try {
+            MimeMailMessage mimeMailMessage = new MimeMailMessage(new MimeMessage(getSession(), new ByteArrayInputStream(content)));
+            return messageConverter.convertInbound(mimeMailMessage, getEndpointConfiguration(), null);
         } catch (MessagingException e) {
             throw new CitrusRuntimeException(e);
         }
@@ -215,6 +391,21 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
                 .body(body, contentType);
     }
 
+    /**
+     * Raw mail data queued for ingestion together with the SMTP envelope sender and recipient.
+     */
+    private static class QueuedMail {
+        private final String from;
+        private final String recipient;
+        private final byte[] content;
+
+        QueuedMail(String from, String recipient, byte[] content) {
+            this.from = from;
+            this.recipient = recipient;
+            this.content = content;
+        }
+    }
+
     @Override
     public MailEndpointConfiguration getEndpointConfiguration() {
         MailEndpointConfiguration endpointConfiguration = new MailEndpointConfiguration();
@@ -347,4 +538,101 @@ public class MailServer extends AbstractServer implements SimpleMessageListener
     public void setMessageConverter(MailMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the maximum number of concurrent SMTP sessions.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of concurrent SMTP sessions.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the ingestion queue capacity.
+     * @return
+     */
+    public int getIngestionQueueCapacity() {
+        return ingestionQueueCapacity;
+    }
+
+    /**
+     * Sets the ingestion queue capacity. Zero or less disables queued ingestion.
+     * @param ingestionQueueCapacity
+     */
+    public void setIngestionQueueCapacity(int ingestionQueueCapacity) {
+        this.ingestionQueueCapacity = ingestionQueueCapacity;
+    }
+
+    /**
+     * Gets the number of ingestion worker threads.
+     * @return
+     */
+    public int getIngestionThreads() {
+        return ingestionThreads;
+    }
+
+    /**
+     * Sets the number of ingestion worker threads.
+     * @param ingestionThreads
+     */
+    public void setIngestionThreads(int ingestionThreads) {
+        this.ingestionThreads = ingestionThreads;
+    }
+
+    /**
+     * Gets the number of mails currently waiting in the ingestion queue.
+     * @return
+     */
+    public int getQueuedMessages() {
+        BlockingQueue<QueuedMail> queue = ingestionQueue;
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Gets the number of mails received by this server.
+     * @return
+     */
+    public long getReceivedMessages() {
+        return receivedMessages.get();
+    }
+
+    /**
+     * Gets the total number of mail data bytes received by this server.
+     * @return
+     */
+    public long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    /**
+     * Gets the number of mails rejected because the ingestion queue was full or the delivery was interrupted.
+     * @return
+     */
+    public long getRejectedMessages() {
+        return rejectedMessages.get();
+    }
+
+    /**
+     * Gets the number of queued mails dropped because the accept request was declined.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Gets the number of mails forwarded to the endpoint adapter.
+     * @return
+     */
+    public long getProcessedMessages() {
+        return processedMessages.get();
+    }
 }
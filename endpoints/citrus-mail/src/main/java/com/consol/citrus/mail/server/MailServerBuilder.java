@@ -87,6 +87,36 @@ public class MailServerBuilder extends AbstractServerBuilder<MailServer, MailSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of concurrent SMTP sessions.
+     * @param maxConnections
+     * @return
+     */
+    public MailServerBuilder maxConnections(int maxConnections) {
+        endpoint.setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Enables queued ingestion with given queue capacity.
+     * @param ingestionQueueCapacity
+     * @return
+     */
+    public MailServerBuilder ingestionQueueCapacity(int ingestionQueueCapacity) {
+        endpoint.setIngestionQueueCapacity(ingestionQueueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the number of ingestion worker threads.
+     * @param ingestionThreads
+     * @return
+     */
+    public MailServerBuilder ingestionThreads(int ingestionThreads) {
+        endpoint.setIngestionThreads(ingestionThreads);
+        return this;
+    }
+
     /**
      * Sets the smtpServer property.
      * @param smtpServer
@@ -50,6 +50,9 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @MailServerConfig(autoStart=false,
             autoAccept=false,
+            maxConnections=50,
+            ingestionQueueCapacity=100,
+            ingestionThreads=2,
             port=25000)
     private MailServer mailServer2;
 
@@ -98,6 +101,9 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
         // 1st mail server
         Assert.assertEquals(mailServer1.getName(), "mailServer1");
         Assert.assertEquals(mailServer1.getPort(), 25);
+        Assert.assertEquals(mailServer1.getMaxConnections(), 1000);
+        Assert.assertEquals(mailServer1.getIngestionQueueCapacity(), 0);
+        Assert.assertEquals(mailServer1.getIngestionThreads(), 1);
         Assert.assertFalse(mailServer1.isAutoStart());
         Assert.assertFalse(mailServer1.isSplitMultipart());
         Assert.assertTrue(mailServer1.isAutoAccept());
@@ -107,6 +113,9 @@ public class MailServerConfigParserTest extends AbstractTestNGUnitTest {
         // 2nd mail server
         Assert.assertEquals(mailServer2.getName(), "mailServer2");
         Assert.assertEquals(mailServer2.getPort(), 25000);
+        Assert.assertEquals(mailServer2.getMaxConnections(), 50);
+        Assert.assertEquals(mailServer2.getIngestionQueueCapacity(), 100);
+        Assert.assertEquals(mailServer2.getIngestionThreads(), 2);
         Assert.assertFalse(mailServer2.isAutoStart());
         Assert.assertFalse(mailServer2.isSplitMultipart());
         Assert.assertFalse(mailServer2.isAutoAccept());
@@ -42,6 +42,7 @@ public class MailServerParserTest extends AbstractBeanDefinitionParserTest {
         MailServer server = servers.get("mailServer1");
         Assert.assertEquals(server.getName(), "mailServer1");
         Assert.assertEquals(server.getPort(), 25);
+        Assert.assertEquals(server.getIngestionQueueCapacity(), 0);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertFalse(server.isSplitMultipart());
         Assert.assertTrue(server.isAutoAccept());
@@ -52,6 +53,9 @@ public class MailServerParserTest extends AbstractBeanDefinitionParserTest {
         server = servers.get("mailServer2");
         Assert.assertEquals(server.getName(), "mailServer2");
         Assert.assertEquals(server.getPort(), 25000);
+        Assert.assertEquals(server.getMaxConnections(), 50);
+        Assert.assertEquals(server.getIngestionQueueCapacity(), 100);
+        Assert.assertEquals(server.getIngestionThreads(), 2);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertFalse(server.isSplitMultipart());
         Assert.assertFalse(server.isAutoAccept());
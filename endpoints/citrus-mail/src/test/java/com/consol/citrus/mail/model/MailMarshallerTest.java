@@ -16,10 +16,16 @@
 
 package com.consol.citrus.mail.model;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import com.consol.citrus.xml.StringResult;
 import com.consol.citrus.xml.StringSource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -73,6 +79,59 @@ public class MailMarshallerTest {
         Assert.assertEquals(result.getTo(), "bar@mail.com,copy@mail.com");
     }
 
+    @Test
+    public void testSharedMarshallerContext() throws Exception {
+        PooledJaxb2Marshaller first = new PooledJaxb2Marshaller();
+        first.setClassesToBeBound(AcceptRequest.class, AcceptResponse.class);
+        first.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
+        first.afterPropertiesSet();
+
+        PooledJaxb2Marshaller second = new PooledJaxb2Marshaller();
+        second.setClassesToBeBound(AcceptRequest.class, AcceptResponse.class);
+        second.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
+        second.afterPropertiesSet();
+
+        Assert.assertSame(first.getJaxbContext(), second.getJaxbContext());
+        Assert.assertSame(first.createUnmarshaller(), first.createUnmarshaller());
+        Assert.assertSame(first.createUnmarshaller(), second.createUnmarshaller());
+        Assert.assertSame(first.createMarshaller(), second.createMarshaller());
+
+        String acceptRequest = FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/accept-request.xml"));
+        Assert.assertEquals(((AcceptRequest) first.unmarshal(new StringSource(acceptRequest))).getFrom(), "foo@mail.com");
+        Assert.assertEquals(((AcceptRequest) second.unmarshal(new StringSource(acceptRequest))).getFrom(), "foo@mail.com");
+        Assert.assertEquals(((AcceptRequest) first.unmarshal(new StringSource(acceptRequest))).getFrom(), "foo@mail.com");
+    }
+
+    @Test
+    public void testRelativeSchemaInclude() throws Exception {
+        Path schemaDirectory = Files.createTempDirectory("citrus-schema");
+        Path includedSchema = schemaDirectory.resolve("included.xsd");
+        Path schema = schemaDirectory.resolve("main.xsd");
+        try {
+            Files.write(includedSchema, ("<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"" +
+                    " targetNamespace=\"http://www.citrusframework.org/schema/mail/message\" elementFormDefault=\"qualified\">" +
+                    "<xs:element name=\"accept-request\"><xs:complexType><xs:sequence>" +
+                    "<xs:element name=\"from\" type=\"xs:string\"/><xs:element name=\"to\" type=\"xs:string\"/>" +
+                    "<xs:element name=\"cc\" type=\"xs:string\" minOccurs=\"0\"/><xs:element name=\"bcc\" type=\"xs:string\" minOccurs=\"0\"/>" +
+                    "</xs:sequence></xs:complexType></xs:element></xs:schema>").getBytes(StandardCharsets.UTF_8));
+            Files.write(schema, ("<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\"" +
+                    " targetNamespace=\"http://www.citrusframework.org/schema/mail/message\" elementFormDefault=\"qualified\">" +
+                    "<xs:include schemaLocation=\"included.xsd\"/></xs:schema>").getBytes(StandardCharsets.UTF_8));
+
+            PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+            marshaller.setClassesToBeBound(AcceptRequest.class);
+            marshaller.setSchema(new FileSystemResource(schema));
+            marshaller.afterPropertiesSet();
+
+            String acceptRequest = FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/accept-request.xml"));
+            Assert.assertEquals(((AcceptRequest) marshaller.unmarshal(new StringSource(acceptRequest))).getFrom(), "foo@mail.com");
+        } finally {
+            Files.deleteIfExists(schema);
+            Files.deleteIfExists(includedSchema);
+            Files.deleteIfExists(schemaDirectory);
+        }
+    }
+
     @DataProvider
     public Object[][] mailSourceProvider() {
         return new Object[][] {
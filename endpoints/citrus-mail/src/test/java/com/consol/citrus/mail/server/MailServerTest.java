@@ -35,6 +35,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -514,4 +518,133 @@ public class MailServerTest {
         }
 
     }
+
+    @Test
+    public void testQueuedIngestion() throws IOException {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setIngestionQueueCapacity(10);
+
+        reset(endpointAdapterMock);
+
+        doAnswer(invocation -> {
+            Message message = (Message) invocation.getArguments()[0];
+            Assert.assertEquals(message.getHeader(CitrusMailMessageHeaders.MAIL_SUBJECT), "Testmail");
+            return null;
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        mailServer.startIngestion();
+        try {
+            for (int i = 0; i < 3; i++) {
+                mailServer.deliver("foo@mail.com", "bar@mail.com",
+                        new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+            }
+
+            verify(endpointAdapterMock, timeout(5000L).times(3)).handleMessage(any(Message.class));
+            Assert.assertEquals(mailServer.getReceivedMessages(), 3L);
+            Assert.assertTrue(mailServer.getReceivedBytes() > 0L);
+            Assert.assertEquals(mailServer.getRejectedMessages(), 0L);
+        } finally {
+            mailServer.stopIngestion();
+        }
+    }
+
+    @Test
+    public void testQueuedIngestionAutoAcceptDisabled() throws Exception {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setIngestionQueueCapacity(10);
+        mailServer.setAutoAccept(false);
+
+        reset(endpointAdapterMock);
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Message message = (Message) invocation.getArguments()[0];
+            String payload = message.getPayload(String.class);
+
+            if (payload.contains("accept-request")) {
+                received.add("accept:" + Thread.currentThread().getName());
+                return new DefaultMessage("<accept-response xmlns=\"http://www.citrusframework.org/schema/mail/message\">" +
+                        "<accept>" + payload.contains("bar@mail.com") + "</accept></accept-response>");
+            }
+
+            received.add("mail:" + message.getHeader(CitrusMailMessageHeaders.MAIL_SUBJECT));
+            return null;
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        mailServer.startIngestion();
+        try {
+            Assert.assertTrue(mailServer.accept("foo@mail.com", "bar@mail.com"));
+            Assert.assertTrue(mailServer.accept("foo@mail.com", "other@mail.com"));
+            verify(endpointAdapterMock, never()).handleMessage(any(Message.class));
+
+            mailServer.deliver("foo@mail.com", "bar@mail.com",
+                    new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+            mailServer.deliver("foo@mail.com", "other@mail.com",
+                    new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+
+            verify(endpointAdapterMock, timeout(5000L).times(3)).handleMessage(any(Message.class));
+            long until = System.currentTimeMillis() + 5000L;
+            while (mailServer.getProcessedMessages() < 2L && System.currentTimeMillis() < until) {
+                Thread.sleep(10L);
+            }
+
+            Assert.assertEquals(received.size(), 3L);
+            Assert.assertTrue(received.get(0).startsWith("accept:") && received.get(0).endsWith("-ingestion"));
+            Assert.assertEquals(received.get(1), "mail:Testmail");
+            Assert.assertTrue(received.get(2).startsWith("accept:"));
+            Assert.assertEquals(mailServer.getReceivedMessages(), 2L);
+            Assert.assertEquals(mailServer.getRejectedMessages(), 0L);
+            Assert.assertEquals(mailServer.getDroppedMessages(), 1L);
+        } finally {
+            mailServer.stopIngestion();
+        }
+    }
+
+    @Test
+    public void testQueuedIngestionBackPressure() throws Exception {
+        MailServer mailServer = new MailServer();
+        mailServer.setEndpointAdapter(endpointAdapterMock);
+        mailServer.setIngestionQueueCapacity(1);
+        mailServer.setDefaultTimeout(100L);
+
+        reset(endpointAdapterMock);
+
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processing.countDown();
+            release.await(5000L, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(endpointAdapterMock).handleMessage(any(Message.class));
+
+        mailServer.startIngestion();
+        try {
+            mailServer.deliver("foo@mail.com", "bar@mail.com",
+                    new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+            Assert.assertTrue(processing.await(5000L, TimeUnit.MILLISECONDS));
+
+            mailServer.deliver("foo@mail.com", "bar@mail.com",
+                    new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+            Assert.assertEquals(mailServer.getQueuedMessages(), 1);
+
+            try {
+                mailServer.deliver("foo@mail.com", "bar@mail.com",
+                        new ClassPathResource("text_mail.txt", MailServer.class).getInputStream());
+                Assert.fail("Missing reject exception due to full ingestion queue");
+            } catch (RejectException e) {
+                Assert.assertEquals(e.getCode(), 452);
+            }
+
+            Assert.assertEquals(mailServer.getReceivedMessages(), 2L);
+            Assert.assertEquals(mailServer.getRejectedMessages(), 1L);
+
+            release.countDown();
+            verify(endpointAdapterMock, timeout(5000L).times(2)).handleMessage(any(Message.class));
+        } finally {
+            release.countDown();
+            mailServer.stopIngestion();
+        }
+    }
 }
@@ -76,6 +76,24 @@ public @interface RmiServerConfig {
      */
     boolean createRegistry() default false;
 
+    /**
+     * Object mode skipping XML marshalling.
+     * @return
+     */
+    boolean objectMode() default false;
+
+    /**
+     * Worker pool size.
+     * @return
+     */
+    int workerPoolSize() default 0;
+
+    /**
+     * Worker queue capacity.
+     * @return
+     */
+    int workerQueueCapacity() default 100;
+
     /**
      * Message converter.
      * @return
@@ -62,6 +62,10 @@ public class RmiServerConfigParser implements AnnotationConfigParser<RmiServerCo
 
         builder.remoteInterfaces(annotation.remoteInterfaces());
 
+        builder.objectMode(annotation.objectMode());
+        builder.workerPoolSize(annotation.workerPoolSize());
+        builder.workerQueueCapacity(annotation.workerQueueCapacity());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), RmiMessageConverter.class));
         }
@@ -34,9 +34,12 @@ public class RmiServerParser extends AbstractServerParser {
     protected void parseServer(BeanDefinitionBuilder serverBuilder, Element element, ParserContext parserContext) {
         BeanDefinitionBuilder configurationBuilder = BeanDefinitionBuilder.genericBeanDefinition(RmiEndpointConfiguration.class);
         new RmiEndpointConfigurationParser().parseEndpointConfiguration(configurationBuilder, element);
+        BeanDefinitionParserUtils.setPropertyValue(configurationBuilder, element.getAttribute("object-mode"), "objectMode");
 
         BeanDefinitionParserUtils.setPropertyValue(serverBuilder, element.getAttribute("interface"), "remoteInterfaces");
         BeanDefinitionParserUtils.setPropertyValue(serverBuilder, element.getAttribute("create-registry"), "createRegistry");
+        BeanDefinitionParserUtils.setPropertyValue(serverBuilder, element.getAttribute("worker-pool-size"), "workerPoolSize");
+        BeanDefinitionParserUtils.setPropertyValue(serverBuilder, element.getAttribute("worker-queue-capacity"), "workerQueueCapacity");
 
         String endpointConfigurationId = element.getAttribute(ID_ATTRIBUTE) + "Configuration";
         BeanDefinitionParserUtils.registerBean(endpointConfigurationId, configurationBuilder.getBeanDefinition(), parserContext, shouldFireEvents());
@@ -60,6 +60,9 @@ public class RmiEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Reference resolver used for method arg object reference evaluation */
     private ReferenceResolver referenceResolver;
 
+    /** Pass service invocation and result model objects to the endpoint adapter without XML marshalling */
+    private boolean objectMode = false;
+
     /**
      * Gets the RMI registry based on host and port settings in this configuration.
      * @return
@@ -157,4 +160,12 @@ public class RmiEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setMarshaller(RmiMarshaller marshaller) {
         this.marshaller = marshaller;
     }
+
+    public boolean isObjectMode() {
+        return objectMode;
+    }
+
+    public void setObjectMode(boolean objectMode) {
+        this.objectMode = objectMode;
+    }
 }
@@ -76,6 +76,16 @@ public class RmiMessage extends DefaultMessage {
         return new RmiMessage(invocation);
     }
 
+    /**
+     * Creates new message wrapping the given service invocation model object. XML payload is marshalled lazily
+     * only when the message payload is accessed as String.
+     * @param serviceInvocation
+     * @return
+     */
+    public static RmiMessage invocation(RmiServiceInvocation serviceInvocation) {
+        return new RmiMessage(serviceInvocation);
+    }
+
     public static RmiMessage result(Object resultObject) {
         RmiServiceResult serviceResult = new RmiServiceResult();
         RmiServiceResult.Object serviceResultObject = new RmiServiceResult.Object();
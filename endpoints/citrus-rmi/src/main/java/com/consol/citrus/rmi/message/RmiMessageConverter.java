@@ -51,6 +51,12 @@ public class RmiMessageConverter implements MessageConverter<RmiServiceInvocatio
 
     @Override
     public Message convertInbound(RmiServiceInvocation serviceInvocation, RmiEndpointConfiguration endpointConfiguration, TestContext context) {
+        if (endpointConfiguration.isObjectMode()) {
+            return RmiMessage.invocation(serviceInvocation)
+                    .setHeader(RmiMessageHeaders.RMI_INTERFACE, serviceInvocation.getRemote())
+                    .setHeader(RmiMessageHeaders.RMI_METHOD, serviceInvocation.getMethod());
+        }
+
         StringResult payload = new StringResult();
         endpointConfiguration.getMarshaller().marshal(serviceInvocation, payload);
 
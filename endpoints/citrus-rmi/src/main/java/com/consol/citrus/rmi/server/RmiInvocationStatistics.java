@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.rmi.server;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects invocation count, error count and latency per remote method. Methods are identified by the simple name of
+ * the remote interface and the method name, for instance <code>NewsService.getNews</code>.
+ *
+ * Recording uses lock free counters so concurrent invocations do not contend on the statistics.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class RmiInvocationStatistics {
+
+    /** Statistics by method key */
+    private final ConcurrentMap<String, MethodStatistics> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Records a finished invocation.
+     * @param method
+     * @param latencyNanos
+     * @param failed
+     */
+    public void record(String method, long latencyNanos, boolean failed) {
+        methods.computeIfAbsent(method, key -> new MethodStatistics()).record(latencyNanos, failed);
+    }
+
+    /**
+     * Gets statistics for given method key.
+     * @param method
+     * @return statistics or null when method has not been invoked yet
+     */
+    public MethodStatistics getMethodStatistics(String method) {
+        return methods.get(method);
+    }
+
+    /**
+     * Gets all method statistics sorted by method key.
+     * @return
+     */
+    public Map<String, MethodStatistics> getMethodStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(methods));
+    }
+
+    /**
+     * Removes all recorded statistics.
+     */
+    public void reset() {
+        methods.clear();
+    }
+
+    /**
+     * Invocation statistics of a single remote method.
+     */
+    public static class MethodStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0L);
+
+        void record(long latencyNanos, boolean failed) {
+            count.increment();
+            totalLatency.add(latencyNanos);
+            maxLatency.accumulate(latencyNanos);
+
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Gets the number of invocations.
+         * @return
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the number of invocations that resulted in an exception.
+         * @return
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Gets the average invocation latency in milliseconds.
+         * @return
+         */
+        public double getAverageLatency() {
+            long invocations = count.sum();
+            if (invocations == 0) {
+                return 0.0D;
+            }
+
+            return (double) totalLatency.sum() / invocations / TimeUnit.MILLISECONDS.toNanos(1L);
+        }
+
+        /**
+         * Gets the maximum invocation latency in milliseconds.
+         * @return
+         */
+        public double getMaxLatency() {
+            return (double) maxLatency.get() / TimeUnit.MILLISECONDS.toNanos(1L);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%s, errors=%s, avg=%.3fms, max=%.3fms", getCount(), getErrors(), getAverageLatency(), getMaxLatency());
+        }
+    }
+}
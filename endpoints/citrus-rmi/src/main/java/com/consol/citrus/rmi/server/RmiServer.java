@@ -27,10 +27,21 @@ import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
+import com.consol.citrus.rmi.message.RmiMessage;
 import com.consol.citrus.rmi.model.RmiServiceInvocation;
 import com.consol.citrus.rmi.model.RmiServiceResult;
 import com.consol.citrus.server.AbstractServer;
@@ -62,6 +73,18 @@ public class RmiServer extends AbstractServer implements InvocationHandler {
     private Remote proxy;
     private Registry registry;
 
+    /** Number of worker threads handling invocations, zero handles invocations on the RMI transport thread */
+    private int workerPoolSize = 0;
+
+    /** Maximum number of invocations waiting for a free worker before new invocations are rejected */
+    private int workerQueueCapacity = 100;
+
+    /** Bounded worker pool */
+    private ThreadPoolExecutor workerExecutor;
+
+    /** Per method invocation statistics */
+    private final RmiInvocationStatistics statistics = new RmiInvocationStatistics();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -83,20 +106,80 @@ public class RmiServer extends AbstractServer implements InvocationHandler {
             log.debug("Received message on RMI server: '" + endpointConfiguration.getBinding() + "'");
         }
 
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result;
+            if (workerExecutor != null) {
+                result = dispatch(proxy, method, args);
+            } else {
+                result = handleInvocation(proxy, method, args);
+            }
+
+            failed = false;
+            return result;
+        } finally {
+            statistics.record(method.getDeclaringClass().getSimpleName() + "." + method.getName(), System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Hands over the invocation to the bounded worker pool and waits for the result. Invocations are rejected with a remote
+     * exception when all workers are busy and the worker queue is full.
+     * @param proxy
+     * @param method
+     * @param args
+     * @return
+     * @throws Throwable
+     */
+    private Object dispatch(Object proxy, Method method, Object[] args) throws Throwable {
+        Future<Object> result;
+        try {
+            result = workerExecutor.submit(() -> handleInvocation(proxy, method, args));
+        } catch (RejectedExecutionException e) {
+            throw new RemoteException(String.format("RMI server '%s' is busy - rejected invocation of method '%s'", getName(), method.getName()));
+        }
+
+        try {
+            return result.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new RemoteException(String.format("RMI server '%s' timed out after %s ms handling method '%s'", getName(), endpointConfiguration.getTimeout(), method.getName()));
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RemoteException(String.format("Interrupted while handling method '%s'", method.getName()), e);
+        }
+    }
+
+    /**
+     * Converts the invocation to a message and passes it to the endpoint adapter. Result messages holding a service result model
+     * object are read directly, only String payloads are unmarshalled.
+     * @param proxy
+     * @param method
+     * @param args
+     * @return
+     * @throws RemoteException
+     */
+    private Object handleInvocation(Object proxy, Method method, Object[] args) throws RemoteException {
         Message response = getEndpointAdapter().handleMessage(endpointConfiguration.getMessageConverter()
                 .convertInbound(RmiServiceInvocation.create(proxy, method, args), endpointConfiguration, null));
 
         RmiServiceResult serviceResult = null;
-        if (response != null && response.getPayload() != null) {
+        if (response instanceof RmiMessage) {
+            serviceResult = response.getPayload(RmiServiceResult.class);
+        } else if (response != null && response.getPayload() != null) {
             if (response.getPayload() instanceof RmiServiceResult) {
                 serviceResult = (RmiServiceResult) response.getPayload();
             } else if (response.getPayload() instanceof String) {
                 serviceResult = (RmiServiceResult) endpointConfiguration.getMarshaller().unmarshal(response.getPayload(Source.class));
             }
+        }
 
-            if (serviceResult != null && StringUtils.hasText(serviceResult.getException())) {
-                throw new RemoteException(serviceResult.getException());
-            }
+        if (serviceResult != null && StringUtils.hasText(serviceResult.getException())) {
+            throw new RemoteException(serviceResult.getException());
         }
 
         if (serviceResult != null) {
@@ -125,6 +208,16 @@ public class RmiServer extends AbstractServer implements InvocationHandler {
 
     @Override
     protected void startup() {
+        if (workerPoolSize > 0) {
+            BlockingQueue<Runnable> workerQueue = workerQueueCapacity > 0 ? new ArrayBlockingQueue<>(workerQueueCapacity) : new SynchronousQueue<>();
+            AtomicInteger workerCount = new AtomicInteger();
+            workerExecutor = new ThreadPoolExecutor(workerPoolSize, workerPoolSize, 0L, TimeUnit.MILLISECONDS, workerQueue, runnable -> {
+                Thread worker = new Thread(runnable, getName() + "-worker-" + workerCount.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            });
+        }
+
         if (createRegistry) {
             try {
                 LocateRegistry.createRegistry(endpointConfiguration.getPort());
@@ -167,11 +260,40 @@ public class RmiServer extends AbstractServer implements InvocationHandler {
             }
         }
 
+        if (workerExecutor != null) {
+            workerExecutor.shutdownNow();
+            workerExecutor = null;
+        }
+
         registry = null;
         proxy = null;
         stub = null;
     }
 
+    /**
+     * Gets the per method invocation statistics.
+     * @return
+     */
+    public RmiInvocationStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int getWorkerPoolSize() {
+        return workerPoolSize;
+    }
+
+    public void setWorkerPoolSize(int workerPoolSize) {
+        this.workerPoolSize = workerPoolSize;
+    }
+
+    public int getWorkerQueueCapacity() {
+        return workerQueueCapacity;
+    }
+
+    public void setWorkerQueueCapacity(int workerQueueCapacity) {
+        this.workerQueueCapacity = workerQueueCapacity;
+    }
+
     public List<Class<? extends Remote>> getRemoteInterfaces() {
         return remoteInterfaces;
     }
@@ -174,4 +174,34 @@ public class RmiServerBuilder  extends AbstractServerBuilder<RmiServer, RmiServe
         endpoint.getEndpointConfiguration().setPollingInterval(pollingInterval);
         return this;
     }
+
+    /**
+     * Enables passing service invocation and result model objects to the endpoint adapter without XML marshalling.
+     * @param objectMode
+     * @return
+     */
+    public RmiServerBuilder objectMode(boolean objectMode) {
+        endpoint.getEndpointConfiguration().setObjectMode(objectMode);
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads handling invocations.
+     * @param workerPoolSize
+     * @return
+     */
+    public RmiServerBuilder workerPoolSize(int workerPoolSize) {
+        endpoint.setWorkerPoolSize(workerPoolSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of invocations waiting for a free worker.
+     * @param workerQueueCapacity
+     * @return
+     */
+    public RmiServerBuilder workerQueueCapacity(int workerQueueCapacity) {
+        endpoint.setWorkerQueueCapacity(workerQueueCapacity);
+        return this;
+    }
 }
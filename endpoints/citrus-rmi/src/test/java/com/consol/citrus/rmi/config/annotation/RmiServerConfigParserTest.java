@@ -54,6 +54,9 @@ public class RmiServerConfigParserTest extends AbstractTestNGUnitTest {
             remoteInterfaces = { NewsService.class },
             createRegistry=true,
             messageConverter="messageConverter",
+            objectMode=true,
+            workerPoolSize=4,
+            workerQueueCapacity=10,
             timeout=10000L)
     private RmiServer rmiServer2;
 
@@ -96,6 +99,9 @@ public class RmiServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(rmiServer1.getRemoteInterfaces().size(), 1L);
         Assert.assertEquals(rmiServer1.getRemoteInterfaces().get(0), HelloService.class);
         Assert.assertEquals(rmiServer1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(rmiServer1.getEndpointConfiguration().isObjectMode());
+        Assert.assertEquals(rmiServer1.getWorkerPoolSize(), 0);
+        Assert.assertEquals(rmiServer1.getWorkerQueueCapacity(), 100);
 
         // 2nd server
         Assert.assertEquals(rmiServer2.getEndpointConfiguration().getMessageConverter(), messageConverter);
@@ -106,6 +112,9 @@ public class RmiServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(rmiServer2.getRemoteInterfaces().size(), 1L);
         Assert.assertEquals(rmiServer2.getRemoteInterfaces().get(0), NewsService.class);
         Assert.assertEquals(rmiServer2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertTrue(rmiServer2.getEndpointConfiguration().isObjectMode());
+        Assert.assertEquals(rmiServer2.getWorkerPoolSize(), 4);
+        Assert.assertEquals(rmiServer2.getWorkerQueueCapacity(), 10);
 
         // 3rd server
         Assert.assertNotNull(rmiServer3.getActor());
@@ -49,6 +49,9 @@ public class RmiServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(rmiServer.getRemoteInterfaces().size(), 1L);
         Assert.assertEquals(rmiServer.getRemoteInterfaces().get(0), HelloService.class);
         Assert.assertEquals(rmiServer.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(rmiServer.getEndpointConfiguration().isObjectMode());
+        Assert.assertEquals(rmiServer.getWorkerPoolSize(), 0);
+        Assert.assertEquals(rmiServer.getWorkerQueueCapacity(), 100);
 
         // 2nd server
         rmiServer = endpoints.get("rmiServer2");
@@ -60,6 +63,9 @@ public class RmiServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(rmiServer.getRemoteInterfaces().size(), 1L);
         Assert.assertEquals(rmiServer.getRemoteInterfaces().get(0), NewsService.class);
         Assert.assertEquals(rmiServer.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertTrue(rmiServer.getEndpointConfiguration().isObjectMode());
+        Assert.assertEquals(rmiServer.getWorkerPoolSize(), 4);
+        Assert.assertEquals(rmiServer.getWorkerQueueCapacity(), 10);
 
         // 3rd server
         rmiServer = endpoints.get("rmiServer3");
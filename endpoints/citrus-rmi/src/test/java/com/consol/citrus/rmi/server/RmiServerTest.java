@@ -21,6 +21,7 @@ import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.rmi.message.RmiMessage;
 import com.consol.citrus.rmi.message.RmiMessageHeaders;
+import com.consol.citrus.rmi.model.RmiServiceInvocation;
 import com.consol.citrus.rmi.remote.HelloService;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
@@ -35,8 +36,14 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.rmi.Remote;
+import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -152,4 +159,103 @@ public class RmiServerTest extends AbstractTestNGUnitTest {
             Assert.fail("Faidled to invoke remote service", throwable);
         }
     }
+
+    @Test
+    public void testObjectModeWithWorkerPool() throws Exception {
+        RmiServer rmiServer = new RmiServerBuilder()
+                .remoteInterfaces(HelloService.class)
+                .endpointAdapter(endpointAdapter)
+                .registry(registry)
+                .binding("helloService")
+                .objectMode(true)
+                .workerPoolSize(2)
+                .build();
+
+        final Remote[] remote = new Remote[1];
+
+        reset(registry, endpointAdapter);
+
+        doAnswer(invocationOnMock -> {
+            remote[0] = (Remote) invocationOnMock.getArguments()[1];
+            return null;
+        }).when(registry).bind(eq("helloService"), any(Remote.class));
+
+        doAnswer(invocation -> {
+            Message message = (Message) invocation.getArguments()[0];
+
+            Assert.assertTrue(message instanceof RmiMessage);
+            Assert.assertEquals(message.getHeader(RmiMessageHeaders.RMI_METHOD), "getHelloCount");
+            Assert.assertEquals(message.getPayload(RmiServiceInvocation.class).getMethod(), "getHelloCount");
+            Assert.assertTrue(Thread.currentThread().getName().contains("-worker-"));
+
+            return RmiMessage.result(10);
+        }).when(endpointAdapter).handleMessage(any(Message.class));
+
+        rmiServer.startup();
+
+        try {
+            Assert.assertEquals(((HelloService)remote[0]).getHelloCount(), 10);
+            Assert.assertEquals(((HelloService)remote[0]).getHelloCount(), 10);
+        } finally {
+            rmiServer.shutdown();
+        }
+
+        RmiInvocationStatistics.MethodStatistics statistics = rmiServer.getStatistics().getMethodStatistics("HelloService.getHelloCount");
+        Assert.assertEquals(statistics.getCount(), 2L);
+        Assert.assertEquals(statistics.getErrors(), 0L);
+        Assert.assertTrue(statistics.getMaxLatency() >= statistics.getAverageLatency());
+    }
+
+    @Test
+    public void testWorkerPoolRejectsInvocationWhenBusy() throws Exception {
+        RmiServer rmiServer = new RmiServerBuilder()
+                .remoteInterfaces(HelloService.class)
+                .endpointAdapter(endpointAdapter)
+                .registry(registry)
+                .binding("helloService")
+                .workerPoolSize(1)
+                .workerQueueCapacity(0)
+                .build();
+
+        final Remote[] remote = new Remote[1];
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        reset(registry, endpointAdapter);
+
+        doAnswer(invocationOnMock -> {
+            remote[0] = (Remote) invocationOnMock.getArguments()[1];
+            return null;
+        }).when(registry).bind(eq("helloService"), any(Remote.class));
+
+        doAnswer(invocation -> {
+            handling.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return RmiMessage.result();
+        }).when(endpointAdapter).handleMessage(any(Message.class));
+
+        rmiServer.startup();
+
+        ExecutorService client = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> pending = client.submit(() -> {
+                ((HelloService) remote[0]).sayHello("first");
+                return null;
+            });
+
+            Assert.assertTrue(handling.await(5, TimeUnit.SECONDS));
+            Assert.expectThrows(RemoteException.class, () -> ((HelloService) remote[0]).sayHello("second"));
+
+            release.countDown();
+            pending.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            client.shutdownNow();
+            rmiServer.shutdown();
+        }
+
+        RmiInvocationStatistics.MethodStatistics statistics = rmiServer.getStatistics().getMethodStatistics("HelloService.sayHello");
+        Assert.assertEquals(statistics.getCount(), 2L);
+        Assert.assertEquals(statistics.getErrors(), 1L);
+    }
 }
@@ -15,9 +15,19 @@
  */
 package com.consol.citrus.channel;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.integration.channel.QueueChannel;
@@ -28,6 +38,10 @@ import org.springframework.util.Assert;
 /**
  * Added selective consumption of messages according to a message selector implementation.
  *
+ * Receivers waiting for a selected message are notified as soon as a new message is sent to the channel. Messages are
+ * indexed by the header values that {@link DispatchingMessageSelector} instances match with plain equality so these
+ * selectors do not need to scan the whole queue.
+ *
  * @author Christoph Deppisch
  */
 public class MessageSelectingQueueChannel extends QueueChannel {
@@ -37,9 +51,19 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     /** Blocking in memory message store */
     private final BlockingQueue<Message<?>> queue;
 
-    /** Polling interval when waiting for synchronous reply message to arrive */
+    /** Maximum time to wait for new messages before the queue is checked again */
     private long pollingInterval = 500;
 
+    /** Guards the header index and signals message arrival to waiting receivers */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageArrived = lock.newCondition();
+
+    /** Messages in order of arrival by header name and header value, only for header names used in selectors */
+    private final Map<String, Map<String, Deque<Message<?>>>> headerIndex = new HashMap<>();
+
+    /** Number of messages known to the header index */
+    private int indexedMessages = 0;
+
     /**
      * Create a channel with the specified queue.
      */
@@ -67,6 +91,49 @@ public class MessageSelectingQueueChannel extends QueueChannel {
         this(new LinkedBlockingQueue<>());
     }
 
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            lock.lock();
+            try {
+                addToIndex(message);
+                indexedMessages++;
+                messageArrived.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return sent;
+    }
+
+    @Override
+    protected Message<?> doReceive(long timeout) {
+        Message<?> message = super.doReceive(timeout);
+
+        if (message != null) {
+            removeIndexed(message);
+        }
+
+        return message;
+    }
+
+    @Override
+    public List<Message<?>> clear() {
+        List<Message<?>> removed = super.clear();
+        removed.forEach(this::removeIndexed);
+        return removed;
+    }
+
+    @Override
+    public List<Message<?>> purge(MessageSelector selector) {
+        List<Message<?>> removed = super.purge(selector);
+        removed.forEach(this::removeIndexed);
+        return removed;
+    }
+
     /**
      * Supports selective consumption of messages on the channel. The first message
      * to be accepted by given message selector is returned as result.
@@ -75,10 +142,19 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector) {
+        if (selector instanceof DispatchingMessageSelector) {
+            Map<String, String> constraints = ((DispatchingMessageSelector) selector).getHeaderMatchingConstraints();
+            if (!constraints.isEmpty()) {
+                Map.Entry<String, String> constraint = constraints.entrySet().iterator().next();
+                return receiveIndexed(constraint.getKey(), constraint.getValue(), selector);
+            }
+        }
+
         Object[] array = this.queue.toArray();
         for (Object o : array) {
             Message<?> message = (Message<?>) o;
             if (selector.accept(message) && this.queue.remove(message)) {
+                removeIndexed(message);
                 return message;
             }
         }
@@ -87,34 +163,166 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     }
 
     /**
-     * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * Consume messages on the channel via message selector. Receiver waits for new messages to arrive until the timeout
+     * is exceeded. The queue is checked again at least every polling interval in case messages are added to the
+     * underlying queue directly.
      *
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message<?> message = receive(selector);
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+        long pollingNanos = TimeUnit.MILLISECONDS.toNanos(pollingInterval);
+
+        lock.lock();
+        try {
+            Message<?> message = receive(selector);
+
+            while (message == null && nanosLeft > 0) {
+                long wait = Math.min(nanosLeft, pollingNanos);
+
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("No message received with message selector - waiting " + TimeUnit.NANOSECONDS.toMillis(wait) + "ms for new messages");
+                }
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+                try {
+                    long remaining = messageArrived.awaitNanos(wait);
+                    nanosLeft -= wait - remaining;
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for new messages", e);
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                message = receive(selector);
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            return message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Receives first message accepted by the selector out of the messages that have the given header value.
+     * @param headerName
+     * @param headerValue
+     * @param selector
+     * @return
+     */
+    private Message<?> receiveIndexed(String headerName, String headerValue, MessageSelector selector) {
+        lock.lock();
+        try {
+            if (indexedMessages != queue.size()) {
+                rebuildIndex();
             }
 
-            message = receive(selector);
+            if (!headerIndex.containsKey(headerName)) {
+                Map<String, Deque<Message<?>>> index = new HashMap<>();
+                headerIndex.put(headerName, index);
+                for (Object o : queue.toArray()) {
+                    addToIndex(headerName, index, (Message<?>) o);
+                }
+            }
+
+            Deque<Message<?>> candidates = headerIndex.get(headerName).get(headerValue);
+            if (candidates == null) {
+                return null;
+            }
+
+            Iterator<Message<?>> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                Message<?> message = iterator.next();
+                if (!selector.accept(message)) {
+                    continue;
+                }
+
+                if (queue.remove(message)) {
+                    removeIndexed(message);
+                    return message;
+                }
+
+                // message has been removed from the underlying queue directly
+                iterator.remove();
+            }
+
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the header index from the current queue content. Used when messages have been added to or removed from
+     * the underlying queue directly.
+     */
+    private void rebuildIndex() {
+        Object[] messages = queue.toArray();
+        for (Map.Entry<String, Map<String, Deque<Message<?>>>> index : headerIndex.entrySet()) {
+            index.getValue().clear();
+            for (Object o : messages) {
+                addToIndex(index.getKey(), index.getValue(), (Message<?>) o);
+            }
         }
 
-        return message;
+        indexedMessages = messages.length;
+    }
+
+    private void addToIndex(Message<?> message) {
+        for (Map.Entry<String, Map<String, Deque<Message<?>>>> index : headerIndex.entrySet()) {
+            addToIndex(index.getKey(), index.getValue(), message);
+        }
+    }
+
+    private void addToIndex(String headerName, Map<String, Deque<Message<?>>> index, Message<?> message) {
+        String headerValue = getHeaderValue(message, headerName);
+        if (headerValue != null) {
+            index.computeIfAbsent(headerValue, value -> new ArrayDeque<>()).addLast(message);
+        }
+    }
+
+    /**
+     * Removes message that has been taken from the queue from the header index.
+     * @param message
+     */
+    private void removeIndexed(Message<?> message) {
+        lock.lock();
+        try {
+            indexedMessages--;
+
+            for (Map.Entry<String, Map<String, Deque<Message<?>>>> index : headerIndex.entrySet()) {
+                String headerValue = getHeaderValue(message, index.getKey());
+                Deque<Message<?>> messages = headerValue != null ? index.getValue().get(headerValue) : null;
+                if (messages != null) {
+                    messages.remove(message);
+                    if (messages.isEmpty()) {
+                        index.getValue().remove(headerValue);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads header value the same way as header matching message selectors do. Headers of nested Citrus messages
+     * take precedence over the channel message headers.
+     * @param message
+     * @param headerName
+     * @return
+     */
+    private static String getHeaderValue(Message<?> message, String headerName) {
+        Object value = null;
+        if (message.getPayload() instanceof com.consol.citrus.message.Message &&
+                ((com.consol.citrus.message.Message) message.getPayload()).getHeaders().containsKey(headerName)) {
+            value = ((com.consol.citrus.message.Message) message.getPayload()).getHeader(headerName);
+        } else if (message.getHeaders().containsKey(headerName)) {
+            value = message.getHeaders().get(headerName);
+        }
+
+        return value != null ? value.toString() : null;
     }
 
     /**
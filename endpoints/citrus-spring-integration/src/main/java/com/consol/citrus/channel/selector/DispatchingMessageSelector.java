@@ -18,6 +18,7 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.ApplicationContext;
@@ -89,6 +90,31 @@ public class DispatchingMessageSelector implements MessageSelector {
                                                      .accept(message));
     }
 
+    /**
+     * Gets the selector elements that are plain header equality checks. These elements are evaluated by the default
+     * {@link HeaderMatchingMessageSelector} and do not use validation matcher expressions, so message stores are able
+     * to look up candidate messages by header value before evaluating this selector.
+     * @return header names and expected values
+     */
+    public Map<String, String> getHeaderMatchingConstraints() {
+        Map<String, String> constraints = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : matchingHeaders.entrySet()) {
+            if (factories.stream().anyMatch(factory -> factory.supports(entry.getKey())) ||
+                    ValidationMatcherUtils.isValidationMatcherExpression(entry.getValue())) {
+                continue;
+            }
+
+            String headerName = entry.getKey();
+            if (headerName.startsWith(HeaderMatchingMessageSelector.SELECTOR_PREFIX)) {
+                headerName = headerName.substring(HeaderMatchingMessageSelector.SELECTOR_PREFIX.length());
+            }
+
+            constraints.put(headerName, entry.getValue());
+        }
+
+        return constraints;
+    }
+
     /**
      * Add message selector factory to list of delegates.
      * @param factory
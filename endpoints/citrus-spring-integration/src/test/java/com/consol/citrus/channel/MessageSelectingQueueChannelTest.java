@@ -16,6 +16,7 @@
 
 package com.consol.citrus.channel;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.integration.core.MessageSelector;
@@ -24,6 +25,8 @@ import org.springframework.messaging.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -111,4 +114,70 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveNotifiedOnSend() throws InterruptedException {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        });
+        sender.start();
+
+        long start = System.currentTimeMillis();
+        Message<?> receivedMessage = channel.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 10000L);
+        sender.join();
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+    }
+
+    @Test
+    public void testReceiveIndexed() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+
+        for (int i = 0; i < 10; i++) {
+            channel.send(MessageBuilder.withPayload("Message" + i).setHeader("correlationId", String.valueOf(i % 5)).build());
+        }
+
+        final AtomicLong evaluations = new AtomicLong();
+        MessageSelector selector = new DispatchingMessageSelector("correlationId = '3'", null, context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluations.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Assert.assertEquals(channel.receive(selector, 1000L).getPayload(), "Message3");
+        Assert.assertEquals(channel.receive(selector, 1000L).getPayload(), "Message8");
+        Assert.assertNull(channel.receive(selector));
+        Assert.assertEquals(evaluations.get(), 2L);
+        Assert.assertEquals(channel.getQueueSize(), 8);
+
+        channel.send(MessageBuilder.withPayload("Message10").setHeader("correlationId", "3").build());
+        Assert.assertEquals(channel.receive().getPayload(), "Message0");
+        Assert.assertEquals(channel.receive(selector).getPayload(), "Message10");
+        Assert.assertEquals(channel.getQueueSize(), 7);
+    }
+
+    @Test
+    public void testReceiveIndexedWithDirectQueueAccess() {
+        BlockingQueue<Message<?>> queue = new LinkedBlockingQueue<>();
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel(queue);
+
+        MessageSelector selector = new DispatchingMessageSelector("correlationId = '1'", null, context);
+        Assert.assertNull(channel.receive(selector));
+
+        queue.add(MessageBuilder.withPayload("FooMessage").setHeader("correlationId", "1").build());
+
+        Assert.assertEquals(channel.receive(selector, 1000L).getPayload(), "FooMessage");
+        Assert.assertTrue(queue.isEmpty());
+    }
 }
@@ -293,4 +293,14 @@ public class DispatchingMessageSelectorTest extends UnitTestSupport {
         Assert.assertTrue(messageSelector.accept(acceptMessage));
         Assert.assertFalse(messageSelector.accept(declineMessage));
     }
+
+    @Test
+    public void testHeaderMatchingConstraints() {
+        DispatchingMessageSelector messageSelector = new DispatchingMessageSelector("foo = 'bar' AND header:operation = 'foo' AND payload = 'FooTest' AND id = '@startsWith(1)@'", beanFactory, context);
+
+        Map<String, String> constraints = messageSelector.getHeaderMatchingConstraints();
+        Assert.assertEquals(constraints.size(), 2L);
+        Assert.assertEquals(constraints.get("foo"), "bar");
+        Assert.assertEquals(constraints.get("operation"), "foo");
+    }
 }
@@ -22,7 +22,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -42,6 +47,8 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.UserInfo;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
@@ -52,13 +59,19 @@ import org.springframework.util.StringUtils;
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(SshClient.class);
+
+    /** Maximum time to wait for the channel close signal before checking the channel state again */
+    private static final long CHANNEL_CLOSE_WAIT_INTERVAL = 250L;
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    // Pooled sessions for the SSH communication by remote user
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -104,13 +117,14 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         String rUser = getRemoteUser(message);
-        connect(rUser);
+        Session session = connect(rUser);
         ChannelExec channelExec = null;
+        CountDownLatch channelClosed = new CountDownLatch(1);
         ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        ByteArrayOutputStream errStream = new CloseAwareOutputStream(channelClosed);
         int rc;
         try {
-            channelExec = openChannelExec();
+            channelExec = openChannelExec(session);
             channelExec.setErrStream(errStream);
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
@@ -118,13 +132,16 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, channelClosed);
             rc = channelExec.getExitStatus();
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+
+            if (!getEndpointConfiguration().isSessionPooling()) {
+                disconnect(rUser, session);
+            }
         }
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
@@ -171,39 +188,82 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+    @Override
+    public void destroy() {
+        sessions.forEach(this::disconnect);
+    }
+
+    /**
+     * Gets connected session for given remote user. When session pooling is enabled the session is reused for subsequent commands
+     * of the same user and multiple command channels are multiplexed over this session. Otherwise a new session is opened
+     * that is only used by the calling send operation.
+     * @param rUser
+     * @return
+     */
+    private Session connect(String rUser) {
+        if (!getEndpointConfiguration().isSessionPooling()) {
+            return openSession(rUser);
+        }
+
+        Session session = sessions.get(rUser);
+        if (session != null && session.isConnected()) {
+            return session;
+        }
+
+        synchronized (sessions) {
+            session = sessions.get(rUser);
+            if (session == null || !session.isConnected()) {
+                session = openSession(rUser);
+                sessions.put(rUser, session);
             }
+        }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+        return session;
+    }
+
+    private Session openSession(String rUser) {
+        try {
+            if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
             }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+
+        try {
+            Session session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
+            }
+            session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+
+            if (getEndpointConfiguration().isSessionPooling() && getEndpointConfiguration().getKeepAliveInterval() > 0) {
+                session.setServerAliveInterval(getEndpointConfiguration().getKeepAliveInterval());
+            }
+
+            session.connect();
+            return session;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
         }
     }
 
-    private void disconnect() {
+    private void disconnect(String rUser, Session session) {
+        sessions.remove(rUser, session);
+
         if (session.isConnected()) {
             session.disconnect();
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Closed SSH session for user '%s'", rUser));
+            }
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    private ChannelExec openChannelExec(Session session) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
@@ -213,15 +273,23 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
+    /**
+     * Waits for the channel to close. The channel closes its error stream when the remote side has closed the channel, so
+     * the wait is released by this event instead of polling the channel state.
+     * @param pCh
+     * @param channelClosed
+     */
+    private void waitCommandToFinish(ChannelExec pCh, CountDownLatch channelClosed) {
         final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
 
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            long remaining;
+            while (!pCh.isClosed() && (remaining = until - System.currentTimeMillis()) > 0) {
+                channelClosed.await(Math.min(CHANNEL_CLOSE_WAIT_INTERVAL, remaining), TimeUnit.MILLISECONDS);
             }
         } catch (InterruptedException e) {
-            throw new RuntimeException("Interrupted", e);
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for SSH command to finish", e);
         }
 
         if (!pCh.isClosed()) {
@@ -305,6 +373,23 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Output stream signals channel close when closed by the channel.
+     */
+    private static class CloseAwareOutputStream extends ByteArrayOutputStream {
+        private final CountDownLatch closed;
+
+        CloseAwareOutputStream(CountDownLatch closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            closed.countDown();
+        }
+    }
+
     // UserInfo which simply returns a plain password
     private static class UserInfoWithPlainPassword implements UserInfo {
         private String password;
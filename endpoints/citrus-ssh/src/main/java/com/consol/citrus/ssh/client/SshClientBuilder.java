@@ -134,6 +134,26 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Enables session pooling.
+     * @param sessionPooling
+     * @return
+     */
+    public SshClientBuilder sessionPooling(boolean sessionPooling) {
+        endpoint.getEndpointConfiguration().setSessionPooling(sessionPooling);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive interval for pooled sessions.
+     * @param keepAliveInterval
+     * @return
+     */
+    public SshClientBuilder keepAliveInterval(int keepAliveInterval) {
+        endpoint.getEndpointConfiguration().setKeepAliveInterval(keepAliveInterval);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -57,6 +57,12 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+    /** Reuse connected sessions for subsequent commands */
+    private boolean sessionPooling = false;
+
+    /** Keep alive interval in milliseconds for pooled sessions */
+    private int keepAliveInterval = 1000 * 30;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -226,6 +232,38 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Gets the session pooling.
+     * @return
+     */
+    public boolean isSessionPooling() {
+        return sessionPooling;
+    }
+
+    /**
+     * Sets the session pooling.
+     * @param sessionPooling
+     */
+    public void setSessionPooling(boolean sessionPooling) {
+        this.sessionPooling = sessionPooling;
+    }
+
+    /**
+     * Gets the keep alive interval.
+     * @return
+     */
+    public int getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the keep alive interval.
+     * @param keepAliveInterval
+     */
+    public void setKeepAliveInterval(int keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
     /**
      * Gets the message correlator.
      * @return
@@ -92,6 +92,18 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * SessionPooling.
+     * @return
+     */
+    boolean sessionPooling() default false;
+
+    /**
+     * KeepAliveInterval.
+     * @return
+     */
+    int keepAliveInterval() default 1000 * 30;
+
     /**
      * Message converter.
      * @return
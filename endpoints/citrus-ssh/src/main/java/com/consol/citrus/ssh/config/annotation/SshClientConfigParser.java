@@ -57,6 +57,8 @@ public class SshClientConfigParser implements AnnotationConfigParser<SshClientCo
 
         builder.commandTimeout(annotation.commandTimeout());
         builder.connectionTimeout(annotation.connectionTimeout());
+        builder.sessionPooling(annotation.sessionPooling());
+        builder.keepAliveInterval(annotation.keepAliveInterval());
 
         if (StringUtils.hasText(annotation.user())) {
             builder.user(annotation.user());
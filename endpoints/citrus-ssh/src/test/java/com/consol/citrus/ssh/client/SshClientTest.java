@@ -20,6 +20,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
@@ -42,12 +46,18 @@ import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Roland Huss
@@ -169,6 +179,100 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void sessionPooling() throws JSchException, IOException {
+        client.getEndpointConfiguration().setSessionPooling(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland", "planck", 1968);
+        verify(session, times(1)).connect();
+        verify(session, times(2)).openChannel("exec");
+        verify(session).setServerAliveInterval(30000);
+        verify(session, never()).disconnect();
+
+        client.destroy();
+        verify(session, times(1)).disconnect();
+    }
+
+    @Test
+    public void sessionPerSend() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(2)).getSession("roland", "planck", 1968);
+        verify(session, times(2)).connect();
+        verify(session, times(2)).disconnect();
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(client, "sessions")).isEmpty());
+
+        client.destroy();
+        verify(session, times(2)).disconnect();
+    }
+
+    @Test
+    public void waitForChannelClose() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(channel.isClosed()).thenAnswer(invocation -> closed.get());
+
+        AtomicReference<OutputStream> out = new AtomicReference<>();
+        AtomicReference<OutputStream> err = new AtomicReference<>();
+        doAnswer(invocation -> {
+            out.set(invocation.getArgument(0));
+            return null;
+        }).when(channel).setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            err.set(invocation.getArgument(0));
+            return null;
+        }).when(channel).setErrStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    out.get().write("Hello".getBytes());
+                    out.get().close();
+                    Thread.sleep(100L);
+                    closed.set(true);
+                    err.get().close();
+                } catch (IOException | InterruptedException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            });
+            return null;
+        }).when(channel).connect(CONNECTTION_TIMEOUT);
+
+        send();
+
+        Message response = client.receive(context, 1000L);
+        assertTrue(response.getPayload(String.class).contains("Hello"));
+        verify(channel, atLeastOnce()).isClosed();
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timeout: Channel not finished within 200 ms")
+    public void channelCloseTimeout() throws JSchException, IOException {
+        client.getEndpointConfiguration().setCommandTimeout(200L);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+        when(channel.isClosed()).thenReturn(false);
+
+        send();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
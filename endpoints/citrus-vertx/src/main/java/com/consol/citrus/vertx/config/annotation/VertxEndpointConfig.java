@@ -68,6 +68,12 @@ public @interface VertxEndpointConfig {
      */
     String messageConverter() default  "";
 
+    /**
+     * Consumer buffer size.
+     * @return
+     */
+    int consumerBufferSize() default 0;
+
     /**
      * Polling interval.
      * @return
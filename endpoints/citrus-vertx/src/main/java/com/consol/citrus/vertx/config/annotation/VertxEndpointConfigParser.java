@@ -54,6 +54,7 @@ public class VertxEndpointConfigParser implements AnnotationConfigParser<VertxEn
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.consumerBufferSize(annotation.consumerBufferSize());
 
         builder.timeout(annotation.timeout());
 
@@ -74,6 +74,12 @@ public @interface VertxSyncEndpointConfig {
      */
     String correlator() default "";
 
+    /**
+     * Consumer buffer size.
+     * @return
+     */
+    int consumerBufferSize() default 0;
+
     /**
      * Polling interval.
      * @return
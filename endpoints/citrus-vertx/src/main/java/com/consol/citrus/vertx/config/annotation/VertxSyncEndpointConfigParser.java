@@ -59,6 +59,7 @@ public class VertxSyncEndpointConfigParser implements AnnotationConfigParser<Ver
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.consumerBufferSize(annotation.consumerBufferSize());
 
         builder.timeout(annotation.timeout());
 
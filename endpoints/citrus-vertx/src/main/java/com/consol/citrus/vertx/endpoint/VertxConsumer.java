@@ -16,21 +16,39 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
+ * Consumer receiving messages from the Vert.x event bus. By default the consumer registers a new event bus handler for each
+ * receive operation and unregisters it as soon as the first message has been received.
+ *
+ * When a consumer buffer size is set the consumer keeps a single registration on the event bus address once started. All
+ * messages arriving on the address are stored in a bounded in memory buffer where receive operations pick them up. Messages
+ * arriving while the buffer is full are dropped.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -44,6 +62,19 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Retry logger */
     private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
 
+    /** Buffered messages in order of arrival */
+    private final Deque<Message> buffer = new ArrayDeque<>();
+
+    /** Guards the buffer and signals message arrival */
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final Condition messageArrived = bufferLock.newCondition();
+
+    /** Number of messages dropped because the buffer was full */
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    /** Long lived event bus registration in buffered mode */
+    private MessageConsumer<Object> registration;
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -56,18 +87,151 @@ public class VertxConsumer extends AbstractMessageConsumer {
         this.endpointConfiguration = endpointConfiguration;
     }
 
+    /**
+     * Registers the buffering event bus handler when buffered mode is enabled. Does nothing when already started.
+     */
+    public synchronized void start() {
+        if (registration != null || endpointConfiguration.getConsumerBufferSize() <= 0) {
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Start buffering messages on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        }
+
+        registration = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this::buffer);
+    }
+
+    /**
+     * Unregisters the buffering event bus handler and discards all buffered messages.
+     */
+    public synchronized void stop() {
+        if (registration != null) {
+            registration.unregister();
+            registration = null;
+        }
+
+        bufferLock.lock();
+        try {
+            buffer.clear();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
+        MessageSelector messageSelector = StringUtils.hasText(selector) ?
+                new DelegatingMessageSelector(selector, context) : new MessageSelector.AllAcceptingMessageSelector();
+
+        Message message;
+        if (endpointConfiguration.getConsumerBufferSize() > 0) {
+            start();
+            message = receiveBuffered(messageSelector, timeout);
+        } else {
+            message = receiveSingle(messageSelector, context, timeout);
+        }
+
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
+        }
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Waits for the next buffered message accepted by the selector.
+     * @param messageSelector
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    private Message receiveBuffered(MessageSelector messageSelector, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        bufferLock.lock();
+        try {
+            Message message = takeBuffered(messageSelector);
+            while (message == null && nanosLeft > 0) {
+                try {
+                    nanosLeft = messageArrived.awaitNanos(nanosLeft);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus");
+                    return null;
+                }
+
+                message = takeBuffered(messageSelector);
+            }
+
+            return message;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered message accepted by the selector. Caller must hold the buffer lock.
+     * @param messageSelector
+     * @return
+     */
+    private Message takeBuffered(MessageSelector messageSelector) {
+        Iterator<Message> iterator = buffer.iterator();
+        while (iterator.hasNext()) {
+            Message message = iterator.next();
+            if (messageSelector.accept(message)) {
+                iterator.remove();
+                return message;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Event bus handler adding messages to the buffer.
+     * @param event
+     */
+    private void buffer(io.vertx.core.eventbus.Message<Object> event) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, null);
+
+        bufferLock.lock();
+        try {
+            if (buffer.size() >= endpointConfiguration.getConsumerBufferSize()) {
+                droppedMessages.incrementAndGet();
+                log.warn("Vert.x consumer buffer is full - dropped message on event bus address '" + endpointConfiguration.getAddress() + "'");
+                log.debug("Vert.x message dropped is " + event);
+                return;
+            }
+
+            buffer.addLast(message);
+            messageArrived.signalAll();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Registers a new event bus handler and polls until the handler has received a message accepted by the selector.
+     * @param messageSelector
+     * @param context
+     * @param timeout
+     * @return the message or null when timed out
+     */
+    private Message receiveSingle(MessageSelector messageSelector, TestContext context, long timeout) {
+        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler(messageSelector, context);
         MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
 
         try {
             long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+            Message message = vertxMessageHandler.getMessage();
 
             while (message == null && timeLeft > 0) {
                 timeLeft -= endpointConfiguration.getPollingInterval();
@@ -84,17 +248,9 @@ public class VertxConsumer extends AbstractMessageConsumer {
                     RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
                 }
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
-
-            if (message == null) {
-                throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
+                message = vertxMessageHandler.getMessage();
             }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
-
-            context.onInboundMessage(message);
-
             return message;
         } finally {
             vertxConsumer.unregister();
@@ -102,27 +258,60 @@ public class VertxConsumer extends AbstractMessageConsumer {
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Gets the number of messages currently buffered.
+     * @return
+     */
+    public int getBufferDepth() {
+        bufferLock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because the buffer was full.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Simple Vert.x message handler stores first message received on event bus that is accepted by the message selector
+     * and ignores all further messages until subscription is unregistered automatically.
      */
     private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+        private final MessageSelector messageSelector;
+        private final TestContext context;
+
+        private volatile Message message;
+
+        VertxSingleMessageHandler(MessageSelector messageSelector, TestContext context) {
+            this.messageSelector = messageSelector;
+            this.context = context;
+        }
 
         @Override
         public void handle(io.vertx.core.eventbus.Message event) {
             if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
+                Message received = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+                if (messageSelector.accept(received)) {
+                    this.message = received;
+                    return;
+                }
             }
+
+            log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
+            log.debug("Vert.x message ignored is " + event);
         }
 
         /**
-         * Gets the vert.x message received on event bus.
+         * Gets the message received on event bus.
          * @return
          */
-        public io.vertx.core.eventbus.Message getMessage() {
+        public Message getMessage() {
             return message;
         }
     }
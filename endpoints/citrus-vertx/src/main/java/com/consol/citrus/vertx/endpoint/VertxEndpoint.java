@@ -16,6 +16,7 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.Producer;
@@ -25,11 +26,14 @@ import com.consol.citrus.vertx.factory.VertxInstanceFactory;
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements ShutdownPhase {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached consumer keeping the event bus registration in buffered mode, registered on first consumer creation */
+    private VertxConsumer bufferedConsumer;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -54,10 +58,29 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
+        if (getEndpointConfiguration().getConsumerBufferSize() > 0) {
+            synchronized (this) {
+                if (bufferedConsumer == null) {
+                    bufferedConsumer = new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                            getEndpointConfiguration());
+                    bufferedConsumer.start();
+                }
+            }
+
+            return bufferedConsumer;
+        }
+
         return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
                 getEndpointConfiguration());
     }
 
+    @Override
+    public void destroy() {
+        if (bufferedConsumer != null) {
+            bufferedConsumer.stop();
+        }
+    }
+
     @Override
     public VertxEndpointConfiguration getEndpointConfiguration() {
         return (VertxEndpointConfiguration) super.getEndpointConfiguration();
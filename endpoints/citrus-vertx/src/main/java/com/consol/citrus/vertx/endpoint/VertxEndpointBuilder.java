@@ -94,6 +94,16 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the consumer buffer size.
+     * @param consumerBufferSize
+     * @return
+     */
+    public VertxEndpointBuilder consumerBufferSize(int consumerBufferSize) {
+        endpoint.getEndpointConfiguration().setConsumerBufferSize(consumerBufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -37,6 +37,9 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Size of the consumer message buffer, zero disables the buffered consumer */
+    private int consumerBufferSize = 0;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -119,4 +122,21 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the consumer buffer size.
+     * @return
+     */
+    public int getConsumerBufferSize() {
+        return consumerBufferSize;
+    }
+
+    /**
+     * Sets the consumer buffer size. A positive value enables the buffered consumer keeping a single registration on the
+     * event bus address.
+     * @param consumerBufferSize
+     */
+    public void setConsumerBufferSize(int consumerBufferSize) {
+        this.consumerBufferSize = consumerBufferSize;
+    }
 }
@@ -78,4 +78,11 @@ public class VertxSyncEndpoint extends VertxEndpoint {
 
         return vertxSyncMessageProducer;
     }
+
+    @Override
+    public void destroy() {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.stop();
+        }
+    }
 }
@@ -95,6 +95,16 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the consumer buffer size.
+     * @param consumerBufferSize
+     * @return
+     */
+    public VertxSyncEndpointBuilder consumerBufferSize(int consumerBufferSize) {
+        endpoint.getEndpointConfiguration().setConsumerBufferSize(consumerBufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
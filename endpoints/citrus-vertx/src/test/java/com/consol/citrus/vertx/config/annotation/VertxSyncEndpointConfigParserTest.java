@@ -58,6 +58,7 @@ public class VertxSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @VertxSyncEndpointConfig(address="news-feed3",
             pollingInterval=1000,
+            consumerBufferSize=100,
             pubSubDomain=true)
     private VertxSyncEndpoint vertxEndpoint3;
 
@@ -119,6 +120,7 @@ public class VertxSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getConsumerBufferSize(), 100);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
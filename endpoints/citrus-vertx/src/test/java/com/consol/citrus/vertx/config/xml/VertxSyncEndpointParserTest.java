@@ -60,6 +60,7 @@ public class VertxSyncEndpointParserTest extends AbstractBeanDefinitionParserTes
         vertxEndpoint = endpoints.get("vertxEndpoint3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertEquals(vertxEndpoint.getEndpointConfiguration().getConsumerBufferSize(), 100);
 
         // 4th message receiver
         vertxEndpoint = endpoints.get("vertxEndpoint4");
@@ -16,12 +16,14 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -153,4 +155,93 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
 
         verify(messageListeners).onOutboundMessage(requestMessage, context);
     }
+
+    @Test
+    public void testVertxEndpointBufferedConsumer() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setConsumerBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        when(eventBus.consumer(eq(eventBusAddress), handler.capture())).thenReturn(messageConsumer);
+
+        vertxEndpoint.createProducer();
+        verify(eventBus, never()).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        handler.getValue().handle(createVertxMessage(eventBusAddress, "Hello"));
+        handler.getValue().handle(createVertxMessage(eventBusAddress, "Hallo"));
+        handler.getValue().handle(createVertxMessage(eventBusAddress, "Hola"));
+
+        Assert.assertEquals(consumer.getBufferDepth(), 2);
+        Assert.assertEquals(consumer.getDroppedMessages(), 1L);
+
+        Assert.assertEquals(consumer.receive(context, 100L).getPayload(), "Hello");
+        Assert.assertEquals(vertxEndpoint.createConsumer().receive(context, 100L).getPayload(), "Hallo");
+        Assert.assertEquals(consumer.getBufferDepth(), 0);
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointBufferedConsumerWithSelector() throws InterruptedException {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setConsumerBufferSize(10);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        when(eventBus.consumer(eq(eventBusAddress), handler.capture())).thenReturn(messageConsumer);
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        handler.getValue().handle(createVertxMessage(eventBusAddress, "Hello"));
+
+        Thread publisher = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handler.getValue().handle(createVertxMessage("other-feed", "Hola"));
+        });
+        publisher.start();
+
+        Message receivedMessage = consumer.receive(CitrusVertxMessageHeaders.VERTX_ADDRESS + " = 'other-feed'", context, 5000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hola");
+        Assert.assertEquals(consumer.getBufferDepth(), 1);
+        publisher.join();
+
+        try {
+            consumer.receive(CitrusVertxMessageHeaders.VERTX_ADDRESS + " = 'unknown'", context, 100L);
+            Assert.fail("Missing timeout exception");
+        } catch (MessageTimeoutException e) {
+            Assert.assertEquals(consumer.getBufferDepth(), 1);
+        }
+
+        vertxEndpoint.destroy();
+    }
+
+    private io.vertx.core.eventbus.Message createVertxMessage(String address, String body) {
+        io.vertx.core.eventbus.Message message = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(message.body()).thenReturn(body);
+        when(message.address()).thenReturn(address);
+        return message;
+    }
 }
@@ -74,6 +74,16 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
         return this;
     }
 
+    /**
+     * Sets the maximum number of buffered inbound messages.
+     * @param inboundBufferSize
+     * @return
+     */
+    public WebSocketClientBuilder inboundBufferSize(int inboundBufferSize) {
+        endpoint.getEndpointConfiguration().setInboundBufferSize(inboundBufferSize);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
@@ -72,6 +72,8 @@ public class WebSocketClientEndpointConfiguration extends AbstractWebSocketEndpo
      */
     private CitrusWebSocketHandler getWebSocketClientHandler(String url) {
         CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        handler.setInboundBufferSize(getInboundBufferSize());
+        handler.setParallelBroadcast(isParallelBroadcast());
 
         if (webSocketHttpHeaders == null) {
             webSocketHttpHeaders = new WebSocketHttpHeaders();
@@ -56,6 +56,12 @@ public @interface WebSocketClientConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Maximum number of buffered inbound messages.
+     * @return
+     */
+    int inboundBufferSize() default 0;
+
     /**
      * Timeout.
      * @return
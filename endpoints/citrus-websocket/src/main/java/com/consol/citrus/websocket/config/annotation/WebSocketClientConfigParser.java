@@ -47,6 +47,8 @@ public class WebSocketClientConfigParser implements AnnotationConfigParser<WebSo
 
         builder.pollingInterval(annotation.pollingInterval());
 
+        builder.inboundBufferSize(annotation.inboundBufferSize());
+
         builder.timeout(annotation.timeout());
 
         if (StringUtils.hasText(annotation.actor())) {
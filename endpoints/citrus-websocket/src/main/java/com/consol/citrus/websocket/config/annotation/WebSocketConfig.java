@@ -40,6 +40,18 @@ public @interface WebSocketConfig {
      */
     String messageConverter() default "";
 
+    /**
+     * Maximum number of buffered inbound messages.
+     * @return
+     */
+    int inboundBufferSize() default 0;
+
+    /**
+     * Send messages to all sessions in parallel.
+     * @return
+     */
+    boolean parallelBroadcast() default false;
+
     /**
      * Timeout.
      * @return
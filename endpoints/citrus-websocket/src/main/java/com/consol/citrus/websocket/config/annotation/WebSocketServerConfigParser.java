@@ -55,6 +55,8 @@ public class WebSocketServerConfigParser implements AnnotationConfigParser<WebSo
                 webSocketConfiguration.setMessageConverter(referenceResolver.resolve(webSocketConfig.messageConverter(), WebSocketMessageConverter.class));
             }
 
+            webSocketConfiguration.setInboundBufferSize(webSocketConfig.inboundBufferSize());
+            webSocketConfiguration.setParallelBroadcast(webSocketConfig.parallelBroadcast());
             webSocketConfiguration.setTimeout(webSocketConfig.timeout());
 
             WebSocketEndpoint webSocket = new WebSocketEndpoint(webSocketConfiguration);
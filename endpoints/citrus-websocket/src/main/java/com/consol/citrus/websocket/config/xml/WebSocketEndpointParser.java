@@ -40,6 +40,8 @@ public class WebSocketEndpointParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("path"), "endpointUri");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("inbound-buffer-size"), "inboundBufferSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("parallel-broadcast"), "parallelBroadcast");
     }
 
     @Override
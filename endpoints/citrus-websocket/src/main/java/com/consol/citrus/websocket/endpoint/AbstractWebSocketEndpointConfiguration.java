@@ -36,6 +36,12 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     /** The message converter */
     private WebSocketMessageConverter messageConverter = new WebSocketMessageConverter();
 
+    /** Maximum number of buffered inbound messages, zero or less is unbounded */
+    private int inboundBufferSize = 0;
+
+    /** Send messages to all sessions in parallel */
+    private boolean parallelBroadcast = false;
+
     @Override
     public WebSocketMessageConverter getMessageConverter() {
         return messageConverter;
@@ -65,4 +71,24 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     public void setEndpointUriResolver(EndpointUriResolver endpointUriResolver) {
         this.endpointUriResolver = endpointUriResolver;
     }
+
+    @Override
+    public int getInboundBufferSize() {
+        return inboundBufferSize;
+    }
+
+    @Override
+    public void setInboundBufferSize(int inboundBufferSize) {
+        this.inboundBufferSize = inboundBufferSize;
+    }
+
+    @Override
+    public boolean isParallelBroadcast() {
+        return parallelBroadcast;
+    }
+
+    @Override
+    public void setParallelBroadcast(boolean parallelBroadcast) {
+        this.parallelBroadcast = parallelBroadcast;
+    }
 }
@@ -16,16 +16,24 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import java.util.Map;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.message.selector.DelegatingMessageSelector;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. Message selectors on the session id header receive
+ * messages of that session only, other selectors are evaluated on the converted inbound messages.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +62,21 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        String sessionId = null;
+        MessageSelector messageSelector = new MessageSelector.AllAcceptingMessageSelector();
+        if (StringUtils.hasText(selector)) {
+            Map<String, String> selectorMap = MessageSelectorBuilder.withString(selector).toKeyValueMap();
+            if (selectorMap.containsKey(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID)) {
+                sessionId = context.replaceDynamicContentInString(selectorMap.get(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID));
+            }
+
+            if (sessionId == null || selectorMap.size() > 1) {
+                messageSelector = new DelegatingMessageSelector(selector, context);
+            }
+        }
+
+        CitrusWebSocketHandler.InboundMessage inboundMessage = receive(sessionId, messageSelector, context, timeout);
+        Message receivedMessage = inboundMessage.getConvertedMessage(inbound -> convertInbound(inbound, context));
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +85,36 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
+     * Receive web socket message by waiting on web socket handler for incoming message accepted by the message selector.
+     * @param sessionId
+     * @param messageSelector
+     * @param context
      * @param timeout
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, endpointUri, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
-            }
-
-            message = config.getHandler().getMessage();
+    private CitrusWebSocketHandler.InboundMessage receive(String sessionId, MessageSelector messageSelector, TestContext context, long timeout) {
+        CitrusWebSocketHandler.InboundMessage message;
+        if (messageSelector instanceof MessageSelector.AllAcceptingMessageSelector) {
+            message = endpointConfiguration.getHandler().receive(sessionId, inbound -> true, timeout);
+        } else {
+            message = endpointConfiguration.getHandler().receive(sessionId,
+                    inbound -> messageSelector.accept(inbound.getConvertedMessage(converted -> convertInbound(converted, context))), timeout);
         }
 
         if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
+            throw new MessageTimeoutException(timeout, endpointConfiguration.getEndpointUri());
         }
         return message;
     }
+
+    /**
+     * Converts inbound web socket message and adds the session id header.
+     * @param inboundMessage
+     * @param context
+     * @return
+     */
+    private Message convertInbound(CitrusWebSocketHandler.InboundMessage inboundMessage, TestContext context) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(inboundMessage.getMessage(), endpointConfiguration, context);
+        return message.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, inboundMessage.getSessionId());
+    }
 }
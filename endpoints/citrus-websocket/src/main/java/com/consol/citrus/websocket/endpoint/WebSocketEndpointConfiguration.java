@@ -76,4 +76,28 @@ public interface WebSocketEndpointConfiguration extends PollableEndpointConfigur
      * @param endpointUriResolver the endpointUriResolver to set
      */
     void setEndpointUriResolver(EndpointUriResolver endpointUriResolver);
+
+    /**
+     * Gets the maximum number of buffered inbound messages.
+     * @return
+     */
+    int getInboundBufferSize();
+
+    /**
+     * Sets the maximum number of buffered inbound messages. Zero or less is unbounded.
+     * @param inboundBufferSize
+     */
+    void setInboundBufferSize(int inboundBufferSize);
+
+    /**
+     * Is sending messages to all sessions in parallel enabled.
+     * @return
+     */
+    boolean isParallelBroadcast();
+
+    /**
+     * Enables/disables sending messages to all sessions in parallel.
+     * @param parallelBroadcast
+     */
+    void setParallelBroadcast(boolean parallelBroadcast);
 }
@@ -19,6 +19,7 @@ package com.consol.citrus.websocket.endpoint;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -58,7 +59,10 @@ public class WebSocketProducer implements Producer {
         context.onOutboundMessage(message);
 
         WebSocketMessage wsMessage = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-        if (endpointConfiguration.getHandler().sendMessage(wsMessage)) {
+        Object sessionId = message.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID);
+        boolean sent = sessionId != null ? endpointConfiguration.getHandler().sendMessage(sessionId.toString(), wsMessage) :
+                endpointConfiguration.getHandler().sendMessage(wsMessage);
+        if (sent) {
             LOG.info("WebSocket Message was successfully sent");
         }
     }
@@ -16,20 +16,45 @@
 
 package com.consol.citrus.websocket.handler;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.consol.citrus.message.Message;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
-
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
  *
+ * Inbound messages are kept in a queue per session. Receive operations are able to wait for the next message of all
+ * sessions or of a specific session. The total number of buffered inbound messages can be limited, messages arriving
+ * while the buffer is full are dropped.
+ *
+ * Sessions are decorated for concurrent sending so messages sent to the same session by several threads are buffered
+ * instead of blocking each other. Parallel broadcasts use a dedicated thread pool because sending is blocking I/O.
+ *
  * @author Martin Maher
  * @since 2.3
  */
@@ -37,34 +62,62 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Maximum time in milliseconds a send operation may take before the session is closed */
+    private static final int SEND_TIME_LIMIT = 10000;
+
+    /** Maximum number of bytes buffered for a session while another thread is sending */
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    /** Inbound message queues per session id */
+    private final Map<String, Deque<InboundMessage>> inboundMessages = new HashMap<>();
+
+    /** Guards the inbound message queues and signals message arrival */
+    private final ReentrantLock inboundLock = new ReentrantLock();
+    private final Condition messageArrived = inboundLock.newCondition();
+
+    /** Number of buffered inbound messages of all sessions */
+    private int bufferDepth = 0;
+
+    /** Arrival sequence preserving the inbound message order across sessions */
+    private long sequence = 0;
+
+    /** Number of inbound messages dropped because the buffer was full */
+    private final AtomicLong droppedMessages = new AtomicLong();
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /** Maximum number of buffered inbound messages, zero or less is unbounded */
+    private int inboundBufferSize = 0;
+
+    /** Send messages to all sessions in parallel */
+    private boolean parallelBroadcast = false;
+
+    /** Thread pool sending parallel broadcasts, created on first use */
+    private ThreadPoolExecutor broadcastExecutor;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         LOG.debug(String.format("WebSocket connection established (%s)", session.getId()));
-        sessions.put(session.getId(), session);
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT, SEND_BUFFER_SIZE_LIMIT));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addInboundMessage(session, message);
     }
 
     @Override
@@ -78,12 +131,172 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds message to the inbound queue of the session. Drops the message when the inbound buffer is full.
+     * @param session
+     * @param message
+     */
+    private void addInboundMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        inboundLock.lock();
+        try {
+            if (inboundBufferSize > 0 && bufferDepth >= inboundBufferSize) {
+                droppedMessages.incrementAndGet();
+                LOG.warn(String.format("WebSocket inbound buffer is full - dropped message of session (%s)", session.getId()));
+                return;
+            }
+
+            inboundMessages.computeIfAbsent(session.getId(), id -> new ArrayDeque<>())
+                           .addLast(new InboundMessage(session.getId(), message, sequence++));
+            bufferDepth++;
+            messageArrived.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        inboundLock.lock();
+        try {
+            InboundMessage inboundMessage = take(null, message -> true);
+            return inboundMessage != null ? inboundMessage.getMessage() : null;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the next inbound message accepted by the filter. When a session id is given only messages of this session
+     * are considered. Messages are returned in order of arrival.
+     *
+     * The filter is evaluated outside of the inbound lock, so filters may convert messages without blocking producers and
+     * other consumers. Each message is evaluated at most once per receive call.
+     * @param sessionId optional session id
+     * @param filter
+     * @param timeout
+     * @return the inbound message or null when timed out
+     */
+    public InboundMessage receive(String sessionId, Predicate<InboundMessage> filter, long timeout) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        final Map<InboundMessage, Boolean> accepted = new IdentityHashMap<>();
+
+        while (true) {
+            List<InboundMessage> pending;
+
+            inboundLock.lock();
+            try {
+                InboundMessage message = take(sessionId, inbound -> Boolean.TRUE.equals(accepted.get(inbound)));
+                if (message != null) {
+                    return message;
+                }
+
+                pending = getPending(sessionId, accepted);
+                if (pending.isEmpty()) {
+                    long nanosLeft = deadline - System.nanoTime();
+                    if (nanosLeft <= 0) {
+                        return null;
+                    }
+
+                    try {
+                        messageArrived.awaitNanos(nanosLeft);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        LOG.warn("Thread interrupted while waiting for WebSocket message");
+                        return null;
+                    }
+
+                    continue;
+                }
+            } finally {
+                inboundLock.unlock();
+            }
+
+            for (InboundMessage inbound : pending) {
+                accepted.put(inbound, filter.test(inbound));
+            }
+        }
+    }
+
+    /**
+     * Gets inbound messages that have not been evaluated yet in order of arrival. Caller must hold the inbound lock.
+     * @param sessionId
+     * @param evaluated
+     * @return
+     */
+    private List<InboundMessage> getPending(String sessionId, Map<InboundMessage, Boolean> evaluated) {
+        List<InboundMessage> pending = new ArrayList<>();
+        if (sessionId != null) {
+            addPending(inboundMessages.get(sessionId), evaluated, pending);
+        } else {
+            inboundMessages.values().forEach(queue -> addPending(queue, evaluated, pending));
+            pending.sort((first, second) -> Long.compare(first.sequence, second.sequence));
+        }
+
+        return pending;
+    }
+
+    private void addPending(Deque<InboundMessage> queue, Map<InboundMessage, Boolean> evaluated, List<InboundMessage> pending) {
+        if (queue != null) {
+            queue.stream()
+                    .filter(message -> !evaluated.containsKey(message))
+                    .forEach(pending::add);
+        }
+    }
+
+    /**
+     * Removes and returns the earliest inbound message accepted by the filter. Caller must hold the inbound lock.
+     * @param sessionId
+     * @param filter
+     * @return
+     */
+    private InboundMessage take(String sessionId, Predicate<InboundMessage> filter) {
+        Deque<InboundMessage> source = null;
+        InboundMessage candidate = null;
+
+        if (sessionId != null) {
+            source = inboundMessages.get(sessionId);
+            candidate = findFirst(source, filter);
+        } else {
+            for (Deque<InboundMessage> queue : inboundMessages.values()) {
+                InboundMessage first = findFirst(queue, filter);
+                if (first != null && (candidate == null || first.sequence < candidate.sequence)) {
+                    candidate = first;
+                    source = queue;
+                }
+            }
+        }
+
+        if (candidate == null) {
+            return null;
+        }
+
+        source.remove(candidate);
+        bufferDepth--;
+
+        if (source.isEmpty()) {
+            inboundMessages.remove(candidate.getSessionId());
+        }
+
+        return candidate;
+    }
+
+    private InboundMessage findFirst(Deque<InboundMessage> queue, Predicate<InboundMessage> filter) {
+        if (queue == null) {
+            return null;
+        }
+
+        Iterator<InboundMessage> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            InboundMessage message = iterator.next();
+            if (filter.test(message)) {
+                return message;
+            }
+        }
+
+        return null;
     }
 
     /**
@@ -92,21 +305,211 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
         if (sessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
+            return false;
+        }
+
+        if (parallelBroadcast && sessions.size() > 1) {
+            return broadcast(message);
         }
 
+        boolean sentSuccessfully = false;
         for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
-                }
+            sentSuccessfully |= send(session, message);
+        }
+
+        return sentSuccessfully;
+    }
+
+    /**
+     * Sends message to all sessions in parallel using the broadcast thread pool and waits for all sends to complete.
+     * @param message
+     * @return
+     */
+    private boolean broadcast(WebSocketMessage<?> message) {
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (WebSocketSession session : sessions.values()) {
+            results.add(getBroadcastExecutor().submit(() -> send(session, message)));
+        }
+
+        boolean sentSuccessfully = false;
+        for (Future<Boolean> result : results) {
+            try {
+                sentSuccessfully |= result.get();
+            } catch (ExecutionException e) {
+                LOG.error("Error broadcasting message", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Thread interrupted while broadcasting WebSocket message");
+                return sentSuccessfully;
             }
         }
+
         return sentSuccessfully;
     }
+
+    /**
+     * Gets the broadcast thread pool. Idle threads time out so the pool does not need to be shut down explicitly.
+     * @return
+     */
+    private synchronized ThreadPoolExecutor getBroadcastExecutor() {
+        if (broadcastExecutor == null) {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            broadcastExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "citrus-websocket-broadcast");
+                thread.setDaemon(true);
+                return thread;
+            });
+            broadcastExecutor.allowCoreThreadTimeOut(true);
+        }
+
+        return broadcastExecutor;
+    }
+
+    /**
+     * Send message to the session with given id.
+     * @param sessionId
+     * @param message
+     * @return
+     */
+    public boolean sendMessage(String sessionId, WebSocketMessage<?> message) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            LOG.warn(String.format("No Web Socket session (%s) exists - message cannot be sent", sessionId));
+            return false;
+        }
+
+        return send(session, message);
+    }
+
+    private boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session == null || !session.isOpen()) {
+            return false;
+        }
+
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException | SessionLimitExceededException e) {
+            LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of buffered inbound messages.
+     * @return
+     */
+    public int getBufferDepth() {
+        inboundLock.lock();
+        try {
+            return bufferDepth;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of inbound messages dropped because the buffer was full.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Gets the number of open sessions.
+     * @return
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the inbound buffer size.
+     * @return
+     */
+    public int getInboundBufferSize() {
+        return inboundBufferSize;
+    }
+
+    /**
+     * Sets the maximum number of buffered inbound messages. Zero or less is unbounded.
+     * @param inboundBufferSize
+     */
+    public void setInboundBufferSize(int inboundBufferSize) {
+        this.inboundBufferSize = inboundBufferSize;
+    }
+
+    /**
+     * Is parallel broadcast enabled.
+     * @return
+     */
+    public boolean isParallelBroadcast() {
+        return parallelBroadcast;
+    }
+
+    /**
+     * Enables/disables sending messages to all sessions in parallel.
+     * @param parallelBroadcast
+     */
+    public void setParallelBroadcast(boolean parallelBroadcast) {
+        this.parallelBroadcast = parallelBroadcast;
+    }
+
+    /**
+     * Inbound message with the id of the session it was received on.
+     */
+    public static class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+        private final long sequence;
+
+        /** Message converted on first access */
+        private volatile Message convertedMessage;
+
+        InboundMessage(String sessionId, WebSocketMessage<?> message, long sequence) {
+            this.sessionId = sessionId;
+            this.message = message;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the web socket message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the converted message. The message is converted with the given converter on first access only, subsequent
+         * calls return the same converted message.
+         * @param converter
+         * @return
+         */
+        public Message getConvertedMessage(Function<InboundMessage, Message> converter) {
+            Message converted = convertedMessage;
+            if (converted == null) {
+                synchronized (this) {
+                    converted = convertedMessage;
+                    if (converted == null) {
+                        converted = converter.apply(this);
+                        convertedMessage = converted;
+                    }
+                }
+            }
+
+            return converted;
+        }
+    }
 }
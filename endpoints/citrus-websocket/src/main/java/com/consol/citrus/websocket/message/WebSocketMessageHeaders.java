@@ -35,6 +35,7 @@ public class WebSocketMessageHeaders {
     public static final String WEB_SOCKET_PREFIX = MessageHeaders.PREFIX + "websocket_";
 
     public static final String WEB_SOCKET_ID = WEB_SOCKET_PREFIX + "id";
+    public static final String WEB_SOCKET_SESSION_ID = WEB_SOCKET_PREFIX + "session_id";
     public static final String WEB_SOCKET_PATH = WEB_SOCKET_PREFIX + "path";
     public static final String WEB_SOCKET_IS_LAST = WEB_SOCKET_PREFIX + "is_last";
 }
@@ -83,6 +83,8 @@ public class CitrusWebSocketDispatcherServlet extends CitrusDispatcherServlet {
                 String wsPath = webSocketEndpoint.getEndpointConfiguration().getEndpointUri();
 
                 CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+                handler.setInboundBufferSize(webSocketEndpoint.getEndpointConfiguration().getInboundBufferSize());
+                handler.setParallelBroadcast(webSocketEndpoint.getEndpointConfiguration().isParallelBroadcast());
                 webSocketEndpoint.setWebSocketHandler(handler);
                 WebSocketHttpRequestHandler wsRequestHandler = new WebSocketHttpRequestHandler(handler, handshakeHandler);
                 SessionEnricherHandshakeInterceptor handshakeInterceptor = new SessionEnricherHandshakeInterceptor(webSocketEndpoint.getName(), wsPath);
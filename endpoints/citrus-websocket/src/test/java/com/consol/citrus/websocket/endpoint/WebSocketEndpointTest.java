@@ -16,12 +16,17 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +171,177 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testWebSocketEndpointSelectiveReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello 1"));
+        handler.handleMessage(session2, new TextMessage("Hello 2"));
+        handler.handleMessage(session, new TextMessage("Hello 3"));
+        Assert.assertEquals(handler.getBufferDepth(), 3);
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello 2");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello 1");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(), "Hello 3");
+        Assert.assertEquals(handler.getBufferDepth(), 0);
+    }
+
+    @Test
+    public void testWebSocketHandlerEvaluatesFilterOutsideLock() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello 1"));
+        handler.handleMessage(session2, new TextMessage("Hello 2"));
+
+        AtomicInteger evaluations = new AtomicInteger();
+        AtomicInteger conversions = new AtomicInteger();
+        CitrusWebSocketHandler.InboundMessage received = handler.receive(null, inbound -> {
+            evaluations.incrementAndGet();
+            try {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        handler.handleMessage(session, new TextMessage("Hello " + (evaluations.get() + 2)));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).get(1000L, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            Message message = inbound.getConvertedMessage(m -> {
+                conversions.incrementAndGet();
+                return new DefaultMessage(m.getMessage().getPayload());
+            });
+            return message.getPayload(String.class).equals("Hello 2");
+        }, 1000L);
+
+        Assert.assertEquals(received.getSessionId(), "test-socket-2");
+        Assert.assertEquals(received.getConvertedMessage(m -> {
+            conversions.incrementAndGet();
+            return new DefaultMessage(m.getMessage().getPayload());
+        }).getPayload(String.class), "Hello 2");
+        Assert.assertEquals(evaluations.get(), 2);
+        Assert.assertEquals(conversions.get(), 2);
+        Assert.assertEquals(handler.getBufferDepth(), 3);
+
+        evaluations.set(0);
+        Assert.assertNull(handler.receive(null, inbound -> {
+            evaluations.incrementAndGet();
+            return false;
+        }, 200L));
+        Assert.assertEquals(evaluations.get(), 3);
+    }
+
+    @Test
+    public void testWebSocketEndpointReceiveWaitsForMessage() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                handler.handleMessage(session, new TextMessage("Hello"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+
+        Message received = webSocketEndpoint.createConsumer().receive(context, 5000L);
+        Assert.assertEquals(received.getPayload(), "Hello");
+        sender.join();
+    }
+
+    @Test
+    public void testWebSocketEndpointInboundBufferSize() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        handler.setInboundBufferSize(2);
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("Hello 1"));
+        handler.handleMessage(session, new TextMessage("Hello 2"));
+        handler.handleMessage(session, new TextMessage("Hello 3"));
+
+        Assert.assertEquals(handler.getBufferDepth(), 2);
+        Assert.assertEquals(handler.getDroppedMessages(), 1L);
+        Assert.assertEquals(handler.getMessage().getPayload(), "Hello 1");
+        Assert.assertEquals(handler.getMessage().getPayload(), "Hello 2");
+        Assert.assertNull(handler.getMessage());
+    }
+
+    @Test
+    public void testWebSocketEndpointParallelBroadcast() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        handler.setParallelBroadcast(true);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2, session3);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session3.getId()).thenReturn("test-socket-3");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+        when(session3.isOpen()).thenReturn(true);
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+        handler.afterConnectionEstablished(session3);
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello all"), context);
+
+        verify(session).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session2).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session3).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+
+        webSocketEndpoint.createProducer().send(new DefaultMessage("Hello 2")
+                .setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, "test-socket-2"), context);
+
+        verify(session).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session2, times(2)).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+        verify(session3).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
+    }
 }
@@ -72,6 +72,16 @@ public class WebServiceClientBuilder extends AbstractEndpointBuilder<WebServiceC
         return this;
     }
 
+    /**
+     * Sets the attachment spool threshold.
+     * @param threshold
+     * @return
+     */
+    public WebServiceClientBuilder attachmentSpoolThreshold(long threshold) {
+        endpoint.getEndpointConfiguration().setAttachmentSpoolThreshold(threshold);
+        return this;
+    }
+
     /**
      * Sets the web service template.
      * @param webServiceTemplate
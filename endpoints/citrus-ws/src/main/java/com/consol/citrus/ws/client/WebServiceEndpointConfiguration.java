@@ -78,6 +78,9 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Inbound attachments larger than this number of bytes are spooled to temporary files, negative value disables spooling */
+    private long attachmentSpoolThreshold = -1L;
+
     /**
      * Default constructor initializes with default logging interceptor.
      */
@@ -300,6 +303,23 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the attachment spool threshold.
+     * @return
+     */
+    public long getAttachmentSpoolThreshold() {
+        return attachmentSpoolThreshold;
+    }
+
+    /**
+     * Sets the attachment spool threshold in bytes. Inbound attachments exceeding the threshold are spooled
+     * to temporary files instead of being held in memory.
+     * @param attachmentSpoolThreshold
+     */
+    public void setAttachmentSpoolThreshold(long attachmentSpoolThreshold) {
+        this.attachmentSpoolThreshold = attachmentSpoolThreshold;
+    }
+
     /**
      * Gets the handleAttributeHeaders.
      *
@@ -80,6 +80,12 @@ public @interface WebServiceClientConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Attachment spool threshold in bytes.
+     * @return
+     */
+    long attachmentSpoolThreshold() default -1L;
+
 
     /**
      * Fault handling strategy.
@@ -94,6 +94,7 @@ public class WebServiceClientConfigParser implements AnnotationConfigParser<WebS
 
         builder.faultStrategy(annotation.faultStrategy());
         builder.pollingInterval(annotation.pollingInterval());
+        builder.attachmentSpoolThreshold(annotation.attachmentSpoolThreshold());
 
         builder.timeout(annotation.timeout());
 
@@ -174,4 +174,10 @@ public @interface WebServiceServerConfig {
      * @return
      */
     boolean keepSoapEnvelope() default false;
+
+    /**
+     * Attachment spool threshold in bytes.
+     * @return
+     */
+    long attachmentSpoolThreshold() default -1L;
 }
@@ -42,6 +42,7 @@ public class WebServiceServerConfigParser implements AnnotationConfigParser<WebS
         builder.handleMimeHeaders(annotation.handleMimeHeaders());
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.keepSoapEnvelope(annotation.keepSoapEnvelope());
+        builder.attachmentSpoolThreshold(annotation.attachmentSpoolThreshold());
 
         if (StringUtils.hasText(annotation.soapHeaderNamespace())) {
             builder.soapHeaderNamespace(annotation.soapHeaderNamespace());
@@ -74,6 +74,7 @@ public class WebServiceClientParser extends AbstractEndpointParser {
         }
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("attachment-spool-threshold"), "attachmentSpoolThreshold");
     }
 
     @Override
@@ -19,11 +19,19 @@ package com.consol.citrus.ws.message;
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.ref.Cleaner;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -77,6 +85,21 @@ public class SoapAttachment implements Attachment, Serializable {
     /** Test context for variable resolving */
     private TestContext context;
 
+    /** Temporary file holding spooled content data */
+    private String spoolFilePath;
+
+    /** Content size in bytes when known in advance */
+    private long contentSize = -1L;
+
+    /** Hex encoded SHA-256 digest of content data when known in advance */
+    private String contentDigest;
+
+    /** Deletes the spool file when this attachment is released or garbage collected */
+    private transient Cleaner.Cleanable spoolFileCleanup;
+
+    /** Cleaner deleting spool files of unreachable attachments */
+    private static final Cleaner CLEANER = Cleaner.create();
+
     /**
      * Default constructor
      */
@@ -89,6 +112,90 @@ public class SoapAttachment implements Attachment, Serializable {
      * @return
      */
     public static SoapAttachment from(Attachment attachment) {
+        return from(attachment, -1L);
+    }
+
+    /**
+     * Static construction method from Spring mime attachment. Attachment data exceeding the given spool threshold in bytes
+     * is written to a temporary file and read lazily from there. Content size and digest are computed while reading the data
+     * so validators do not need to read the content again. Binary attachments of known size below the threshold are not read
+     * in advance, their digest is computed the first time the content is read. Negative threshold disables spooling.
+     * @param attachment
+     * @param spoolThreshold
+     * @return
+     */
+    public static SoapAttachment from(Attachment attachment, long spoolThreshold) {
+        if (spoolThreshold < 0) {
+            return fromAttachment(attachment);
+        }
+
+        SoapAttachment soapAttachment = new SoapAttachment();
+
+        String contentId = attachment.getContentId();
+        if (contentId.startsWith("<") && contentId.endsWith(">")) {
+            contentId = contentId.substring(1, contentId.length() - 1);
+        }
+        soapAttachment.setContentId(contentId);
+        soapAttachment.setContentType(attachment.getContentType());
+        soapAttachment.setCharsetName(CitrusSettings.CITRUS_FILE_ENCODING);
+
+        boolean textContent = attachment.getContentType().startsWith("text");
+        long attachmentSize = attachment.getSize();
+        if (!textContent && attachmentSize >= 0 && attachmentSize <= spoolThreshold) {
+            soapAttachment.setDataHandler(new DataHandler(soapAttachment.new DigestDataSource(attachment)));
+            return soapAttachment;
+        }
+
+        MessageDigest digest = createDigest();
+        try (InputStream inputStream = new DigestInputStream(attachment.getInputStream(), digest)) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            long size = copy(inputStream, buffer, spoolThreshold == Long.MAX_VALUE ? Long.MAX_VALUE : spoolThreshold + 1);
+
+            if (size > spoolThreshold) {
+                Path spoolFile = Files.createTempFile("citrus-soap-attachment", ".tmp");
+                spoolFile.toFile().deleteOnExit();
+                soapAttachment.spoolFilePath = spoolFile.toAbsolutePath().toString();
+                soapAttachment.spoolFileCleanup = CLEANER.register(soapAttachment, new SpoolFileCleanup(spoolFile));
+
+                try (OutputStream target = Files.newOutputStream(spoolFile)) {
+                    buffer.writeTo(target);
+                    size += copy(inputStream, target, Long.MAX_VALUE);
+                }
+
+                soapAttachment.setDataHandler(new DataHandler(soapAttachment.new SpoolFileDataSource()));
+            } else if (textContent) {
+                soapAttachment.setContent(new String(buffer.toByteArray(), soapAttachment.getCharsetName()).trim());
+                return soapAttachment;
+            } else {
+                soapAttachment.setDataHandler(new DataHandler(soapAttachment.new BinaryDataSource(buffer.toByteArray())));
+            }
+
+            soapAttachment.contentSize = size;
+            soapAttachment.contentDigest = Hex.encodeHexString(digest.digest());
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read SOAP attachment content", e);
+        }
+
+        return soapAttachment;
+    }
+
+    /**
+     * Releases resources held by this attachment. Spooled content data is deleted so the content is not available anymore
+     * after this method has been called. Spool files of attachments that are not released explicitly are deleted once the
+     * attachment has been garbage collected.
+     */
+    public void release() {
+        if (spoolFileCleanup != null) {
+            spoolFileCleanup.clean();
+        }
+    }
+
+    /**
+     * Creates new SOAP attachment from Spring mime attachment reading text content into memory.
+     * @param attachment
+     * @return
+     */
+    private static SoapAttachment fromAttachment(Attachment attachment) {
         SoapAttachment soapAttachment = new SoapAttachment();
 
         String contentId = attachment.getContentId();
@@ -168,6 +275,10 @@ public class SoapAttachment implements Attachment, Serializable {
 
     @Override
     public long getSize() {
+        if (contentSize >= 0) {
+            return contentSize;
+        }
+
         try {
             if (content != null) {
                 return getContent().getBytes(charsetName).length;
@@ -184,6 +295,37 @@ public class SoapAttachment implements Attachment, Serializable {
         return String.format("%s [contentId: %s, contentType: %s, content: %s]", getClass().getSimpleName().toUpperCase(), getContentId(), getContentType(), getContent());
     }
 
+    /**
+     * Gets the hex encoded SHA-256 digest of the content data. Digest is computed from the content input stream
+     * unless it was already computed when the attachment has been read.
+     * @return
+     */
+    public String getContentDigest() {
+        if (contentDigest != null) {
+            return contentDigest;
+        }
+
+        MessageDigest digest = createDigest();
+        try (InputStream inputStream = new DigestInputStream(getInputStream(), digest)) {
+            byte[] chunk = new byte[8192];
+            while (inputStream.read(chunk) != -1) {
+                // read all data to update digest
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read SOAP attachment data input stream", e);
+        }
+
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Checks if attachment content has been spooled to a temporary file.
+     * @return
+     */
+    public boolean isSpooled() {
+        return spoolFilePath != null;
+    }
+
     /**
      * Get the content body.
      * @return the content
@@ -191,6 +333,12 @@ public class SoapAttachment implements Attachment, Serializable {
     public String getContent() {
         if (content != null) {
             return context != null ? context.replaceDynamicContentInString(content) : content;
+        } else if (isSpooled() && getContentType().startsWith("text")) {
+            try {
+                return FileUtils.readToString(getInputStream(), Charset.forName(charsetName)).trim();
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read spooled SOAP attachment content", e);
+            }
         } else if (StringUtils.hasText(getContentResourcePath()) && getContentType().startsWith("text")) {
             try {
                 String fileContent = FileUtils.readToString(new PathMatchingResourcePatternResolver().getResource(getContentResourcePath()).getInputStream(), Charset.forName(charsetName));
@@ -321,12 +469,43 @@ public class SoapAttachment implements Attachment, Serializable {
      */
     private static long getSizeOfContent(InputStream is) throws IOException {
         long size = 0;
-        while (is.read() != -1) {
-            size++;
+        try (InputStream inputStream = is) {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = inputStream.read(chunk)) != -1) {
+                size += read;
+            }
         }
         return size;
     }
 
+    /**
+     * Copies data from input stream to given output stream until the stream is exhausted or the given limit of bytes is reached.
+     * @return number of bytes copied
+     */
+    private static long copy(InputStream inputStream, OutputStream outputStream, long limit) throws IOException {
+        long size = 0L;
+        byte[] chunk = new byte[8192];
+        int read;
+        while (size < limit && (read = inputStream.read(chunk, 0, (int) Math.min(chunk.length, limit - size))) != -1) {
+            outputStream.write(chunk, 0, read);
+            size += read;
+        }
+        return size;
+    }
+
+    /**
+     * Creates message digest used for content digest computation.
+     * @return
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create SOAP attachment content digest", e);
+        }
+    }
+
     /**
      * Data source working on this attachments text content data.
      */
@@ -352,6 +531,149 @@ public class SoapAttachment implements Attachment, Serializable {
         }
     }
 
+    /**
+     * Data source working on this attachments binary content data held in memory.
+     */
+    private class BinaryDataSource implements DataSource {
+        private final byte[] data;
+
+        BinaryDataSource(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public String getContentType() {
+            return SoapAttachment.this.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return SoapAttachment.this.getContentId();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Data source working on this attachments spooled temporary file.
+     */
+    private class SpoolFileDataSource implements DataSource {
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(Paths.get(spoolFilePath));
+        }
+
+        @Override
+        public String getContentType() {
+            return SoapAttachment.this.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return SoapAttachment.this.getContentId();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Data source delegating to the original attachment data. Content size and digest are recorded as soon as the data
+     * has been read completely.
+     */
+    private class DigestDataSource implements DataSource {
+        private final Attachment delegate;
+
+        DigestDataSource(Attachment delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (contentDigest != null) {
+                return delegate.getInputStream();
+            }
+
+            return new DigestInputStream(delegate.getInputStream(), createDigest()) {
+                private long size = 0L;
+
+                @Override
+                public int read() throws IOException {
+                    int data = super.read();
+                    if (data == -1) {
+                        complete();
+                    } else {
+                        size++;
+                    }
+                    return data;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int read = super.read(b, off, len);
+                    if (read == -1) {
+                        complete();
+                    } else {
+                        size += read;
+                    }
+                    return read;
+                }
+
+                private void complete() {
+                    if (contentDigest == null) {
+                        contentSize = size;
+                        contentDigest = Hex.encodeHexString(getMessageDigest().digest());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public String getContentType() {
+            return SoapAttachment.this.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return SoapAttachment.this.getContentId();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Cleanup action deleting the spool file. Must not reference the attachment itself so the attachment can be garbage collected.
+     */
+    private static class SpoolFileCleanup implements Runnable {
+        private final Path spoolFile;
+
+        SpoolFileCleanup(Path spoolFile) {
+            this.spoolFile = spoolFile;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException e) {
+                spoolFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
     /**
      * Data source working on this attachments file resource.
      */
@@ -78,6 +78,12 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(SoapMessageConverter.class);
 
+    /** Shared transformer factory */
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    /** Identity transformers reused per thread */
+    private static final ThreadLocal<Transformer> TRANSFORMERS = new ThreadLocal<>();
+
     /** Default payload source encoding */
     private String charset = CitrusSettings.CITRUS_FILE_ENCODING;
 
@@ -99,10 +105,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         final SoapMessage soapMessage = convertMessageToSoapMessage(message);
 
-        final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        copySoapPayload(soapRequest, soapMessage, transformerFactory);
+        copySoapPayload(soapRequest, soapMessage);
         copySoapHeaders(endpointConfiguration, soapRequest, soapMessage);
-        copySoapHeaderData(soapRequest, soapMessage, transformerFactory);
+        copySoapHeaderData(soapRequest, soapMessage);
 
         if (soapMessage.isMtomEnabled() && soapMessage.getAttachments().size() > 0) {
             log.debug("Converting SOAP request to XOP package");
@@ -132,10 +137,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
                 final StringResult payloadResult = new StringResult();
-
-                final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
+                getTransformer().transform(webServiceMessage.getPayloadSource(), payloadResult);
 
                 payload = payloadResult.toString();
             }
@@ -170,7 +172,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                                             final WebServiceEndpointConfiguration endpointConfiguration) {
         handleInboundNamespaces(soapMessage, message);
         handleInboundSoapHeaders(soapMessage, message);
-        handleInboundAttachments(soapMessage, message);
+        handleInboundAttachments(soapMessage, message, endpointConfiguration.getAttachmentSpoolThreshold());
 
         if (endpointConfiguration.isHandleMimeHeaders()) {
             handleInboundMimeHeaders(soapMessage, message);
@@ -278,9 +280,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
                 if (soapHeader.getSource() != null) {
                     final StringResult headerData = new StringResult();
-                    final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    final Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
+                    getTransformer().transform(soapHeader.getSource(), headerData);
 
                     message.addHeaderData(headerData.toString());
                 }
@@ -401,11 +401,25 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
      */
     protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
                                             final SoapMessage message) {
+        handleInboundAttachments(soapMessage, message, -1L);
+    }
+
+    /**
+     * Adds attachments if present in soap web service message. Attachments exceeding the spool threshold in bytes
+     * are spooled to temporary files.
+     *
+     * @param soapMessage the web service message.
+     * @param message the response message builder.
+     * @param spoolThreshold the attachment spool threshold, negative value disables spooling.
+     */
+    protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
+                                            final SoapMessage message,
+                                            final long spoolThreshold) {
         final Iterator<Attachment> attachments = soapMessage.getAttachments();
 
         while (attachments.hasNext()) {
             final Attachment attachment = attachments.next();
-            final SoapAttachment soapAttachment = SoapAttachment.from(attachment);
+            final SoapAttachment soapAttachment = SoapAttachment.from(attachment, spoolThreshold);
 
             if (log.isDebugEnabled()) {
                 log.debug(String.format("SOAP message contains attachment with contentId '%s'", soapAttachment.getContentId()));
@@ -454,11 +468,10 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     }
 
     private void copySoapHeaderData(final org.springframework.ws.soap.SoapMessage soapRequest,
-                                    final SoapMessage soapMessage,
-                                    final TransformerFactory transformerFactory) {
+                                    final SoapMessage soapMessage) {
         for (final String headerData : soapMessage.getHeaderData()) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
+                final Transformer transformer = getTransformer();
                 transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
                 transformer.transform(new StringSource(headerData),
                         soapRequest.getSoapHeader().getResult());
@@ -468,12 +481,11 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
-    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage, final TransformerFactory transformerFactory) {
+    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage) {
         final String payload = soapMessage.getPayload(String.class);
         if (StringUtils.hasText(payload)) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
+                getTransformer().transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
             } catch (final TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
             }
@@ -496,6 +508,26 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
+    /**
+     * Gets identity transformer for the current thread. Transformer instances are created once per thread from the shared
+     * transformer factory and reset before each reuse.
+     * @return
+     * @throws TransformerException
+     */
+    private static Transformer getTransformer() throws TransformerException {
+        Transformer transformer = TRANSFORMERS.get();
+        if (transformer == null) {
+            synchronized (TRANSFORMER_FACTORY) {
+                transformer = TRANSFORMER_FACTORY.newTransformer();
+            }
+            TRANSFORMERS.set(transformer);
+        } else {
+            transformer.reset();
+        }
+
+        return transformer;
+    }
+
     public String getCharset() {
         return charset;
     }
@@ -206,6 +206,16 @@ public class WebServiceServerBuilder extends AbstractServerBuilder<WebServiceSer
         return this;
     }
 
+    /**
+     * Sets the attachment spool threshold.
+     * @param threshold
+     * @return
+     */
+    public WebServiceServerBuilder attachmentSpoolThreshold(long threshold) {
+        endpoint.setAttachmentSpoolThreshold(threshold);
+        return this;
+    }
+
     /**
      * Sets the handleMimeHeaders property.
      * @param flag
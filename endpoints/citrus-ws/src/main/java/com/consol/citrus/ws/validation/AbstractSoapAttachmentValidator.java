@@ -90,7 +90,9 @@ public abstract class AbstractSoapAttachmentValidator implements SoapAttachmentV
             }
         }
 
-        if (matching != null) {
+        if (matching instanceof SoapAttachment) {
+            return (SoapAttachment) matching;
+        } else if (matching != null) {
             return SoapAttachment.from(matching);
         } else {
             throw new ValidationException(String.format("Unable to find SOAP attachment with content id '%s'", controlAttachment.getContentId()));
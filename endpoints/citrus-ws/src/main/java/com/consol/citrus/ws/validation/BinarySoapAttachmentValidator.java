@@ -16,18 +16,16 @@
 
 package com.consol.citrus.ws.validation;
 
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ws.message.SoapAttachment;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 
-import java.io.IOException;
 import java.util.Optional;
 
 /**
- * Soap attachment validator performs binary content validation by comparing attachment content binary input streams.
+ * Soap attachment validator performs binary content validation by comparing content digests of the attachments.
+ * Received attachments that have been spooled to temporary files already carry their digest so content is not read again.
  *
  * @author Christoph Deppisch
  * @since 2.1
@@ -43,13 +41,9 @@ public class BinarySoapAttachmentValidator extends AbstractSoapAttachmentValidat
             log.debug("Validating binary SOAP attachment content ...");
         }
 
-        try {
-            Assert.isTrue(IOUtils.contentEquals(receivedAttachment.getInputStream(), controlAttachment.getInputStream()),
-                    "Values not equal for binary attachment content '"
-                            + Optional.ofNullable(controlAttachment.getContentId()).orElse(Optional.ofNullable(receivedAttachment.getContentId()).orElse("unknown")) + "'");
-        } catch(IOException e) {
-            throw new CitrusRuntimeException("Binary SOAP attachment validation failed", e);
-        }
+        Assert.isTrue(receivedAttachment.getContentDigest().equals(controlAttachment.getContentDigest()),
+                "Values not equal for binary attachment content '"
+                        + Optional.ofNullable(controlAttachment.getContentId()).orElse(Optional.ofNullable(receivedAttachment.getContentId()).orElse("unknown")) + "'");
 
         if (log.isDebugEnabled()) {
             log.debug("Validating binary SOAP attachment content: OK");
@@ -25,16 +25,23 @@ import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileCopyUtils;
 import org.springframework.ws.mime.Attachment;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -90,6 +97,141 @@ public class SoapAttachmentTest {
 
     }
 
+    @Test
+    public void testFromAttachmentSpooled() throws Exception {
+        reset(attachment);
+
+        byte[] data = "This is large img content!".getBytes(StandardCharsets.UTF_8);
+        when(attachment.getContentId()).thenReturn("<img>");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getSize()).thenReturn((long) data.length);
+        when(attachment.getInputStream()).thenReturn(new ByteArrayInputStream(data));
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 10L);
+
+        Assert.assertTrue(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getContentId(), "img");
+        Assert.assertEquals(soapAttachment.getSize(), data.length);
+        Assert.assertEquals(soapAttachment.getContentDigest(), Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(data)));
+        Assert.assertEquals(soapAttachment.getContent(), Base64.encodeBase64String(data));
+
+        try (InputStream inputStream = soapAttachment.getInputStream()) {
+            Assert.assertEquals(FileCopyUtils.copyToByteArray(inputStream), data);
+        }
+    }
+
+    @Test
+    public void testFromTextAttachmentSpooled() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("mail");
+        when(attachment.getContentType()).thenReturn("text/plain");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is mail text content!", "text/plain", "UTF-8", "mail").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 10L);
+
+        Assert.assertTrue(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getContent(), "This is mail text content!");
+        Assert.assertEquals(soapAttachment.getSize(), 26L);
+    }
+
+    @Test
+    public void testFromAttachmentBelowSpoolThreshold() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("mail");
+        when(attachment.getContentType()).thenReturn("text/plain");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is mail text content!", "text/plain", "UTF-8", "mail").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 1024L);
+
+        Assert.assertFalse(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getContent(), "This is mail text content!");
+        Assert.assertEquals(soapAttachment.getContentDigest(),
+                Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest("This is mail text content!".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testFromAttachmentMaxSpoolThreshold() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("mail");
+        when(attachment.getContentType()).thenReturn("text/plain");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is mail text content!", "text/plain", "UTF-8", "mail").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, Long.MAX_VALUE);
+
+        Assert.assertFalse(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getContent(), "This is mail text content!");
+    }
+
+    @Test
+    public void testReleaseSpooledAttachment() throws Exception {
+        reset(attachment);
+
+        byte[] data = "This is large img content!".getBytes(StandardCharsets.UTF_8);
+        when(attachment.getContentId()).thenReturn("img");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getSize()).thenReturn(-1L);
+        when(attachment.getInputStream()).thenReturn(new ByteArrayInputStream(data));
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 10L);
+
+        Path spoolFile = Paths.get((String) ReflectionTestUtils.getField(soapAttachment, "spoolFilePath"));
+        Assert.assertTrue(Files.exists(spoolFile));
+
+        soapAttachment.release();
+        Assert.assertFalse(Files.exists(spoolFile));
+
+        soapAttachment.release();
+    }
+
+    @Test
+    public void testFromBinaryAttachmentBelowSpoolThreshold() throws Exception {
+        reset(attachment);
+
+        byte[] data = "This is img content!".getBytes(StandardCharsets.UTF_8);
+        when(attachment.getContentId()).thenReturn("img");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getSize()).thenReturn((long) data.length);
+        when(attachment.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(data));
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 1024L);
+
+        Assert.assertFalse(soapAttachment.isSpooled());
+        verify(attachment, never()).getInputStream();
+
+        try (InputStream inputStream = soapAttachment.getInputStream()) {
+            Assert.assertEquals(FileCopyUtils.copyToByteArray(inputStream), data);
+        }
+
+        Assert.assertEquals(soapAttachment.getContentDigest(), Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(data)));
+        Assert.assertEquals(soapAttachment.getSize(), data.length);
+        verify(attachment, times(1)).getInputStream();
+    }
+
+    @Test
+    public void testFromBinaryAttachmentUnknownSizeBelowSpoolThreshold() throws Exception {
+        reset(attachment);
+
+        byte[] data = "This is img content!".getBytes(StandardCharsets.UTF_8);
+        when(attachment.getContentId()).thenReturn("img");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getSize()).thenReturn(-1L);
+        when(attachment.getInputStream()).thenReturn(new ByteArrayInputStream(data));
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, 1024L);
+
+        Assert.assertFalse(soapAttachment.isSpooled());
+        Assert.assertEquals(soapAttachment.getSize(), data.length);
+        Assert.assertEquals(soapAttachment.getContentDigest(), Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(data)));
+
+        try (InputStream inputStream = soapAttachment.getInputStream()) {
+            Assert.assertEquals(FileCopyUtils.copyToByteArray(inputStream), data);
+        }
+        verify(attachment, times(1)).getInputStream();
+    }
+
     @Test
     public void testFileResourceTextContent() throws Exception {
         SoapAttachment soapAttachment = new SoapAttachment();
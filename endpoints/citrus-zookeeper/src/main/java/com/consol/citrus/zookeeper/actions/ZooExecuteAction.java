@@ -40,9 +40,11 @@ import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.AbstractZooCommand;
 import com.consol.citrus.zookeeper.command.CommandResultCallback;
 import com.consol.citrus.zookeeper.command.Create;
+import com.consol.citrus.zookeeper.command.CreateTree;
 import com.consol.citrus.zookeeper.command.Delete;
 import com.consol.citrus.zookeeper.command.Exists;
 import com.consol.citrus.zookeeper.command.GetChildren;
+import com.consol.citrus.zookeeper.command.GetChildrenRecursive;
 import com.consol.citrus.zookeeper.command.GetData;
 import com.consol.citrus.zookeeper.command.Info;
 import com.consol.citrus.zookeeper.command.SetData;
@@ -185,30 +187,33 @@ public class ZooExecuteAction extends AbstractTestAction {
     }
 
     /**
-     * Validate command results.
+     * Validate command results. The command result is converted to JSON only when variable extractors, an expected
+     * result or JSON path expressions need it. Result callbacks work directly on the command result object.
      * @param command
      * @param context
      */
     private void validateCommandResult(ZooCommand command, TestContext context) {
-        Message commandResult = getCommandResult(command);
-
-        for (MessageProcessor processor : messageProcessors) {
-            processor.process(commandResult, context);
-        }
-
         if (log.isDebugEnabled()) {
             log.debug("Validating Zookeeper response");
         }
 
-        if (StringUtils.hasText(expectedCommandResult)) {
-            assertResultExists(commandResult);
-            JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
-            getMessageValidator(context).validateMessage(commandResult, new DefaultMessage(expectedCommandResult), context, Collections.singletonList(validationContext));
-        }
+        if (!messageProcessors.isEmpty() || StringUtils.hasText(expectedCommandResult) || jsonPathMessageValidationContext != null) {
+            Message commandResult = getCommandResult(command);
 
-        if (jsonPathMessageValidationContext != null) {
-            assertResultExists(commandResult);
-            getPathValidator(context).validateMessage(commandResult, null, context, Collections.singletonList(jsonPathMessageValidationContext));
+            for (MessageProcessor processor : messageProcessors) {
+                processor.process(commandResult, context);
+            }
+
+            if (StringUtils.hasText(expectedCommandResult)) {
+                assertResultExists(commandResult);
+                JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+                getMessageValidator(context).validateMessage(commandResult, new DefaultMessage(expectedCommandResult), context, Collections.singletonList(validationContext));
+            }
+
+            if (jsonPathMessageValidationContext != null) {
+                assertResultExists(commandResult);
+                getPathValidator(context).validateMessage(commandResult, null, context, Collections.singletonList(jsonPathMessageValidationContext));
+            }
         }
 
         log.info("Zookeeper command result validation successful - all values OK!");
@@ -328,6 +333,38 @@ public class ZooExecuteAction extends AbstractTestAction {
             return command(command);
         }
 
+        /**
+         * Adds a create-tree command creating persistent nodes by default.
+         */
+        public Builder createTree(String path) {
+            CreateTree command = new CreateTree();
+            command.path(path);
+            command.mode("PERSISTENT");
+            command.acl(DEFAULT_ACL);
+            return command(command);
+        }
+
+        /**
+         * Adds a child node to the create-tree command.
+         * @param path relative to the tree root path
+         * @param data
+         * @return
+         */
+        public Builder node(String path, String data) {
+            ((CreateTree) command).node(path, data);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of nodes created within a single transaction by the create-tree command.
+         * @param batchSize
+         * @return
+         */
+        public Builder batchSize(int batchSize) {
+            ((CreateTree) command).batchSize(batchSize);
+            return this;
+        }
+
         /**
          * Sets the mode parameter.
          * @param mode
@@ -390,6 +427,15 @@ public class ZooExecuteAction extends AbstractTestAction {
             return command(command);
         }
 
+        /**
+         * Adds a command getting all descendants of a node.
+         */
+        public Builder childrenRecursive(String path) {
+            GetChildrenRecursive command = new GetChildrenRecursive();
+            command.path(path);
+            return command(command);
+        }
+
         /**
          * Adds a get-data command.
          */
@@ -24,9 +24,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Zookeeper client used for executing zookeeper commands.
+ * Zookeeper client used for executing zookeeper commands. The client session is created on first access and reused by
+ * all commands. A new session is created once the previous session has been closed or has expired.
  *
  * @author Martin Maher
  * @since 2.5
@@ -36,6 +39,9 @@ public class ZooClient {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(ZooClient.class);
 
+    /** Time in milliseconds to wait for the session to get connected */
+    private static final long CONNECT_TIMEOUT = 5000L;
+
     /** ZooKeeper client */
     private ZooKeeper zookeeper;
 
@@ -62,34 +68,53 @@ public class ZooClient {
      * Creates a new Zookeeper client instance with configuration.
      * @return
      */
-    private ZooKeeper createZooKeeperClient() throws IOException {
+    private ZooKeeper createZooKeeperClient(CountDownLatch connected) throws IOException {
         ZooClientConfig config = getZookeeperClientConfig();
-        return new ZooKeeper(config.getUrl(), config.getTimeout(), getConnectionWatcher());
+        return new ZooKeeper(config.getUrl(), config.getTimeout(), getConnectionWatcher(connected));
     }
 
     /**
-     * Constructs or gets the zookeeper client implementation.
+     * Constructs or gets the zookeeper client implementation. Waits for the connection to be established
+     * when a new session is created.
      * @return
      */
-    public ZooKeeper getZooKeeperClient() {
-        if (zookeeper == null) {
+    public synchronized ZooKeeper getZooKeeperClient() {
+        if (zookeeper == null || zookeeper.getState() == ZooKeeper.States.CLOSED) {
             try {
-                zookeeper = createZooKeeperClient();
-                int retryAttempts = 5;
-                while(!zookeeper.getState().isConnected() && retryAttempts > 0) {
-                    LOG.debug("connecting...");
-                    retryAttempts--;
-                    Thread.sleep(1000);
+                CountDownLatch connected = new CountDownLatch(1);
+                zookeeper = createZooKeeperClient(connected);
+
+                LOG.debug("connecting...");
+                if (!connected.await(CONNECT_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    LOG.warn(String.format("Zookeeper client not connected after %s ms", CONNECT_TIMEOUT));
                 }
-            } catch (IOException | InterruptedException e) {
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new CitrusRuntimeException(e);
             }
-
         }
 
         return zookeeper;
     }
 
+    /**
+     * Closes the current client session if any.
+     */
+    public synchronized void close() {
+        if (zookeeper != null) {
+            try {
+                zookeeper.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(e);
+            } finally {
+                zookeeper = null;
+            }
+        }
+    }
+
     /**
      * Gets the zookeeper client configuration.
      * @return
@@ -110,11 +135,15 @@ public class ZooClient {
         this.zookeeperConfig = zookeeperConfig;
     }
 
-    private Watcher getConnectionWatcher() {
+    private Watcher getConnectionWatcher(final CountDownLatch connected) {
         return new Watcher() {
             @Override
             public void process(WatchedEvent event) {
                 LOG.debug(String.format("Connection Event: %s", event.toString()));
+
+                if (event.getState() == Event.KeeperState.SyncConnected) {
+                    connected.countDown();
+                }
             }
         };
     }
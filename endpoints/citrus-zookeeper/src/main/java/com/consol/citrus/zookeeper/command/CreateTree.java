@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.data.ACL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a znode together with a tree of child znodes. Child node paths are relative to the root path, missing
+ * intermediate nodes are created with empty data. All nodes are created with ZooKeeper multi transactions so each
+ * batch of nodes is a single round trip to the server.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class CreateTree extends Create {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(CreateTree.class);
+
+    public static final String BATCH_SIZE = "batch-size";
+    public static final String CREATED = "created";
+
+    /** Default maximum number of nodes per transaction */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** Child nodes data by relative path */
+    private final Map<String, String> nodes = new LinkedHashMap<>();
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public CreateTree() {
+        super("zookeeper:create-tree");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        String path = this.getParameter(PATH, context);
+        String data = hasParameter(DATA) ? this.getParameter(DATA, context) : "";
+        CreateMode mode = CommandHelper.lookupCreateMode(hasParameter(MODE) ? this.getParameter(MODE, context) : CreateMode.PERSISTENT.name());
+        List<ACL> acl = CommandHelper.lookupAcl(hasParameter(ACL) ? this.getParameter(ACL, context) : ACL_OPEN);
+        int batchSize = hasParameter(BATCH_SIZE) ? Integer.parseInt(this.getParameter(BATCH_SIZE, context)) : DEFAULT_BATCH_SIZE;
+
+        Map<String, String> tree = resolveTree(path, data, context);
+
+        List<Op> batch = new ArrayList<>();
+        int created = 0;
+        try {
+            for (Map.Entry<String, String> node : tree.entrySet()) {
+                batch.add(Op.create(node.getKey(), node.getValue().getBytes(), acl, mode));
+
+                if (batch.size() >= batchSize) {
+                    created += zookeeperClient.getZooKeeperClient().multi(batch).size();
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                created += zookeeperClient.getZooKeeperClient().multi(batch).size();
+            }
+        } catch (KeeperException e) {
+            throw new CitrusRuntimeException(String.format("Failed to create znode tree '%s' - %s nodes created before failure", path, created), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        }
+
+        commandResult.setResponseParam(PATH, path);
+        commandResult.setResponseParam(CREATED, created);
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Resolves absolute node paths including missing intermediate nodes ordered so parents are created before their children.
+     * @param path
+     * @param data
+     * @param context
+     * @return
+     */
+    private Map<String, String> resolveTree(String path, String data, TestContext context) {
+        Map<String, String> tree = new TreeMap<>(Comparator.comparingLong(CreateTree::depth).thenComparing(Comparator.naturalOrder()));
+        tree.put(path, data);
+
+        for (Map.Entry<String, String> node : nodes.entrySet()) {
+            String nodePath = path;
+            for (String name : context.replaceDynamicContentInString(node.getKey()).split("/")) {
+                if (!name.isEmpty()) {
+                    nodePath = CommandHelper.childPath(nodePath, name);
+                    tree.putIfAbsent(nodePath, "");
+                }
+            }
+
+            tree.put(nodePath, context.replaceDynamicContentInString(node.getValue()));
+        }
+
+        return tree;
+    }
+
+    private static long depth(String path) {
+        return path.chars().filter(c -> c == '/').count();
+    }
+
+    /**
+     * Adds child node with data. Path is relative to the root path of this command.
+     * @param path
+     * @param data
+     * @return
+     */
+    public CreateTree node(String path, String data) {
+        nodes.put(path, data);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of nodes created within a single transaction.
+     * @param batchSize
+     * @return
+     */
+    public CreateTree batchSize(int batchSize) {
+        getParameters().put(BATCH_SIZE, batchSize);
+        return this;
+    }
+
+    /**
+     * Gets the child nodes data by relative path.
+     * @return
+     */
+    public Map<String, String> getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.ZooKeeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Retrieves all descendants of a znode. The tree is traversed level by level using the asynchronous ZooKeeper API so
+ * all children requests of a level are pipelined on the client connection instead of waiting for each response in turn.
+ *
+ * The result holds the sorted descendant paths relative to the given root path.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class GetChildrenRecursive extends AbstractZooCommand<ZooResponse> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(GetChildrenRecursive.class);
+
+    public static final String COUNT = "count";
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public GetChildrenRecursive() {
+        super("zookeeper:children-recursive");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        String path = this.getParameter(PATH, context);
+        ZooKeeper zookeeper = zookeeperClient.getZooKeeperClient();
+
+        List<String> descendants = new ArrayList<>();
+        List<String> level = Collections.singletonList(path);
+        try {
+            while (!level.isEmpty()) {
+                Map<String, CompletableFuture<List<String>>> requests = new LinkedHashMap<>();
+                for (String node : level) {
+                    requests.put(node, getChildren(zookeeper, node, !node.equals(path)));
+                }
+
+                List<String> nextLevel = new ArrayList<>();
+                for (Map.Entry<String, CompletableFuture<List<String>>> request : requests.entrySet()) {
+                    for (String child : request.getValue().get()) {
+                        String childPath = CommandHelper.childPath(request.getKey(), child);
+                        nextLevel.add(childPath);
+                        descendants.add(childPath.substring(path.endsWith("/") ? path.length() : path.length() + 1));
+                    }
+                }
+
+                level = nextLevel;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(String.format("Failed to get children of znode '%s'", path), e.getCause());
+        }
+
+        Collections.sort(descendants);
+        commandResult.setResponseParam(CHILDREN, descendants);
+        commandResult.setResponseParam(COUNT, descendants.size());
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Sends asynchronous children request. Descendant nodes deleted in the meantime are treated as nodes without children.
+     * @param zookeeper
+     * @param node
+     * @param ignoreMissing
+     * @return
+     */
+    private CompletableFuture<List<String>> getChildren(ZooKeeper zookeeper, String node, boolean ignoreMissing) {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        zookeeper.getChildren(node, false, (responseCode, nodePath, ctx, children) -> {
+            KeeperException.Code code = KeeperException.Code.get(responseCode);
+            if (code == KeeperException.Code.OK) {
+                result.complete(children);
+            } else if (code == KeeperException.Code.NONODE && ignoreMissing) {
+                result.complete(Collections.emptyList());
+            } else {
+                result.completeExceptionally(KeeperException.create(code, nodePath));
+            }
+        }, null);
+
+        return result;
+    }
+
+    /**
+     * Sets the path parameter.
+     * @param path
+     * @return
+     */
+    public GetChildrenRecursive path(String path) {
+        getParameters().put(PATH, path);
+        return this;
+    }
+}
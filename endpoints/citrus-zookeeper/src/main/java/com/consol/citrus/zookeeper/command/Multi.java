@@ -0,0 +1,244 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes several create, set, delete and check operations as a single atomic ZooKeeper transaction. Either all
+ * operations succeed or none of them is applied.
+ *
+ * The result holds an entry with operation type and path for each operation.
+ *
+ * @author Christoph Deppisch
+ * @since 3.1
+ */
+public class Multi extends AbstractZooCommand<ZooResponse> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(Multi.class);
+
+    public static final String RESULTS = "results";
+    public static final String TYPE = "type";
+
+    /** Version matching any znode version */
+    public static final int ANY_VERSION = -1;
+
+    /** Transaction operations in order of execution */
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public Multi() {
+        super("zookeeper:multi");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        List<Op> ops = new ArrayList<>();
+        for (Operation operation : operations) {
+            ops.add(operation.toOp(context));
+        }
+
+        List<OpResult> results;
+        try {
+            results = zookeeperClient.getZooKeeperClient().multi(ops);
+        } catch (KeeperException e) {
+            throw new CitrusRuntimeException(getFailureMessage(e), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        }
+
+        List<Map<String, Object>> responses = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put(TYPE, operations.get(i).type);
+            if (results.get(i) instanceof OpResult.CreateResult) {
+                response.put(PATH, ((OpResult.CreateResult) results.get(i)).getPath());
+            } else {
+                response.put(PATH, ops.get(i).getPath());
+            }
+
+            if (results.get(i) instanceof OpResult.SetDataResult) {
+                response.put(VERSION, ((OpResult.SetDataResult) results.get(i)).getStat().getVersion());
+            }
+
+            responses.add(response);
+        }
+
+        commandResult.setResponseParam(RESULTS, responses);
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Describes the first failed operation of the transaction.
+     * @param e
+     * @return
+     */
+    private String getFailureMessage(KeeperException e) {
+        List<OpResult> results = e.getResults();
+        if (results != null) {
+            for (int i = 0; i < results.size() && i < operations.size(); i++) {
+                OpResult result = results.get(i);
+                if (result instanceof OpResult.ErrorResult && ((OpResult.ErrorResult) result).getErr() != KeeperException.Code.OK.intValue()) {
+                    return String.format("Zookeeper transaction failed on operation %s '%s' on path '%s': %s", i + 1,
+                            operations.get(i).type, operations.get(i).path, KeeperException.Code.get(((OpResult.ErrorResult) result).getErr()));
+                }
+            }
+        }
+
+        return "Zookeeper transaction failed";
+    }
+
+    /**
+     * Adds persistent znode create operation.
+     * @param path
+     * @param data
+     * @return
+     */
+    public Multi create(String path, String data) {
+        return create(path, data, "PERSISTENT", Create.ACL_OPEN);
+    }
+
+    /**
+     * Adds znode create operation.
+     * @param path
+     * @param data
+     * @param mode
+     * @param acl
+     * @return
+     */
+    public Multi create(String path, String data, String mode, String acl) {
+        operations.add(new Operation("create", path, data, mode, acl, ANY_VERSION));
+        return this;
+    }
+
+    /**
+     * Adds set data operation regardless of the znode version.
+     * @param path
+     * @param data
+     * @return
+     */
+    public Multi set(String path, String data) {
+        return set(path, data, ANY_VERSION);
+    }
+
+    /**
+     * Adds set data operation.
+     * @param path
+     * @param data
+     * @param version
+     * @return
+     */
+    public Multi set(String path, String data, int version) {
+        operations.add(new Operation("set", path, data, null, null, version));
+        return this;
+    }
+
+    /**
+     * Adds delete operation regardless of the znode version.
+     * @param path
+     * @return
+     */
+    public Multi delete(String path) {
+        return delete(path, ANY_VERSION);
+    }
+
+    /**
+     * Adds delete operation.
+     * @param path
+     * @param version
+     * @return
+     */
+    public Multi delete(String path, int version) {
+        operations.add(new Operation("delete", path, null, null, null, version));
+        return this;
+    }
+
+    /**
+     * Adds version check operation. Transaction fails when znode version does not match.
+     * @param path
+     * @param version
+     * @return
+     */
+    public Multi check(String path, int version) {
+        operations.add(new Operation("check", path, null, null, null, version));
+        return this;
+    }
+
+    /**
+     * Gets the number of transaction operations.
+     * @return
+     */
+    public int getOperationCount() {
+        return operations.size();
+    }
+
+    /**
+     * Single transaction operation with unresolved test variables.
+     */
+    private static class Operation {
+        private final String type;
+        private final String path;
+        private final String data;
+        private final String mode;
+        private final String acl;
+        private final int version;
+
+        Operation(String type, String path, String data, String mode, String acl, int version) {
+            this.type = type;
+            this.path = path;
+            this.data = data;
+            this.mode = mode;
+            this.acl = acl;
+            this.version = version;
+        }
+
+        Op toOp(TestContext context) {
+            String resolvedPath = context.replaceDynamicContentInString(path);
+
+            switch (type) {
+                case "create":
+                    return Op.create(resolvedPath, context.replaceDynamicContentInString(data).getBytes(),
+                            CommandHelper.lookupAcl(acl), CommandHelper.lookupCreateMode(mode));
+                case "set":
+                    return Op.setData(resolvedPath, context.replaceDynamicContentInString(data).getBytes(), version);
+                case "delete":
+                    return Op.delete(resolvedPath, version);
+                default:
+                    return Op.check(resolvedPath, version);
+            }
+        }
+    }
+}
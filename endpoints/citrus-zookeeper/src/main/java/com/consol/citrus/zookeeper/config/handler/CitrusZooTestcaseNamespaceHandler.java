@@ -34,5 +34,7 @@ public class CitrusZooTestcaseNamespaceHandler extends NamespaceHandlerSupport {
         registerBeanDefinitionParser("get", new ZooExecuteActionParser(GetData.class));
         registerBeanDefinitionParser("set", new ZooExecuteActionParser(SetData.class));
         registerBeanDefinitionParser("children", new ZooExecuteActionParser(GetChildren.class));
+        registerBeanDefinitionParser("children-recursive", new ZooExecuteActionParser(GetChildrenRecursive.class));
+        registerBeanDefinitionParser("create-tree", new ZooExecuteActionParser(CreateTree.class));
     }
 }
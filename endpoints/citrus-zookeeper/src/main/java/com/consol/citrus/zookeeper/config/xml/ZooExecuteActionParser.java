@@ -34,6 +34,7 @@ import com.consol.citrus.validation.json.JsonPathMessageValidationContext;
 import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.zookeeper.actions.ZooExecuteAction;
 import com.consol.citrus.zookeeper.client.ZooClient;
+import com.consol.citrus.zookeeper.command.CreateTree;
 import com.consol.citrus.zookeeper.command.ZooCommand;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,6 +99,12 @@ public class ZooExecuteActionParser implements BeanDefinitionParser {
             command.getParameters().put("data", DomUtils.getTextValue(data));
         }
 
+        if (command instanceof CreateTree) {
+            for (Element node : DomUtils.getChildElementsByTagName(element, "node")) {
+                ((CreateTree) command).node(node.getAttribute("path"), DomUtils.getTextValue(node));
+            }
+        }
+
         Element validateCmdResult = DomUtils.getChildElementByTagName(element, "validate");
         if (validateCmdResult != null) {
             beanDefinition.addPropertyValue("jsonPathMessageValidationContext", getValidationContext(validateCmdResult));
@@ -19,11 +19,16 @@ package com.consol.citrus.zookeeper.actions;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.Info;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.zookeeper.ZooKeeper;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
@@ -44,4 +49,25 @@ public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
 
         //Assert.assertEquals(action.getCommand().getCommandResult(), null);
     }
+
+    @Test
+    public void testResultCallbackWithoutJsonConversion() throws Exception {
+        reset(zookeeper);
+
+        when(zookeeper.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+
+        ObjectMapper jsonMapper = Mockito.mock(ObjectMapper.class);
+        AtomicBoolean validated = new AtomicBoolean(false);
+
+        ZooExecuteAction action = new ZooExecuteAction.Builder()
+                .command(new Info())
+                .client(new ZooClient(zookeeper))
+                .mapper(jsonMapper)
+                .validateCommandResult((result, context) -> validated.set(result.getResponseData().containsKey("state")))
+                .build();
+        action.execute(context);
+
+        Assert.assertTrue(validated.get());
+        verifyNoInteractions(jsonMapper);
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import com.consol.citrus.zookeeper.client.ZooClientConfig;
+import com.consol.citrus.zookeeper.server.ZooServer;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ZooBulkCommandsTest extends AbstractTestNGUnitTest {
+
+    private final ZooServer zooServer = new ZooServer();
+    private final ZooClient zooClient = new ZooClient();
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        File dataDir = Files.createTempDirectory("zookeeper").toFile();
+        zooServer.setPort(21191);
+        zooServer.setZooKeeperServer(new ZooKeeperServer(dataDir, dataDir, 2000));
+        zooServer.start();
+
+        zooClient.setZookeeperClientConfig(ZooClientConfig.createDefaultConfigBuilder()
+                .withUrl("localhost:21191")
+                .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        zooClient.close();
+        zooServer.stop();
+    }
+
+    @Test
+    public void testCreateTreeAndChildrenRecursive() {
+        context.setVariable("leaf", "d");
+
+        CreateTree createTree = new CreateTree()
+                .node("a", "data a")
+                .node("b/c", "data c")
+                .node("b/c/${leaf}", "data ${leaf}")
+                .batchSize(2);
+        createTree.path("/tree");
+        createTree.execute(zooClient, context);
+
+        Assert.assertEquals(createTree.getCommandResult().getResponseData().get(CreateTree.CREATED), 5);
+
+        GetChildrenRecursive children = new GetChildrenRecursive().path("/tree");
+        children.execute(zooClient, context);
+
+        Map<String, Object> result = children.getCommandResult().getResponseData();
+        Assert.assertEquals(result.get(AbstractZooCommand.CHILDREN), Arrays.asList("a", "b", "b/c", "b/c/d"));
+        Assert.assertEquals(result.get(GetChildrenRecursive.COUNT), 4);
+
+        GetData getData = new GetData();
+        getData.path("/tree/b/c/d");
+        getData.execute(zooClient, context);
+        Assert.assertEquals(getData.getCommandResult().getResponseData().get(AbstractZooCommand.DATA), "data d");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to get children of znode '/missing'")
+    public void testChildrenRecursiveMissingRoot() {
+        new GetChildrenRecursive().path("/missing").execute(zooClient, context);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMulti() {
+        Multi multi = new Multi()
+                .create("/multi", "foo")
+                .create("/multi/child", "bar")
+                .set("/multi", "updated")
+                .check("/multi/child", 0);
+        multi.execute(zooClient, context);
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) multi.getCommandResult().getResponseData().get(Multi.RESULTS);
+        Assert.assertEquals(results.size(), 4);
+        Assert.assertEquals(results.get(1).get(Multi.TYPE), "create");
+        Assert.assertEquals(results.get(1).get(AbstractZooCommand.PATH), "/multi/child");
+        Assert.assertEquals(results.get(2).get(AbstractZooCommand.VERSION), 1);
+
+        Multi failing = new Multi()
+                .delete("/multi/child")
+                .check("/multi", 0);
+        try {
+            failing.execute(zooClient, context);
+            Assert.fail("Missing transaction failure");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Zookeeper transaction failed on operation 2 'check' on path '/multi': BADVERSION");
+        }
+
+        Exists exists = new Exists();
+        exists.path("/multi/child");
+        exists.execute(zooClient, context);
+        Assert.assertTrue(exists.getCommandResult().hasResponseData());
+    }
+}
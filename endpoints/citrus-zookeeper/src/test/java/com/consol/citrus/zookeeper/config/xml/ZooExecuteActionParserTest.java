@@ -20,6 +20,8 @@ import com.consol.citrus.testng.AbstractActionParserTest;
 import com.consol.citrus.zookeeper.actions.ZooExecuteAction;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.Create;
+import com.consol.citrus.zookeeper.command.CreateTree;
+import com.consol.citrus.zookeeper.command.GetChildrenRecursive;
 import com.consol.citrus.zookeeper.command.Info;
 import org.springframework.beans.factory.BeanCreationException;
 import org.testng.Assert;
@@ -31,7 +33,7 @@ public class ZooExecuteActionParserTest extends AbstractActionParserTest<ZooExec
 
     @Test
     public void testZookeeperExecuteActionParser() {
-        assertActionCount(2);
+        assertActionCount(4);
         assertActionClassAndName(ZooExecuteAction.class, "zookeeper-execute");
 
         ZooExecuteAction action = getNextTestActionFromTest();
@@ -51,6 +53,20 @@ public class ZooExecuteActionParserTest extends AbstractActionParserTest<ZooExec
         assertParametersContainValue(action.getCommand().getParameters(), "acl", "OPEN_ACL_UNSAFE");
         assertParametersContainValue(action.getCommand().getParameters(), "data", "more data");
         Assert.assertEquals(action.getExpectedCommandResult(), "{b:\"some thing\"}");
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getCommand().getClass(), CreateTree.class);
+        assertParametersContainValue(action.getCommand().getParameters(), "path", "/tree");
+        assertParametersContainValue(action.getCommand().getParameters(), "mode", "PERSISTENT");
+        assertParametersContainValue(action.getCommand().getParameters(), "batch-size", "50");
+        Assert.assertEquals(((CreateTree) action.getCommand()).getNodes().size(), 2L);
+        Assert.assertEquals(((CreateTree) action.getCommand()).getNodes().get("a"), "data a");
+        Assert.assertEquals(((CreateTree) action.getCommand()).getNodes().get("a/b"), "data b");
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getCommand().getClass(), GetChildrenRecursive.class);
+        Assert.assertEquals(action.getCommand().getParameters().size(), 1);
+        assertParametersContainValue(action.getCommand().getParameters(), "path", "/tree");
     }
 
     private void assertParametersContainValue(Map parameters, String key, String value) {
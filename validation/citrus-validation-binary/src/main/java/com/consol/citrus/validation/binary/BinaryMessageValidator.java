@@ -79,4 +79,9 @@ public class BinaryMessageValidator extends DefaultMessageValidator {
     public boolean supportsMessageType(String messageType, Message message) {
         return messageType.equalsIgnoreCase(MessageType.BINARY.toString());
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -39,12 +39,12 @@ public class HamcrestHeaderValidator implements HeaderValidator {
         try {
             if (controlValue instanceof Matcher) {
                 Assert.isTrue(((Matcher<?>) controlValue).matches(receivedValue),
-                        ValidationUtils.buildValueMismatchErrorMessage(
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
                                 "Values not matching for header '" + headerName + "'", controlValue, receivedValue));
             } else {
                 IsEqual<Object> equalMatcher = new IsEqual<>(controlValue);
                 Assert.isTrue(equalMatcher.matches(receivedValue),
-                        ValidationUtils.buildValueMismatchErrorMessage(
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
                                 "Values not equal for header '" + headerName + "'", controlValue, receivedValue));
             }
         } catch (IllegalArgumentException e) {
@@ -17,8 +17,12 @@
 package com.consol.citrus.json;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.common.Named;
@@ -39,7 +43,10 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
     private String name;
 
     /** List of schema resources */
-    private List<SimpleJsonSchema> schemas = new ArrayList<>();
+    private SchemaList schemas = new SchemaList(new ArrayList<>());
+
+    /** Index of schemas by schema id and name for fast schema selection */
+    private volatile SchemaIndex schemaIndex = new SchemaIndex(null, -1L, new HashMap<>());
 
     /** List of location patterns that will be translated to schema resources */
     private List<String> locations = new ArrayList<>();
@@ -82,6 +89,36 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
         }
     }
 
+    /**
+     * Finds schema in this repository by its schema id ($id) or its name (schema resource file name).
+     * @param schemaIdOrName
+     * @return
+     */
+    public Optional<SimpleJsonSchema> findSchema(String schemaIdOrName) {
+        SchemaList current = schemas;
+        SchemaIndex index = schemaIndex;
+        if (index.source != current || index.version != current.version) {
+            synchronized (current) {
+                long version = current.version;
+                Map<String, SimpleJsonSchema> entries = new HashMap<>();
+                for (SimpleJsonSchema schema : current) {
+                    if (schema.getName() != null) {
+                        entries.putIfAbsent(schema.getName(), schema);
+                    }
+
+                    if (schema.getId() != null) {
+                        entries.put(schema.getId(), schema);
+                    }
+                }
+
+                index = new SchemaIndex(current, version, entries);
+                schemaIndex = index;
+            }
+        }
+
+        return Optional.ofNullable(index.entries.get(schemaIdOrName));
+    }
+
     public String getName() {
         return name;
     }
@@ -91,7 +128,7 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
     }
 
     public void setSchemas(List<SimpleJsonSchema> schemas) {
-        this.schemas = schemas;
+        this.schemas = new SchemaList(new ArrayList<>(schemas));
     }
 
     public static Logger getLog() {
@@ -109,4 +146,64 @@ public class JsonSchemaRepository  implements Named, InitializingPhase {
     public void setLocations(List<String> locations) {
         this.locations = locations;
     }
+
+    /**
+     * Schema list tracking modifications with a version counter so the schema index is rebuilt whenever
+     * a schema is added, replaced or removed.
+     */
+    private static final class SchemaList extends AbstractList<SimpleJsonSchema> {
+        private final List<SimpleJsonSchema> delegate;
+
+        /** Version increased on each modification */
+        private volatile long version = 0L;
+
+        SchemaList(List<SimpleJsonSchema> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized SimpleJsonSchema get(int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public synchronized int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public synchronized SimpleJsonSchema set(int index, SimpleJsonSchema element) {
+            SimpleJsonSchema previous = delegate.set(index, element);
+            version++;
+            return previous;
+        }
+
+        @Override
+        public synchronized void add(int index, SimpleJsonSchema element) {
+            delegate.add(index, element);
+            version++;
+        }
+
+        @Override
+        public synchronized SimpleJsonSchema remove(int index) {
+            SimpleJsonSchema removed = delegate.remove(index);
+            version++;
+            return removed;
+        }
+    }
+
+    /**
+     * Immutable schema index together with the schema list and list version it has been built from.
+     */
+    private static final class SchemaIndex {
+        private final SchemaList source;
+        private final long version;
+        private final Map<String, SimpleJsonSchema> entries;
+
+        SchemaIndex(SchemaList source, long version, Map<String, SimpleJsonSchema> entries) {
+            this.source = source;
+            this.version = version;
+            this.entries = entries;
+        }
+    }
 }
@@ -30,6 +30,10 @@ public final class JsonSettings {
     private static final String MESSAGE_VALIDATION_STRICT_ENV = "CITRUS_JSON_MESSAGE_VALIDATION_STRICT";
     private static final String MESSAGE_VALIDATION_STRICT_DEFAULT = "true";
 
+    private static final String MESSAGE_VALIDATION_STREAMING_PROPERTY = "citrus.json.message.validation.streaming";
+    private static final String MESSAGE_VALIDATION_STREAMING_ENV = "CITRUS_JSON_MESSAGE_VALIDATION_STREAMING";
+    private static final String MESSAGE_VALIDATION_STREAMING_DEFAULT = "false";
+
     private static final String PERMISSIVE_MODE_PROPERTY = "citrus.json.permissive.mode";
     private static final String PERMISSIVE_MODE_ENV = "CITRUS_JSON_PERMISSIVE_MODE";
     private static final String PERMISSIVE_MODE_DEFAULT = String.valueOf(JSONParser.MODE_JSON_SIMPLE);
@@ -72,4 +76,14 @@ public final class JsonSettings {
                 System.getProperty(MESSAGE_VALIDATION_STRICT_PROPERTY, System.getenv(MESSAGE_VALIDATION_STRICT_ENV) != null ?
                         System.getenv(MESSAGE_VALIDATION_STRICT_ENV) : MESSAGE_VALIDATION_STRICT_DEFAULT));
     }
+
+    /**
+     * Is Json message validation using streaming mode
+     * @return
+     */
+    public static boolean isStreaming() {
+        return Boolean.parseBoolean(
+                System.getProperty(MESSAGE_VALIDATION_STREAMING_PROPERTY, System.getenv(MESSAGE_VALIDATION_STREAMING_ENV) != null ?
+                        System.getenv(MESSAGE_VALIDATION_STREAMING_ENV) : MESSAGE_VALIDATION_STREAMING_DEFAULT));
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Objects;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.main.JsonSchema;
@@ -34,8 +35,11 @@ import org.springframework.core.io.Resource;
  */
 public class SimpleJsonSchema implements InitializingPhase {
 
+    /** Shared default json schema factory, factory is immutable and expensive to create */
+    private static final JsonSchemaFactory DEFAULT_JSON_SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+
     /** Default json schema factory */
-    private JsonSchemaFactory jsonSchemaFactory = JsonSchemaFactory.byDefault();
+    private JsonSchemaFactory jsonSchemaFactory = DEFAULT_JSON_SCHEMA_FACTORY;
 
     /** The Resource of the json schema passed from the bean config */
     private Resource json;
@@ -43,6 +47,9 @@ public class SimpleJsonSchema implements InitializingPhase {
     /** The parsed json schema ready for validation */
     private JsonSchema schema;
 
+    /** The schema id as defined in the schema document ($id or id) */
+    private String id;
+
     public SimpleJsonSchema(Resource resource) {
         json = resource;
     }
@@ -54,7 +61,14 @@ public class SimpleJsonSchema implements InitializingPhase {
     @Override
     public void initialize() {
         try {
-            schema = jsonSchemaFactory.getJsonSchema(JsonLoader.fromFile(json.getFile()));
+            JsonNode schemaJson = JsonLoader.fromFile(json.getFile());
+            if (schemaJson.hasNonNull("$id")) {
+                id = schemaJson.get("$id").asText();
+            } else if (schemaJson.hasNonNull("id")) {
+                id = schemaJson.get("id").asText();
+            }
+
+            schema = jsonSchemaFactory.getJsonSchema(schemaJson);
         } catch (ProcessingException | IOException e) {
             throw new CitrusRuntimeException("Failed to load Json schema", e);
         }
@@ -68,10 +82,38 @@ public class SimpleJsonSchema implements InitializingPhase {
         this.json = json;
     }
 
+    /**
+     * Gets the compiled json schema. Schema is compiled once on first access if not initialized yet.
+     * @return
+     */
     public JsonSchema getSchema() {
+        if (schema == null && json != null) {
+            initialize();
+        }
+
         return schema;
     }
 
+    /**
+     * Gets the schema id as defined in the schema document ($id or id).
+     * @return
+     */
+    public String getId() {
+        if (id == null && schema == null && json != null) {
+            initialize();
+        }
+
+        return id;
+    }
+
+    /**
+     * Gets the schema name which is the file name of the schema resource.
+     * @return
+     */
+    public String getName() {
+        return json != null ? json.getFilename() : null;
+    }
+
     public void setSchema(JsonSchema schema) {
         this.schema = schema;
     }
@@ -92,4 +92,9 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
         return new JsonTextMessageValidator().supportsMessageType(messageType, message);
 
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
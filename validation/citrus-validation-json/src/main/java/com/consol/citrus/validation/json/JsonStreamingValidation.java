@@ -0,0 +1,494 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jayway.jsonpath.JsonPath;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Streaming variant of the JSON text validation. Walks the received JSON document token by token with Jackson's
+ * {@link JsonParser} instead of building a complete object tree for it. Only the control JSON is held in memory as a tree,
+ * received sub-trees are materialized on demand when a validation matcher or value comparison needs them.
+ *
+ * Ignore expressions of the validation context are supported as long as the JsonPath expressions are definite (no wildcards, filters or
+ * deep scans) as those can be matched against the current parser location. Use {@link #supports(JsonMessageValidationContext, int)} to check
+ * a validation context before using this validation.
+ *
+ * The permissive mode flags of the non streaming JSON parser are mapped to the respective Jackson read features. Unquoted values are
+ * not supported by Jackson so permissive modes accepting those are not supported by this validation.
+ *
+ * @since 3.1
+ */
+public class JsonStreamingValidation {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(JsonStreamingValidation.class);
+
+    /** Object mappers used to create parsers and to materialize sub-trees by permissive mode */
+    private static final ConcurrentMap<Integer, ObjectMapper> OBJECT_MAPPERS = new ConcurrentHashMap<>();
+
+    /** Should also check exact amount of object fields */
+    private final boolean strict;
+
+    /** Object mapper matching the permissive mode */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Default constructor using strict mode and default permissive mode.
+     * @param strict
+     */
+    public JsonStreamingValidation(boolean strict) {
+        this(strict, JSONParser.MODE_JSON_SIMPLE);
+    }
+
+    /**
+     * Constructor using strict mode and permissive mode of the non streaming JSON parser.
+     * @param strict
+     * @param permissiveMode
+     */
+    public JsonStreamingValidation(boolean strict, int permissiveMode) {
+        this.strict = strict;
+        this.objectMapper = OBJECT_MAPPERS.computeIfAbsent(permissiveMode, JsonStreamingValidation::createObjectMapper);
+    }
+
+    /**
+     * Checks if given validation context can be handled by this streaming validation. This is the case when all ignore expressions
+     * are definite JsonPath expressions.
+     * @param validationContext
+     * @return
+     */
+    public static boolean supports(JsonMessageValidationContext validationContext) {
+        return supports(validationContext, JSONParser.MODE_JSON_SIMPLE);
+    }
+
+    /**
+     * Checks if given validation context and permissive mode can be handled by this streaming validation. This is the case when all
+     * ignore expressions are definite JsonPath expressions and the permissive mode does not accept unquoted values.
+     * @param validationContext
+     * @param permissiveMode
+     * @return
+     */
+    public static boolean supports(JsonMessageValidationContext validationContext, int permissiveMode) {
+        if ((permissiveMode & JSONParser.ACCEPT_NON_QUOTE) > 0) {
+            return false;
+        }
+
+        for (String ignoreExpression : validationContext.getIgnoreExpressions()) {
+            if (!JsonPath.compile(ignoreExpression).isDefinite()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Validates received JSON text with comparison to expected control JSON text.
+     * @param receivedJson the received JSON as String or byte array.
+     * @param controlJsonText the expected control JSON text.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     */
+    public void validate(Object receivedJson, String controlJsonText, JsonMessageValidationContext validationContext, TestContext context) {
+        Set<String> ignorePaths = new HashSet<>();
+        for (String ignoreExpression : validationContext.getIgnoreExpressions()) {
+            ignorePaths.add(JsonPath.compile(ignoreExpression).getPath());
+        }
+
+        try (JsonParser received = createParser(receivedJson)) {
+            JsonNode controlJson = objectMapper.readTree(controlJsonText);
+
+            JsonToken token = received.nextToken();
+            String path = ignorePaths.isEmpty() ? null : "$";
+            if (token == JsonToken.START_OBJECT) {
+                Assert.isTrue(controlJson.isObject(),
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '$.'",
+                                getTypeName(controlJson), JSONObject.class.getSimpleName()));
+                validateObject("$.", path, received, controlJson, ignorePaths, context);
+            } else if (token == JsonToken.START_ARRAY) {
+                validateEntry("array", path, received, controlJson, ignorePaths, context);
+            } else {
+                throw new CitrusRuntimeException("Unsupported json type " + token);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Validates received JSON object with comparison to expected control JSON object. Parser is positioned on the
+     * start object token of the received object and is positioned on the respective end object token afterwards.
+     * @param elementName
+     * @param path
+     * @param received
+     * @param controlJson
+     * @param ignorePaths
+     * @param context
+     * @throws IOException
+     */
+    private void validateObject(String elementName, String path, JsonParser received, JsonNode controlJson,
+                                Set<String> ignorePaths, TestContext context) throws IOException {
+        Set<String> visited = new HashSet<>();
+        int receivedSize = 0;
+
+        while (received.nextToken() == JsonToken.FIELD_NAME) {
+            String key = received.getCurrentName();
+            receivedSize++;
+            received.nextToken();
+
+            JsonNode controlValue = controlJson.get(key);
+            if (controlValue == null) {
+                received.skipChildren();
+                continue;
+            }
+
+            visited.add(key);
+            validateEntry(key, childPath(path, key), received, controlValue, ignorePaths, context);
+        }
+
+        if (strict) {
+            int receivedEntries = receivedSize;
+            Assert.isTrue(controlJson.size() == receivedEntries,
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedEntries));
+        }
+
+        if (visited.size() < controlJson.size()) {
+            Iterator<String> fieldNames = controlJson.fieldNames();
+            while (fieldNames.hasNext()) {
+                String controlKey = fieldNames.next();
+                Assert.isTrue(visited.contains(controlKey), () -> "Missing JSON entry: + '" + controlKey + "'");
+            }
+        }
+    }
+
+    /**
+     * Validates single received JSON entry with comparison to expected control value. Parser is positioned on the first token of the
+     * received value and is positioned on the last token of that value afterwards.
+     * @param controlKey
+     * @param path
+     * @param received
+     * @param controlValue
+     * @param ignorePaths
+     * @param context
+     * @throws IOException
+     */
+    private void validateEntry(String controlKey, String path, JsonParser received, JsonNode controlValue,
+                               Set<String> ignorePaths, TestContext context) throws IOException {
+        if (isIgnored(controlKey, path, controlValue, ignorePaths)) {
+            received.skipChildren();
+            return;
+        }
+
+        JsonToken token = received.currentToken();
+        if (controlValue.isNull()) {
+            Object receivedValue = readValue(received);
+            Assert.isTrue(receivedValue == null,
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            null, receivedValue));
+        } else if (token != JsonToken.VALUE_NULL) {
+            if (controlValue.isTextual() && ValidationMatcherUtils.isValidationMatcherExpression(controlValue.textValue())) {
+                ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                        readValueAsString(received),
+                        controlValue.textValue(), context);
+            } else if (controlValue.isObject()) {
+                Assert.isTrue(token == JsonToken.START_OBJECT,
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                                JSONObject.class.getSimpleName(), getTypeName(received, token)));
+
+                validateObject(controlKey, path, received, controlValue, ignorePaths, context);
+            } else if (controlValue.isArray()) {
+                Assert.isTrue(token == JsonToken.START_ARRAY,
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                                JSONArray.class.getSimpleName(), getTypeName(received, token)));
+
+                validateArray(controlKey, path, received, controlValue, ignorePaths, context);
+            } else {
+                Object control = getValue(controlValue);
+                Object receivedValue = readValue(received);
+                Assert.isTrue(control.equals(receivedValue),
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                                control, receivedValue));
+            }
+        } else if (controlValue.isTextual() && ValidationMatcherUtils.isValidationMatcherExpression(controlValue.textValue())) {
+            ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                    null,
+                    controlValue.textValue(), context);
+        } else {
+            String controlText = controlValue.isTextual() ? controlValue.textValue() : controlValue.toString();
+            Assert.isTrue(!StringUtils.hasText(controlText),
+                    () -> ValidationUtils.buildValueMismatchErrorMessage(
+                            "Values not equal for entry '" + controlKey + "'", controlText, null));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+        }
+    }
+
+    /**
+     * Validates received JSON array with comparison to expected control JSON array. Parser is positioned on the
+     * start array token of the received array and is positioned on the respective end array token afterwards.
+     * @param controlKey
+     * @param path
+     * @param received
+     * @param controlArray
+     * @param ignorePaths
+     * @param context
+     * @throws IOException
+     */
+    private void validateArray(String controlKey, String path, JsonParser received, JsonNode controlArray,
+                               Set<String> ignorePaths, TestContext context) throws IOException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validating JSONArray containing " + controlArray.size() + " entries");
+        }
+
+        int index = 0;
+        JsonToken token;
+        while ((token = received.nextToken()) != JsonToken.END_ARRAY) {
+            if (index >= controlArray.size()) {
+                received.skipChildren();
+                index++;
+                continue;
+            }
+
+            JsonNode controlItem = controlArray.get(index);
+            if (controlItem.isObject()) {
+                JsonToken receivedToken = token;
+                Assert.isTrue(token == JsonToken.START_OBJECT,
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlItem + "'",
+                                JSONObject.class.getName(), getTypeName(received, receivedToken)));
+
+                validateObject(controlKey, childPath(path, index), received, controlItem, ignorePaths, context);
+            } else {
+                Object control = getValue(controlItem);
+                Object receivedItem = readValue(received);
+                Assert.isTrue(control.equals(receivedItem),
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + control + "'",
+                                control, receivedItem));
+            }
+
+            index++;
+        }
+
+        int receivedSize = index;
+        if (strict) {
+            Assert.isTrue(controlArray.size() == receivedSize,
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            controlArray.size(), receivedSize));
+        } else {
+            Assert.isTrue(controlArray.size() <= receivedSize,
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            controlArray.size(), receivedSize));
+        }
+    }
+
+    /**
+     * Checks if given entry is either ignored by path expression or
+     * contains @ignore@ tag inside control message.
+     * @param controlKey
+     * @param path
+     * @param controlValue
+     * @param ignorePaths
+     * @return
+     */
+    private boolean isIgnored(String controlKey, String path, JsonNode controlValue, Set<String> ignorePaths) {
+        if (controlValue.isTextual() && controlValue.textValue().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
+                        CitrusSettings.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+
+        if (path != null && ignorePaths.contains(path)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads current value from parser. Scalar values are returned as Java types, objects and arrays are materialized as Json nodes.
+     * @param received
+     * @return
+     * @throws IOException
+     */
+    private static Object readValue(JsonParser received) throws IOException {
+        switch (received.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return received.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return received.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return received.readValueAsTree();
+        }
+    }
+
+    /**
+     * Reads current value from parser as String representation.
+     * @param received
+     * @return
+     * @throws IOException
+     */
+    private static String readValueAsString(JsonParser received) throws IOException {
+        if (received.currentToken().isScalarValue()) {
+            return received.getText();
+        }
+
+        return received.readValueAsTree().toString();
+    }
+
+    /**
+     * Gets value of control node. Scalar values are returned as Java types, objects and arrays are returned as Json nodes.
+     * @param controlNode
+     * @return
+     */
+    private static Object getValue(JsonNode controlNode) {
+        if (controlNode.isTextual()) {
+            return controlNode.textValue();
+        } else if (controlNode.isNumber()) {
+            return controlNode.numberValue();
+        } else if (controlNode.isBoolean()) {
+            return controlNode.booleanValue();
+        }
+
+        return controlNode;
+    }
+
+    /**
+     * Gets simple type name of current parser value for error messages.
+     * @param received
+     * @param token
+     * @return
+     */
+    private static String getTypeName(JsonParser received, JsonToken token) {
+        try {
+            switch (token) {
+                case START_OBJECT:
+                    return JSONObject.class.getSimpleName();
+                case START_ARRAY:
+                    return JSONArray.class.getSimpleName();
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return received.getNumberValue().getClass().getSimpleName();
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return Boolean.class.getSimpleName();
+                default:
+                    return String.class.getSimpleName();
+            }
+        } catch (IOException e) {
+            return token.name();
+        }
+    }
+
+    /**
+     * Gets simple type name of given control node for error messages.
+     * @param controlNode
+     * @return
+     */
+    private static String getTypeName(JsonNode controlNode) {
+        if (controlNode.isArray()) {
+            return JSONArray.class.getSimpleName();
+        }
+
+        return getValue(controlNode).getClass().getSimpleName();
+    }
+
+    /**
+     * Builds normalized JsonPath for object child entry. Returns null when paths are not tracked.
+     * @param path
+     * @param key
+     * @return
+     */
+    private static String childPath(String path, String key) {
+        return path != null ? path + "['" + key + "']" : null;
+    }
+
+    /**
+     * Builds normalized JsonPath for array item. Returns null when paths are not tracked.
+     * @param path
+     * @param index
+     * @return
+     */
+    private static String childPath(String path, int index) {
+        return path != null ? path + "[" + index + "]" : null;
+    }
+
+    /**
+     * Creates new parser for given received Json payload.
+     * @param receivedJson
+     * @return
+     * @throws IOException
+     */
+    private JsonParser createParser(Object receivedJson) throws IOException {
+        if (receivedJson instanceof byte[]) {
+            return objectMapper.getFactory().createParser((byte[]) receivedJson);
+        }
+
+        return objectMapper.getFactory().createParser(receivedJson.toString());
+    }
+
+    /**
+     * Creates object mapper with Jackson read features matching the given permissive mode flags.
+     * @param permissiveMode
+     * @return
+     */
+    private static ObjectMapper createObjectMapper(int permissiveMode) {
+        return JsonMapper.builder()
+                .configure(JsonReadFeature.ALLOW_SINGLE_QUOTES, (permissiveMode & JSONParser.ACCEPT_SIMPLE_QUOTE) > 0)
+                .configure(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS, (permissiveMode & JSONParser.ACCEPT_NAN) > 0)
+                .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS, (permissiveMode & JSONParser.IGNORE_CONTROL_CHAR) > 0)
+                .configure(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS, (permissiveMode & JSONParser.ACCEPT_LEADING_ZERO) > 0)
+                .configure(JsonReadFeature.ALLOW_TRAILING_COMMA, (permissiveMode & JSONParser.ACCEPT_USELESS_COMMA) > 0)
+                .build();
+    }
+}
@@ -61,6 +61,9 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
     /** Should also check exact amount of object fields */
     private boolean strict = JsonSettings.isStrict();
 
+    /** Should walk received JSON with streaming parser instead of building a complete object tree */
+    private boolean streaming = JsonSettings.isStreaming();
+
     /** Permissive mode to use on the Json parser */
     private int permissiveMode = JsonSettings.getPermissiveMoe();
 
@@ -87,8 +90,17 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             log.debug("Control message:\n" + controlMessage);
         }
 
-        String receivedJsonText = receivedMessage.getPayload(String.class);
         String controlJsonText = context.replaceDynamicContentInString(controlMessage.getPayload(String.class));
+        if (streaming && StringUtils.hasText(controlJsonText)) {
+            if (JsonStreamingValidation.supports(validationContext, permissiveMode)) {
+                performStreamingValidation(receivedMessage, controlJsonText, context, validationContext);
+                return;
+            }
+
+            log.debug("Validation context uses indefinite ignore expressions or unquoted values - fall back to non streaming JSON validation");
+        }
+
+        String receivedJsonText = receivedMessage.getPayload(String.class);
 
         try {
             if (!StringUtils.hasText(controlJsonText)) {
@@ -125,6 +137,28 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         log.info("JSON message validation successful: All values OK");
     }
 
+    /**
+     * Performs the streaming validation where the received message payload is walked token by token.
+     * @param receivedMessage The message to be validated
+     * @param controlJsonText The expected control JSON text
+     * @param context The current test context.
+     * @param validationContext The validation context of the current test
+     */
+    private void performStreamingValidation(Message receivedMessage, String controlJsonText, TestContext context, JsonMessageValidationContext validationContext) {
+        Object receivedJson = receivedMessage.getPayload() instanceof byte[] ? receivedMessage.getPayload() : receivedMessage.getPayload(String.class);
+
+        try {
+            Assert.isTrue(receivedJson instanceof byte[] ? ((byte[]) receivedJson).length > 0 : StringUtils.hasText((String) receivedJson),
+                    "Validation failed - expected message contents, but received empty message!");
+
+            new JsonStreamingValidation(strict, permissiveMode).validate(receivedJson, controlJsonText, validationContext, context);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Failed to validate JSON text:\n" + receivedMessage.getPayload(String.class), e);
+        }
+
+        log.info("JSON message validation successful: All values OK");
+    }
+
     /**
      * Performs the schema validation for the given message under consideration of the given validation context
      * @param receivedMessage The message to be validated
@@ -171,14 +205,14 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
     public void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
         if (strict) {
             Assert.isTrue(controlJson.size() == receivedJson.size(),
-                          ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
+                          () -> ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
         }
 
         for (Map.Entry<String, Object> controlJsonEntry : controlJson.entrySet()) {
             String controlKey = controlJsonEntry.getKey();
 
             Assert.isTrue(receivedJson.containsKey(controlKey),
-                    "Missing JSON entry: + '" + controlKey + "'");
+                    () -> "Missing JSON entry: + '" + controlKey + "'");
 
             Object controlValue = controlJsonEntry.getValue();
             Object receivedValue = receivedJson.get(controlKey);
@@ -190,7 +224,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
             if (controlValue == null) {
                 Assert.isTrue(receivedValue == null,
-                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                        () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                 null, receivedValue));
             } else if (receivedValue != null) {
                 if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
@@ -199,14 +233,14 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                             controlValue.toString(), context);
                 } else if (controlValue instanceof JSONObject) {
                     Assert.isTrue(receivedValue instanceof JSONObject,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
                                     JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
                     validateJson(controlKey, (JSONObject) receivedValue,
                             (JSONObject) controlValue, validationContext, context, readContext);
                 } else if (controlValue instanceof JSONArray) {
                     Assert.isTrue(receivedValue instanceof JSONArray,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
                                     JSONArray.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
                     JSONArray jsonArrayControl = (JSONArray) controlValue;
@@ -218,26 +252,28 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
                     if (strict) {
                         Assert.isTrue(jsonArrayControl.size() == jsonArrayReceived.size(),
-                                ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                                () -> ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
                                         jsonArrayControl.size(), jsonArrayReceived.size()));
                     }
                     for (int i = 0; i < jsonArrayControl.size(); i++) {
-                        if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
-                            Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
-
-                            validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
+                        Object controlItem = jsonArrayControl.get(i);
+                        Object receivedItem = jsonArrayReceived.get(i);
+                        if (controlItem.getClass().isAssignableFrom(JSONObject.class)) {
+                            Assert.isTrue(receivedItem.getClass().isAssignableFrom(JSONObject.class),
+                                    () -> ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlItem + "'",
+                                            JSONObject.class.getName(), receivedItem.getClass().getName()));
+
+                            validateJson(controlKey, (JSONObject) receivedItem,
+                                    (JSONObject) controlItem, validationContext, context, readContext);
                         } else {
-                            Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            jsonArrayControl.get(i), jsonArrayReceived.get(i)));
+                            Assert.isTrue(controlItem.equals(receivedItem),
+                                    () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlItem + "'",
+                                            controlItem, receivedItem));
                         }
                     }
                 } else {
                     Assert.isTrue(controlValue.equals(receivedValue),
-                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                     controlValue, receivedValue));
                 }
             } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
@@ -246,7 +282,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                         controlValue.toString(), context);
             } else {
                 Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
-                        ValidationUtils.buildValueMismatchErrorMessage(
+                        () -> ValidationUtils.buildValueMismatchErrorMessage(
                                 "Values not equal for entry '" + controlKey + "'", controlValue.toString(), null));
             }
 
@@ -306,6 +342,11 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return messageType.equalsIgnoreCase(MessageType.JSON.name()) && MessageUtils.hasJsonPayload(message);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Set the validator strict mode.
      * @param strict
@@ -324,6 +365,24 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return this;
     }
 
+    /**
+     * Enable/disable the streaming validation mode.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Enable/disable the streaming validation mode.
+     * @param streaming
+     * @return this object for chaining
+     */
+    public JsonTextMessageValidator streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Constructs the error message of a failed validation based on the processing report passed from
      * com.github.fge.jsonschema.core.report
@@ -19,6 +19,7 @@ package com.consol.citrus.validation.json.schema;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.spi.ReferenceResolver;
@@ -54,12 +55,40 @@ public class JsonSchemaFilter {
         if (isSchemaRepositorySpecified(jsonMessageValidationContext)) {
             return filterByRepositoryName(schemaRepositories, jsonMessageValidationContext);
         } else if (isSchemaSpecified(jsonMessageValidationContext)) {
-            return getSchemaFromContext(jsonMessageValidationContext, referenceResolver);
+            if (referenceResolver.isResolvable(jsonMessageValidationContext.getSchema(), SimpleJsonSchema.class)) {
+                return getSchemaFromContext(jsonMessageValidationContext, referenceResolver);
+            }
+
+            return getSchemaFromRepositories(schemaRepositories, jsonMessageValidationContext)
+                    .orElseGet(() -> getSchemaFromContext(jsonMessageValidationContext, referenceResolver));
         } else {
             return mergeRepositories(schemaRepositories);
         }
     }
 
+    /**
+     * Looks up the schema specified in the jsonMessageValidationContext by its schema id or name in the given schema repositories.
+     * Used as fallback when no schema bean with the given name is available.
+     * @param schemaRepositories The repositories to search
+     * @param jsonMessageValidationContext The message validation context containing the name of the schema to find
+     * @return A list containing the relevant schema or empty optional if no repository holds that schema
+     */
+    private Optional<List<SimpleJsonSchema>> getSchemaFromRepositories(List<JsonSchemaRepository> schemaRepositories,
+                                                                       JsonMessageValidationContext jsonMessageValidationContext) {
+        for (JsonSchemaRepository jsonSchemaRepository : schemaRepositories) {
+            Optional<SimpleJsonSchema> schema = jsonSchemaRepository.findSchema(jsonMessageValidationContext.getSchema());
+            if (schema.isPresent()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Found specified schema: \"" + jsonMessageValidationContext.getSchema() + "\" in schema-repository.");
+                }
+
+                return Optional.of(Collections.singletonList(schema.get()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Extracts the the schema specified in the jsonMessageValidationContext from the application context
      * @param jsonMessageValidationContext The message validation context containing the name of the schema to extract
@@ -75,7 +75,8 @@ public class JsonSchemaValidation {
     }
 
     /**
-     * Validates a message against all schemas contained in the given json schema repository
+     * Validates a message against all schemas contained in the given json schema repository. The message payload
+     * is parsed only once and the resulting Json tree is shared by all schema validations.
      * @param message The message to be validated
      * @param jsonSchemas The list of json schemas to iterate over
      */
@@ -83,29 +84,43 @@ public class JsonSchemaValidation {
         if (jsonSchemas.isEmpty()) {
             return new GraciousProcessingReport(true);
         } else {
+            JsonNode receivedJson = readTree(message);
+
             List<ProcessingReport> processingReports = new LinkedList<>();
             for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
-                processingReports.add(validate(message, simpleJsonSchema));
+                processingReports.add(validate(receivedJson, simpleJsonSchema));
             }
             return new GraciousProcessingReport(processingReports);
         }
     }
 
     /**
-     * Validates a given message against a given json schema
-     * @param message The message to be validated
+     * Validates a given Json tree against a given json schema
+     * @param receivedJson The Json tree to be validated
      * @param simpleJsonSchema The json schema to validate against
      * @return returns the report holding the result of the validation
      */
-    private ProcessingReport validate(Message message, SimpleJsonSchema simpleJsonSchema) {
+    private ProcessingReport validate(JsonNode receivedJson, SimpleJsonSchema simpleJsonSchema) {
         try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
             if (receivedJson.isEmpty()) {
                 return new DevNullProcessingReport();
             } else {
                 return simpleJsonSchema.getSchema().validate(receivedJson);
             }
-        } catch (IOException | ProcessingException e) {
+        } catch (ProcessingException e) {
+            throw new CitrusRuntimeException("Failed to validate Json schema", e);
+        }
+    }
+
+    /**
+     * Reads the message payload as Json tree.
+     * @param message
+     * @return
+     */
+    private JsonNode readTree(Message message) {
+        try {
+            return objectMapper.readTree(message.getPayload(String.class));
+        } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
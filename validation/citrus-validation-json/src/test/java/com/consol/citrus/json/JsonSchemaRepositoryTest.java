@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import java.util.Collections;
+
+import com.consol.citrus.json.schema.SimpleJsonSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JsonSchemaRepositoryTest {
+
+    @Test
+    public void testFindSchema() {
+        JsonSchemaRepository repository = new JsonSchemaRepository();
+        SimpleJsonSchema schema = schema("http://citrusframework.org/schemas/foo", "foo.json");
+        repository.getSchemas().add(schema);
+
+        Assert.assertEquals(repository.findSchema("http://citrusframework.org/schemas/foo").orElse(null), schema);
+        Assert.assertEquals(repository.findSchema("foo.json").orElse(null), schema);
+        Assert.assertFalse(repository.findSchema("bar.json").isPresent());
+    }
+
+    @Test
+    public void testFindSchemaAfterReplace() {
+        JsonSchemaRepository repository = new JsonSchemaRepository();
+        SimpleJsonSchema schema = schema("foo", "foo.json");
+        repository.getSchemas().add(schema);
+
+        Assert.assertEquals(repository.findSchema("foo").orElse(null), schema);
+
+        SimpleJsonSchema replacement = schema("foo", "foo-v2.json");
+        repository.getSchemas().set(0, replacement);
+
+        Assert.assertEquals(repository.findSchema("foo").orElse(null), replacement);
+        Assert.assertFalse(repository.findSchema("foo.json").isPresent());
+    }
+
+    @Test
+    public void testFindSchemaAfterRemoveAndAdd() {
+        JsonSchemaRepository repository = new JsonSchemaRepository();
+        SimpleJsonSchema schema = schema("foo", "foo.json");
+        repository.getSchemas().add(schema);
+
+        Assert.assertTrue(repository.findSchema("foo").isPresent());
+
+        SimpleJsonSchema other = schema("bar", "bar.json");
+        repository.getSchemas().remove(schema);
+        repository.getSchemas().add(other);
+
+        Assert.assertFalse(repository.findSchema("foo").isPresent());
+        Assert.assertEquals(repository.findSchema("bar").orElse(null), other);
+    }
+
+    @Test
+    public void testFindSchemaAfterSetSchemas() {
+        JsonSchemaRepository repository = new JsonSchemaRepository();
+        repository.getSchemas().add(schema("foo", "foo.json"));
+
+        Assert.assertTrue(repository.findSchema("foo").isPresent());
+
+        SimpleJsonSchema other = schema("bar", "bar.json");
+        repository.setSchemas(Collections.singletonList(other));
+
+        Assert.assertFalse(repository.findSchema("foo").isPresent());
+        Assert.assertEquals(repository.findSchema("bar").orElse(null), other);
+    }
+
+    private SimpleJsonSchema schema(String id, String name) {
+        SimpleJsonSchema schema = mock(SimpleJsonSchema.class);
+        when(schema.getId()).thenReturn(id);
+        when(schema.getName()).thenReturn(name);
+        return schema;
+    }
+}
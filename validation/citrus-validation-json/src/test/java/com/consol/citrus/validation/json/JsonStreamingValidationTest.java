@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import java.nio.charset.StandardCharsets;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import net.minidev.json.parser.JSONParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class JsonStreamingValidationTest extends UnitTestSupport {
+
+    private final JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+    @Test(dataProvider = "validJsonProvider")
+    public void testStreamingValidation(String received, String control) {
+        validator.validateMessage(new DefaultMessage(received), new DefaultMessage(control), context, new JsonMessageValidationContext());
+    }
+
+    @DataProvider
+    public Object[][] validJsonProvider() {
+        return new Object[][] {
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"id\":\"x123456789x\", \"text\":\"Hello World!\", \"index\":5}"},
+            new Object[] {"{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"active\":true, \"score\":1.5}", "{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"active\":true, \"score\":1.5}"},
+            new Object[] {"[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]", "[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]"},
+            new Object[] {"{\"numbers\":[1, 2, 3], \"nested\":[[1, 2], [3]]}", "{\"numbers\":[1, 2, 3], \"nested\":[[1, 2], [3]]}"},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5, \"id\":null}", "{\"text\":\"@ignore@\", \"index\":\"@isNumber()@\", \"id\":null}"},
+            new Object[] {"{\"person\":{\"name\":\"John\",\"surname\":\"Doe\"}, \"index\":5}", "{\"person\":\"@ignore@\", \"index\":\"@greaterThan(4)@\"}"},
+            new Object[] {"{\"text\":\"Hello World!\", \"id\":null}", "{\"text\":\"Hello World!\", \"id\":\"\"}"},
+        };
+    }
+
+    @Test
+    public void testStreamingValidationWithByteArrayPayload() {
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}".getBytes(StandardCharsets.UTF_8));
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}");
+
+        validator.validateMessage(receivedMessage, controlMessage, context, new JsonMessageValidationContext());
+    }
+
+    @Test
+    public void testSloppyStreamingValidation() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true).strict(false);
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"Hello World!\"}]}");
+
+        validator.validateMessage(receivedMessage, controlMessage, context, new JsonMessageValidationContext());
+    }
+
+    @Test
+    public void testStreamingValidationIgnoreEntries() {
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"id\":\"x123456789x\"}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"?\", \"index\":2}], \"id\":\"?\"}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext.Builder()
+                .ignore("$.id")
+                .ignore("$.greetings[1].text")
+                .build();
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testStreamingValidationFallbackForIndefiniteIgnoreEntries() {
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"Hello World!\"}, {\"text\":\"Hallo Welt!\"}]}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[{\"text\":\"?\"}, {\"text\":\"?\"}]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext.Builder()
+                .ignore("$.greetings[*].text")
+                .build();
+
+        Assert.assertFalse(JsonStreamingValidation.supports(validationContext));
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test(dataProvider = "invalidJsonProvider")
+    public void testStreamingValidationError(String received, String control, String expected, String actual) {
+        try {
+            validator.validateMessage(new DefaultMessage(received), new DefaultMessage(control), context, new JsonMessageValidationContext());
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("expected '" + expected + "'"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("but was '" + actual + "'"), e.getMessage());
+            return;
+        }
+
+        Assert.fail("Missing validation exception");
+    }
+
+    @DataProvider
+    public Object[][] invalidJsonProvider() {
+        return new Object[][] {
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\"}", "1", "2"},
+            new Object[] {"{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"index\":6}", "6", "5"},
+            new Object[] {"{\"person\":{\"name\":\"John\"}}", "{\"person\":{\"name\":\"Jane\"}}", "Jane", "John"},
+            new Object[] {"{\"greetings\":[1, 2]}", "{\"greetings\":[1, 2, 3]}", "3", "2"},
+            new Object[] {"{\"greetings\":[1, 2, 4]}", "{\"greetings\":[1, 2, 3]}", "3", "4"},
+            new Object[] {"{\"greetings\":{\"text\":\"Hello\"}}", "{\"greetings\":[\"Hello\"]}", "JSONArray", "JSONObject"},
+            new Object[] {"{\"greetings\":[\"Hello\"]}", "{\"greetings\":{\"text\":\"Hello\"}}", "JSONObject", "JSONArray"},
+            new Object[] {"{\"text\":\"Hello World!\"}", "{\"text\":null}", "null", "Hello World!"},
+            new Object[] {"{\"text\":null}", "{\"text\":\"Hello World!\"}", "Hello World!", "null"},
+            new Object[] {"{\"text\":\"Hello World!\"}", "[\"Hello World!\"]", "JSONArray", "JSONObject"},
+        };
+    }
+
+    @Test
+    public void testStreamingValidationMissingEntry() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true).strict(false);
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}");
+        Message controlMessage = new DefaultMessage("{\"id\":\"x123456789x\"}");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, new JsonMessageValidationContext());
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Missing JSON entry"), e.getMessage());
+            return;
+        }
+
+        Assert.fail("Missing validation exception due to missing entry");
+    }
+
+    @Test
+    public void testStreamingValidationTypeMismatchMessage() {
+        try {
+            validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\"}"), new DefaultMessage("[\"Hello World!\"]"),
+                    context, new JsonMessageValidationContext());
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().startsWith("Type mismatch for JSON entry '$.', expected 'JSONArray' but was 'JSONObject'"),
+                    e.getCause().getMessage());
+            return;
+        }
+
+        Assert.fail("Missing validation exception due to type mismatch");
+    }
+
+    @Test
+    public void testStreamingValidationPermissiveMode() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true)
+                .permissiveMode(JSONParser.MODE_JSON_SIMPLE | JSONParser.ACCEPT_SIMPLE_QUOTE | JSONParser.ACCEPT_LEADING_ZERO);
+
+        Message receivedMessage = new DefaultMessage("{'text':'Hello World!', 'index':05, 'items':[1, 2,],}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"items\":[1, 2]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        Assert.assertTrue(JsonStreamingValidation.supports(validationContext, JSONParser.MODE_JSON_SIMPLE | JSONParser.ACCEPT_SIMPLE_QUOTE));
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testStreamingValidationStrictMode() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true)
+                .permissiveMode(JSONParser.MODE_RFC4627);
+
+        validator.validateMessage(new DefaultMessage("{'text':'Hello World!'}"), new DefaultMessage("{\"text\":\"Hello World!\"}"),
+                context, new JsonMessageValidationContext());
+    }
+
+    @Test
+    public void testStreamingValidationFallbackForUnquotedValues() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true)
+                .permissiveMode(JSONParser.MODE_PERMISSIVE);
+
+        Message receivedMessage = new DefaultMessage("{text:Hello, index:5}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello\", \"index\":5}");
+
+        Assert.assertFalse(JsonStreamingValidation.supports(new JsonMessageValidationContext(), JSONParser.MODE_PERMISSIVE));
+        validator.validateMessage(receivedMessage, controlMessage, context, new JsonMessageValidationContext());
+    }
+}
@@ -32,7 +32,10 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -147,6 +150,68 @@ public class JsonSchemaFilterTest {
         Assert.assertEquals(expectedSimpleJsonSchema, simpleJsonSchemas.get(0));
     }
 
+    @Test
+    public void testFilterOnSchemaNameUsesSchemaRepositoryIndex() {
+
+        //GIVEN
+        //Setup Schema repositories
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setName("schemaRepository");
+        SimpleJsonSchema firstSimpleJsonSchema = mock(SimpleJsonSchema.class);
+        when(firstSimpleJsonSchema.getName()).thenReturn("BookSchema.json");
+        SimpleJsonSchema secondSimpleJsonSchema = mock(SimpleJsonSchema.class);
+        when(secondSimpleJsonSchema.getName()).thenReturn("ProductsSchema.json");
+        when(secondSimpleJsonSchema.getId()).thenReturn("http://citrusframework.org/products");
+        jsonSchemaRepository.getSchemas().add(firstSimpleJsonSchema);
+        jsonSchemaRepository.getSchemas().add(secondSimpleJsonSchema);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        //WHEN
+        List<SimpleJsonSchema> byName = jsonSchemaFilter.filter(schemaRepositories, new JsonMessageValidationContext.Builder()
+                .schemaValidation(true)
+                .schema("BookSchema.json")
+                .build(), referenceResolverMock);
+        List<SimpleJsonSchema> byId = jsonSchemaFilter.filter(schemaRepositories, new JsonMessageValidationContext.Builder()
+                .schemaValidation(true)
+                .schema("http://citrusframework.org/products")
+                .build(), referenceResolverMock);
+
+        //THEN
+        Assert.assertEquals(byName, Collections.singletonList(firstSimpleJsonSchema));
+        Assert.assertEquals(byId, Collections.singletonList(secondSimpleJsonSchema));
+        verify(referenceResolverMock, never()).resolve(anyString(), eq(SimpleJsonSchema.class));
+    }
+
+    @Test
+    public void testFilterOnSchemaNamePrefersSchemaBean() {
+
+        //GIVEN
+        //Setup Schema repositories
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setName("schemaRepository");
+        SimpleJsonSchema repositorySchema = mock(SimpleJsonSchema.class);
+        when(repositorySchema.getName()).thenReturn("bookSchema");
+        when(repositorySchema.getId()).thenReturn("bookSchema");
+        jsonSchemaRepository.getSchemas().add(repositorySchema);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        //Setup schema bean with same name
+        SimpleJsonSchema beanSchema = mock(SimpleJsonSchema.class);
+        when(referenceResolverMock.isResolvable("bookSchema", SimpleJsonSchema.class)).thenReturn(true);
+        when(referenceResolverMock.resolve("bookSchema", SimpleJsonSchema.class)).thenReturn(beanSchema);
+
+        //WHEN
+        List<SimpleJsonSchema> simpleJsonSchemas = jsonSchemaFilter.filter(schemaRepositories, new JsonMessageValidationContext.Builder()
+                .schemaValidation(true)
+                .schema("bookSchema")
+                .build(), referenceResolverMock);
+
+        //THEN
+        Assert.assertEquals(simpleJsonSchemas, Collections.singletonList(beanSchema));
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class)
     public void testNoSchemaRepositoryFoundThrowsException() {
 
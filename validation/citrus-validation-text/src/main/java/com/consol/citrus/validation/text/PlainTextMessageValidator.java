@@ -47,6 +47,12 @@ public class PlainTextMessageValidator extends DefaultMessageValidator {
     private boolean ignoreWhitespace = Boolean.valueOf(System.getProperty(IGNORE_WHITESPACE_PROPERTY, System.getenv(IGNORE_WHITESPACE_ENV) != null ?
             System.getenv(IGNORE_WHITESPACE_ENV) : "false"));
 
+    /** Precompiled patterns used to process ignore and variable statements in control text */
+    private static final Pattern IGNORE_PATTERN = Pattern.compile("@ignore\\(?(\\d*)\\)?@");
+    private static final Pattern IGNORE_WHITESPACE_PATTERN = Pattern.compile("[\\W]");
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("@variable\\(?'?([a-zA-Z_0-9\\-\\.]*)'?\\)?@");
+    private static final Pattern VARIABLE_WHITESPACE_PATTERN = Pattern.compile("[^a-zA-Z_0-9\\-\\.]");
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
@@ -94,10 +100,7 @@ public class PlainTextMessageValidator extends DefaultMessageValidator {
             return control;
         }
 
-        Pattern whitespacePattern = Pattern.compile("[\\W]");
-        Pattern ignorePattern = Pattern.compile("@ignore\\(?(\\d*)\\)?@");
-
-        Matcher ignoreMatcher = ignorePattern.matcher(control);
+        Matcher ignoreMatcher = IGNORE_PATTERN.matcher(control);
         while (ignoreMatcher.find()) {
             String actualValue;
 
@@ -114,14 +117,14 @@ public class PlainTextMessageValidator extends DefaultMessageValidator {
                 }
             } else {
                 actualValue = result.substring(ignoreMatcher.start());
-                Matcher whitespaceMatcher = whitespacePattern.matcher(actualValue);
+                Matcher whitespaceMatcher = IGNORE_WHITESPACE_PATTERN.matcher(actualValue);
                 if (whitespaceMatcher.find()) {
                     actualValue = actualValue.substring(0, whitespaceMatcher.start());
                 }
             }
 
             control = ignoreMatcher.replaceFirst(actualValue);
-            ignoreMatcher = ignorePattern.matcher(control);
+            ignoreMatcher = IGNORE_PATTERN.matcher(control);
         }
 
         return control;
@@ -140,20 +143,17 @@ public class PlainTextMessageValidator extends DefaultMessageValidator {
             return control;
         }
 
-        Pattern whitespacePattern = Pattern.compile("[^a-zA-Z_0-9\\-\\.]");
-        Pattern variablePattern = Pattern.compile("@variable\\(?'?([a-zA-Z_0-9\\-\\.]*)'?\\)?@");
-
-        Matcher variableMatcher = variablePattern.matcher(control);
+        Matcher variableMatcher = VARIABLE_PATTERN.matcher(control);
         while (variableMatcher.find()) {
             String actualValue = result.substring(variableMatcher.start());
-            Matcher whitespaceMatcher = whitespacePattern.matcher(actualValue);
+            Matcher whitespaceMatcher = VARIABLE_WHITESPACE_PATTERN.matcher(actualValue);
             if (whitespaceMatcher.find()) {
                 actualValue = actualValue.substring(0, whitespaceMatcher.start());
             }
 
             control = variableMatcher.replaceFirst(actualValue);
             context.setVariable(variableMatcher.group(1), actualValue);
-            variableMatcher = variablePattern.matcher(control);
+            variableMatcher = VARIABLE_PATTERN.matcher(control);
         }
 
         return control;
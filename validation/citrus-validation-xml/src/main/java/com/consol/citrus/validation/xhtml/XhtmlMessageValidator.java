@@ -52,6 +52,15 @@ public class XhtmlMessageValidator extends DomXmlMessageValidator implements Ini
         return messageType.equalsIgnoreCase(MessageType.XHTML.name()) && MessageUtils.hasXmlPayload(message);
     }
 
+    /**
+     * Converter uses a shared Tidy instance so this validator must not run in parallel.
+     * @return
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     @Override
     public void initialize() {
         messageConverter.initialize();
@@ -99,7 +99,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
             if (controlMessage != null) {
                 Assert.isTrue(controlMessage.getHeaderData().size() <= receivedMessage.getHeaderData().size(),
-                        "Failed to validate header data XML fragments - found " +
+                        () -> "Failed to validate header data XML fragments - found " +
                                 receivedMessage.getHeaderData().size() + " header fragments, expected " + controlMessage.getHeaderData().size());
 
                 for (int i = 0; i < controlMessage.getHeaderData().size(); i++) {
@@ -284,7 +284,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         Assert.isTrue(received.getLocalName().equals(source.getLocalName()),
-                ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
+                () -> ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
     }
 
     private void doElementNamespaceValidation(Node received, Node source) {
@@ -295,15 +295,15 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         if (received.getNamespaceURI() != null) {
             Assert.isTrue(source.getNamespaceURI() != null,
-                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
                         received.getLocalName() + "'", null, received.getNamespaceURI()));
 
             Assert.isTrue(received.getNamespaceURI().equals(source.getNamespaceURI()),
-                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
                     received.getLocalName() + "'", source.getNamespaceURI(), received.getNamespaceURI()));
         } else {
             Assert.isTrue(source.getNamespaceURI() == null,
-                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
                     received.getLocalName() + "'", source.getNamespaceURI(), null));
         }
     }
@@ -437,7 +437,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         if (!StringUtils.hasText(sourceDTD.getPublicId())) {
             Assert.isNull(receivedDTD.getPublicId(),
-                    ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
                     sourceDTD.getPublicId(), receivedDTD.getPublicId()));
         } else if (sourceDTD.getPublicId().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
             if (LOG.isDebugEnabled()) {
@@ -447,13 +447,13 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         } else {
             Assert.isTrue(StringUtils.hasText(receivedDTD.getPublicId()) &&
                     receivedDTD.getPublicId().equals(sourceDTD.getPublicId()),
-                    ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
                     sourceDTD.getPublicId(), receivedDTD.getPublicId()));
         }
 
         if (!StringUtils.hasText(sourceDTD.getSystemId())) {
             Assert.isNull(receivedDTD.getSystemId(),
-                    ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
                     sourceDTD.getSystemId(), receivedDTD.getSystemId()));
         } else if (sourceDTD.getSystemId().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
             if (LOG.isDebugEnabled()) {
@@ -463,7 +463,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         } else {
             Assert.isTrue(StringUtils.hasText(receivedDTD.getSystemId()) &&
                     receivedDTD.getSystemId().equals(sourceDTD.getSystemId()),
-                    ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
                     sourceDTD.getSystemId(), receivedDTD.getSystemId()));
         }
 
@@ -498,7 +498,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         NamedNodeMap sourceAttr = source.getAttributes();
 
         Assert.isTrue(countAttributes(receivedAttr) == countAttributes(sourceAttr),
-                ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                () -> ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
                         + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
 
         for (int i = 0; i < receivedAttr.getLength(); i++) {
@@ -521,7 +521,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         List<Element> sourceChildElements = DomUtils.getChildElements((Element) source);
 
         Assert.isTrue(receivedChildElements.size() == sourceChildElements.size(),
-                ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                () -> ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
                     + received.getLocalName() + "'", sourceChildElements.size(), receivedChildElements.size()));
 
         for (int i = 0; i < receivedChildElements.size(); i++) {
@@ -551,16 +551,16 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         if (receivedText != null) {
             Assert.isTrue(sourceText != null,
-                    ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
                             + received.getLocalName() + "'", null, receivedText.trim()));
 
             Assert.isTrue(receivedText.trim().equals(sourceText.trim()),
-                    ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
                             + received.getLocalName() + "'", sourceText.trim(),
                             receivedText.trim()));
         } else {
             Assert.isTrue(sourceText == null,
-                    ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
                             + received.getLocalName() + "'", sourceText.trim(), null));
         }
 
@@ -591,7 +591,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         Node sourceAttribute = sourceAttributes.getNamedItemNS(receivedAttribute.getNamespaceURI(), receivedAttributeName);
 
         Assert.isTrue(sourceAttribute != null,
-                "Attribute validation failed for element '"
+                () -> "Attribute validation failed for element '"
                         + receivedElement.getLocalName() + "', unknown attribute "
                         + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
 
@@ -610,7 +610,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             doNamespaceQualifiedAttributeValidation(receivedElement, receivedAttribute, sourceElement, sourceAttribute);
         } else {
             Assert.isTrue(receivedValue.equals(sourceValue),
-                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
                             + receivedAttributeName + "'", sourceValue, receivedValue));
         }
 
@@ -645,8 +645,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
                 if (sourceNamespaces.containsKey(sourcePrefix)) {
                     Assert.isTrue(sourceNamespaces.get(sourcePrefix).equals(receivedNamespaces.get(receivedPrefix)),
-                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
-                                    + receivedValue + "'", sourceNamespaces.get(sourcePrefix), receivedNamespaces.get(receivedPrefix)));
+                            () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                                    + receivedAttribute.getNodeValue() + "'", sourceNamespaces.get(sourcePrefix), receivedNamespaces.get(receivedPrefix)));
 
                     // remove namespace prefixes as they must not form equality
                     receivedValue = receivedValue.substring((receivedPrefix + ":").length());
@@ -658,9 +658,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             }
         }
 
-        Assert.isTrue(receivedValue.equals(sourceValue),
-                ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
-                        + receivedAttribute.getLocalName() + "'", sourceValue, receivedValue));
+        String receivedAttributeValue = receivedValue;
+        String sourceAttributeValue = sourceValue;
+        Assert.isTrue(receivedAttributeValue.equals(sourceAttributeValue),
+                () -> ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                        + receivedAttribute.getLocalName() + "'", sourceAttributeValue, receivedAttributeValue));
     }
 
     /**
@@ -721,6 +723,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         return messageType.equalsIgnoreCase(MessageType.XML.name()) && MessageUtils.hasXmlPayload(message);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Get explicit namespace context builder set on this class or obtain instance from reference resolver.
      * @param context
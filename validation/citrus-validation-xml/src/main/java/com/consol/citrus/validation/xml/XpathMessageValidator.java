@@ -129,6 +129,11 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
         return new DomXmlMessageValidator().supportsMessageType(messageType, message);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Resolves an XML node's value
      * @param node